@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+
+/**
+ * Benchmark for method invocations on AOP proxies with a chain of three
+ * interceptors, comparing JDK dynamic proxies, CGLIB proxies and JDK
+ * dynamic proxies with compiled invocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ProxyInvocationBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"direct", "jdk", "cglib", "compiled"})
+		public String proxyType;
+
+		public Calculator calculator;
+
+		@Setup
+		public void setup() {
+			Calculator target = new SimpleCalculator();
+			if (this.proxyType.equals("direct")) {
+				this.calculator = target;
+				return;
+			}
+			ProxyFactory pf = new ProxyFactory(target);
+			pf.addInterface(Calculator.class);
+			pf.addAdvice(new CountingInterceptor());
+			pf.addAdvice(new CountingInterceptor());
+			NameMatchMethodPointcut pointcut = new NameMatchMethodPointcut();
+			pointcut.setMappedName("add");
+			pf.addAdvisor(new DefaultPointcutAdvisor(pointcut, new CountingInterceptor()));
+			pf.setProxyTargetClass(this.proxyType.equals("cglib"));
+			pf.setCompileInvocations(this.proxyType.equals("compiled"));
+			pf.setFrozen(true);
+			this.calculator = (Calculator) pf.getProxy();
+		}
+	}
+
+
+	@Benchmark
+	public int invokeProxy(BenchmarkState state) {
+		return state.calculator.add(1, 2);
+	}
+
+
+	public interface Calculator {
+
+		int add(int a, int b);
+	}
+
+
+	public static class SimpleCalculator implements Calculator {
+
+		@Override
+		public int add(int a, int b) {
+			return a + b;
+		}
+	}
+
+
+	private static class CountingInterceptor implements MethodInterceptor {
+
+		private final LongAdder count = new LongAdder();
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			this.count.increment();
+			return invocation.proceed();
+		}
+	}
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj.autoproxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.aspectj.weaver.Shadow;
+import org.aspectj.weaver.internal.tools.PointcutExpressionImpl;
+import org.aspectj.weaver.patterns.AndPointcut;
+import org.aspectj.weaver.patterns.AnnotationPointcut;
+import org.aspectj.weaver.patterns.AnnotationTypePattern;
+import org.aspectj.weaver.patterns.ExactAnnotationTypePattern;
+import org.aspectj.weaver.patterns.ExactTypePattern;
+import org.aspectj.weaver.patterns.KindedPointcut;
+import org.aspectj.weaver.patterns.NamePattern;
+import org.aspectj.weaver.patterns.OrPointcut;
+import org.aspectj.weaver.patterns.Pointcut;
+import org.aspectj.weaver.patterns.TypePattern;
+import org.aspectj.weaver.patterns.WildTypePattern;
+import org.aspectj.weaver.patterns.WithinAnnotationPointcut;
+import org.aspectj.weaver.patterns.WithinPointcut;
+import org.aspectj.weaver.tools.PointcutExpression;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.aspectj.AbstractAspectJAdvice;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.aspectj.AspectJPointcutAdvisor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Pre-filtering index over a list of candidate Advisors, grouping AspectJ
+ * expression based advisors by the annotation types and package prefixes
+ * that their parsed pointcut expression requires for a match.
+ *
+ * <p>A bean class only gets matched against an indexed advisor if one of the
+ * advisor's keys is present in the bean class hierarchy: that is, if one of
+ * the required annotation types is declared on a type or method within the
+ * hierarchy, or if one of the types within the hierarchy resides in one of
+ * the required packages. This is a conservative check: advisors rejected by
+ * the index would never have been considered applicable by
+ * {@link org.springframework.aop.support.AopUtils#canApply}, while all other
+ * advisors still go through regular pointcut matching.
+ *
+ * <p>Advisors with pointcuts that cannot be analyzed (e.g. non-AspectJ
+ * pointcuts, negations, {@code this}/{@code target}/{@code args} designators
+ * or type patterns with leading wildcards) remain unindexed and are always
+ * passed on as candidates.
+ *
+ * @since 7.0
+ * @see AspectJAwareAdvisorAutoProxyCreator#findAdvisorsThatCanApply
+ */
+final class AspectJAdvisorIndex {
+
+	private static final Log logger = LogFactory.getLog(AspectJAdvisorIndex.class);
+
+
+	private final Advisor[] advisors;
+
+	private final Map<String, BitSet> advisorsByKey = new HashMap<>();
+
+	private final BitSet unindexedAdvisors = new BitSet();
+
+
+	/**
+	 * Build an index for the given candidate Advisors.
+	 * @param advisors the candidate Advisors, in their original order
+	 */
+	AspectJAdvisorIndex(List<Advisor> advisors) {
+		this.advisors = advisors.toArray(new Advisor[0]);
+		for (int i = 0; i < this.advisors.length; i++) {
+			Set<String> keys = determineCandidateKeys(this.advisors[i]);
+			if (keys != null) {
+				for (String key : keys) {
+					this.advisorsByKey.computeIfAbsent(key, k -> new BitSet()).set(i);
+				}
+			}
+			else {
+				this.unindexedAdvisors.set(i);
+			}
+		}
+	}
+
+
+	/**
+	 * Determine whether this index has been built for the given candidate
+	 * Advisors, comparing the Advisor instances by identity.
+	 * @param advisors the current candidate Advisors
+	 */
+	boolean isIndexFor(List<Advisor> advisors) {
+		if (advisors.size() != this.advisors.length) {
+			return false;
+		}
+		for (int i = 0; i < this.advisors.length; i++) {
+			if (advisors.get(i) != this.advisors[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the number of Advisors in this index.
+	 */
+	int getAdvisorCount() {
+		return this.advisors.length;
+	}
+
+	/**
+	 * Return the number of Advisors that have been indexed by annotation type
+	 * or package prefix, as opposed to being matched against every bean class.
+	 */
+	int getIndexedAdvisorCount() {
+		return this.advisors.length - this.unindexedAdvisors.cardinality();
+	}
+
+	/**
+	 * Determine the Advisors that may apply to the given bean class, rejecting
+	 * indexed Advisors whose required annotation types and packages are not
+	 * present in the bean class hierarchy.
+	 * @param beanClass the target's bean class
+	 * @return the candidate Advisors, in their original order
+	 */
+	List<Advisor> getCandidateAdvisors(Class<?> beanClass) {
+		if (this.advisorsByKey.isEmpty()) {
+			return List.of(this.advisors);
+		}
+		BitSet candidates = (BitSet) this.unindexedAdvisors.clone();
+		for (String key : determineClassKeys(beanClass)) {
+			BitSet advisorsForKey = this.advisorsByKey.get(key);
+			if (advisorsForKey != null) {
+				candidates.or(advisorsForKey);
+			}
+		}
+		List<Advisor> result = new ArrayList<>(candidates.cardinality());
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			result.add(this.advisors[i]);
+		}
+		return result;
+	}
+
+
+	/**
+	 * Collect the keys available in the hierarchy of the given bean class:
+	 * the names of all annotation types declared on types and methods within
+	 * the hierarchy, and all package prefixes of the types in the hierarchy.
+	 * For nested types, the enclosing type names count as prefixes as well,
+	 * in their dot-separated form as used in type patterns.
+	 */
+	private static Set<String> determineClassKeys(Class<?> beanClass) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		Class<?> current = beanClass;
+		while (current != null) {
+			types.add(current);
+			addInterfaces(current, types);
+			current = current.getSuperclass();
+		}
+
+		Set<String> keys = new HashSet<>();
+		for (Class<?> type : types) {
+			String typeName = type.getName().replace('$', '.');
+			int index = typeName.indexOf('.');
+			while (index != -1) {
+				keys.add(typeName.substring(0, index + 1));
+				index = typeName.indexOf('.', index + 1);
+			}
+			addAnnotationKeys(type.getDeclaredAnnotations(), keys);
+			for (Method method : ReflectionUtils.getDeclaredMethods(type)) {
+				addAnnotationKeys(method.getDeclaredAnnotations(), keys);
+			}
+		}
+		return keys;
+	}
+
+	private static void addInterfaces(Class<?> type, Set<Class<?>> types) {
+		for (Class<?> ifc : type.getInterfaces()) {
+			if (types.add(ifc)) {
+				addInterfaces(ifc, types);
+			}
+		}
+	}
+
+	private static void addAnnotationKeys(Annotation[] annotations, Set<String> keys) {
+		for (Annotation annotation : annotations) {
+			keys.add(annotation.annotationType().getName());
+		}
+	}
+
+	/**
+	 * Determine the keys that the pointcut of the given Advisor requires
+	 * for a match: annotation type names and package prefixes (ending with
+	 * a dot), one of which needs to be present in a bean class hierarchy.
+	 * @param advisor the Advisor to analyze
+	 * @return the set of keys, or {@code null} if the Advisor cannot be indexed
+	 */
+	@Nullable
+	static Set<String> determineCandidateKeys(Advisor advisor) {
+		AspectJExpressionPointcut pointcut = null;
+		if (advisor instanceof PointcutAdvisor pointcutAdvisor &&
+				pointcutAdvisor.getPointcut() instanceof AspectJExpressionPointcut ajexp) {
+			pointcut = ajexp;
+		}
+		else if (advisor instanceof AspectJPointcutAdvisor &&
+				advisor.getAdvice() instanceof AbstractAspectJAdvice aspectJAdvice) {
+			// The advisor's pointcut is a narrowed version of the advice's pointcut.
+			pointcut = aspectJAdvice.getPointcut();
+		}
+		if (pointcut == null || pointcut.getExpression() == null) {
+			return null;
+		}
+		try {
+			PointcutExpression expression = pointcut.getPointcutExpression();
+			if (expression instanceof PointcutExpressionImpl expressionImpl) {
+				return determinePointcutKeys(expressionImpl.getUnderlyingPointcut());
+			}
+		}
+		catch (Throwable ex) {
+			// Leave it to regular pointcut matching to deal with the expression.
+			if (logger.isDebugEnabled()) {
+				logger.debug("Not indexing advisor with pointcut expression [" +
+						pointcut.getExpression() + "]: " + ex);
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Set<String> determinePointcutKeys(Pointcut pointcut) {
+		if (pointcut instanceof AndPointcut andPointcut) {
+			// Either side needs to match: pick the more selective one.
+			Set<String> left = determinePointcutKeys(andPointcut.getLeft());
+			Set<String> right = determinePointcutKeys(andPointcut.getRight());
+			if (left == null) {
+				return right;
+			}
+			if (right == null) {
+				return left;
+			}
+			return (containsPackageKeys(left) && !containsPackageKeys(right) ? right : left);
+		}
+		if (pointcut instanceof OrPointcut orPointcut) {
+			// Both sides need to be indexable in order to rule out a match.
+			Set<String> left = determinePointcutKeys(orPointcut.getLeft());
+			Set<String> right = determinePointcutKeys(orPointcut.getRight());
+			if (left == null || right == null) {
+				return null;
+			}
+			Set<String> keys = new HashSet<>(left);
+			keys.addAll(right);
+			return keys;
+		}
+		if (pointcut instanceof KindedPointcut kindedPointcut) {
+			if (kindedPointcut.getKind() == Shadow.MethodExecution) {
+				return determinePackageKey(kindedPointcut.getSignature().getDeclaringType());
+			}
+			return null;
+		}
+		if (pointcut instanceof WithinPointcut withinPointcut) {
+			return determinePackageKey(withinPointcut.getTypePattern());
+		}
+		if (pointcut instanceof WithinAnnotationPointcut withinAnnotationPointcut) {
+			return determineAnnotationKey(withinAnnotationPointcut.getAnnotationTypePattern());
+		}
+		if (pointcut instanceof AnnotationPointcut annotationPointcut) {
+			return determineAnnotationKey(annotationPointcut.getAnnotationTypePattern());
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Set<String> determineAnnotationKey(AnnotationTypePattern pattern) {
+		if (pattern instanceof ExactAnnotationTypePattern exactPattern) {
+			return Set.of(exactPattern.getAnnotationType().getName());
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Set<String> determinePackageKey(TypePattern pattern) {
+		if (pattern.isIncludeSubtypes()) {
+			// Subtypes may reside in any package.
+			return null;
+		}
+		if (pattern instanceof ExactTypePattern exactPattern) {
+			String typeName = exactPattern.getType().getName();
+			int genericsStart = typeName.indexOf('<');
+			if (genericsStart != -1) {
+				typeName = typeName.substring(0, genericsStart);
+			}
+			int lastDot = typeName.lastIndexOf('.');
+			return (lastDot != -1 ? Set.of(typeName.substring(0, lastDot + 1)) : null);
+		}
+		if (pattern instanceof WildTypePattern wildPattern) {
+			NamePattern[] namePatterns = wildPattern.getNamePatterns();
+			StringBuilder prefix = new StringBuilder();
+			// The last literal segment may be a type name rather than a package name.
+			for (int i = 0; i < namePatterns.length - 1; i++) {
+				NamePattern namePattern = namePatterns[i];
+				String segment = (namePattern != NamePattern.ELLIPSIS ? namePattern.maybeGetSimpleName() : null);
+				if (segment == null) {
+					break;
+				}
+				prefix.append(segment).append('.');
+			}
+			return (!prefix.isEmpty() ? Set.of(prefix.toString()) : null);
+		}
+		return null;
+	}
+
+	private static boolean containsPackageKeys(Set<String> keys) {
+		for (String key : keys) {
+			if (key.endsWith(".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -33,7 +33,11 @@ import org.springframework.aop.framework.autoproxy.AbstractAdvisorAutoProxyCreat
 import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.Ordered;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 /**
@@ -41,6 +45,12 @@ import org.springframework.util.ClassUtils;
  * subclass that exposes AspectJ's invocation context and understands AspectJ's rules
  * for advice precedence when multiple pieces of advice come from the same aspect.
  *
+ * <p>As of 7.0, candidate Advisors get pre-filtered per bean class through an
+ * index derived from their AspectJ pointcut expressions, only matching a bean
+ * class against Advisors whose required annotation types or packages are present
+ * in its hierarchy. The effect is recorded through {@code spring.aop.advisors.index}
+ * and {@code spring.aop.advisors.match} startup steps.
+ *
  * @author Adrian Colyer
  * @author Juergen Hoeller
  * @author Ramnivas Laddad
@@ -53,6 +63,10 @@ public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProx
 	private static final Comparator<Advisor> DEFAULT_PRECEDENCE_COMPARATOR = new AspectJPrecedenceComparator();
 
 
+	@Nullable
+	private volatile AspectJAdvisorIndex advisorIndex;
+
+
 	/**
 	 * Sort the supplied {@link Advisor} instances according to AspectJ precedence.
 	 * <p>If two pieces of advice come from the same aspect, they will have the same
@@ -89,6 +103,49 @@ public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProx
 		}
 	}
 
+	/**
+	 * Pre-filter the given candidate Advisors through an index derived from
+	 * their AspectJ pointcut expressions before matching the remaining ones
+	 * against the given bean class.
+	 */
+	@Override
+	protected List<Advisor> findAdvisorsThatCanApply(
+			List<Advisor> candidateAdvisors, Class<?> beanClass, String beanName) {
+
+		if (candidateAdvisors.isEmpty()) {
+			return super.findAdvisorsThatCanApply(candidateAdvisors, beanClass, beanName);
+		}
+		ApplicationStartup applicationStartup = getApplicationStartup();
+		AspectJAdvisorIndex index = obtainAdvisorIndex(candidateAdvisors, applicationStartup);
+		StartupStep matchStep = applicationStartup.start("spring.aop.advisors.match")
+				.tag("beanName", beanName);
+		List<Advisor> preFilteredAdvisors = index.getCandidateAdvisors(beanClass);
+		List<Advisor> eligibleAdvisors = super.findAdvisorsThatCanApply(preFilteredAdvisors, beanClass, beanName);
+		matchStep.tag("candidateAdvisors", String.valueOf(candidateAdvisors.size()))
+				.tag("preFilteredAdvisors", String.valueOf(preFilteredAdvisors.size()))
+				.tag("eligibleAdvisors", String.valueOf(eligibleAdvisors.size()))
+				.end();
+		return eligibleAdvisors;
+	}
+
+	private AspectJAdvisorIndex obtainAdvisorIndex(List<Advisor> candidateAdvisors, ApplicationStartup applicationStartup) {
+		AspectJAdvisorIndex index = this.advisorIndex;
+		if (index == null || !index.isIndexFor(candidateAdvisors)) {
+			StartupStep indexStep = applicationStartup.start("spring.aop.advisors.index");
+			index = new AspectJAdvisorIndex(candidateAdvisors);
+			indexStep.tag("advisors", String.valueOf(index.getAdvisorCount()))
+					.tag("indexedAdvisors", String.valueOf(index.getIndexedAdvisorCount()))
+					.end();
+			this.advisorIndex = index;
+		}
+		return index;
+	}
+
+	private ApplicationStartup getApplicationStartup() {
+		return (getBeanFactory() instanceof ConfigurableBeanFactory cbf ?
+				cbf.getApplicationStartup() : ApplicationStartup.DEFAULT);
+	}
+
 	/**
 	 * Add an {@link ExposeInvocationInterceptor} to the beginning of the advice chain.
 	 * <p>This additional advice is needed when using AspectJ pointcut expressions
@@ -115,11 +172,13 @@ public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProx
 	@Override
 	public void afterSingletonsInstantiated() {
 		ShadowMatchUtils.clearCache();
+		this.advisorIndex = null;
 	}
 
 	@Override
 	public void destroy() {
 		ShadowMatchUtils.clearCache();
+		this.advisorIndex = null;
 	}
 
 
@@ -77,6 +77,9 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	 */
 	public static final TargetSource EMPTY_TARGET_SOURCE = EmptyTargetSource.INSTANCE;
 
+	/** Cache marker for a method that cannot be compiled. */
+	private static final Object NOT_COMPILED = new Object();
+
 
 	/** Package-protected to allow direct access for efficiency. */
 	TargetSource targetSource = EMPTY_TARGET_SOURCE;
@@ -115,6 +118,10 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	@Nullable
 	private transient volatile List<Object> cachedInterceptors;
 
+	/** Cache with Method as key and CompiledInvocation (or NOT_COMPILED marker) as value. */
+	@Nullable
+	private transient volatile Map<Method, Object> compiledInvocationCache;
+
 	/**
 	 * Optional field for {@link AopProxy} implementations to store metadata in.
 	 * Used by {@link JdkDynamicAopProxy}.
@@ -534,12 +541,39 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		return cachedInterceptors;
 	}
 
+	/**
+	 * Determine a {@link CompiledInvocation} for the given method, if enabled
+	 * through {@link #setCompileInvocations} and this configuration is frozen.
+	 * @param method the proxied method
+	 * @param targetClass the target class
+	 * @return the compiled invocation, or {@code null} if not applicable
+	 * @since 7.0
+	 */
+	@Nullable
+	CompiledInvocation getCompiledInvocation(Method method, @Nullable Class<?> targetClass) {
+		if (!isCompileInvocations() || !isFrozen()) {
+			return null;
+		}
+		Map<Method, Object> cache = this.compiledInvocationCache;
+		if (cache == null) {
+			cache = new ConcurrentHashMap<>();
+			this.compiledInvocationCache = cache;
+		}
+		Object compiled = cache.get(method);
+		if (compiled == null) {
+			compiled = CompiledInvocation.compile(method, getInterceptorsAndDynamicInterceptionAdvice(method, targetClass));
+			cache.put(method, (compiled != null ? compiled : NOT_COMPILED));
+		}
+		return (compiled instanceof CompiledInvocation compiledInvocation ? compiledInvocation : null);
+	}
+
 	/**
 	 * Invoked when advice has changed.
 	 */
 	protected void adviceChanged() {
 		this.methodCache = null;
 		this.cachedInterceptors = null;
+		this.compiledInvocationCache = null;
 		this.proxyMetadataCache = null;
 
 		// Initialize method cache if necessary; otherwise,
@@ -601,6 +635,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		}
 		copy.methodCache = this.methodCache;
 		copy.cachedInterceptors = this.cachedInterceptors;
+		copy.compiledInvocationCache = this.compiledInvocationCache;
 		copy.proxyMetadataCache = this.proxyMetadataCache;
 		return copy;
 	}
@@ -609,6 +644,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		this.advisors = this.advisorKey;
 		this.methodCache = null;
 		this.cachedInterceptors = null;
+		this.compiledInvocationCache = null;
 		this.proxyMetadataCache = null;
 	}
 
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.aopalliance.intercept.MethodInterceptor;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.GeneratedAccessors;
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.KotlinDetector;
+import org.springframework.lang.Nullable;
+
+/**
+ * Precompiled invocation of a proxied method for a frozen proxy configuration,
+ * holding the static interceptor chain as an array along with a generated
+ * invoker for the target method.
+ *
+ * <p>Only applicable to interceptor chains without dynamic method matchers;
+ * the {@link #compile} factory method returns {@code null} otherwise.
+ * Interceptors get invoked with a {@link ReflectiveMethodInvocation} variant,
+ * retaining the full {@link org.springframework.aop.ProxyMethodInvocation}
+ * contract, with the target method invoked through the generated invoker
+ * instead of reflection wherever possible.
+ *
+ * @since 7.0
+ * @see ProxyConfig#setCompileInvocations
+ * @see AdvisedSupport#getCompiledInvocation
+ */
+final class CompiledInvocation {
+
+	private final Method method;
+
+	private final List<Object> chain;
+
+	private final MethodInterceptor[] interceptors;
+
+	@Nullable
+	private final BiFunction<Object, Object[], Object> targetInvoker;
+
+
+	private CompiledInvocation(Method method, List<Object> chain,
+			@Nullable BiFunction<Object, Object[], Object> targetInvoker) {
+
+		this.method = method;
+		this.chain = chain;
+		this.interceptors = chain.toArray(new MethodInterceptor[0]);
+		this.targetInvoker = targetInvoker;
+	}
+
+
+	/**
+	 * Invoke the target method through the compiled interceptor chain.
+	 * @param proxy the proxy object that the invocation was made on
+	 * @param target the target object to invoke
+	 * @param args the arguments to invoke the method with
+	 * @param targetClass the target class
+	 * @return the return value of the invocation
+	 * @throws Throwable if thrown by an interceptor or by the target method
+	 */
+	@Nullable
+	Object invoke(Object proxy, @Nullable Object target, Object[] args, @Nullable Class<?> targetClass)
+			throws Throwable {
+
+		if (this.interceptors.length == 0) {
+			return invokeTarget(target, AopProxyUtils.adaptArgumentsIfNecessary(this.method, args));
+		}
+		return new CompiledMethodInvocation(proxy, target, args, targetClass).proceed();
+	}
+
+	@Nullable
+	private Object invokeTarget(@Nullable Object target, Object[] args) throws Throwable {
+		BiFunction<Object, Object[], Object> targetInvoker = this.targetInvoker;
+		if (targetInvoker != null && this.method.getDeclaringClass().isInstance(target)) {
+			return targetInvoker.apply(target, args);
+		}
+		return AopUtils.invokeJoinpointUsingReflection(target, this.method, args);
+	}
+
+
+	/**
+	 * Compile the given interceptor chain for the given method, if possible.
+	 * @param method the proxied method
+	 * @param chain the interceptor chain, as determined by the
+	 * {@link AdvisorChainFactory}
+	 * @return the compiled invocation, or {@code null} if the chain contains
+	 * dynamic method matchers or the method is a Kotlin suspending function
+	 */
+	@Nullable
+	static CompiledInvocation compile(Method method, List<Object> chain) {
+		for (Object interceptor : chain) {
+			if (!(interceptor instanceof MethodInterceptor)) {
+				return null;
+			}
+		}
+		Method methodToInvoke = BridgeMethodResolver.findBridgedMethod(method);
+		if (KotlinDetector.isSuspendingFunction(methodToInvoke)) {
+			return null;
+		}
+		return new CompiledInvocation(methodToInvoke, chain, GeneratedAccessors.generateInvoker(methodToInvoke));
+	}
+
+
+	/**
+	 * {@link ReflectiveMethodInvocation} variant for the compiled chain,
+	 * iterating over the interceptor array without dynamic matching.
+	 */
+	private final class CompiledMethodInvocation extends ReflectiveMethodInvocation {
+
+		private int currentInterceptorIndex = -1;
+
+		CompiledMethodInvocation(Object proxy, @Nullable Object target, Object[] arguments,
+				@Nullable Class<?> targetClass) {
+
+			super(proxy, target, CompiledInvocation.this.method, arguments, targetClass, CompiledInvocation.this.chain);
+		}
+
+		@Override
+		@Nullable
+		public Object proceed() throws Throwable {
+			// We start with an index of -1 and increment early.
+			if (this.currentInterceptorIndex == interceptors.length - 1) {
+				return invokeJoinpoint();
+			}
+			return interceptors[++this.currentInterceptorIndex].invoke(this);
+		}
+
+		@Override
+		@Nullable
+		protected Object invokeJoinpoint() throws Throwable {
+			return invokeTarget(this.target, this.arguments);
+		}
+	}
+
+}
@@ -203,24 +203,31 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 			target = targetSource.getTarget();
 			Class<?> targetClass = (target != null ? target.getClass() : null);
 
-			// Get the interception chain for this method.
-			List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
-
-			// Check whether we have any advice. If we don't, we can fall back on direct
-			// reflective invocation of the target, and avoid creating a MethodInvocation.
-			if (chain.isEmpty()) {
-				// We can skip creating a MethodInvocation: just invoke the target directly
-				// Note that the final invoker must be an InvokerInterceptor so we know it does
-				// nothing but a reflective operation on the target, and no hot swapping or fancy proxying.
-				Object[] argsToUse = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
-				retVal = AopUtils.invokeJoinpointUsingReflection(target, method, argsToUse);
+			// Check for a precompiled interceptor chain in case of a frozen config.
+			CompiledInvocation compiledInvocation = this.advised.getCompiledInvocation(method, targetClass);
+			if (compiledInvocation != null) {
+				retVal = compiledInvocation.invoke(proxy, target, args, targetClass);
 			}
 			else {
-				// We need to create a method invocation...
-				MethodInvocation invocation =
-						new ReflectiveMethodInvocation(proxy, target, method, args, targetClass, chain);
-				// Proceed to the joinpoint through the interceptor chain.
-				retVal = invocation.proceed();
+				// Get the interception chain for this method.
+				List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+
+				// Check whether we have any advice. If we don't, we can fall back on direct
+				// reflective invocation of the target, and avoid creating a MethodInvocation.
+				if (chain.isEmpty()) {
+					// We can skip creating a MethodInvocation: just invoke the target directly
+					// Note that the final invoker must be an InvokerInterceptor so we know it does
+					// nothing but a reflective operation on the target, and no hot swapping or fancy proxying.
+					Object[] argsToUse = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
+					retVal = AopUtils.invokeJoinpointUsingReflection(target, method, argsToUse);
+				}
+				else {
+					// We need to create a method invocation...
+					MethodInvocation invocation =
+							new ReflectiveMethodInvocation(proxy, target, method, args, targetClass, chain);
+					// Proceed to the joinpoint through the interceptor chain.
+					retVal = invocation.proceed();
+				}
 			}
 
 			// Massage return value if necessary.
@@ -16,21 +16,28 @@
 
 package org.springframework.aop.scope;
 
+import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
 import org.springframework.aop.framework.AopInfrastructureBean;
 import org.springframework.aop.framework.ProxyConfig;
 import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.aop.support.DelegatingIntroductionInterceptor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
 import org.springframework.aop.target.SimpleBeanTargetSource;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.FactoryBeanNotInitializedException;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Convenient proxy factory bean for scoped objects.
@@ -46,6 +53,13 @@ import org.springframework.util.ClassUtils;
  * <i>class-based</i> proxies by default. This can be customized
  * through switching the "proxyTargetClass" property to "false".
  *
+ * <p>As of 7.0, the proxies obtain an existing target object directly from
+ * its {@link Scope} once the bean factory's configuration is frozen, via
+ * {@link Scope#getIfPresent}, only going through the bean factory for
+ * creating a new target object. Furthermore, the {@link ScopedObject}
+ * introduction only applies to the {@code ScopedObject} methods, so that
+ * calls to all other methods get dispatched straight to the target object.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @since 2.0
@@ -56,7 +70,7 @@ public class ScopedProxyFactoryBean extends ProxyConfig
 		implements FactoryBean<Object>, BeanFactoryAware, AopInfrastructureBean {
 
 	/** The TargetSource that manages scoping. */
-	private final SimpleBeanTargetSource scopedTargetSource = new SimpleBeanTargetSource();
+	private final SimpleBeanTargetSource scopedTargetSource = new ScopedBeanTargetSource();
 
 	/** The name of the target bean. */
 	@Nullable
@@ -104,9 +118,14 @@ public class ScopedProxyFactoryBean extends ProxyConfig
 			pf.setInterfaces(ClassUtils.getAllInterfacesForClass(beanType, cbf.getBeanClassLoader()));
 		}
 
-		// Add an introduction that implements only the methods on ScopedObject.
+		// Add an introduction that implements only the methods on ScopedObject,
+		// leaving the interceptor chain empty for all other methods.
 		ScopedObject scopedObject = new DefaultScopedObject(cbf, this.scopedTargetSource.getTargetBeanName());
-		pf.addAdvice(new DelegatingIntroductionInterceptor(scopedObject));
+		DelegatingIntroductionInterceptor introduction = new DelegatingIntroductionInterceptor(scopedObject);
+		for (Class<?> ifc : introduction.getInterfaces()) {
+			pf.addInterface(ifc);
+		}
+		pf.addAdvisor(new DefaultPointcutAdvisor(new ScopedObjectMethodPointcut(), introduction));
 
 		// Add the AopInfrastructureBean marker to indicate that the scoped proxy
 		// itself is not subject to auto-proxying! Only its target bean is.
@@ -139,4 +158,67 @@ public class ScopedProxyFactoryBean extends ProxyConfig
 		return true;
 	}
 
+
+	/**
+	 * Variant of {@link SimpleBeanTargetSource} that obtains an existing target
+	 * object directly from its scope, bypassing the bean factory. Only applies
+	 * once the bean factory's configuration is frozen, and not to target beans
+	 * that are FactoryBeans.
+	 */
+	@SuppressWarnings("serial")
+	private static class ScopedBeanTargetSource extends SimpleBeanTargetSource {
+
+		@Nullable
+		private transient volatile Scope scope;
+
+		private transient volatile boolean scopeResolved;
+
+		@Override
+		public Object getTarget() throws Exception {
+			Scope scope = resolveScope();
+			if (scope != null) {
+				Object target = scope.getIfPresent(getTargetBeanName());
+				// Detect package-protected NullBean instance through equals(null) check
+				if (target != null && !target.equals(null)) {
+					return target;
+				}
+			}
+			return super.getTarget();
+		}
+
+		@Nullable
+		private Scope resolveScope() {
+			if (this.scopeResolved) {
+				return this.scope;
+			}
+			if (getBeanFactory() instanceof ConfigurableListableBeanFactory clbf && clbf.isConfigurationFrozen()) {
+				String beanName = getTargetBeanName();
+				Scope scope = null;
+				if (clbf.containsBeanDefinition(beanName) && !clbf.isFactoryBean(beanName)) {
+					String scopeName = clbf.getMergedBeanDefinition(beanName).getScope();
+					if (StringUtils.hasLength(scopeName)) {
+						scope = clbf.getRegisteredScope(scopeName);
+					}
+				}
+				this.scope = scope;
+				this.scopeResolved = true;
+				return scope;
+			}
+			return null;
+		}
+	}
+
+
+	/**
+	 * Pointcut that matches the methods declared on {@link ScopedObject}.
+	 */
+	@SuppressWarnings("serial")
+	private static class ScopedObjectMethodPointcut extends StaticMethodMatcherPointcut implements Serializable {
+
+		@Override
+		public boolean matches(Method method, Class<?> targetClass) {
+			return (method.getDeclaringClass() == ScopedObject.class);
+		}
+	}
+
 }
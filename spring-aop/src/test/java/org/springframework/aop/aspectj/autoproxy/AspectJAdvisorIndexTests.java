@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj.autoproxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import test.annotation.transaction.Tx;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.interceptor.DebugInterceptor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AspectJAdvisorIndex}.
+ */
+class AspectJAdvisorIndexTests {
+
+	private final Advisor withinAdvisor =
+			advisor("within(org.springframework.beans.testfixture.beans..*)");
+
+	private final Advisor executionAdvisor =
+			advisor("execution(* org.springframework.beans.testfixture.beans.TestBean.getAge())");
+
+	private final Advisor annotationAdvisor =
+			advisor("@annotation(test.annotation.transaction.Tx)");
+
+	private final Advisor withinAnnotationAdvisor =
+			advisor("@within(test.annotation.transaction.Tx) && execution(* *(..))");
+
+	private final Advisor targetAdvisor =
+			advisor("target(org.springframework.beans.testfixture.beans.ITestBean)");
+
+	private final Advisor nameMatchAdvisor = new NameMatchMethodPointcutAdvisor(new DebugInterceptor());
+
+	private final List<Advisor> advisors = List.of(withinAdvisor, executionAdvisor, annotationAdvisor,
+			withinAnnotationAdvisor, targetAdvisor, nameMatchAdvisor);
+
+
+	@Test
+	void indexedAdvisors() {
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(this.advisors);
+		assertThat(index.getAdvisorCount()).isEqualTo(6);
+		assertThat(index.getIndexedAdvisorCount()).isEqualTo(4);
+		assertThat(index.isIndexFor(this.advisors)).isTrue();
+		assertThat(index.isIndexFor(new ArrayList<>(this.advisors))).isTrue();
+		assertThat(index.isIndexFor(this.advisors.subList(1, 6))).isFalse();
+	}
+
+	@Test
+	void candidateAdvisorsForPackage() {
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(this.advisors);
+		assertThat(index.getCandidateAdvisors(TestBean.class)).containsExactly(
+				this.withinAdvisor, this.executionAdvisor, this.targetAdvisor, this.nameMatchAdvisor);
+	}
+
+	@Test
+	void candidateAdvisorsForAnnotatedMethod() {
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(this.advisors);
+		assertThat(index.getCandidateAdvisors(AnnotatedMethodBean.class)).containsExactly(
+				this.annotationAdvisor, this.withinAnnotationAdvisor, this.targetAdvisor, this.nameMatchAdvisor);
+	}
+
+	@Test
+	void candidateAdvisorsForAnnotatedSuperclass() {
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(this.advisors);
+		assertThat(index.getCandidateAdvisors(AnnotatedSubclassBean.class)).containsExactly(
+				this.annotationAdvisor, this.withinAnnotationAdvisor, this.targetAdvisor, this.nameMatchAdvisor);
+	}
+
+	@Test
+	void candidateAdvisorsForPlainClass() {
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(this.advisors);
+		assertThat(index.getCandidateAdvisors(PlainBean.class)).containsExactly(
+				this.targetAdvisor, this.nameMatchAdvisor);
+	}
+
+	@Test
+	void candidateAdvisorsForNestedClass() {
+		Advisor nestedAdvisor = advisor("within(org.springframework.aop.aspectj.autoproxy.AspectJAdvisorIndexTests.*)");
+		assertThat(AspectJAdvisorIndex.determineCandidateKeys(nestedAdvisor)).containsExactly(
+				"org.springframework.aop.aspectj.autoproxy.AspectJAdvisorIndexTests.");
+		List<Advisor> advisors = List.of(nestedAdvisor, this.withinAdvisor);
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(advisors);
+		assertThat(index.getIndexedAdvisorCount()).isEqualTo(2);
+		assertThat(index.getCandidateAdvisors(PlainBean.class)).containsExactly(nestedAdvisor);
+		assertThat(index.getCandidateAdvisors(TestBean.class)).containsExactly(this.withinAdvisor);
+		assertThat(AopUtils.findAdvisorsThatCanApply(advisors, PlainBean.class)).containsExactly(nestedAdvisor);
+	}
+
+	@Test
+	void candidateAdvisorsForSuperInterfaces() {
+		Advisor supplierAdvisor = advisor("execution(* java.util.function.Supplier.get())");
+		List<Advisor> advisors = List.of(this.annotationAdvisor, supplierAdvisor, this.withinAdvisor);
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(advisors);
+		assertThat(index.getIndexedAdvisorCount()).isEqualTo(3);
+		assertThat(index.getCandidateAdvisors(SuperInterfaceBean.class)).containsExactly(
+				this.annotationAdvisor, supplierAdvisor);
+		assertThat(AopUtils.findAdvisorsThatCanApply(advisors, SuperInterfaceBean.class)).containsExactly(
+				this.annotationAdvisor, supplierAdvisor);
+	}
+
+	@Test
+	void unionOfKeysForOrExpression() {
+		Advisor advisor = advisor("within(org.springframework.beans.testfixture.beans..*) || " +
+				"@annotation(test.annotation.transaction.Tx)");
+		assertThat(AspectJAdvisorIndex.determineCandidateKeys(advisor)).containsExactlyInAnyOrder(
+				"org.springframework.beans.testfixture.beans.", Tx.class.getName());
+	}
+
+	@Test
+	void noKeysForNegationOrSubtypePattern() {
+		assertThat(AspectJAdvisorIndex.determineCandidateKeys(
+				advisor("!within(org.springframework.beans.testfixture.beans..*)"))).isNull();
+		assertThat(AspectJAdvisorIndex.determineCandidateKeys(
+				advisor("execution(* org.springframework.beans.testfixture.beans.ITestBean+.*(..))"))).isNull();
+		assertThat(AspectJAdvisorIndex.determineCandidateKeys(
+				advisor("execution(* *..TestBean.*(..))"))).isNull();
+	}
+
+	@Test
+	void preFilteringRetainsApplicableAdvisors() {
+		AspectJAdvisorIndex index = new AspectJAdvisorIndex(this.advisors);
+		for (Class<?> beanClass : List.of(TestBean.class, AnnotatedMethodBean.class,
+				AnnotatedSubclassBean.class, PlainBean.class, SuperInterfaceBean.class)) {
+			assertThat(AopUtils.findAdvisorsThatCanApply(index.getCandidateAdvisors(beanClass), beanClass))
+					.containsExactlyElementsOf(AopUtils.findAdvisorsThatCanApply(this.advisors, beanClass));
+		}
+	}
+
+
+	private static Advisor advisor(String expression) {
+		AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+		pointcut.setExpression(expression);
+		return new DefaultPointcutAdvisor(pointcut, new DebugInterceptor());
+	}
+
+
+	static class PlainBean {
+
+		public void doSomething() {
+		}
+	}
+
+
+	static class AnnotatedMethodBean {
+
+		@Tx
+		public void doSomething() {
+		}
+	}
+
+
+	@Tx
+	static class AnnotatedSuperclassBean {
+
+		public void doSomething() {
+		}
+	}
+
+
+	static class AnnotatedSubclassBean extends AnnotatedSuperclassBean {
+	}
+
+
+	interface AnnotatedBaseApi {
+
+		@Tx
+		void doSomething();
+	}
+
+
+	interface SubApi extends AnnotatedBaseApi, Supplier<String> {
+	}
+
+
+	static class SuperInterfaceBean implements SubApi {
+
+		@Override
+		public void doSomething() {
+		}
+
+		@Override
+		public String get() {
+			return "value";
+		}
+	}
+
+}
@@ -390,6 +390,28 @@ class ProxyFactoryTests {
 		assertThat(proxy.getName()).isEqualTo("tb");
 	}
 
+	@Test
+	void compiledInvocationsWithFrozenConfig() {
+		TestBean target = new TestBean("tb", 42);
+		NopInterceptor nop = new NopInterceptor();
+		CountingBeforeAdvice cba = new CountingBeforeAdvice();
+		ProxyFactory pf = new ProxyFactory(target);
+		pf.addAdvice(nop);
+		pf.addAdvice(cba);
+		pf.setCompileInvocations(true);
+		pf.setFrozen(true);
+		ITestBean proxy = (ITestBean) pf.getProxy();
+
+		assertThat(proxy.getName()).isEqualTo("tb");
+		proxy.setAge(43);
+		assertThat(proxy.getAge()).isEqualTo(43);
+		assertThat(target.getAge()).isEqualTo(43);
+		assertThat(nop.getCount()).isEqualTo(3);
+		assertThat(cba.getCalls()).isEqualTo(3);
+		assertThatRuntimeException().isThrownBy(() -> proxy.exceptional(new RuntimeException("test")))
+				.withMessage("test");
+	}
+
 	@Test
 	void interfaceProxy() {
 		CharSequence target = "test";
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.beans;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -26,6 +29,7 @@ import org.openjdk.jmh.annotations.State;
 
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.core.SpringProperties;
 
 /**
  * Benchmark for {@link AbstractPropertyAccessor} use on beans.
@@ -80,6 +84,59 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@State(Scope.Benchmark)
+	public static class BindingState {
+
+		@Param({"reflection", "generated"})
+		public String accessStrategy;
+
+		public FormBean target;
+
+		public BeanWrapperImpl beanWrapper;
+
+		@Setup
+		public void setup() {
+			if (this.accessStrategy.equals("generated")) {
+				// Needs to be set before bean properties get introspected in this fork
+				SpringProperties.setFlag("spring.beans.generated-accessors");
+			}
+			this.target = new FormBean();
+			this.beanWrapper = new BeanWrapperImpl(this.target);
+		}
+
+		public MutablePropertyValues propertyValues() {
+			MutablePropertyValues pvs = new MutablePropertyValues();
+			pvs.add("name", "Juergen");
+			pvs.add("email", "juergen@example.org");
+			pvs.add("age", "42");
+			pvs.add("tags[0]", "spring");
+			pvs.add("attributes['key']", "value");
+			pvs.add("address.city", "Linz");
+			return pvs;
+		}
+
+	}
+
+	@Benchmark
+	public FormBean setPropertyValues(BindingState state) {
+		state.beanWrapper.setPropertyValues(state.propertyValues());
+		return state.target;
+	}
+
+	@Benchmark
+	public FormBean setPropertyValuesIndividually(BindingState state) {
+		// Same property values without a binding plan, as a baseline
+		for (PropertyValue pv : state.propertyValues().getPropertyValueList()) {
+			state.beanWrapper.setPropertyValue(pv);
+		}
+		return state.target;
+	}
+
+	@Benchmark
+	public Object getPropertyValue(BindingState state) {
+		return state.beanWrapper.getPropertyValue("name");
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
@@ -94,4 +151,82 @@ public class AbstractPropertyAccessorBenchmark {
 		}
 	}
 
+	@SuppressWarnings("unused")
+	private static class FormBean {
+
+		private String name;
+
+		private String email;
+
+		private int age;
+
+		private String[] tags = new String[1];
+
+		private Map<String, String> attributes = new HashMap<>();
+
+		private Address address = new Address();
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public String[] getTags() {
+			return this.tags;
+		}
+
+		public void setTags(String[] tags) {
+			this.tags = tags;
+		}
+
+		public Map<String, String> getAttributes() {
+			return this.attributes;
+		}
+
+		public void setAttributes(Map<String, String> attributes) {
+			this.attributes = attributes;
+		}
+
+		public Address getAddress() {
+			return this.address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class Address {
+
+		private String city;
+
+		public String getCity() {
+			return this.city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+	}
+
 }
@@ -22,19 +22,22 @@ import java.util.Date;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
 
 import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifiedResource;
 
 /**
- * Benchmark for creating prototype beans in a concurrent fashion.
+ * Benchmark for creating prototype beans and retrieving existing singleton
+ * beans in a concurrent fashion.
  * This benchmark requires to customize the number of worker threads {@code -t <int>} on the
  * CLI when running this particular benchmark to leverage concurrency.
  *
@@ -61,12 +64,47 @@ public class ConcurrentBeanFactoryBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class SingletonState {
+
+		@Param({"false", "true"})
+		public boolean frozenConfiguration;
+
+		public DefaultListableBeanFactory factory;
+
+		public ObjectProvider<ConcurrentBean> provider;
+
+		@Setup
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.registerBeanDefinition("singleton", new RootBeanDefinition(ConcurrentBean.class));
+			this.factory.registerAlias("singleton", "singletonAlias");
+			if (this.frozenConfiguration) {
+				this.factory.freezeConfiguration();
+			}
+			this.factory.preInstantiateSingletons();
+			this.provider = this.factory.getBeanProvider(ConcurrentBean.class);
+		}
+	}
+
+
 	@Benchmark
 	public void concurrentBeanCreation(BenchmarkState state, Blackhole bh) {
 		bh.consume(state.factory.getBean("bean1"));
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	@Benchmark
+	public void concurrentSingletonRetrieval(SingletonState state, Blackhole bh) {
+		bh.consume(state.factory.getBean("singleton"));
+		bh.consume(state.factory.getBean("singletonAlias", ConcurrentBean.class));
+	}
+
+	@Benchmark
+	public ConcurrentBean concurrentSingletonProvider(SingletonState state) {
+		return state.provider.getObject();
+	}
+
 
 	public static class ConcurrentBean {
 
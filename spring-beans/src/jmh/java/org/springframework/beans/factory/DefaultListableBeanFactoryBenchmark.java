@@ -28,6 +28,7 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.factory.support.SimpleInstantiationStrategy;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 
@@ -46,7 +47,8 @@ public class DefaultListableBeanFactoryBenchmark {
 	@State(Scope.Benchmark)
 	public static class PrototypeCreationState extends Shared {
 
-		@Param({"simple", "dependencyCheck", "constructor", "constructorArgument", "properties", "resolvedProperties"})
+		@Param({"simple", "dependencyCheck", "constructor", "constructorArgument",
+				"constructorArgumentGenerated", "properties", "resolvedProperties"})
 		public String mode;
 
 		@Setup
@@ -71,6 +73,11 @@ public class DefaultListableBeanFactoryBenchmark {
 					this.beanFactory.registerBeanDefinition("test", rbd);
 					this.beanFactory.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
 				}
+				case "constructorArgumentGenerated" -> {
+					rbd.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("spouse"));
+					this.beanFactory.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+					((SimpleInstantiationStrategy) this.beanFactory.getInstantiationStrategy()).setUseGeneratedAccessors(true);
+				}
 				case "properties" -> {
 					rbd.getPropertyValues().add("name", "juergen");
 					rbd.getPropertyValues().add("age", "99");
@@ -133,6 +140,36 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class BeanNamesForTypeState extends Shared {
+
+		@Param({"5000", "20000"})
+		public int beanCount;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			Class<?>[] types = {A.class, B.class, TestBean.class, LifecycleBean.class};
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(types[i % types.length]));
+			}
+			this.beanFactory.freezeConfiguration();
+		}
+	}
+
+	@Benchmark
+	public String[] beanNamesForTypeManyBeans(BeanNamesForTypeState state) {
+		return state.beanFactory.getBeanNamesForType(TestBean.class);
+	}
+
+	@Benchmark
+	public String[] beanNamesForTypeAfterRegistrationManyBeans(BeanNamesForTypeState state) {
+		// Registering a bean definition invalidates the by-type result cache
+		state.beanFactory.registerBeanDefinition("dynamic", new RootBeanDefinition(B.class));
+		state.beanFactory.removeBeanDefinition("dynamic");
+		return state.beanFactory.getBeanNamesForType(TestBean.class);
+	}
+
 	static class A {
 	}
 
@@ -270,6 +270,27 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		}
 	}
 
+	@Override
+	void setPropertyValue(BindingPlan.Step step, PropertyValue pv) throws BeansException {
+		AbstractNestablePropertyAccessor nestedPa = this;
+		try {
+			for (PropertyTokenHolder nestedTokens : step.nestedTokens) {
+				nestedPa = nestedPa.getNestedPropertyAccessor(nestedTokens);
+			}
+		}
+		catch (NotReadablePropertyException ex) {
+			throw new NotWritablePropertyException(getRootClass(), this.nestedPath + pv.getName(),
+					"Nested property in path '" + pv.getName() + "' does not exist", ex);
+		}
+		PropertyTokenHolder tokens = step.tokens;
+		if (nestedPa == this && tokens.keys == null) {
+			processLocalProperty(tokens, pv, getLocalPropertyHandler(step));
+		}
+		else {
+			nestedPa.setPropertyValue(tokens, pv);
+		}
+	}
+
 	protected void setPropertyValue(PropertyTokenHolder tokens, PropertyValue pv) throws BeansException {
 		if (tokens.keys != null) {
 			processKeyedProperty(tokens, pv);
@@ -413,7 +434,10 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	}
 
 	private void processLocalProperty(PropertyTokenHolder tokens, PropertyValue pv) {
-		PropertyHandler ph = getLocalPropertyHandler(tokens.actualName);
+		processLocalProperty(tokens, pv, getLocalPropertyHandler(tokens.actualName));
+	}
+
+	private void processLocalProperty(PropertyTokenHolder tokens, PropertyValue pv, @Nullable PropertyHandler ph) {
 		if (ph == null || !ph.isWritable()) {
 			if (pv.isOptional()) {
 				if (logger.isDebugEnabled()) {
@@ -750,6 +774,20 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	@Nullable
 	protected abstract PropertyHandler getLocalPropertyHandler(String propertyName);
 
+	/**
+	 * Return a {@link PropertyHandler} for the top-level property of the
+	 * given binding plan step.
+	 * <p>The default implementation looks up the handler by the property name.
+	 * Subclasses may use the property information pre-resolved in the step.
+	 * @param step the binding plan step for a local property
+	 * @return the property handler, or {@code null} if not found
+	 * @since 7.0
+	 */
+	@Nullable
+	PropertyHandler getLocalPropertyHandler(BindingPlan.Step step) {
+		return getLocalPropertyHandler(step.tokens.actualName);
+	}
+
 	/**
 	 * Create a new nested property accessor instance.
 	 * Can be overridden in subclasses to create a PropertyAccessor subclass.
@@ -845,13 +883,16 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 * @return the PropertyAccessor instance, either cached or newly created
 	 */
 	private AbstractNestablePropertyAccessor getNestedPropertyAccessor(String nestedProperty) {
+		return getNestedPropertyAccessor(getPropertyNameTokens(nestedProperty));
+	}
+
+	private AbstractNestablePropertyAccessor getNestedPropertyAccessor(PropertyTokenHolder tokens) {
 		Map<String, AbstractNestablePropertyAccessor> nestedAccessors = this.nestedPropertyAccessors;
 		if (nestedAccessors == null) {
 			nestedAccessors = new HashMap<>();
 			this.nestedPropertyAccessors = nestedAccessors;
 		}
 		// Get value of bean property.
-		PropertyTokenHolder tokens = getPropertyNameTokens(nestedProperty);
 		String canonicalName = tokens.canonicalName;
 		Object value = getPropertyValue(tokens);
 		if (value == null || (value instanceof Optional<?> optional && optional.isEmpty())) {
@@ -942,7 +983,7 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 * @param propertyName the property name to parse
 	 * @return representation of the parsed property tokens
 	 */
-	private PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+	static PropertyTokenHolder getPropertyNameTokens(String propertyName) {
 		String actualName = null;
 		List<String> keys = new ArrayList<>(2);
 		int searchIndex = 0;
@@ -975,7 +1016,7 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		return tokens;
 	}
 
-	private int getPropertyNameKeyEnd(String propertyName, int startIndex) {
+	private static int getPropertyNameKeyEnd(String propertyName, int startIndex) {
 		int unclosedPrefixes = 0;
 		int length = propertyName.length();
 		for (int i = startIndex; i < length; i++) {
@@ -96,12 +96,19 @@ public abstract class AbstractPropertyAccessor extends TypeConverterSupport impl
 			this.suppressNotWritablePropertyException = true;
 		}
 		try {
-			for (PropertyValue pv : propertyValues) {
+			BindingPlan plan = getBindingPlan(propertyValues);
+			for (int i = 0; i < propertyValues.size(); i++) {
+				PropertyValue pv = propertyValues.get(i);
 				// setPropertyValue may throw any BeansException, which won't be caught
 				// here, if there is a critical failure such as no matching field.
 				// We can attempt to deal only with less serious exceptions.
 				try {
-					setPropertyValue(pv);
+					if (plan != null) {
+						setPropertyValue(plan.getStep(i), pv);
+					}
+					else {
+						setPropertyValue(pv);
+					}
 				}
 				catch (NotWritablePropertyException ex) {
 					if (!ignoreUnknown) {
@@ -137,6 +144,31 @@ public abstract class AbstractPropertyAccessor extends TypeConverterSupport impl
 	}
 
 
+	/**
+	 * Return a binding plan for the given property values, if supported.
+	 * <p>The default implementation returns {@code null}, setting each
+	 * property value through {@link #setPropertyValue(PropertyValue)}.
+	 * @param propertyValues the property values to set, in order
+	 * @return the plan to apply, or {@code null} for none
+	 * @since 7.0
+	 */
+	@Nullable
+	BindingPlan getBindingPlan(List<PropertyValue> propertyValues) {
+		return null;
+	}
+
+	/**
+	 * Set the given property value according to the given binding plan step.
+	 * <p>The default implementation ignores the step and delegates to
+	 * {@link #setPropertyValue(PropertyValue)}.
+	 * @param step the resolved step for the property path of the value
+	 * @param pv the property value to set
+	 * @since 7.0
+	 */
+	void setPropertyValue(BindingPlan.Step step, PropertyValue pv) throws BeansException {
+		setPropertyValue(pv);
+	}
+
 	// Redefined with public visibility.
 	@Override
 	@Nullable
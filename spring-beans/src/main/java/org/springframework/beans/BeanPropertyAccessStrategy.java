@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy interface for creating accessors that invoke the read and write
+ * methods of bean properties, as an alternative to reflective invocation
+ * in {@link BeanWrapperImpl}.
+ *
+ * <p>Strategies are instantiated by {@link CachedIntrospectionResults} through
+ * {@link org.springframework.core.io.support.SpringFactoriesLoader}, with the
+ * {@link GeneratedBeanPropertyAccessStrategy} being used by default if the
+ * {@code spring.beans.generated-accessors} property is set. Accessors are
+ * created once per property of a bean class, on repeated access to that
+ * property, and cached along with the introspection results for the class.
+ * If a strategy returns {@code null}, the next strategy will be queried,
+ * eventually falling back to reflection.
+ *
+ * <p>Accessors may propagate any exception thrown by the target method as-is:
+ * {@code BeanWrapperImpl} takes care of exception translation, just like for
+ * reflective invocation.
+ *
+ * @since 7.0
+ * @see GeneratedBeanPropertyAccessStrategy
+ */
+public interface BeanPropertyAccessStrategy {
+
+	/**
+	 * Create a getter for the given read method, accepting the target
+	 * instance and returning the (boxed) property value.
+	 * @param beanClass the introspected bean class
+	 * @param readMethod the read method of the property
+	 * @return the getter, or {@code null} if not supported
+	 */
+	@Nullable
+	Function<Object, Object> createGetter(Class<?> beanClass, Method readMethod);
+
+	/**
+	 * Create a setter for the given write method, accepting the target
+	 * instance and the property value, which is guaranteed to be an instance
+	 * of the (boxed) parameter type of the write method.
+	 * @param beanClass the introspected bean class
+	 * @param writeMethod the write method of the property
+	 * @return the setter, or {@code null} if not supported
+	 */
+	@Nullable
+	BiConsumer<Object, Object> createSetter(Class<?> beanClass, Method writeMethod);
+
+}
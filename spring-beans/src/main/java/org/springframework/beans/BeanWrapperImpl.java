@@ -17,10 +17,16 @@
 package org.springframework.beans;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.CachedIntrospectionResults.PropertyAccessors;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.TypeDescriptor;
@@ -194,7 +200,28 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	@Nullable
 	protected BeanPropertyHandler getLocalPropertyHandler(String propertyName) {
 		PropertyDescriptor pd = getCachedIntrospectionResults().getPropertyDescriptor(propertyName);
-		return (pd != null ? new BeanPropertyHandler((GenericTypeAwarePropertyDescriptor) pd) : null);
+		return (pd != null ? new BeanPropertyHandler((GenericTypeAwarePropertyDescriptor) pd, null) : null);
+	}
+
+	@Override
+	@Nullable
+	BindingPlan getBindingPlan(List<PropertyValue> propertyValues) {
+		if (propertyValues.isEmpty() || getClass() != BeanWrapperImpl.class) {
+			// Custom subclasses may override individual setPropertyValue variants
+			return null;
+		}
+		List<String> propertyPaths = new ArrayList<>(propertyValues.size());
+		for (PropertyValue pv : propertyValues) {
+			propertyPaths.add(pv.getName());
+		}
+		return getCachedIntrospectionResults().getBindingPlan(propertyPaths);
+	}
+
+	@Override
+	@Nullable
+	PropertyHandler getLocalPropertyHandler(BindingPlan.Step step) {
+		return (step.descriptor != null ? new BeanPropertyHandler(step.descriptor, step.accessors) :
+				getLocalPropertyHandler(step.tokens.actualName));
 	}
 
 	@Override
@@ -231,9 +258,19 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		private final GenericTypeAwarePropertyDescriptor pd;
 
-		public BeanPropertyHandler(GenericTypeAwarePropertyDescriptor pd) {
+		@Nullable
+		private final PropertyAccessors accessors;
+
+		public BeanPropertyHandler(GenericTypeAwarePropertyDescriptor pd, @Nullable PropertyAccessors accessors) {
 			super(pd.getPropertyType(), pd.getReadMethod() != null, pd.getWriteMethod() != null);
 			this.pd = pd;
+			this.accessors = accessors;
+		}
+
+		@Nullable
+		private PropertyAccessors getPropertyAccessors() {
+			return (this.accessors != null ? this.accessors :
+					getCachedIntrospectionResults().getPropertyAccessors(this.pd));
 		}
 
 		@Override
@@ -271,6 +308,17 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		public Object getValue() throws Exception {
 			Method readMethod = this.pd.getReadMethod();
 			Assert.state(readMethod != null, "No read method available");
+			PropertyAccessors accessors = getPropertyAccessors();
+			Function<Object, Object> getter = (accessors != null ? accessors.getGetter(readMethod) : null);
+			if (getter != null) {
+				try {
+					return getter.apply(getWrappedInstance());
+				}
+				catch (Throwable ex) {
+					// Same exception handling as for reflective invocation
+					throw new InvocationTargetException(ex);
+				}
+			}
 			ReflectionUtils.makeAccessible(readMethod);
 			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
 		}
@@ -278,6 +326,18 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
 			Method writeMethod = this.pd.getWriteMethodForActualAccess();
+			PropertyAccessors accessors = getPropertyAccessors();
+			BiConsumer<Object, Object> setter = (accessors != null ? accessors.getSetter(writeMethod, value) : null);
+			if (setter != null) {
+				try {
+					setter.accept(getWrappedInstance(), value);
+					return;
+				}
+				catch (Throwable ex) {
+					// Same exception handling as for reflective invocation
+					throw new InvocationTargetException(ex);
+				}
+			}
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
 		}
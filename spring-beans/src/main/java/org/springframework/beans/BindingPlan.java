@@ -0,0 +1,123 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.AbstractNestablePropertyAccessor.PropertyTokenHolder;
+import org.springframework.beans.CachedIntrospectionResults.PropertyAccessors;
+import org.springframework.lang.Nullable;
+
+/**
+ * Pre-resolved plan for binding a given sequence of property paths to
+ * instances of a given bean class, as applied by
+ * {@link AbstractPropertyAccessor#setPropertyValues(PropertyValues, boolean, boolean)}
+ * for every {@link BeanWrapperImpl}, e.g. when a {@code DataBinder} binds the
+ * same set of request parameters again and again.
+ *
+ * <p>Each property path gets parsed into the tokens for its nested properties
+ * and its final property once, and top-level properties get their property
+ * descriptor and accessors resolved upfront. Type conversion is not part of
+ * the plan since it depends on the editors and the conversion service of the
+ * individual property accessor.
+ *
+ * <p>Plans are cached per bean class in {@link CachedIntrospectionResults},
+ * and therefore discarded along with the introspection results for the class.
+ *
+ * @since 7.0
+ * @see CachedIntrospectionResults#getBindingPlan(List)
+ */
+final class BindingPlan {
+
+	private final Step[] steps;
+
+
+	BindingPlan(List<String> propertyPaths, CachedIntrospectionResults introspectionResults) {
+		this.steps = new Step[propertyPaths.size()];
+		for (int i = 0; i < this.steps.length; i++) {
+			this.steps[i] = new Step(propertyPaths.get(i), introspectionResults);
+		}
+	}
+
+
+	/**
+	 * Return the number of property paths in this plan.
+	 */
+	int size() {
+		return this.steps.length;
+	}
+
+	/**
+	 * Return the resolved step for the property path at the given index.
+	 */
+	Step getStep(int index) {
+		return this.steps[index];
+	}
+
+
+	/**
+	 * Resolved binding step for a single property path.
+	 */
+	static final class Step {
+
+		private static final PropertyTokenHolder[] NO_NESTED_TOKENS = new PropertyTokenHolder[0];
+
+		/** Tokens for the nested properties to navigate, in path order. */
+		final PropertyTokenHolder[] nestedTokens;
+
+		/** Tokens for the final property to set. */
+		final PropertyTokenHolder tokens;
+
+		/** Descriptor for a top-level property without keys, if found. */
+		@Nullable
+		final GenericTypeAwarePropertyDescriptor descriptor;
+
+		/** Accessors for the top-level property, if available. */
+		@Nullable
+		final PropertyAccessors accessors;
+
+		Step(String propertyPath, CachedIntrospectionResults introspectionResults) {
+			List<PropertyTokenHolder> nestedTokens = null;
+			String finalPath = propertyPath;
+			int pos = PropertyAccessorUtils.getFirstNestedPropertySeparatorIndex(finalPath);
+			while (pos > -1) {
+				if (nestedTokens == null) {
+					nestedTokens = new ArrayList<>(2);
+				}
+				nestedTokens.add(AbstractNestablePropertyAccessor.getPropertyNameTokens(finalPath.substring(0, pos)));
+				finalPath = finalPath.substring(pos + 1);
+				pos = PropertyAccessorUtils.getFirstNestedPropertySeparatorIndex(finalPath);
+			}
+			this.nestedTokens = (nestedTokens != null ? nestedTokens.toArray(NO_NESTED_TOKENS) : NO_NESTED_TOKENS);
+			this.tokens = AbstractNestablePropertyAccessor.getPropertyNameTokens(finalPath);
+
+			PropertyDescriptor pd = (nestedTokens == null && this.tokens.keys == null ?
+					introspectionResults.getPropertyDescriptor(this.tokens.actualName) : null);
+			if (pd instanceof GenericTypeAwarePropertyDescriptor gpd) {
+				this.descriptor = gpd;
+				this.accessors = introspectionResults.getPropertyAccessors(gpd);
+			}
+			else {
+				this.descriptor = null;
+				this.accessors = null;
+			}
+		}
+	}
+
+}
@@ -30,13 +30,17 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
@@ -66,6 +70,15 @@ import org.springframework.util.StringUtils;
  * For Spring 5.3 compatible extended introspection including non-void setter methods:
  * {@code org.springframework.beans.BeanInfoFactory=org.springframework.beans.ExtendedBeanInfoFactory}
  *
+ * <p>As of 7.0, the read and write methods of bean properties may be invoked through
+ * accessors created by a {@link BeanPropertyAccessStrategy} instead of reflection,
+ * with the accessors cached along with the introspection results. Such strategies
+ * get registered in {@code META-INF/spring.factories} as well, or the built-in
+ * {@link GeneratedBeanPropertyAccessStrategy} may be activated through the
+ * {@value GeneratedAccessors#GENERATED_ACCESSORS_PROPERTY_NAME} property.
+ * Also as of 7.0, the {@link BindingPlan binding plans} for recently bound
+ * sequences of property paths are kept along with the introspection results.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @since 05 May 2001
@@ -80,6 +93,11 @@ public final class CachedIntrospectionResults {
 
 	private static final SimpleBeanInfoFactory simpleBeanInfoFactory = new SimpleBeanInfoFactory();
 
+	private static final List<BeanPropertyAccessStrategy> accessStrategies = loadAccessStrategies();
+
+	/** Maximum number of binding plans to keep per bean class. */
+	private static final int BINDING_PLAN_CACHE_LIMIT = 32;
+
 	private static final Log logger = LogFactory.getLog(CachedIntrospectionResults.class);
 
 	/**
@@ -225,6 +243,15 @@ public final class CachedIntrospectionResults {
 		return simpleBeanInfoFactory.getBeanInfo(beanClass);
 	}
 
+	private static List<BeanPropertyAccessStrategy> loadAccessStrategies() {
+		List<BeanPropertyAccessStrategy> strategies = SpringFactoriesLoader.loadFactories(
+				BeanPropertyAccessStrategy.class, CachedIntrospectionResults.class.getClassLoader());
+		if (strategies.isEmpty() && SpringProperties.getFlag(GeneratedAccessors.GENERATED_ACCESSORS_PROPERTY_NAME)) {
+			strategies = List.of(new GeneratedBeanPropertyAccessStrategy());
+		}
+		return strategies;
+	}
+
 
 	/** The BeanInfo object for the introspected bean class. */
 	private final BeanInfo beanInfo;
@@ -232,6 +259,14 @@ public final class CachedIntrospectionResults {
 	/** PropertyDescriptor objects keyed by property name String. */
 	private final Map<String, PropertyDescriptor> propertyDescriptors;
 
+	/** PropertyAccessors objects keyed by property name String, if accessors are to be created. */
+	@Nullable
+	private final ConcurrentMap<String, PropertyAccessors> propertyAccessors;
+
+	/** BindingPlan objects keyed by property path sequence, lazily initialized. */
+	@Nullable
+	private volatile ConcurrentLruCache<List<String>, BindingPlan> bindingPlans;
+
 
 	/**
 	 * Create a new CachedIntrospectionResults instance for the given class.
@@ -249,6 +284,7 @@ public final class CachedIntrospectionResults {
 				logger.trace("Caching PropertyDescriptors for class [" + beanClass.getName() + "]");
 			}
 			this.propertyDescriptors = new LinkedHashMap<>();
+			this.propertyAccessors = (!accessStrategies.isEmpty() ? new ConcurrentHashMap<>() : null);
 
 			Set<String> readMethodNames = new HashSet<>();
 
@@ -388,6 +424,42 @@ public final class CachedIntrospectionResults {
 		return pd;
 	}
 
+	/**
+	 * Return the accessors for the given property of the introspected class.
+	 * @param pd a property descriptor obtained from this CachedIntrospectionResults
+	 * @return the accessors, or {@code null} if no {@link BeanPropertyAccessStrategy}
+	 * is available
+	 */
+	@Nullable
+	PropertyAccessors getPropertyAccessors(PropertyDescriptor pd) {
+		if (this.propertyAccessors == null) {
+			return null;
+		}
+		PropertyAccessors accessors = this.propertyAccessors.get(pd.getName());
+		if (accessors == null) {
+			accessors = this.propertyAccessors.computeIfAbsent(pd.getName(), name ->
+					new PropertyAccessors(getBeanClass(), pd.getReadMethod(), pd.getWriteMethod(), accessStrategies));
+		}
+		return accessors;
+	}
+
+	/**
+	 * Return the binding plan for the given sequence of property paths,
+	 * resolved against the introspected class.
+	 * <p>Only a limited number of plans is kept per class, evicting the least
+	 * recently used plan for a new sequence of property paths.
+	 * @param propertyPaths the property paths to bind, in binding order
+	 * @return the cached or newly resolved plan
+	 */
+	BindingPlan getBindingPlan(List<String> propertyPaths) {
+		ConcurrentLruCache<List<String>, BindingPlan> bindingPlans = this.bindingPlans;
+		if (bindingPlans == null) {
+			bindingPlans = new ConcurrentLruCache<>(BINDING_PLAN_CACHE_LIMIT, paths -> new BindingPlan(paths, this));
+			this.bindingPlans = bindingPlans;
+		}
+		return bindingPlans.get(propertyPaths);
+	}
+
 	PropertyDescriptor[] getPropertyDescriptors() {
 		return this.propertyDescriptors.values().toArray(PropertyDescriptorUtils.EMPTY_PROPERTY_DESCRIPTOR_ARRAY);
 	}
@@ -402,4 +474,74 @@ public final class CachedIntrospectionResults {
 		}
 	}
 
+
+	/**
+	 * Accessors for the read and write method of a bean property, created
+	 * through the first applicable {@link BeanPropertyAccessStrategy}.
+	 * @see GeneratedAccessors.Holder
+	 */
+	static final class PropertyAccessors {
+
+		@Nullable
+		private final GeneratedAccessors.Holder<Function<Object, Object>> getter;
+
+		@Nullable
+		private final GeneratedAccessors.Holder<BiConsumer<Object, Object>> setter;
+
+		@Nullable
+		private final Class<?> writeParameterType;
+
+		PropertyAccessors(Class<?> beanClass, @Nullable Method readMethod, @Nullable Method writeMethod,
+				List<BeanPropertyAccessStrategy> strategies) {
+
+			this.getter = (readMethod != null ? new GeneratedAccessors.Holder<>(readMethod, () -> {
+				for (BeanPropertyAccessStrategy strategy : strategies) {
+					Function<Object, Object> getter = strategy.createGetter(beanClass, readMethod);
+					if (getter != null) {
+						return getter;
+					}
+				}
+				return null;
+			}) : null);
+			this.setter = (writeMethod != null ? new GeneratedAccessors.Holder<>(writeMethod, () -> {
+				for (BeanPropertyAccessStrategy strategy : strategies) {
+					BiConsumer<Object, Object> setter = strategy.createSetter(beanClass, writeMethod);
+					if (setter != null) {
+						return setter;
+					}
+				}
+				return null;
+			}) : null);
+			this.writeParameterType = (writeMethod != null && writeMethod.getParameterCount() == 1 ?
+					writeMethod.getParameterTypes()[0] : null);
+		}
+
+		/**
+		 * Return the getter for the read method, if available.
+		 * @param readMethod the read method to be invoked
+		 */
+		@Nullable
+		Function<Object, Object> getGetter(Method readMethod) {
+			GeneratedAccessors.Holder<Function<Object, Object>> getter = this.getter;
+			return (getter != null && getter.isFor(readMethod) ? getter.get() : null);
+		}
+
+		/**
+		 * Return the setter for the write method, if available and if applicable
+		 * to the given value.
+		 * @param writeMethod the write method to be invoked
+		 * @param value the value to be passed to the write method
+		 */
+		@Nullable
+		BiConsumer<Object, Object> getSetter(Method writeMethod, @Nullable Object value) {
+			GeneratedAccessors.Holder<BiConsumer<Object, Object>> setter = this.setter;
+			if (setter == null || !setter.isFor(writeMethod) || this.writeParameterType == null ||
+					!ClassUtils.isAssignableValue(this.writeParameterType, value)) {
+				// Leave argument checks and conversions to reflection
+				return null;
+			}
+			return setter.get();
+		}
+	}
+
 }
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Generates accessors for constructors, methods and fields at runtime, as an
+ * alternative to reflective invocation for beans that get created or injected
+ * repeatedly, for example prototype or request-scoped beans.
+ *
+ * <p>Each accessor is a hidden class defined as a nestmate of the class that
+ * declares the target member, invoking the member directly, similar to the
+ * code that is generated for bean instantiation and injection during AOT
+ * processing. Accessors can therefore only be generated if this class has
+ * private access to the declaring class; for example, this is not the case
+ * for a class in a named module that does not open its package to
+ * {@code spring-beans}. Callers are expected to fall back to reflection
+ * in such a case.
+ *
+ * <p>Note that generated accessors do not wrap exceptions that the target
+ * member throws, in contrast to reflective invocation.
+ *
+ * @since 7.0
+ * @see org.springframework.beans.factory.support.SimpleInstantiationStrategy#setUseGeneratedAccessors
+ * @see org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor#setUseGeneratedAccessors
+ */
+public abstract class GeneratedAccessors {
+
+	/**
+	 * System property that instructs Spring to use generated accessors by
+	 * default for instantiating beans and for injecting autowired fields
+	 * and methods, once they have been accessed reflectively before.
+	 * Also applies to bean property access through a
+	 * {@link BeanWrapper}.
+	 * <p>By default, reflection is used.
+	 * @see GeneratedBeanPropertyAccessStrategy
+	 */
+	public static final String GENERATED_ACCESSORS_PROPERTY_NAME = "spring.beans.generated-accessors";
+
+	private static final boolean useGeneratedAccessors = SpringProperties.getFlag(GENERATED_ACCESSORS_PROPERTY_NAME);
+
+	private static final String ACCESSOR_CLASS_SUFFIX = "$$SpringAccessor";
+
+	private static final String OBJECT_TYPE = Type.getInternalName(Object.class);
+
+	private static final String OBJECT_ARRAY_TYPE = Type.getInternalName(Object[].class);
+
+	private static final Log logger = LogFactory.getLog(GeneratedAccessors.class);
+
+
+	/**
+	 * Return whether generated accessors are to be used by default, as
+	 * indicated by the {@value #GENERATED_ACCESSORS_PROPERTY_NAME} property.
+	 */
+	public static boolean isUsedByDefault() {
+		return useGeneratedAccessors;
+	}
+
+	/**
+	 * Generate an instantiator for the given constructor, accepting the
+	 * constructor arguments as an {@code Object[]}.
+	 * @param ctor the constructor to invoke
+	 * @return the instantiator, or {@code null} if it cannot be generated
+	 */
+	@Nullable
+	public static Function<Object[], Object> generateInstantiator(Constructor<?> ctor) {
+		Class<?> declaringClass = ctor.getDeclaringClass();
+		if (Modifier.isAbstract(declaringClass.getModifiers())) {
+			return null;
+		}
+		Class<?>[] parameterTypes = ctor.getParameterTypes();
+		return generateAccessor(declaringClass, Function.class, "apply",
+				Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class)), mv -> {
+					storeArguments(mv, 1, 2);
+					String owner = Type.getInternalName(declaringClass);
+					mv.visitTypeInsn(Opcodes.NEW, owner);
+					mv.visitInsn(Opcodes.DUP);
+					loadArguments(mv, 2, parameterTypes);
+					mv.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, "<init>", Type.getConstructorDescriptor(ctor), false);
+					mv.visitInsn(Opcodes.ARETURN);
+				});
+	}
+
+	/**
+	 * Generate an invoker for the given method, accepting the target instance
+	 * (ignored for a static method) and the method arguments as an {@code Object[]}.
+	 * The invoker returns the boxed return value, or {@code null} for a
+	 * {@code void} method.
+	 * @param method the method to invoke
+	 * @return the invoker, or {@code null} if it cannot be generated
+	 */
+	@Nullable
+	public static BiFunction<Object, Object[], Object> generateInvoker(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		boolean isStatic = Modifier.isStatic(method.getModifiers());
+		return generateAccessor(declaringClass, BiFunction.class, "apply",
+				Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class), Type.getType(Object.class)),
+				mv -> {
+					storeArguments(mv, 2, 3);
+					String owner = Type.getInternalName(declaringClass);
+					if (!isStatic) {
+						mv.visitVarInsn(Opcodes.ALOAD, 1);
+						mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+					}
+					loadArguments(mv, 3, parameterTypes);
+					int opcode = (isStatic ? Opcodes.INVOKESTATIC :
+							declaringClass.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL);
+					mv.visitMethodInsn(opcode, owner, method.getName(), Type.getMethodDescriptor(method),
+							declaringClass.isInterface());
+					box(mv, method.getReturnType());
+					mv.visitInsn(Opcodes.ARETURN);
+				});
+	}
+
+	/**
+	 * Generate a setter for the given non-final field, accepting the target
+	 * instance (ignored for a static field) and the value to set.
+	 * @param field the field to set
+	 * @return the setter, or {@code null} if it cannot be generated
+	 */
+	@Nullable
+	public static BiConsumer<Object, Object> generateSetter(Field field) {
+		if (Modifier.isFinal(field.getModifiers())) {
+			return null;
+		}
+		Class<?> declaringClass = field.getDeclaringClass();
+		boolean isStatic = Modifier.isStatic(field.getModifiers());
+		return generateAccessor(declaringClass, BiConsumer.class, "accept",
+				Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class), Type.getType(Object.class)),
+				mv -> {
+					String owner = Type.getInternalName(declaringClass);
+					if (!isStatic) {
+						mv.visitVarInsn(Opcodes.ALOAD, 1);
+						mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+					}
+					mv.visitVarInsn(Opcodes.ALOAD, 2);
+					unbox(mv, field.getType());
+					mv.visitFieldInsn((isStatic ? Opcodes.PUTSTATIC : Opcodes.PUTFIELD), owner,
+							field.getName(), Type.getDescriptor(field.getType()));
+					mv.visitInsn(Opcodes.RETURN);
+				});
+	}
+
+
+	@Nullable
+	private static <T> T generateAccessor(Class<?> declaringClass, Class<?> accessorType,
+			String methodName, String methodDescriptor, Consumer<MethodVisitor> methodBody) {
+
+		if (declaringClass.isHidden() || declaringClass.isArray() || declaringClass.isPrimitive()) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			if (!lookup.hasFullPrivilegeAccess()) {
+				return null;
+			}
+			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+			cw.visit(Opcodes.V17, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+					Type.getInternalName(declaringClass) + ACCESSOR_CLASS_SUFFIX, null, OBJECT_TYPE,
+					new String[] {Type.getInternalName(accessorType)});
+			MethodVisitor ctor = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+			ctor.visitCode();
+			ctor.visitVarInsn(Opcodes.ALOAD, 0);
+			ctor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT_TYPE, "<init>", "()V", false);
+			ctor.visitInsn(Opcodes.RETURN);
+			ctor.visitMaxs(0, 0);
+			ctor.visitEnd();
+			MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, methodName, methodDescriptor, null, null);
+			mv.visitCode();
+			methodBody.accept(mv);
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+			cw.visitEnd();
+			MethodHandles.Lookup accessorLookup = lookup.defineHiddenClass(
+					cw.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+			Object accessor = accessorLookup.findConstructor(
+					accessorLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+			@SuppressWarnings("unchecked")
+			T result = (T) accessorType.cast(accessor);
+			return result;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot generate accessor for members of " + declaringClass.getName() +
+						" - falling back to reflection: " + ex);
+			}
+			return null;
+		}
+	}
+
+	private static void storeArguments(MethodVisitor mv, int argumentsIndex, int localIndex) {
+		mv.visitVarInsn(Opcodes.ALOAD, argumentsIndex);
+		mv.visitTypeInsn(Opcodes.CHECKCAST, OBJECT_ARRAY_TYPE);
+		mv.visitVarInsn(Opcodes.ASTORE, localIndex);
+	}
+
+	private static void loadArguments(MethodVisitor mv, int localIndex, Class<?>[] parameterTypes) {
+		for (int i = 0; i < parameterTypes.length; i++) {
+			mv.visitVarInsn(Opcodes.ALOAD, localIndex);
+			mv.visitLdcInsn(i);
+			mv.visitInsn(Opcodes.AALOAD);
+			unbox(mv, parameterTypes[i]);
+		}
+	}
+
+	private static void unbox(MethodVisitor mv, Class<?> type) {
+		if (!type.isPrimitive()) {
+			if (type != Object.class) {
+				mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+			}
+			return;
+		}
+		Class<?>[] wideningSourceTypes = getWideningSourceTypes(type);
+		if (wideningSourceTypes.length == 0) {
+			unboxExact(mv, type);
+			return;
+		}
+		// Accept the exact wrapper type as well as wrappers of primitive types that
+		// can be converted through a widening primitive conversion, like reflection
+		Label end = new Label();
+		Label next = new Label();
+		mv.visitInsn(Opcodes.DUP);
+		mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(ClassUtils.resolvePrimitiveIfNecessary(type)));
+		mv.visitJumpInsn(Opcodes.IFEQ, next);
+		unboxExact(mv, type);
+		mv.visitJumpInsn(Opcodes.GOTO, end);
+		for (Class<?> sourceType : wideningSourceTypes) {
+			mv.visitLabel(next);
+			next = new Label();
+			mv.visitInsn(Opcodes.DUP);
+			mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(ClassUtils.resolvePrimitiveIfNecessary(sourceType)));
+			mv.visitJumpInsn(Opcodes.IFEQ, next);
+			unboxExact(mv, sourceType);
+			widen(mv, sourceType, type);
+			mv.visitJumpInsn(Opcodes.GOTO, end);
+		}
+		mv.visitLabel(next);
+		// Fails with a ClassCastException for any other type of value
+		unboxExact(mv, type);
+		mv.visitLabel(end);
+	}
+
+	private static void unboxExact(MethodVisitor mv, Class<?> type) {
+		String wrapperType = Type.getInternalName(ClassUtils.resolvePrimitiveIfNecessary(type));
+		mv.visitTypeInsn(Opcodes.CHECKCAST, wrapperType);
+		mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapperType, type.getName() + "Value",
+				Type.getMethodDescriptor(Type.getType(type)), false);
+	}
+
+	private static Class<?>[] getWideningSourceTypes(Class<?> type) {
+		if (type == short.class) {
+			return new Class<?>[] {byte.class};
+		}
+		else if (type == int.class) {
+			return new Class<?>[] {byte.class, short.class, char.class};
+		}
+		else if (type == long.class) {
+			return new Class<?>[] {int.class, byte.class, short.class, char.class};
+		}
+		else if (type == float.class) {
+			return new Class<?>[] {int.class, long.class, byte.class, short.class, char.class};
+		}
+		else if (type == double.class) {
+			return new Class<?>[] {int.class, long.class, float.class, byte.class, short.class, char.class};
+		}
+		return new Class<?>[0];
+	}
+
+	private static void widen(MethodVisitor mv, Class<?> sourceType, Class<?> targetType) {
+		if (sourceType == long.class) {
+			mv.visitInsn(targetType == float.class ? Opcodes.L2F : Opcodes.L2D);
+		}
+		else if (sourceType == float.class) {
+			mv.visitInsn(Opcodes.F2D);
+		}
+		else if (targetType == long.class) {
+			mv.visitInsn(Opcodes.I2L);
+		}
+		else if (targetType == float.class) {
+			mv.visitInsn(Opcodes.I2F);
+		}
+		else if (targetType == double.class) {
+			mv.visitInsn(Opcodes.I2D);
+		}
+	}
+
+	private static void box(MethodVisitor mv, Class<?> type) {
+		if (type == void.class) {
+			mv.visitInsn(Opcodes.ACONST_NULL);
+		}
+		else if (type.isPrimitive()) {
+			Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(type);
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapperType), "valueOf",
+					Type.getMethodDescriptor(Type.getType(wrapperType), Type.getType(type)), false);
+		}
+	}
+
+
+	/**
+	 * Holder for an accessor that gets generated lazily, on repeated access
+	 * to the given member only: members that are accessed just once, such as
+	 * the constructors of singleton beans, are not worth generating accessors
+	 * for. The outcome of the generation attempt is cached either way.
+	 * @param <T> the accessor type
+	 */
+	public static final class Holder<T> {
+
+		private final Member member;
+
+		private final Supplier<T> generator;
+
+		private volatile boolean accessed;
+
+		private volatile boolean resolved;
+
+		@Nullable
+		private volatile T accessor;
+
+		/**
+		 * Create a new holder for the given member.
+		 * @param member the member to generate an accessor for
+		 * @param generator the generator, typically a method reference to
+		 * one of the {@code generate} methods in {@link GeneratedAccessors}
+		 */
+		public Holder(Member member, Supplier<T> generator) {
+			this.member = member;
+			this.generator = generator;
+		}
+
+		/**
+		 * Return whether this holder is responsible for the given member.
+		 */
+		public boolean isFor(Member member) {
+			return this.member.equals(member);
+		}
+
+		/**
+		 * Return the accessor, generating it if the member has been
+		 * accessed before.
+		 * @return the accessor, or {@code null} if the member is accessed
+		 * for the first time or if no accessor could be generated
+		 */
+		@Nullable
+		public T get() {
+			if (this.resolved) {
+				return this.accessor;
+			}
+			if (!this.accessed) {
+				this.accessed = true;
+				return null;
+			}
+			synchronized (this) {
+				if (!this.resolved) {
+					this.accessor = this.generator.get();
+					this.resolved = true;
+				}
+				return this.accessor;
+			}
+		}
+	}
+
+}
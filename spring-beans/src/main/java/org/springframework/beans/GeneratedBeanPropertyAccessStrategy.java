@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link BeanPropertyAccessStrategy} that generates accessors through the
+ * {@link LambdaMetafactory}, invoking the read and write methods directly
+ * rather than reflectively.
+ *
+ * <p>Accessors are hidden classes defined by the JDK in the context of the
+ * class that declares the read or write method. Accessors can therefore only
+ * be generated if this class has private access to the declaring class; for
+ * example, this is not the case for a class in a named module that does not
+ * open its package to {@code spring-beans}, or for JDK classes. Reflection
+ * is used in such a case.
+ *
+ * @since 7.0
+ * @see GeneratedAccessors#GENERATED_ACCESSORS_PROPERTY_NAME
+ */
+public class GeneratedBeanPropertyAccessStrategy implements BeanPropertyAccessStrategy {
+
+	private static final MethodType GETTER_FACTORY_TYPE = MethodType.methodType(Function.class);
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final Log logger = LogFactory.getLog(GeneratedBeanPropertyAccessStrategy.class);
+
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public Function<Object, Object> createGetter(Class<?> beanClass, Method readMethod) {
+		if (readMethod.getParameterCount() != 0 || readMethod.getReturnType() == void.class) {
+			return null;
+		}
+		Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(readMethod.getReturnType());
+		return (Function<Object, Object>) generate(readMethod, "apply", GETTER_FACTORY_TYPE, GETTER_TYPE,
+				MethodType.methodType(returnType, readMethod.getDeclaringClass()));
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public BiConsumer<Object, Object> createSetter(Class<?> beanClass, Method writeMethod) {
+		if (writeMethod.getParameterCount() != 1) {
+			return null;
+		}
+		Class<?> parameterType = ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]);
+		return (BiConsumer<Object, Object>) generate(writeMethod, "accept", SETTER_FACTORY_TYPE, SETTER_TYPE,
+				MethodType.methodType(void.class, writeMethod.getDeclaringClass(), parameterType));
+	}
+
+	@Nullable
+	private Object generate(Method method, String interfaceMethodName, MethodType factoryType,
+			MethodType interfaceMethodType, MethodType dynamicMethodType) {
+
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (Modifier.isStatic(method.getModifiers()) || declaringClass.isHidden()) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			if (!lookup.hasFullPrivilegeAccess()) {
+				return null;
+			}
+			MethodHandle target = lookup.unreflect(method);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, interfaceMethodName,
+					factoryType, interfaceMethodType, target, dynamicMethodType);
+			return callSite.getTarget().invoke();
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot generate accessor for " + method + " - falling back to reflection: " + ex);
+			}
+			return null;
+		}
+	}
+
+}
@@ -35,6 +35,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -48,6 +50,7 @@ import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.support.ClassHintUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.GeneratedAccessors;
 import org.springframework.beans.PropertyValues;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
@@ -173,6 +176,8 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 
 	private int order = Ordered.LOWEST_PRECEDENCE - 2;
 
+	private boolean useGeneratedAccessors = GeneratedAccessors.isUsedByDefault();
+
 	@Nullable
 	private ConfigurableListableBeanFactory beanFactory;
 
@@ -268,6 +273,21 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 		this.requiredParameterValue = requiredParameterValue;
 	}
 
+	/**
+	 * Set whether to use {@linkplain GeneratedAccessors generated accessors}
+	 * instead of reflection for injecting autowired fields and methods of
+	 * beans that get created repeatedly, for example prototype beans.
+	 * An accessor gets generated on the second injection into the same
+	 * field or method.
+	 * <p>Default is "false", unless the
+	 * {@value GeneratedAccessors#GENERATED_ACCESSORS_PROPERTY_NAME}
+	 * property is set.
+	 * @since 7.0
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+		this.useGeneratedAccessors = useGeneratedAccessors;
+	}
+
 	public void setOrder(int order) {
 		this.order = order;
 	}
@@ -745,8 +765,11 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 		@Nullable
 		private volatile Object cachedFieldValue;
 
+		private final GeneratedAccessors.Holder<BiConsumer<Object, Object>> generatedSetter;
+
 		public AutowiredFieldElement(Field field, boolean required) {
 			super(field, null, required);
+			this.generatedSetter = new GeneratedAccessors.Holder<>(field, () -> GeneratedAccessors.generateSetter(field));
 		}
 
 		@Override
@@ -768,8 +791,14 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 				value = resolveFieldValue(field, bean, beanName);
 			}
 			if (value != null) {
-				ReflectionUtils.makeAccessible(field);
-				field.set(bean, value);
+				BiConsumer<Object, Object> setter = (useGeneratedAccessors ? this.generatedSetter.get() : null);
+				if (setter != null) {
+					setter.accept(bean, value);
+				}
+				else {
+					ReflectionUtils.makeAccessible(field);
+					field.set(bean, value);
+				}
 			}
 		}
 
@@ -823,8 +852,11 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 		@Nullable
 		private volatile Object[] cachedMethodArguments;
 
+		private final GeneratedAccessors.Holder<BiFunction<Object, Object[], Object>> generatedInvoker;
+
 		public AutowiredMethodElement(Method method, boolean required, @Nullable PropertyDescriptor pd) {
 			super(method, pd, required);
+			this.generatedInvoker = new GeneratedAccessors.Holder<>(method, () -> GeneratedAccessors.generateInvoker(method));
 		}
 
 		@Override
@@ -849,6 +881,11 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 				arguments = resolveMethodArguments(method, bean, beanName);
 			}
 			if (arguments != null) {
+				BiFunction<Object, Object[], Object> invoker = (useGeneratedAccessors ? this.generatedInvoker.get() : null);
+				if (invoker != null && !hasNullForPrimitive(method, arguments)) {
+					invoker.apply(bean, arguments);
+					return;
+				}
 				try {
 					ReflectionUtils.makeAccessible(method);
 					method.invoke(bean, arguments);
@@ -859,6 +896,15 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 			}
 		}
 
+		private boolean hasNullForPrimitive(Method method, Object[] arguments) {
+			for (int i = 0; i < arguments.length; i++) {
+				if (arguments[i] == null && method.getParameterTypes()[i].isPrimitive()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		@Nullable
 		private Object[] resolveCachedArguments(@Nullable String beanName, @Nullable Object[] cachedMethodArguments) {
 			if (cachedMethodArguments == null) {
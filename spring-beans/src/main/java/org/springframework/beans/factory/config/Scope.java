@@ -73,6 +73,27 @@ public interface Scope {
 	 */
 	Object get(String name, ObjectFactory<?> objectFactory);
 
+	/**
+	 * Return the object with the given name from the underlying scope
+	 * if present, without creating it otherwise.
+	 * <p>This is an optional fast path for callers that repeatedly access the
+	 * same scoped object, such as a scoped proxy: it allows for bypassing the
+	 * containing bean factory once the object has been created through
+	 * {@link #get(String, ObjectFactory)}. A {@code null} return value
+	 * requires the caller to go through the bean factory again.
+	 * <p>The default implementation returns {@code null}.
+	 * @param name the name of the object to retrieve
+	 * @return the scoped object, or {@code null} if not present (or if not
+	 * supported by this scope)
+	 * @throws IllegalStateException if the underlying scope is not currently active
+	 * @since 7.0
+	 * @see org.springframework.aop.scope.ScopedProxyFactoryBean
+	 */
+	@Nullable
+	default Object getIfPresent(String name) {
+		return null;
+	}
+
 	/**
 	 * Remove the object with the given {@code name} from the underlying scope.
 	 * <p>Returns {@code null} if no object was found; otherwise
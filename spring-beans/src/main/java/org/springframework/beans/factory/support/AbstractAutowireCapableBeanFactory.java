@@ -1292,6 +1292,18 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		return super.getObjectForBeanInstance(beanInstance, name, beanName, mbd);
 	}
 
+	/**
+	 * Overridden in order to bypass the frozen singleton lookup within a
+	 * {@link Supplier} callback, for dependency registration as above.
+	 * @since 7.0
+	 * @see #getObjectForBeanInstance
+	 */
+	@Override
+	@Nullable
+	Object getFrozenSingleton(String name) {
+		return (this.currentlyCreatedBean.get() == null ? super.getFrozenSingleton(name) : null);
+	}
+
 	/**
 	 * Determine candidate constructors to use for the given bean, checking all registered
 	 * {@link SmartInstantiationAwareBeanPostProcessor SmartInstantiationAwareBeanPostProcessors}.
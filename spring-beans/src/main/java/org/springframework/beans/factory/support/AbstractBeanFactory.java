@@ -240,6 +240,14 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 			String name, @Nullable Class<T> requiredType, @Nullable Object[] args, boolean typeCheckOnly)
 			throws BeansException {
 
+		// Fast path for fully initialized singletons after pre-instantiation.
+		if (args == null) {
+			Object frozenSingleton = getFrozenSingleton(name);
+			if (frozenSingleton != null && (requiredType == null || requiredType.isInstance(frozenSingleton))) {
+				return (T) frozenSingleton;
+			}
+		}
+
 		String beanName = transformedBeanName(name);
 		Object beanInstance;
 
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Inverted index from types to the names of the bean definitions whose bean
+ * type is assignable to them, maintained incrementally as bean definitions get
+ * registered, reset and removed.
+ *
+ * <p>A bean definition is "unindexed" until its bean type has been determined
+ * through {@link #index}. Unindexed bean definitions are candidates for any
+ * type, so that the {@linkplain #getCandidateNames candidate names} for a
+ * given type are always a superset of the actual matches. Candidate names
+ * are returned in registration order.
+ *
+ * @since 7.0
+ * @see DefaultListableBeanFactory#getBeanNamesForType(Class, boolean, boolean)
+ */
+final class BeanTypeIndex {
+
+	private final Map<String, Registration> registrations = new ConcurrentHashMap<>(256);
+
+	private final NavigableSet<Registration> unindexed = new TreeSet<>(Registration.ORDER);
+
+	private final Map<Class<?>, NavigableSet<Registration>> registrationsByType = new HashMap<>(256);
+
+	private int nextOrdinal;
+
+
+	/**
+	 * Register the given bean definition name, unless already registered.
+	 * <p>A re-registered bean definition keeps its original position in the
+	 * registration order.
+	 */
+	synchronized void register(String beanName) {
+		if (!this.registrations.containsKey(beanName)) {
+			Registration registration = new Registration(beanName, this.nextOrdinal++);
+			this.registrations.put(beanName, registration);
+			this.unindexed.add(registration);
+		}
+	}
+
+	/**
+	 * Remove the given bean definition name from the index.
+	 */
+	synchronized void remove(String beanName) {
+		Registration registration = this.registrations.remove(beanName);
+		if (registration != null) {
+			registration.stamp++;
+			removeFromTypes(registration);
+			this.unindexed.remove(registration);
+		}
+	}
+
+	/**
+	 * Mark the given bean definition as unindexed, for example, after its
+	 * definition got reset or its singleton instance got created or destroyed.
+	 */
+	synchronized void invalidate(String beanName) {
+		Registration registration = this.registrations.get(beanName);
+		if (registration != null) {
+			registration.stamp++;
+			if (registration.beanType != null) {
+				removeFromTypes(registration);
+				this.unindexed.add(registration);
+			}
+		}
+	}
+
+	/**
+	 * Mark all bean definitions as unindexed.
+	 */
+	synchronized void invalidateAll() {
+		for (Registration registration : this.registrations.values()) {
+			registration.stamp++;
+			registration.beanType = null;
+		}
+		this.unindexed.addAll(this.registrations.values());
+		this.registrationsByType.clear();
+	}
+
+	/**
+	 * Return the current modification stamp for the given bean definition,
+	 * to be passed into {@link #index} once its bean type has been determined,
+	 * or {@code -1} if the bean definition is indexed already (or not registered).
+	 */
+	int getModificationStamp(String beanName) {
+		Registration registration = this.registrations.get(beanName);
+		return (registration != null && registration.beanType == null ? registration.stamp : -1);
+	}
+
+	/**
+	 * Determine whether the given bean definition is indexed under a bean type
+	 * that is assignable to the given type.
+	 */
+	boolean isIndexedAs(String beanName, Class<?> type) {
+		Registration registration = this.registrations.get(beanName);
+		Class<?> beanType = (registration != null ? registration.beanType : null);
+		return (beanType != null && type.isAssignableFrom(beanType));
+	}
+
+	/**
+	 * Index the given bean definition under the given bean type, as well as
+	 * all of its superclasses and interfaces.
+	 * @param beanName the name of the bean definition
+	 * @param stamp the {@linkplain #getModificationStamp modification stamp}
+	 * obtained before determining the bean type; if the bean definition has
+	 * been invalidated in the meantime, it is not indexed
+	 * @param beanType the type that the bean is exposed as
+	 */
+	synchronized void index(String beanName, int stamp, Class<?> beanType) {
+		Registration registration = this.registrations.get(beanName);
+		if (registration == null || registration.stamp != stamp || registration.beanType != null) {
+			return;
+		}
+		registration.beanType = beanType;
+		for (Class<?> type : getTypeHierarchy(beanType)) {
+			this.registrationsByType.computeIfAbsent(type, key -> new TreeSet<>(Registration.ORDER)).add(registration);
+		}
+		this.unindexed.remove(registration);
+	}
+
+	/**
+	 * Return the names of the bean definitions that may match the given type,
+	 * in registration order: the indexed bean definitions with an assignable
+	 * bean type, plus all unindexed bean definitions.
+	 * @param type the raw type to match
+	 * @return the candidate names, or {@code null} if the index does not narrow
+	 * down the candidates for the given type (in which case all bean definitions
+	 * need to be checked)
+	 */
+	@Nullable
+	synchronized List<String> getCandidateNames(Class<?> type) {
+		if (type == Object.class || type.isArray() || type.isPrimitive() ||
+				this.unindexed.size() > this.registrations.size() / 2) {
+			return null;
+		}
+		NavigableSet<Registration> indexed = this.registrationsByType.getOrDefault(type, Collections.emptyNavigableSet());
+		List<String> candidateNames = new ArrayList<>(indexed.size() + this.unindexed.size());
+		// Merge both sets, each of which is sorted in registration order already
+		Iterator<Registration> it1 = indexed.iterator();
+		Iterator<Registration> it2 = this.unindexed.iterator();
+		Registration next1 = (it1.hasNext() ? it1.next() : null);
+		Registration next2 = (it2.hasNext() ? it2.next() : null);
+		while (next1 != null || next2 != null) {
+			if (next2 == null || (next1 != null && next1.ordinal < next2.ordinal)) {
+				candidateNames.add(next1.beanName);
+				next1 = (it1.hasNext() ? it1.next() : null);
+			}
+			else {
+				candidateNames.add(next2.beanName);
+				next2 = (it2.hasNext() ? it2.next() : null);
+			}
+		}
+		return candidateNames;
+	}
+
+	/**
+	 * Return the number of bean definitions that are not indexed yet.
+	 */
+	synchronized int getUnindexedCount() {
+		return this.unindexed.size();
+	}
+
+
+	private void removeFromTypes(Registration registration) {
+		Class<?> beanType = registration.beanType;
+		if (beanType != null) {
+			registration.beanType = null;
+			for (Class<?> type : getTypeHierarchy(beanType)) {
+				NavigableSet<Registration> registrations = this.registrationsByType.get(type);
+				if (registrations != null) {
+					registrations.remove(registration);
+					if (registrations.isEmpty()) {
+						this.registrationsByType.remove(type);
+					}
+				}
+			}
+		}
+	}
+
+	private static Set<Class<?>> getTypeHierarchy(Class<?> beanType) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		Class<?> current = beanType;
+		while (current != null && current != Object.class) {
+			types.add(current);
+			current = current.getSuperclass();
+		}
+		types.addAll(ClassUtils.getAllInterfacesForClassAsSet(beanType));
+		return types;
+	}
+
+
+	private static final class Registration {
+
+		static final Comparator<Registration> ORDER = Comparator.comparingInt(registration -> registration.ordinal);
+
+		final String beanName;
+
+		final int ordinal;
+
+		volatile int stamp;
+
+		@Nullable
+		volatile Class<?> beanType;
+
+		Registration(String beanName, int ordinal) {
+			this.beanName = beanName;
+			this.ordinal = ordinal;
+		}
+	}
+
+}
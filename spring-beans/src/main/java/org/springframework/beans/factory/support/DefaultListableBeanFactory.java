@@ -29,7 +29,9 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -41,6 +43,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -58,6 +62,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -68,6 +73,7 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
@@ -161,6 +167,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate independent singletons concurrently. */
+	private boolean parallelPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -186,6 +195,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Inverted index of bean definition names, keyed by bean type and its supertypes. */
+	private final BeanTypeIndex beanTypeIndex = new BeanTypeIndex();
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -204,6 +216,14 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private final NamedThreadLocal<PreInstantiation> preInstantiationThread =
 			new NamedThreadLocal<>("Pre-instantiation thread marker");
 
+	private volatile boolean parallelPreInstantiationPhase;
+
+	/** Threads creating singletons during parallel pre-instantiation, keyed by bean name. */
+	private final Map<String, Thread> parallelCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Singletons awaited by threads during parallel pre-instantiation, keyed by thread. */
+	private final Map<Thread, String> parallelAwaitedSingletons = new ConcurrentHashMap<>(16);
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -299,6 +319,37 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set whether to pre-instantiate singletons concurrently on the
+	 * {@link #setBootstrapExecutor bootstrap executor}, following the static
+	 * dependency graph between their bean definitions: constructor argument and
+	 * property references, "depends-on" declarations and factory bean names.
+	 * <p>Each singleton is created once all singletons it statically depends on
+	 * have been created, so that independent parts of the graph are created
+	 * concurrently. A singleton that turns out to need another one currently in
+	 * creation in a different thread, for example through an autowired
+	 * injection point, waits for that singleton to be fully created, since
+	 * early references are not exposed across threads. Only if waiting would
+	 * deadlock, for a cycle that spans several threads, the singleton is
+	 * deferred instead, and created in the main thread once all others are,
+	 * along with singletons that take part in a static cycle.
+	 * <p>Default is "false", creating singletons one by one in registration
+	 * order. This flag has no effect without a bootstrap executor.
+	 * @since 7.0
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setParallelPreInstantiation(boolean parallelPreInstantiation) {
+		this.parallelPreInstantiation = parallelPreInstantiation;
+	}
+
+	/**
+	 * Return whether to pre-instantiate singletons concurrently.
+	 * @since 7.0
+	 */
+	public boolean isParallelPreInstantiation() {
+		return this.parallelPreInstantiation;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -346,6 +397,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelPreInstantiation = otherListableFactory.parallelPreInstantiation;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -579,24 +631,33 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
+		// Narrow down the bean definitions to check through the type index, if possible.
+		Class<?> rawType = (isConfigurationFrozen() ? type.resolve() : null);
+		List<String> candidateNames = (rawType != null ? this.beanTypeIndex.getCandidateNames(rawType) : null);
+		boolean indexBeanTypes = isConfigurationFrozen();
+		boolean rawTypeMatch = (candidateNames != null && !type.hasGenerics());
+
 		// Check all bean definitions.
-		for (String beanName : this.beanDefinitionNames) {
+		for (String beanName : (candidateNames != null ? candidateNames : this.beanDefinitionNames)) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
 				try {
+					int stamp = (indexBeanTypes ? this.beanTypeIndex.getModificationStamp(beanName) : -1);
 					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
 					// Only check bean definition if it is complete.
 					if (!mbd.isAbstract() && (allowEagerInit ||
 							(mbd.hasBeanClass() || !mbd.isLazyInit() || isAllowEagerClassLoading()) &&
 									!requiresEagerInitForType(mbd.getFactoryBeanName()))) {
-						boolean isFactoryBean = isFactoryBean(beanName, mbd);
+						// An indexed bean type is known to match a raw type without further checks.
+						boolean indexedMatch = (rawTypeMatch && this.beanTypeIndex.isIndexedAs(beanName, rawType));
+						boolean isFactoryBean = (!indexedMatch && isFactoryBean(beanName, mbd));
 						BeanDefinitionHolder dbd = mbd.getDecoratedDefinition();
 						boolean matchFound = false;
 						boolean allowFactoryBeanInit = (allowEagerInit || containsSingleton(beanName));
 						boolean isNonLazyDecorated = (dbd != null && !mbd.isLazyInit());
 						if (!isFactoryBean) {
 							if (includeNonSingletons || isSingleton(beanName, mbd, dbd)) {
-								matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
+								matchFound = (indexedMatch || isTypeMatch(beanName, type, allowFactoryBeanInit));
 							}
 						}
 						else {
@@ -615,6 +676,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 						if (matchFound) {
 							result.add(beanName);
 						}
+						if (stamp != -1 && !isFactoryBean) {
+							indexBeanType(beanName, mbd, stamp);
+						}
 					}
 				}
 				catch (CannotLoadBeanClassException | BeanDefinitionStoreException ex) {
@@ -663,6 +727,28 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return StringUtils.toStringArray(result);
 	}
 
+	/**
+	 * Add the given bean definition to the type index, provided that its
+	 * exposed type is fully determined by its singleton instance.
+	 * <p>Only singletons that have been created already get indexed, since a
+	 * predicted bean type may still change, e.g. once a proxy type is known to
+	 * a post-processor after the creation of a prototype instance. Bean definitions
+	 * with factory methods, instance suppliers, explicit target types or decorated
+	 * definitions, as well as factory beans, remain unindexed and therefore get
+	 * checked for every type.
+	 */
+	private void indexBeanType(String beanName, RootBeanDefinition mbd, int stamp) {
+		if (!mbd.isSingleton() || mbd.isAbstract() || !mbd.hasBeanClass() ||
+				mbd.getDecoratedDefinition() != null || mbd.getFactoryMethodName() != null ||
+				mbd.getInstanceSupplier() != null || mbd.targetType != null || isCurrentlyInCreation(beanName)) {
+			return;
+		}
+		Object beanInstance = getSingleton(beanName, false);
+		if (beanInstance != null && beanInstance.getClass() != NullBean.class && !(beanInstance instanceof FactoryBean)) {
+			this.beanTypeIndex.index(beanName, stamp, beanInstance.getClass());
+		}
+	}
+
 	private boolean isSingleton(String beanName, RootBeanDefinition mbd, @Nullable BeanDefinitionHolder dbd) {
 		return (dbd != null ? mbd.isSingleton() : isSingleton(beanName));
 	}
@@ -935,16 +1021,31 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return iterator;
 	}
 
+	@Override
+	public void addBeanPostProcessor(BeanPostProcessor beanPostProcessor) {
+		super.addBeanPostProcessor(beanPostProcessor);
+		// Predicted bean types may change with a SmartInstantiationAwareBeanPostProcessor.
+		this.beanTypeIndex.invalidateAll();
+	}
+
+	@Override
+	public void addBeanPostProcessors(Collection<? extends BeanPostProcessor> beanPostProcessors) {
+		super.addBeanPostProcessors(beanPostProcessors);
+		this.beanTypeIndex.invalidateAll();
+	}
+
 	@Override
 	protected void clearMergedBeanDefinition(String beanName) {
 		super.clearMergedBeanDefinition(beanName);
 		this.mergedBeanDefinitionHolders.remove(beanName);
+		this.beanTypeIndex.invalidate(beanName);
 	}
 
 	@Override
 	public void clearMetadataCache() {
 		super.clearMetadataCache();
 		this.mergedBeanDefinitionHolders.clear();
+		this.beanTypeIndex.invalidateAll();
 		clearByTypeCache();
 	}
 
@@ -994,6 +1095,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 		else {
 			// Bean intended to be initialized in main bootstrap thread
+			// (or in any thread during parallel pre-instantiation)
 			if (this.preInstantiationThread.get() == PreInstantiation.BACKGROUND) {
 				throw new BeanCurrentlyInCreationException(beanName, "Bean marked for mainline initialization " +
 						"but requested in background thread - enforce early instantiation in mainline thread " +
@@ -1005,7 +1107,113 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Override
 	@Nullable
 	protected Boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationPhase ? this.preInstantiationThread.get() != PreInstantiation.BACKGROUND : null);
+		if (!this.preInstantiationPhase) {
+			return null;
+		}
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
+	}
+
+	@Override
+	@Nullable
+	protected Object getSingleton(String beanName, boolean allowEarlyReference) {
+		if (this.parallelPreInstantiationPhase && allowEarlyReference) {
+			Thread creationThread = this.parallelCreationThreads.get(beanName);
+			if (creationThread != null && creationThread != Thread.currentThread()) {
+				// Never expose an early reference to a singleton in creation in another thread:
+				// wait for the fully initialized singleton instead.
+				return awaitSingletonInCreation(beanName);
+			}
+		}
+		return super.getSingleton(beanName, allowEarlyReference);
+	}
+
+	/**
+	 * Wait for the given singleton, currently in creation in another thread
+	 * during parallel pre-instantiation, to be fully created.
+	 * @return the singleton instance, or {@code null} if its creation failed or
+	 * if waiting for it would deadlock (in which case it is up to the caller to
+	 * back off, through a {@link BeanCurrentlyInCreationException})
+	 */
+	@Nullable
+	private Object awaitSingletonInCreation(String beanName) {
+		Thread currentThread = Thread.currentThread();
+		synchronized (this.parallelCreationThreads) {
+			this.parallelAwaitedSingletons.put(currentThread, beanName);
+			try {
+				while (true) {
+					Object singletonObject = super.getSingleton(beanName, false);
+					Thread creationThread = this.parallelCreationThreads.get(beanName);
+					if (singletonObject != null || creationThread == null || creationThread == currentThread ||
+							isAwaitingSingletonInCreation(creationThread, currentThread)) {
+						return singletonObject;
+					}
+					this.parallelCreationThreads.wait();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			finally {
+				this.parallelAwaitedSingletons.remove(currentThread);
+			}
+		}
+	}
+
+	/**
+	 * Determine whether the given thread is, directly or transitively, waiting
+	 * for a singleton in creation in the target thread.
+	 */
+	private boolean isAwaitingSingletonInCreation(Thread thread, Thread targetThread) {
+		Thread current = thread;
+		for (int i = 0; current != null && i <= this.parallelAwaitedSingletons.size(); i++) {
+			String awaitedBeanName = this.parallelAwaitedSingletons.get(current);
+			current = (awaitedBeanName != null ? this.parallelCreationThreads.get(awaitedBeanName) : null);
+			if (current == targetThread) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Signal threads awaiting the given singleton during parallel pre-instantiation
+	 * that its creation in the current thread has finished, successfully or not.
+	 */
+	private void finishParallelCreation(String beanName) {
+		if (this.parallelCreationThreads.remove(beanName, Thread.currentThread())) {
+			synchronized (this.parallelCreationThreads) {
+				this.parallelCreationThreads.notifyAll();
+			}
+		}
+	}
+
+	@Override
+	protected void beforeSingletonCreation(String beanName) {
+		super.beforeSingletonCreation(beanName);
+		// The singleton instance (or an early reference to it) may expose a different type.
+		this.beanTypeIndex.invalidate(beanName);
+		if (this.parallelPreInstantiationPhase) {
+			this.parallelCreationThreads.put(beanName, Thread.currentThread());
+		}
+	}
+
+	@Override
+	protected void afterSingletonCreation(String beanName) {
+		// A newly created singleton only gets added afterwards, see addSingleton
+		if (this.parallelPreInstantiationPhase && containsSingleton(beanName)) {
+			finishParallelCreation(beanName);
+		}
+		super.afterSingletonCreation(beanName);
+	}
+
+	@Override
+	protected void addSingleton(String beanName, Object singletonObject) {
+		super.addSingleton(beanName, singletonObject);
+		if (this.parallelPreInstantiationPhase) {
+			finishParallelCreation(beanName);
+		}
 	}
 
 	@Override
@@ -1024,12 +1232,22 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.preInstantiationPhase = true;
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		try {
-			for (String beanName : beanNames) {
-				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
-				if (!mbd.isAbstract() && mbd.isSingleton()) {
-					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
-					if (future != null) {
-						futures.add(future);
+			Executor executor = getBootstrapExecutor();
+			if (this.parallelPreInstantiation && executor != null) {
+				preInstantiateSingletonsInParallel(beanNames, executor, futures);
+			}
+			else {
+				if (this.parallelPreInstantiation && logger.isInfoEnabled()) {
+					logger.info("Parallel pre-instantiation requested without bootstrap executor " +
+							"configured - falling back to sequential pre-instantiation");
+				}
+				for (String beanName : beanNames) {
+					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+					if (!mbd.isAbstract() && mbd.isSingleton()) {
+						CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+						if (future != null) {
+							futures.add(future);
+						}
 					}
 				}
 			}
@@ -1058,6 +1276,11 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				smartInitialize.end();
 			}
 		}
+
+		// Expose the fully initialized singletons for lookups by name.
+		if (isConfigurationFrozen()) {
+			freezeSingletonLookup();
+		}
 	}
 
 	@Nullable
@@ -1111,6 +1334,50 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void preInstantiateSingletonsInParallel(
+			List<String> beanNames, Executor executor, List<CompletableFuture<?>> futures) {
+
+		List<String> singletonNames = new ArrayList<>(beanNames.size());
+		List<String> candidates = new ArrayList<>(beanNames.size());
+		for (String beanName : beanNames) {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (!mbd.isAbstract() && mbd.isSingleton()) {
+				singletonNames.add(beanName);
+				if (!mbd.isLazyInit()) {
+					candidates.add(beanName);
+				}
+			}
+		}
+		StartupStep parallelInstantiate = getApplicationStartup().start("spring.beans.parallel-instantiate")
+				.tag("beanCount", String.valueOf(candidates.size()));
+		SingletonDependencyGraph graph = new SingletonDependencyGraph(this, candidates);
+		ParallelPreInstantiation preInstantiation = new ParallelPreInstantiation(graph, executor);
+		this.parallelPreInstantiationPhase = true;
+		try {
+			preInstantiation.run();
+		}
+		finally {
+			this.parallelPreInstantiationPhase = false;
+		}
+		preInstantiation.rethrowFailure();
+
+		// Deferred beans, those taking part in a cycle, and lazy background beans, in registration order
+		Set<String> remaining = new LinkedHashSet<>(graph.getUnsortedBeanNames());
+		remaining.addAll(preInstantiation.getDeferredBeanNames());
+		for (String beanName : singletonNames) {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (remaining.contains(beanName) || (mbd.isLazyInit() && mbd.isBackgroundInit())) {
+				CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+				if (future != null) {
+					futures.add(future);
+				}
+			}
+		}
+		parallelInstantiate.tag("deferredBeanCount", String.valueOf(remaining.size()))
+				.tag("criticalPath", preInstantiation::getCriticalPath)
+				.end();
+	}
+
 	private void instantiateSingleton(String beanName) {
 		if (isFactoryBean(beanName)) {
 			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
@@ -1190,6 +1457,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				this.beanDefinitionNames.add(beanName);
 				removeManualSingletonName(beanName);
 			}
+			this.beanTypeIndex.register(beanName);
 			this.frozenBeanDefinitionNames = null;
 		}
 
@@ -1268,6 +1536,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			// Still in startup registration phase
 			this.beanDefinitionNames.remove(beanName);
 		}
+		this.beanTypeIndex.remove(beanName);
 		this.frozenBeanDefinitionNames = null;
 
 		resetBeanDefinition(beanName);
@@ -1348,6 +1617,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		super.registerSingleton(beanName, singletonObject);
 		updateManualSingletonNames(set -> set.add(beanName), set -> !this.beanDefinitionMap.containsKey(beanName));
+		this.beanTypeIndex.invalidate(beanName);
 		clearByTypeCache();
 	}
 
@@ -1355,6 +1625,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void destroySingletons() {
 		super.destroySingletons();
 		updateManualSingletonNames(Set::clear, set -> !set.isEmpty());
+		this.beanTypeIndex.invalidateAll();
 		clearByTypeCache();
 	}
 
@@ -1362,7 +1633,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void destroySingleton(String beanName) {
 		super.destroySingleton(beanName);
 		removeManualSingletonName(beanName);
+		this.beanTypeIndex.invalidate(beanName);
 		clearByTypeCache();
+		if (this.parallelPreInstantiationPhase) {
+			// Failed creation of a singleton that other threads may be waiting for
+			finishParallelCreation(beanName);
+		}
 	}
 
 	private void removeManualSingletonName(String beanName) {
@@ -2557,9 +2833,162 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Creates the sorted singletons of a {@link SingletonDependencyGraph} on an
+	 * executor, each one as soon as all of its dependencies have been created.
+	 */
+	private final class ParallelPreInstantiation {
+
+		private final SingletonDependencyGraph graph;
+
+		private final Executor executor;
+
+		private final Map<String, AtomicInteger> pendingDependencies = new HashMap<>();
+
+		/** Cumulative creation time along the slowest chain of dependencies, per bean. */
+		private final Map<String, Long> pathNanos = new ConcurrentHashMap<>();
+
+		private final Map<String, String> slowestDependency = new ConcurrentHashMap<>();
+
+		private final Set<String> deferredBeanNames = ConcurrentHashMap.newKeySet();
+
+		private final AtomicInteger remaining;
+
+		private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+		@Nullable
+		private volatile Throwable failure;
+
+		ParallelPreInstantiation(SingletonDependencyGraph graph, Executor executor) {
+			this.graph = graph;
+			this.executor = executor;
+			for (String beanName : graph.getSortedBeanNames()) {
+				this.pendingDependencies.put(beanName, new AtomicInteger(graph.getDependencies(beanName).size()));
+			}
+			this.remaining = new AtomicInteger(this.pendingDependencies.size());
+		}
+
+		void run() {
+			if (this.pendingDependencies.isEmpty()) {
+				return;
+			}
+			for (String beanName : this.graph.getSortedBeanNames()) {
+				if (this.graph.getDependencies(beanName).isEmpty()) {
+					submit(beanName);
+				}
+			}
+			this.completion.join();
+		}
+
+		private void submit(String beanName) {
+			try {
+				this.executor.execute(() -> instantiate(beanName));
+			}
+			catch (RuntimeException ex) {
+				// Rejected by the executor: leave it to the main thread
+				this.deferredBeanNames.add(beanName);
+				onInstantiated(beanName, 0);
+			}
+		}
+
+		private void instantiate(String beanName) {
+			long start = System.nanoTime();
+			if (this.failure == null) {
+				preInstantiationThread.set(PreInstantiation.PARALLEL);
+				try {
+					instantiateSingleton(beanName);
+				}
+				catch (BeansException ex) {
+					if (ex.contains(BeanCurrentlyInCreationException.class)) {
+						// Part of a cycle across threads: leave it to the main thread
+						if (logger.isDebugEnabled()) {
+							logger.debug("Deferring creation of singleton bean '" + beanName +
+									"' to main thread: " + ex.getMessage());
+						}
+						this.deferredBeanNames.add(beanName);
+					}
+					else {
+						this.failure = ex;
+					}
+				}
+				catch (Throwable ex) {
+					this.failure = ex;
+				}
+				finally {
+					preInstantiationThread.remove();
+					// Release waiting threads for any singleton left behind by a failure
+					parallelCreationThreads.forEach((name, thread) -> {
+						if (thread == Thread.currentThread()) {
+							finishParallelCreation(name);
+						}
+					});
+				}
+			}
+			onInstantiated(beanName, System.nanoTime() - start);
+		}
+
+		private void onInstantiated(String beanName, long nanos) {
+			long dependencyNanos = 0;
+			for (String dependency : this.graph.getDependencies(beanName)) {
+				long candidate = this.pathNanos.getOrDefault(dependency, 0L);
+				if (candidate >= dependencyNanos) {
+					dependencyNanos = candidate;
+					this.slowestDependency.put(beanName, dependency);
+				}
+			}
+			this.pathNanos.put(beanName, dependencyNanos + nanos);
+			for (String dependent : this.graph.getDependents(beanName)) {
+				AtomicInteger pending = this.pendingDependencies.get(dependent);
+				if (pending != null && pending.decrementAndGet() == 0) {
+					submit(dependent);
+				}
+			}
+			if (this.remaining.decrementAndGet() == 0) {
+				this.completion.complete(null);
+			}
+		}
+
+		void rethrowFailure() {
+			Throwable failure = this.failure;
+			if (failure != null) {
+				ReflectionUtils.rethrowRuntimeException(failure);
+			}
+		}
+
+		Set<String> getDeferredBeanNames() {
+			return this.deferredBeanNames;
+		}
+
+		/**
+		 * Return the chain of beans with the longest cumulative creation time,
+		 * from the first created to the last.
+		 */
+		String getCriticalPath() {
+			String beanName = null;
+			long maxNanos = -1;
+			for (Map.Entry<String, Long> entry : this.pathNanos.entrySet()) {
+				if (entry.getValue() > maxNanos) {
+					beanName = entry.getKey();
+					maxNanos = entry.getValue();
+				}
+			}
+			if (beanName == null) {
+				return "";
+			}
+			List<String> path = new ArrayList<>();
+			while (beanName != null) {
+				path.add(beanName);
+				beanName = this.slowestDependency.get(beanName);
+			}
+			Collections.reverse(path);
+			return String.join(" -> ", path) + " (" + TimeUnit.NANOSECONDS.toMillis(maxNanos) + " ms)";
+		}
+	}
+
+
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
@@ -17,6 +17,7 @@
 package org.springframework.beans.factory.support;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -31,12 +32,15 @@ import java.util.function.Consumer;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringValueResolver;
 import org.springframework.util.StringUtils;
 
 /**
@@ -88,6 +92,13 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Cache of early singleton objects: bean name to bean instance. */
 	private final Map<String, Object> earlySingletonObjects = new ConcurrentHashMap<>(16);
 
+	/** Immutable lookup table for fully initialized singletons: bean name or alias to bean instance. */
+	@Nullable
+	private volatile Map<String, Object> frozenSingletonLookup;
+
+	/** Monitor for building and clearing the frozen singleton lookup table. */
+	private final Object frozenSingletonLookupMonitor = new Object();
+
 	/** Set of registered singletons, containing the bean names in registration order. */
 	private final Set<String> registeredSingletons = Collections.synchronizedSet(new LinkedHashSet<>(256));
 
@@ -359,12 +370,94 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @param beanName the name of the bean
 	 */
 	protected void removeSingleton(String beanName) {
+		clearFrozenSingletonLookup();
 		this.singletonObjects.remove(beanName);
 		this.singletonFactories.remove(beanName);
 		this.earlySingletonObjects.remove(beanName);
 		this.registeredSingletons.remove(beanName);
 	}
 
+	/**
+	 * Build an immutable lookup table for all currently registered singleton
+	 * instances, keyed by bean name as well as by alias, to be used as a fast
+	 * path for retrieving existing singletons by name.
+	 * <p>Excludes {@code FactoryBean} instances since their exposed object
+	 * depends on the requested name. The table is cleared on any subsequent
+	 * singleton removal or alias change; newly registered singletons are
+	 * simply not contained in it.
+	 * @since 7.0
+	 * @see #getFrozenSingleton(String)
+	 */
+	void freezeSingletonLookup() {
+		synchronized (this.frozenSingletonLookupMonitor) {
+			Map<String, Object> lookup = new HashMap<>(this.singletonObjects.size() * 2);
+			this.singletonObjects.forEach((beanName, singletonObject) -> {
+				if (!(singletonObject instanceof FactoryBean<?>) && !(singletonObject instanceof NullBean) &&
+						!isSingletonCurrentlyInCreation(beanName)) {
+					addToFrozenSingletonLookup(lookup, beanName, singletonObject);
+					for (String alias : getAliases(beanName)) {
+						addToFrozenSingletonLookup(lookup, alias, singletonObject);
+					}
+				}
+			});
+			this.frozenSingletonLookup = Map.copyOf(lookup);
+		}
+	}
+
+	private static void addToFrozenSingletonLookup(Map<String, Object> lookup, String name, Object singletonObject) {
+		if (!name.startsWith(BeanFactory.FACTORY_BEAN_PREFIX)) {
+			lookup.putIfAbsent(name, singletonObject);
+		}
+	}
+
+	/**
+	 * Return the fully initialized singleton instance for the given bean name
+	 * or alias from the frozen lookup table, if available.
+	 * @param name the bean name or alias to look for
+	 * @return the singleton instance, or {@code null} if not found
+	 * (requiring a regular lookup)
+	 * @since 7.0
+	 * @see #freezeSingletonLookup()
+	 */
+	@Nullable
+	Object getFrozenSingleton(String name) {
+		Map<String, Object> lookup = this.frozenSingletonLookup;
+		return (lookup != null ? lookup.get(name) : null);
+	}
+
+	private void clearFrozenSingletonLookup() {
+		synchronized (this.frozenSingletonLookupMonitor) {
+			this.frozenSingletonLookup = null;
+		}
+	}
+
+	/**
+	 * Overridden to clear the frozen singleton lookup table as well.
+	 */
+	@Override
+	public void registerAlias(String name, String alias) {
+		super.registerAlias(name, alias);
+		clearFrozenSingletonLookup();
+	}
+
+	/**
+	 * Overridden to clear the frozen singleton lookup table as well.
+	 */
+	@Override
+	public void removeAlias(String alias) {
+		super.removeAlias(alias);
+		clearFrozenSingletonLookup();
+	}
+
+	/**
+	 * Overridden to clear the frozen singleton lookup table as well.
+	 */
+	@Override
+	public void resolveAliases(StringValueResolver valueResolver) {
+		super.resolveAliases(valueResolver);
+		clearFrozenSingletonLookup();
+	}
+
 	@Override
 	public boolean containsSingleton(String beanName) {
 		return this.singletonObjects.containsKey(beanName);
@@ -574,6 +667,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 			logger.trace("Destroying singletons in " + this);
 		}
 		this.singletonsCurrentlyInDestruction = true;
+		clearFrozenSingletonLookup();
 
 		String[] disposableBeanNames;
 		synchronized (this.disposableBeans) {
@@ -601,6 +695,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @since 4.3.15
 	 */
 	protected void clearSingletonCache() {
+		clearFrozenSingletonLookup();
 		this.singletonObjects.clear();
 		this.singletonFactories.clear();
 		this.earlySingletonObjects.clear();
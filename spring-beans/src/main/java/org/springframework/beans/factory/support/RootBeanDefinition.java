@@ -26,6 +26,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import org.springframework.beans.GeneratedAccessors;
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
@@ -116,6 +117,10 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	Object[] preparedConstructorArguments;
 
+	/** Package-visible field for caching a generated accessor for the constructor or factory method. */
+	@Nullable
+	volatile GeneratedAccessors.Holder<?> generatedInstantiator;
+
 	/** Common lock for the two post-processing fields below. */
 	final Object postProcessingLock = new Object();
 
@@ -17,14 +17,20 @@
 package org.springframework.beans.factory.support;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.springframework.beans.BeanInstantiationException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.GeneratedAccessors;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.KotlinDetector;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -45,6 +51,9 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 	private static final ThreadLocal<Method> currentlyInvokedFactoryMethod = new ThreadLocal<>();
 
 
+	private boolean useGeneratedAccessors = GeneratedAccessors.isUsedByDefault();
+
+
 	/**
 	 * Return the factory method currently being invoked or {@code null} if none.
 	 * <p>Allows factory method implementations to determine whether the current
@@ -98,6 +107,30 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 	}
 
 
+	/**
+	 * Set whether to use {@linkplain GeneratedAccessors generated accessors}
+	 * instead of reflection for invoking constructors and factory methods of
+	 * beans that get instantiated repeatedly, for example prototype beans.
+	 * An accessor gets generated on the second instantiation through the
+	 * same bean definition, and is cached in the bean definition.
+	 * <p>Default is "false", unless the
+	 * {@value GeneratedAccessors#GENERATED_ACCESSORS_PROPERTY_NAME}
+	 * property is set.
+	 * @since 7.0
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+		this.useGeneratedAccessors = useGeneratedAccessors;
+	}
+
+	/**
+	 * Return whether to use generated accessors for instantiating beans.
+	 * @since 7.0
+	 */
+	public boolean isUseGeneratedAccessors() {
+		return this.useGeneratedAccessors;
+	}
+
+
 	@Override
 	public Object instantiate(RootBeanDefinition bd, @Nullable String beanName, BeanFactory owner) {
 		// Don't override the class with CGLIB if no overrides.
@@ -119,7 +152,7 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 					}
 				}
 			}
-			return BeanUtils.instantiateClass(constructorToUse);
+			return instantiateClass(bd, constructorToUse);
 		}
 		else {
 			// Must generate CGLIB subclass.
@@ -142,7 +175,7 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 			Constructor<?> ctor, Object... args) {
 
 		if (!bd.hasMethodOverrides()) {
-			return BeanUtils.instantiateClass(ctor, args);
+			return instantiateClass(bd, ctor, args);
 		}
 		else {
 			return instantiateWithMethodInjection(bd, beanName, owner, ctor, args);
@@ -166,6 +199,19 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 			@Nullable Object factoryBean, Method factoryMethod, Object... args) {
 
 		return instantiateWithFactoryMethod(factoryMethod, () -> {
+			BiFunction<Object, Object[], Object> invoker = (this.useGeneratedAccessors ?
+					getGeneratedAccessor(bd, factoryMethod, () -> GeneratedAccessors.generateInvoker(factoryMethod)) : null);
+			if (invoker != null && isApplicable(factoryMethod, args) && (factoryBean != null ?
+					factoryMethod.getDeclaringClass().isInstance(factoryBean) : Modifier.isStatic(factoryMethod.getModifiers()))) {
+				Object result;
+				try {
+					result = invoker.apply(factoryBean, args);
+				}
+				catch (Exception ex) {
+					throw factoryMethodException(bd, owner, factoryMethod, ex);
+				}
+				return (result != null ? result : new NullBean());
+			}
 			try {
 				ReflectionUtils.makeAccessible(factoryMethod);
 				Object result = factoryMethod.invoke(factoryBean, args);
@@ -189,16 +235,76 @@ public class SimpleInstantiationStrategy implements InstantiationStrategy {
 						"Cannot access factory method '" + factoryMethod.getName() + "'; is it public?", ex);
 			}
 			catch (InvocationTargetException ex) {
-				String msg = "Factory method '" + factoryMethod.getName() + "' threw exception with message: " +
-						ex.getTargetException().getMessage();
-				if (bd.getFactoryBeanName() != null && owner instanceof ConfigurableBeanFactory cbf &&
-						cbf.isCurrentlyInCreation(bd.getFactoryBeanName())) {
-					msg = "Circular reference involving containing bean '" + bd.getFactoryBeanName() + "' - consider " +
-							"declaring the factory method as static for independence from its containing instance. " + msg;
-				}
-				throw new BeanInstantiationException(factoryMethod, msg, ex.getTargetException());
+				throw factoryMethodException(bd, owner, factoryMethod, ex.getTargetException());
 			}
 		});
 	}
 
+	private BeanInstantiationException factoryMethodException(RootBeanDefinition bd, BeanFactory owner,
+			Method factoryMethod, Throwable targetException) {
+
+		String msg = "Factory method '" + factoryMethod.getName() + "' threw exception with message: " +
+				targetException.getMessage();
+		if (bd.getFactoryBeanName() != null && owner instanceof ConfigurableBeanFactory cbf &&
+				cbf.isCurrentlyInCreation(bd.getFactoryBeanName())) {
+			msg = "Circular reference involving containing bean '" + bd.getFactoryBeanName() + "' - consider " +
+					"declaring the factory method as static for independence from its containing instance. " + msg;
+		}
+		return new BeanInstantiationException(factoryMethod, msg, targetException);
+	}
+
+	/**
+	 * Instantiate the given constructor, using a generated accessor if applicable
+	 * and reflection otherwise.
+	 * @see BeanUtils#instantiateClass(Constructor, Object...)
+	 */
+	private Object instantiateClass(RootBeanDefinition bd, Constructor<?> ctor, Object... args) {
+		Function<Object[], Object> instantiator = (this.useGeneratedAccessors ?
+				getGeneratedAccessor(bd, ctor, () -> (KotlinDetector.isKotlinType(ctor.getDeclaringClass()) ?
+						null : GeneratedAccessors.generateInstantiator(ctor))) : null);
+		if (instantiator != null && isApplicable(ctor, args)) {
+			try {
+				return instantiator.apply(args);
+			}
+			catch (Exception ex) {
+				throw new BeanInstantiationException(ctor, "Constructor threw exception", ex);
+			}
+		}
+		return BeanUtils.instantiateClass(ctor, args);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private static <T> T getGeneratedAccessor(RootBeanDefinition bd, Executable executable, Supplier<T> generator) {
+		GeneratedAccessors.Holder<?> holder = bd.generatedInstantiator;
+		if (holder == null || !holder.isFor(executable)) {
+			holder = new GeneratedAccessors.Holder<>(executable, generator);
+			bd.generatedInstantiator = holder;
+		}
+		return (T) holder.get();
+	}
+
+	/**
+	 * Determine whether a generated accessor can be invoked with the given
+	 * arguments, leaving argument count mismatches as well as {@code null}
+	 * values for primitive parameters to reflective invocation.
+	 */
+	private static boolean isApplicable(Executable executable, Object[] args) {
+		if (args.length != executable.getParameterCount()) {
+			return false;
+		}
+		Class<?>[] parameterTypes = null;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] == null) {
+				if (parameterTypes == null) {
+					parameterTypes = executable.getParameterTypes();
+				}
+				if (parameterTypes[i].isPrimitive()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 }
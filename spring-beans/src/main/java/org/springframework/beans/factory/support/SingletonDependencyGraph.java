@@ -0,0 +1,199 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+
+/**
+ * Static dependency graph between singleton bean definitions, as declared
+ * through constructor argument and property references, "depends-on" and
+ * factory bean names, including references from inner bean definitions.
+ *
+ * <p>Dependencies that are only determined at creation time, such as
+ * autowired injection points, are not part of the graph. Bean definitions
+ * that take part in a cycle, or depend on one, are not
+ * {@linkplain #getSortedBeanNames() sorted}.
+ *
+ * @since 7.0
+ * @see DefaultListableBeanFactory#setParallelPreInstantiation
+ */
+final class SingletonDependencyGraph {
+
+	private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+	private final Map<String, List<String>> dependents = new HashMap<>();
+
+	private final List<String> sortedBeanNames;
+
+	private final List<String> unsortedBeanNames = new ArrayList<>();
+
+
+	/**
+	 * Build the graph between the given bean definitions.
+	 * @param beanFactory the factory to obtain merged bean definitions from
+	 * @param beanNames the names of the bean definitions to consider, in
+	 * registration order; references to other beans are ignored
+	 */
+	SingletonDependencyGraph(DefaultListableBeanFactory beanFactory, List<String> beanNames) {
+		Set<String> candidates = new LinkedHashSet<>(beanNames);
+		for (String beanName : beanNames) {
+			RootBeanDefinition mbd = beanFactory.getMergedLocalBeanDefinition(beanName);
+			Set<String> references = new LinkedHashSet<>();
+			collectReferences(mbd, references);
+			Set<String> beanDependencies = new LinkedHashSet<>();
+			for (String reference : references) {
+				String dependency = beanFactory.canonicalName(BeanFactoryUtils.transformedBeanName(reference));
+				if (!dependency.equals(beanName) && candidates.contains(dependency)) {
+					if (beanDependencies.add(dependency)) {
+						this.dependents.computeIfAbsent(dependency, name -> new ArrayList<>()).add(beanName);
+					}
+				}
+			}
+			this.dependencies.put(beanName, beanDependencies);
+		}
+		this.sortedBeanNames = sort();
+	}
+
+
+	/**
+	 * Return the names of the beans that the given bean depends on.
+	 */
+	Set<String> getDependencies(String beanName) {
+		return this.dependencies.getOrDefault(beanName, Collections.emptySet());
+	}
+
+	/**
+	 * Return the names of the beans that depend on the given bean.
+	 */
+	List<String> getDependents(String beanName) {
+		return this.dependents.getOrDefault(beanName, Collections.emptyList());
+	}
+
+	/**
+	 * Return the names of the beans in an order where each bean follows all
+	 * of its dependencies.
+	 */
+	List<String> getSortedBeanNames() {
+		return this.sortedBeanNames;
+	}
+
+	/**
+	 * Return the names of the beans that take part in, or depend on, a cycle,
+	 * in registration order.
+	 */
+	List<String> getUnsortedBeanNames() {
+		return this.unsortedBeanNames;
+	}
+
+
+	private List<String> sort() {
+		Map<String, Integer> pending = new HashMap<>();
+		Deque<String> ready = new ArrayDeque<>();
+		for (Map.Entry<String, Set<String>> entry : this.dependencies.entrySet()) {
+			pending.put(entry.getKey(), entry.getValue().size());
+			if (entry.getValue().isEmpty()) {
+				ready.add(entry.getKey());
+			}
+		}
+		List<String> sorted = new ArrayList<>(this.dependencies.size());
+		while (!ready.isEmpty()) {
+			String beanName = ready.poll();
+			sorted.add(beanName);
+			for (String dependent : getDependents(beanName)) {
+				if (pending.merge(dependent, -1, Integer::sum) == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+		if (sorted.size() < this.dependencies.size()) {
+			for (String beanName : this.dependencies.keySet()) {
+				if (pending.get(beanName) > 0) {
+					this.unsortedBeanNames.add(beanName);
+				}
+			}
+		}
+		return sorted;
+	}
+
+	private static void collectReferences(BeanDefinition bd, Set<String> references) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			Collections.addAll(references, dependsOn);
+		}
+		String factoryBeanName = bd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			references.add(factoryBeanName);
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues args = bd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : args.getIndexedArgumentValues().values()) {
+				collectReferences(valueHolder.getValue(), references);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : args.getGenericArgumentValues()) {
+				collectReferences(valueHolder.getValue(), references);
+			}
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				collectReferences(pv.getValue(), references);
+			}
+		}
+	}
+
+	private static void collectReferences(Object value, Set<String> references) {
+		if (value instanceof RuntimeBeanReference reference) {
+			if (!reference.isToParent() && reference.getBeanType() == null) {
+				references.add(reference.getBeanName());
+			}
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			collectReferences(holder.getBeanDefinition(), references);
+		}
+		else if (value instanceof BeanDefinition bd) {
+			collectReferences(bd, references);
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				collectReferences(element, references);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				collectReferences(entry.getKey(), references);
+				collectReferences(entry.getValue(), references);
+			}
+		}
+	}
+
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.propertyeditors.StringTrimmerEditor;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.core.OverridingClassLoader;
 import org.springframework.core.io.DefaultResourceLoader;
@@ -115,6 +116,58 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 		assertThat(target.getAge()).as("Invalid set property must retain old value").isEqualTo(0);
 	}
 
+	@Test
+	void setPropertyValuesRepeatedlyForSamePropertyPaths() {
+		TestBean target1 = new TestBean();
+		BeanWrapper accessor1 = createAccessor(target1);
+		accessor1.setPropertyValues(bindingValues(" tom ", "12", "smith"));
+
+		TestBean target2 = new TestBean();
+		BeanWrapper accessor2 = createAccessor(target2);
+		accessor2.registerCustomEditor(String.class, "name", new StringTrimmerEditor(false));
+		accessor2.setPropertyValues(bindingValues(" tony ", "42", "jones"));
+
+		assertThat(target1.getName()).isEqualTo(" tom ");
+		assertThat(target1.getAge()).isEqualTo(12);
+		assertThat(target1.getDoctor().getCompany()).isEqualTo("smith");
+		assertThat(target1.getSomeMap()).containsEntry("key", "value1");
+		assertThat(target2.getName()).as("Custom editor of binding accessor applies").isEqualTo("tony");
+		assertThat(target2.getAge()).isEqualTo(42);
+		assertThat(target2.getDoctor().getCompany()).isEqualTo("jones");
+		assertThat(target2.getSomeMap()).containsEntry("key", "value1");
+	}
+
+	@Test
+	void setPropertyValuesRepeatedlyWithInvalidAndUnknownValues() {
+		for (String age : new String[] {"foobar", "barfoo"}) {
+			TestBean target = new TestBean();
+			BeanWrapper accessor = createAccessor(target);
+			MutablePropertyValues pvs = new MutablePropertyValues();
+			pvs.add("unknown", "value");
+			pvs.add("age", age);
+			pvs.add("name", "tom");
+			assertThatExceptionOfType(PropertyBatchUpdateException.class)
+					.isThrownBy(() -> accessor.setPropertyValues(pvs, true))
+					.satisfies(ex -> {
+						assertThat(ex.getExceptionCount()).isEqualTo(1);
+						assertThat(ex.getPropertyAccessException("age").getPropertyChangeEvent()
+								.getNewValue()).isEqualTo(age);
+					});
+			assertThat(target.getName()).isEqualTo("tom");
+			assertThatExceptionOfType(NotWritablePropertyException.class)
+					.isThrownBy(() -> accessor.setPropertyValues(pvs));
+		}
+	}
+
+	private static MutablePropertyValues bindingValues(String name, String age, String company) {
+		MutablePropertyValues pvs = new MutablePropertyValues();
+		pvs.add("name", name);
+		pvs.add("age", age);
+		pvs.add("doctor.company", company);
+		pvs.add("someMap[key]", "value1");
+		return pvs;
+	}
+
 	@Test
 	void checkNotWritablePropertyHoldPossibleMatches() {
 		TestBean target = new TestBean();
@@ -19,6 +19,7 @@ package org.springframework.beans;
 import java.beans.BeanInfo;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -63,6 +64,56 @@ class CachedIntrospectionResultsTests {
 		assertThat(CachedIntrospectionResults.strongClassCache.containsKey(ArrayList.class)).isFalse();
 	}
 
+	@Test
+	void bindingPlanForPropertyPaths() {
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(TestBean.class);
+		BindingPlan plan = results.getBindingPlan(List.of("name", "doctor.company", "someMap[key]", "unknown"));
+		assertThat(results.getBindingPlan(List.of("name", "doctor.company", "someMap[key]", "unknown"))).isSameAs(plan);
+		assertThat(results.getBindingPlan(List.of("doctor.company", "name", "someMap[key]", "unknown"))).isNotSameAs(plan);
+		assertThat(plan.size()).isEqualTo(4);
+
+		BindingPlan.Step name = plan.getStep(0);
+		assertThat(name.nestedTokens).isEmpty();
+		assertThat(name.tokens.actualName).isEqualTo("name");
+		assertThat(name.descriptor).isSameAs(results.getPropertyDescriptor("name"));
+
+		BindingPlan.Step company = plan.getStep(1);
+		assertThat(company.nestedTokens).hasSize(1);
+		assertThat(company.nestedTokens[0].actualName).isEqualTo("doctor");
+		assertThat(company.tokens.actualName).isEqualTo("company");
+		assertThat(company.descriptor).isNull();
+
+		BindingPlan.Step entry = plan.getStep(2);
+		assertThat(entry.tokens.actualName).isEqualTo("someMap");
+		assertThat(entry.tokens.keys).containsExactly("key");
+		assertThat(entry.descriptor).isNull();
+
+		BindingPlan.Step unknown = plan.getStep(3);
+		assertThat(unknown.tokens.actualName).isEqualTo("unknown");
+		assertThat(unknown.descriptor).isNull();
+	}
+
+	@Test
+	void bindingPlansAreBoundedPerClass() {
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(TestBean.class);
+		BindingPlan plan = results.getBindingPlan(List.of("name", "age"));
+		for (int i = 0; i < 64; i++) {
+			results.getBindingPlan(List.of("name", "age", "param" + i));
+		}
+		assertThat(results.getBindingPlan(List.of("name", "age"))).isNotSameAs(plan);
+	}
+
+	@Test
+	void bindingPlansAreClearedWithClassLoader() throws Exception {
+		ClassLoader child = new OverridingClassLoader(getClass().getClassLoader());
+		Class<?> tbClass = child.loadClass("org.springframework.beans.testfixture.beans.TestBean");
+		CachedIntrospectionResults.acceptClassLoader(child);
+		BindingPlan plan = CachedIntrospectionResults.forClass(tbClass).getBindingPlan(List.of("name"));
+		assertThat(CachedIntrospectionResults.forClass(tbClass).getBindingPlan(List.of("name"))).isSameAs(plan);
+		CachedIntrospectionResults.clearClassLoader(child);
+		assertThat(CachedIntrospectionResults.forClass(tbClass).getBindingPlan(List.of("name"))).isNotSameAs(plan);
+	}
+
 	@Test
 	void shouldUseExtendedBeanInfoWhenApplicable() throws NoSuchMethodException, SecurityException {
 		// given a class with a non-void returning setter method
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link GeneratedAccessors}.
+ */
+class GeneratedAccessorsTests {
+
+	@Test
+	void instantiatorForPrivateConstructor() throws Exception {
+		Constructor<Sample> ctor = Sample.class.getDeclaredConstructor(String.class, int.class);
+		Function<Object[], Object> instantiator = GeneratedAccessors.generateInstantiator(ctor);
+		assertThat(instantiator).isNotNull();
+		Object instance = instantiator.apply(new Object[] {"test", 42});
+		assertThat(instance).isInstanceOf(Sample.class);
+		assertThat(((Sample) instance).name).isEqualTo("test");
+		assertThat(((Sample) instance).age).isEqualTo(42);
+	}
+
+	@Test
+	void instantiatorForAbstractClass() throws Exception {
+		Constructor<AbstractSample> ctor = AbstractSample.class.getDeclaredConstructor();
+		assertThat(GeneratedAccessors.generateInstantiator(ctor)).isNull();
+	}
+
+	@Test
+	void invokerForPrivateMethod() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("describe", String.class, long.class);
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		Sample sample = new Sample("test", 42);
+		assertThat(invoker.apply(sample, new Object[] {"prefix-", 3L})).isEqualTo("prefix-test3");
+	}
+
+	@Test
+	void invokerWithWideningPrimitiveConversion() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("describe", String.class, long.class);
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		Sample sample = new Sample("test", 42);
+		assertThat(invoker.apply(sample, new Object[] {"int-", 3})).isEqualTo("int-test3");
+		assertThat(invoker.apply(sample, new Object[] {"short-", (short) 4})).isEqualTo("short-test4");
+		assertThat(invoker.apply(sample, new Object[] {"char-", 'a'})).isEqualTo("char-test97");
+	}
+
+	@Test
+	void invokerWithNarrowingPrimitiveConversion() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("describe", String.class, long.class);
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		Sample sample = new Sample("test", 42);
+		assertThatExceptionOfType(ClassCastException.class).isThrownBy(() ->
+				invoker.apply(sample, new Object[] {"float-", 3.5f}));
+		assertThatExceptionOfType(ClassCastException.class).isThrownBy(() ->
+				invoker.apply(sample, new Object[] {"string-", "3"}));
+	}
+
+	@Test
+	void invokerForPrimitiveReturnValue() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("getAge");
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		assertThat(invoker.apply(new Sample("test", 42), new Object[0])).isEqualTo(42);
+	}
+
+	@Test
+	void invokerForStaticMethod() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("create", String.class);
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		assertThat(invoker.apply(null, new Object[] {"test"})).isInstanceOf(Sample.class);
+	}
+
+	@Test
+	void invokerForVoidMethod() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("setName", String.class);
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		Sample sample = new Sample("test", 42);
+		assertThat(invoker.apply(sample, new Object[] {"other"})).isNull();
+		assertThat(sample.name).isEqualTo("other");
+	}
+
+	@Test
+	void invokerPropagatesException() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("fail");
+		BiFunction<Object, Object[], Object> invoker = GeneratedAccessors.generateInvoker(method);
+		assertThat(invoker).isNotNull();
+		assertThatIllegalStateException().isThrownBy(() -> invoker.apply(new Sample("test", 42), new Object[0]))
+				.withMessage("failure");
+	}
+
+	@Test
+	void setterForPrivateFields() throws Exception {
+		Field nameField = Sample.class.getDeclaredField("name");
+		Field ageField = Sample.class.getDeclaredField("age");
+		BiConsumer<Object, Object> nameSetter = GeneratedAccessors.generateSetter(nameField);
+		BiConsumer<Object, Object> ageSetter = GeneratedAccessors.generateSetter(ageField);
+		assertThat(nameSetter).isNotNull();
+		assertThat(ageSetter).isNotNull();
+		Sample sample = new Sample("test", 42);
+		nameSetter.accept(sample, "other");
+		ageSetter.accept(sample, 7);
+		assertThat(sample.name).isEqualTo("other");
+		assertThat(sample.age).isEqualTo(7);
+	}
+
+	@Test
+	void setterForPrimitiveFieldRejectsNarrowingConversion() throws Exception {
+		BiConsumer<Object, Object> ageSetter = GeneratedAccessors.generateSetter(Sample.class.getDeclaredField("age"));
+		BiConsumer<Object, Object> ratioSetter = GeneratedAccessors.generateSetter(Sample.class.getDeclaredField("ratio"));
+		assertThat(ageSetter).isNotNull();
+		assertThat(ratioSetter).isNotNull();
+		Sample sample = new Sample("test", 42);
+		ageSetter.accept(sample, (byte) 7);
+		assertThat(sample.age).isEqualTo(7);
+		assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> ageSetter.accept(sample, 8L));
+		assertThat(sample.age).isEqualTo(7);
+		ratioSetter.accept(sample, 3L);
+		assertThat(sample.ratio).isEqualTo(3.0d);
+		ratioSetter.accept(sample, 0.5f);
+		assertThat(sample.ratio).isEqualTo(0.5d);
+	}
+
+	@Test
+	void setterForFinalField() throws Exception {
+		assertThat(GeneratedAccessors.generateSetter(Sample.class.getDeclaredField("id"))).isNull();
+	}
+
+	@Test
+	void holderGeneratesOnSecondAccess() throws Exception {
+		Method method = Sample.class.getDeclaredMethod("getAge");
+		AtomicInteger generations = new AtomicInteger();
+		GeneratedAccessors.Holder<BiFunction<Object, Object[], Object>> holder = new GeneratedAccessors.Holder<>(
+				method, () -> {
+					generations.incrementAndGet();
+					return GeneratedAccessors.generateInvoker(method);
+				});
+		assertThat(holder.isFor(method)).isTrue();
+		assertThat(holder.get()).isNull();
+		BiFunction<Object, Object[], Object> invoker = holder.get();
+		assertThat(invoker).isNotNull();
+		assertThat(holder.get()).isSameAs(invoker);
+		assertThat(generations).hasValue(1);
+	}
+
+
+	@SuppressWarnings("unused")
+	static class Sample {
+
+		private final Object id = new Object();
+
+		private String name;
+
+		private int age;
+
+		private double ratio;
+
+		private Sample(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		private static Sample create(String name) {
+			return new Sample(name, 0);
+		}
+
+		private String describe(String prefix, long count) {
+			return prefix + this.name + count;
+		}
+
+		int getAge() {
+			return this.age;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+		}
+
+		private void fail() {
+			throw new IllegalStateException("failure");
+		}
+	}
+
+
+	abstract static class AbstractSample {
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link GeneratedBeanPropertyAccessStrategy}.
+ */
+class GeneratedBeanPropertyAccessStrategyTests {
+
+	private final GeneratedBeanPropertyAccessStrategy strategy = new GeneratedBeanPropertyAccessStrategy();
+
+
+	@Test
+	void getterAndSetterForReferenceType() {
+		Function<Object, Object> getter = this.strategy.createGetter(Person.class, method("getName"));
+		BiConsumer<Object, Object> setter = this.strategy.createSetter(Person.class, method("setName", String.class));
+		assertThat(getter).isNotNull();
+		assertThat(setter).isNotNull();
+
+		Person person = new Person();
+		setter.accept(person, "Juergen");
+		assertThat(getter.apply(person)).isEqualTo("Juergen");
+		setter.accept(person, null);
+		assertThat(person.getName()).isNull();
+	}
+
+	@Test
+	void getterAndSetterForPrimitiveType() {
+		Function<Object, Object> getter = this.strategy.createGetter(Person.class, method("getAge"));
+		BiConsumer<Object, Object> setter = this.strategy.createSetter(Person.class, method("setAge", int.class));
+		assertThat(getter).isNotNull();
+		assertThat(setter).isNotNull();
+
+		Person person = new Person();
+		setter.accept(person, 42);
+		assertThat(getter.apply(person)).isEqualTo(42);
+	}
+
+	@Test
+	void getterForInterfaceDefaultMethod() {
+		Function<Object, Object> getter = this.strategy.createGetter(Person.class, method("getLabel"));
+		assertThat(getter).isNotNull();
+		assertThat(getter.apply(new Person())).isEqualTo("label");
+	}
+
+	@Test
+	void setterPropagatesException() {
+		BiConsumer<Object, Object> setter = this.strategy.createSetter(Person.class, method("setAge", int.class));
+		assertThat(setter).isNotNull();
+		assertThatIllegalStateException().isThrownBy(() -> setter.accept(new Person(), -1));
+	}
+
+	@Test
+	void noAccessorsForJdkClass() {
+		Method getTime = ReflectionUtils.findMethod(Date.class, "getTime");
+		assertThat(getTime).isNotNull();
+		assertThat(this.strategy.createGetter(Date.class, getTime)).isNull();
+	}
+
+	@Test
+	void accessorsAreCreatedOnRepeatedAccess() {
+		Method readMethod = method("getAge");
+		Method writeMethod = method("setAge", int.class);
+		CachedIntrospectionResults.PropertyAccessors accessors = new CachedIntrospectionResults.PropertyAccessors(
+				Person.class, readMethod, writeMethod, List.of(this.strategy));
+		assertThat(accessors.getGetter(readMethod)).as("first access").isNull();
+		assertThat(accessors.getGetter(readMethod)).isNotNull();
+		assertThat(accessors.getSetter(writeMethod, 42)).as("first access").isNull();
+		assertThat(accessors.getSetter(writeMethod, 42)).isNotNull();
+		assertThat(accessors.getSetter(writeMethod, "42")).as("conversion required").isNull();
+		assertThat(accessors.getSetter(writeMethod, null)).as("conversion required").isNull();
+	}
+
+
+	private static Method method(String name, Class<?>... parameterTypes) {
+		Method method = ReflectionUtils.findMethod(Person.class, name, parameterTypes);
+		assertThat(method).isNotNull();
+		return method;
+	}
+
+
+	interface Labeled {
+
+		default String getLabel() {
+			return "label";
+		}
+	}
+
+
+	@SuppressWarnings("unused")
+	private static class Person implements Labeled {
+
+		private String name;
+
+		private int age;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			if (age < 0) {
+				throw new IllegalStateException("Negative age");
+			}
+			this.age = age;
+		}
+	}
+
+}
@@ -1617,6 +1617,25 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanAfterPreInstantiationAgainstFrozen() {
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		lbf.registerAlias("bd1", "alias1");
+		lbf.freezeConfiguration();
+		lbf.preInstantiateSingletons();
+
+		TestBean bean = lbf.getBean("bd1", TestBean.class);
+		assertThat(lbf.getBean("alias1")).isSameAs(bean);
+		assertThat(lbf.getBean(TestBean.class)).isSameAs(bean);
+		assertThatExceptionOfType(BeanNotOfRequiredTypeException.class).isThrownBy(() ->
+				lbf.getBean("bd1", NestedTestBean.class));
+
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		TestBean recreated = lbf.getBean("alias1", TestBean.class);
+		assertThat(recreated).isNotSameAs(bean);
+		assertThat(lbf.getBean("bd1")).isSameAs(recreated);
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
+import org.springframework.beans.testfixture.beans.DerivedTestBean;
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.NestedTestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.beans.testfixture.beans.factory.DummyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BeanTypeIndex} and its use in
+ * {@link DefaultListableBeanFactory#getBeanNamesForType}.
+ */
+class BeanTypeIndexTests {
+
+	private final BeanTypeIndex index = new BeanTypeIndex();
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@Test
+	void candidateNamesIncludeSupertypesAndUnindexed() {
+		this.index.register("a");
+		this.index.register("b");
+		this.index.register("c");
+		this.index.register("d");
+		this.index.index("a", this.index.getModificationStamp("a"), DerivedTestBean.class);
+		this.index.index("b", this.index.getModificationStamp("b"), NestedTestBean.class);
+		this.index.index("d", this.index.getModificationStamp("d"), TestBean.class);
+
+		assertThat(this.index.getCandidateNames(TestBean.class)).containsExactly("a", "c", "d");
+		assertThat(this.index.getCandidateNames(ITestBean.class)).containsExactly("a", "c", "d");
+		assertThat(this.index.getCandidateNames(Serializable.class)).containsExactly("a", "c");
+		assertThat(this.index.getCandidateNames(NestedTestBean.class)).containsExactly("b", "c");
+		assertThat(this.index.getCandidateNames(Object.class)).isNull();
+	}
+
+	@Test
+	void invalidateAndRemove() {
+		this.index.register("a");
+		this.index.register("b");
+		this.index.register("c");
+		this.index.register("d");
+		this.index.index("a", this.index.getModificationStamp("a"), TestBean.class);
+		this.index.index("b", this.index.getModificationStamp("b"), NestedTestBean.class);
+		this.index.index("c", this.index.getModificationStamp("c"), NestedTestBean.class);
+		this.index.index("d", this.index.getModificationStamp("d"), NestedTestBean.class);
+
+		this.index.invalidate("b");
+		assertThat(this.index.getCandidateNames(TestBean.class)).containsExactly("a", "b");
+
+		this.index.remove("a");
+		this.index.register("a");
+		assertThat(this.index.getCandidateNames(TestBean.class)).containsExactly("b", "a");
+
+		this.index.invalidateAll();
+		assertThat(this.index.getUnindexedCount()).isEqualTo(4);
+		assertThat(this.index.getCandidateNames(TestBean.class)).isNull();
+	}
+
+	@Test
+	void staleStampIsIgnored() {
+		this.index.register("a");
+		this.index.register("b");
+		this.index.register("c");
+		this.index.index("b", this.index.getModificationStamp("b"), NestedTestBean.class);
+		this.index.index("c", this.index.getModificationStamp("c"), NestedTestBean.class);
+		int stamp = this.index.getModificationStamp("a");
+		this.index.invalidate("a");
+
+		this.index.index("a", stamp, NestedTestBean.class);
+
+		assertThat(this.index.getCandidateNames(TestBean.class)).containsExactly("a");
+		assertThat(this.index.getModificationStamp("b")).isEqualTo(-1);
+	}
+
+	@Test
+	void beanNamesForTypeWithFrozenConfiguration() {
+		this.beanFactory.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.registerBeanDefinition("derived", new RootBeanDefinition(DerivedTestBean.class));
+		this.beanFactory.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.registerBeanDefinition("factory", new RootBeanDefinition(DummyFactory.class));
+		this.beanFactory.freezeConfiguration();
+
+		assertThat(this.beanFactory.getBeanNamesForType(ITestBean.class)).containsExactly("test", "derived", "factory");
+		assertThat(this.beanFactory.getBeanNamesForType(NestedTestBean.class)).containsExactly("nested");
+		assertThat(this.beanFactory.getBeanNamesForType(DummyFactory.class)).containsExactly("&factory");
+
+		this.beanFactory.registerBeanDefinition("another", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.removeBeanDefinition("derived");
+
+		assertThat(this.beanFactory.getBeanNamesForType(ITestBean.class)).containsExactly("test", "factory", "another");
+		assertThat(this.beanFactory.getBeanNamesForType(NestedTestBean.class)).containsExactly("nested");
+
+		this.beanFactory.registerBeanDefinition("test", new RootBeanDefinition(NestedTestBean.class));
+
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class)).containsExactly("factory", "another");
+		assertThat(this.beanFactory.getBeanNamesForType(NestedTestBean.class)).containsExactly("test", "nested");
+	}
+
+	@Test
+	void beanNamesForTypeWithSingletonInstance() {
+		this.beanFactory.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.registerBeanDefinition("other", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return (bean instanceof TestBean ? new DerivedTestBean() : bean);
+			}
+		});
+		this.beanFactory.freezeConfiguration();
+
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class)).containsExactly("test");
+		this.beanFactory.getBean("test");
+		assertThat(this.beanFactory.getBeanNamesForType(DerivedTestBean.class)).containsExactly("test");
+		this.beanFactory.destroySingleton("test");
+		assertThat(this.beanFactory.getBeanNamesForType(DerivedTestBean.class)).isEmpty();
+	}
+
+	@Test
+	void beanNamesForTypeWithPredictedType() {
+		this.beanFactory.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.registerBeanDefinition("other", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.freezeConfiguration();
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class)).containsExactly("test");
+
+		this.beanFactory.addBeanPostProcessor(new SmartInstantiationAwareBeanPostProcessor() {
+			@Override
+			public Class<?> predictBeanType(Class<?> beanClass, String beanName) {
+				return (beanClass == TestBean.class ? DerivedTestBean.class : null);
+			}
+		});
+
+		assertThat(this.beanFactory.getBeanNamesForType(DerivedTestBean.class)).containsExactly("test");
+	}
+
+	@Test
+	void beanNamesForTypeWithPrototypes() {
+		RootBeanDefinition prototype = new RootBeanDefinition(TestBean.class);
+		prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("prototype", prototype);
+		this.beanFactory.registerBeanDefinition("singleton", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.freezeConfiguration();
+
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class)).containsExactly("prototype", "singleton");
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class, false, true)).containsExactly("singleton");
+	}
+
+	@Test
+	void beanNamesForTypeWithProxiedPrototype() {
+		RootBeanDefinition prototype = new RootBeanDefinition(TestBean.class);
+		prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("prototype", prototype);
+		this.beanFactory.registerBeanDefinition("singleton", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.registerBeanDefinition("other", new RootBeanDefinition(NestedTestBean.class));
+		this.beanFactory.addBeanPostProcessor(new ProxyTypeRecordingPostProcessor("prototype"));
+		this.beanFactory.freezeConfiguration();
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBeanNamesForType(NestedTestBean.class)).containsExactly("nested", "other");
+		assertThat(this.beanFactory.getBean("prototype")).isInstanceOf(ITestBean.class).isNotInstanceOf(TestBean.class);
+
+		// The predicted type of the prototype is the proxy type now
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class)).containsExactly("singleton");
+		assertThat(this.beanFactory.getBeanNamesForType(ITestBean.class)).containsExactly("prototype", "singleton");
+	}
+
+
+	/**
+	 * Post-processor exposing a JDK proxy for the given bean, and predicting the
+	 * proxy type once it has been created, like an auto-proxy creator.
+	 */
+	private static class ProxyTypeRecordingPostProcessor implements SmartInstantiationAwareBeanPostProcessor {
+
+		private final String proxiedBeanName;
+
+		private final Map<String, Class<?>> proxyTypes = new ConcurrentHashMap<>();
+
+		ProxyTypeRecordingPostProcessor(String proxiedBeanName) {
+			this.proxiedBeanName = proxiedBeanName;
+		}
+
+		@Override
+		public Class<?> predictBeanType(Class<?> beanClass, String beanName) {
+			return this.proxyTypes.get(beanName);
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (!beanName.equals(this.proxiedBeanName)) {
+				return bean;
+			}
+			Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ITestBean.class},
+					(p, method, args) -> method.invoke(bean, args));
+			this.proxyTypes.put(beanName, proxy.getClass());
+			return proxy;
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.testfixture.beans.DerivedTestBean;
+import org.springframework.beans.testfixture.beans.factory.DummyFactory;
 import org.springframework.beans.testfixture.beans.TestBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -78,6 +79,34 @@ class DefaultSingletonBeanRegistryTests {
 		assertThat(tb.wasDestroyed()).isTrue();
 	}
 
+	@Test
+	void frozenSingletonLookup() {
+		TestBean tb = new TestBean();
+		beanRegistry.registerSingleton("tb", tb);
+		beanRegistry.registerAlias("tb", "alias");
+		beanRegistry.registerSingleton("factory", new DummyFactory());
+		assertThat(beanRegistry.getFrozenSingleton("tb")).isNull();
+
+		beanRegistry.freezeSingletonLookup();
+		assertThat(beanRegistry.getFrozenSingleton("tb")).isSameAs(tb);
+		assertThat(beanRegistry.getFrozenSingleton("alias")).isSameAs(tb);
+		assertThat(beanRegistry.getFrozenSingleton("factory")).isNull();
+
+		TestBean tb2 = new TestBean();
+		beanRegistry.registerSingleton("tb2", tb2);
+		assertThat(beanRegistry.getFrozenSingleton("tb")).isSameAs(tb);
+		assertThat(beanRegistry.getFrozenSingleton("tb2")).isNull();
+
+		beanRegistry.registerAlias("tb2", "alias2");
+		assertThat(beanRegistry.getFrozenSingleton("tb")).isNull();
+
+		beanRegistry.freezeSingletonLookup();
+		assertThat(beanRegistry.getFrozenSingleton("alias2")).isSameAs(tb2);
+		beanRegistry.destroySingleton("tb2");
+		assertThat(beanRegistry.getFrozenSingleton("tb")).isNull();
+		assertThat(beanRegistry.getSingleton("tb")).isSameAs(tb);
+	}
+
 	@Test
 	void dependentRegistration() {
 		beanRegistry.registerDependentBean("a", "b");
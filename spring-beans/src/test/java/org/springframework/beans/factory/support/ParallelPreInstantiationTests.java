@@ -0,0 +1,284 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for parallel singleton pre-instantiation in {@link DefaultListableBeanFactory},
+ * and for the underlying {@link SingletonDependencyGraph}.
+ */
+class ParallelPreInstantiationTests {
+
+	private static final Map<String, String> creationThreads = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, AtomicInteger> instanceCounts = new ConcurrentHashMap<>();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+		creationThreads.clear();
+		instanceCounts.clear();
+	}
+
+
+	@Test
+	void dependencyGraph() {
+		this.beanFactory.registerBeanDefinition("a", bean());
+		this.beanFactory.registerBeanDefinition("b", bean("a"));
+		RootBeanDefinition c = new RootBeanDefinition(TestBean.class);
+		c.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("aliasForB"));
+		this.beanFactory.registerBeanDefinition("c", c);
+		this.beanFactory.registerAlias("b", "aliasForB");
+		RootBeanDefinition d = new RootBeanDefinition(TestBean.class);
+		d.setDependsOn("c");
+		d.getPropertyValues().add("spouse", new BeanDefinitionHolder(bean("a"), "inner"));
+		this.beanFactory.registerBeanDefinition("d", d);
+		RootBeanDefinition e = new RootBeanDefinition();
+		e.setFactoryBeanName("d");
+		e.setFactoryMethodName("getSpouse");
+		this.beanFactory.registerBeanDefinition("e", e);
+
+		SingletonDependencyGraph graph = new SingletonDependencyGraph(this.beanFactory, List.of("a", "b", "c", "d", "e"));
+
+		assertThat(graph.getDependencies("a")).isEmpty();
+		assertThat(graph.getDependencies("b")).containsExactly("a");
+		assertThat(graph.getDependencies("c")).containsExactly("b");
+		assertThat(graph.getDependencies("d")).containsExactly("c", "a");
+		assertThat(graph.getDependencies("e")).containsExactly("d");
+		assertThat(graph.getDependents("a")).containsExactly("b", "d");
+		assertThat(graph.getSortedBeanNames()).containsExactly("a", "b", "c", "d", "e");
+		assertThat(graph.getUnsortedBeanNames()).isEmpty();
+	}
+
+	@Test
+	void dependencyGraphWithAliasedDuplicateDependencies() {
+		this.beanFactory.registerBeanDefinition("a", bean());
+		this.beanFactory.registerAlias("a", "aliasForA");
+		this.beanFactory.registerBeanDefinition("slow", new RootBeanDefinition(SlowBean.class));
+		RootBeanDefinition b = bean("aliasForA");
+		b.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("&a"));
+		b.setDependsOn("a", "slow");
+		this.beanFactory.registerBeanDefinition("b", b);
+
+		SingletonDependencyGraph graph = new SingletonDependencyGraph(this.beanFactory, List.of("a", "slow", "b"));
+
+		assertThat(graph.getDependencies("b")).containsExactlyInAnyOrder("a", "slow");
+		assertThat(graph.getDependents("a")).containsExactly("b");
+		assertThat(graph.getDependents("slow")).containsExactly("b");
+		assertThat(graph.getSortedBeanNames()).containsExactly("a", "slow", "b");
+	}
+
+	@Test
+	void dependencyGraphWithCycle() {
+		this.beanFactory.registerBeanDefinition("a", bean());
+		this.beanFactory.registerBeanDefinition("b", bean("c"));
+		this.beanFactory.registerBeanDefinition("c", bean("b"));
+		this.beanFactory.registerBeanDefinition("d", bean("c"));
+
+		SingletonDependencyGraph graph = new SingletonDependencyGraph(this.beanFactory, List.of("a", "b", "c", "d"));
+
+		assertThat(graph.getSortedBeanNames()).containsExactly("a");
+		assertThat(graph.getUnsortedBeanNames()).containsExactly("b", "c", "d");
+	}
+
+	@Test
+	void preInstantiateInParallel() {
+		for (int i = 0; i < 8; i++) {
+			this.beanFactory.registerBeanDefinition("independent" + i, bean());
+			this.beanFactory.registerBeanDefinition("dependent" + i, bean("independent" + i));
+		}
+		enableParallelPreInstantiation();
+
+		this.beanFactory.preInstantiateSingletons();
+
+		for (int i = 0; i < 8; i++) {
+			TestBean dependent = this.beanFactory.getBean("dependent" + i, TestBean.class);
+			assertThat(dependent.getSpouse()).isSameAs(this.beanFactory.getBean("independent" + i));
+			assertThat(creationThreads.get("dependent" + i)).startsWith("pool-");
+		}
+	}
+
+	@Test
+	void preInstantiateInParallelWithCycle() {
+		this.beanFactory.registerBeanDefinition("a", bean("b"));
+		this.beanFactory.registerBeanDefinition("b", bean("a"));
+		enableParallelPreInstantiation();
+
+		this.beanFactory.preInstantiateSingletons();
+
+		TestBean a = this.beanFactory.getBean("a", TestBean.class);
+		assertThat(a.getSpouse().getSpouse()).isSameAs(a);
+		assertThat(creationThreads.get("a")).isEqualTo(Thread.currentThread().getName());
+	}
+
+	@Test
+	void preInstantiateInParallelWithDynamicDependencies() {
+		RootBeanDefinition shared = new RootBeanDefinition(SlowBean.class);
+		shared.setLazyInit(true);
+		this.beanFactory.registerBeanDefinition("shared", shared);
+		for (int i = 0; i < 8; i++) {
+			RootBeanDefinition lookup = new RootBeanDefinition(LookupBean.class);
+			lookup.getPropertyValues().add("beanName", "shared");
+			this.beanFactory.registerBeanDefinition("lookup" + i, lookup);
+		}
+		enableParallelPreInstantiation();
+
+		this.beanFactory.preInstantiateSingletons();
+
+		Object sharedBean = this.beanFactory.getBean("shared");
+		for (int i = 0; i < 8; i++) {
+			assertThat(this.beanFactory.getBean("lookup" + i, LookupBean.class).bean).isSameAs(sharedBean);
+		}
+	}
+
+	@Test
+	void preInstantiateInParallelWaitsForSingletonInCreation() {
+		this.beanFactory.registerBeanDefinition("slow", new RootBeanDefinition(CountingSlowBean.class));
+		for (int i = 0; i < 3; i++) {
+			RootBeanDefinition lookup = new RootBeanDefinition(CountingLookupBean.class);
+			lookup.getPropertyValues().add("beanName", "slow");
+			this.beanFactory.registerBeanDefinition("lookup" + i, lookup);
+		}
+		enableParallelPreInstantiation();
+
+		this.beanFactory.preInstantiateSingletons();
+
+		Object slowBean = this.beanFactory.getBean("slow");
+		for (int i = 0; i < 3; i++) {
+			assertThat(this.beanFactory.getBean("lookup" + i, LookupBean.class).bean).isSameAs(slowBean);
+		}
+		assertThat(instanceCounts.get(CountingSlowBean.class)).hasValue(1);
+		assertThat(instanceCounts.get(CountingLookupBean.class)).hasValue(3);
+	}
+
+	@Test
+	void preInstantiateInParallelWithFailure() {
+		this.beanFactory.registerBeanDefinition("a", bean());
+		RootBeanDefinition failing = new RootBeanDefinition(TestBean.class);
+		failing.getPropertyValues().add("age", "not a number");
+		this.beanFactory.registerBeanDefinition("failing", failing);
+		enableParallelPreInstantiation();
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("failing"));
+	}
+
+	@Test
+	void preInstantiateSequentiallyWithoutExecutor() {
+		this.beanFactory.registerBeanDefinition("a", bean());
+		this.beanFactory.setParallelPreInstantiation(true);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(creationThreads.get("a")).isEqualTo(Thread.currentThread().getName());
+	}
+
+
+	private void enableParallelPreInstantiation() {
+		this.beanFactory.setBootstrapExecutor(this.executor);
+		this.beanFactory.setParallelPreInstantiation(true);
+	}
+
+	private static RootBeanDefinition bean() {
+		return new RootBeanDefinition(RecordingTestBean.class);
+	}
+
+	private static RootBeanDefinition bean(String spouse) {
+		RootBeanDefinition bd = bean();
+		bd.getPropertyValues().add("spouse", new RuntimeBeanReference(spouse));
+		return bd;
+	}
+
+
+	public static class RecordingTestBean extends TestBean {
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			super.setBeanFactory(beanFactory);
+			creationThreads.put(getBeanName(), Thread.currentThread().getName());
+		}
+	}
+
+
+	public static class SlowBean {
+
+		public SlowBean() throws InterruptedException {
+			Thread.sleep(50);
+		}
+	}
+
+
+	public static class CountingSlowBean {
+
+		public CountingSlowBean() throws InterruptedException {
+			instanceCounts.computeIfAbsent(CountingSlowBean.class, key -> new AtomicInteger()).incrementAndGet();
+			Thread.sleep(100);
+		}
+	}
+
+
+	public static class LookupBean implements BeanFactoryAware {
+
+		private String beanName;
+
+		private Object bean;
+
+		public void setBeanName(String beanName) {
+			this.beanName = beanName;
+		}
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.bean = beanFactory.getBean(this.beanName);
+		}
+	}
+
+
+	public static class CountingLookupBean extends LookupBean {
+
+		public CountingLookupBean() throws InterruptedException {
+			instanceCounts.computeIfAbsent(CountingLookupBean.class, key -> new AtomicInteger()).incrementAndGet();
+			Thread.sleep(10);
+		}
+	}
+
+}
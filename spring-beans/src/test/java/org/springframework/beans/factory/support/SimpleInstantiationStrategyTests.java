@@ -21,6 +21,9 @@ import java.lang.reflect.Method;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,6 +115,43 @@ class SimpleInstantiationStrategyTests {
 				.havingCause().isInstanceOf(IllegalStateException.class).withMessage("This a test message");
 	}
 
+	@Test
+	void instantiateWithGeneratedAccessorsDoesNotWrapError() {
+		this.strategy.setUseGeneratedAccessors(true);
+		RootBeanDefinition bd = new RootBeanDefinition(String.class);
+		Method method = method(SampleFactory.class, "fatalBean");
+		assertThat(instantiate(bd, new SampleFactory(), method, "Test")).isEqualTo("Test");
+		assertThat(instantiate(bd, new SampleFactory(), method, "Test")).isEqualTo("Test");
+		assertThat(bd.generatedInstantiator).isNotNull();
+		assertThatExceptionOfType(InternalError.class).isThrownBy(() ->
+				instantiate(bd, new SampleFactory(), method, "fatal"));
+		assertThatExceptionOfType(BeanInstantiationException.class).isThrownBy(() ->
+				instantiate(bd, new SampleFactory(), method(SampleFactory.class, "errorBean"), "Test"))
+				.havingCause().isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void prototypeCreationWithGeneratedAccessors() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		((SimpleInstantiationStrategy) beanFactory.getInstantiationStrategy()).setUseGeneratedAccessors(true);
+		AutowiredAnnotationBeanPostProcessor bpp = new AutowiredAnnotationBeanPostProcessor();
+		bpp.setUseGeneratedAccessors(true);
+		bpp.setBeanFactory(beanFactory);
+		beanFactory.addBeanPostProcessor(bpp);
+		beanFactory.registerSingleton("name", "test");
+		RootBeanDefinition bd = new RootBeanDefinition(AutowiredSample.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		beanFactory.registerBeanDefinition("sample", bd);
+
+		for (int i = 0; i < 3; i++) {
+			AutowiredSample sample = beanFactory.getBean(AutowiredSample.class);
+			assertThat(sample.name).isEqualTo("test");
+			assertThat(sample.fieldName).isEqualTo("test");
+			assertThat(sample.methodName).isEqualTo("test");
+		}
+		assertThat(((RootBeanDefinition) beanFactory.getMergedBeanDefinition("sample")).generatedInstantiator).isNotNull();
+	}
+
 	private Object instantiate(RootBeanDefinition bd, Object factory, Method method, Object... args) {
 		return this.strategy.instantiate(bd, "simpleBean", this.beanFactory,
 				factory, method, args);
@@ -144,6 +184,13 @@ class SimpleInstantiationStrategyTests {
 			throw new IllegalStateException(msg);
 		}
 
+		String fatalBean(String msg) {
+			if ("fatal".equals(msg)) {
+				throw new InternalError(msg);
+			}
+			return msg;
+		}
+
 	}
 
 	static class ExtendedSampleFactory extends SampleFactory {
@@ -161,4 +208,23 @@ class SimpleInstantiationStrategyTests {
 		}
 
 	}
+
+	static class AutowiredSample {
+
+		private final String name;
+
+		@Autowired
+		private String fieldName;
+
+		private String methodName;
+
+		AutowiredSample(String name) {
+			this.name = name;
+		}
+
+		@Autowired
+		private void setMethodName(String methodName) {
+			this.methodName = methodName;
+		}
+	}
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.context.annotation;
 
+import java.lang.reflect.Method;
+
 import jakarta.annotation.Resource;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -32,6 +34,10 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.stereotype.Component;
 
 /**
  * Benchmark for bean annotation processing with various annotations.
@@ -72,12 +78,39 @@ public class AnnotationProcessorBenchmark {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class MergedAnnotationState {
+
+		public Method beanMethod;
+
+		@Setup
+		public void setup() throws Exception {
+			this.beanMethod = AnnotatedConfiguration.class.getDeclaredMethod("testBean");
+		}
+	}
+
 	@Benchmark
 	public ITestBean prototypeCreation(BenchmarkState state) {
 		TestBean tb = state.context.getBean("test", TestBean.class);
 		return tb.getSpouse();
 	}
 
+	@Benchmark
+	public Component findMergedAnnotationOnClass() {
+		return AnnotatedElementUtils.findMergedAnnotation(AnnotatedConfiguration.class, Component.class);
+	}
+
+	@Benchmark
+	public Bean findMergedAnnotationOnMethod(MergedAnnotationState state) {
+		return AnnotatedElementUtils.findMergedAnnotation(state.beanMethod, Bean.class);
+	}
+
+	@Benchmark
+	public Bean mergedAnnotationsOnMethod(MergedAnnotationState state) {
+		return MergedAnnotations.from(state.beanMethod, SearchStrategy.TYPE_HIERARCHY)
+				.get(Bean.class).synthesize();
+	}
+
 
 	private static class ResourceAnnotatedTestBean extends org.springframework.beans.testfixture.beans.TestBean {
 
@@ -99,4 +132,13 @@ public class AnnotationProcessorBenchmark {
 		}
 	}
 
+	@Configuration("annotatedConfiguration")
+	static class AnnotatedConfiguration {
+
+		@Bean(name = "testBean", autowireCandidate = false)
+		TestBean testBean() {
+			return new TestBean();
+		}
+	}
+
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Opcodes;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark for classpath scanning of a synthetic jar file with 50,000 classes,
+ * one in fifty of them annotated with {@code @Component}, comparing sequential
+ * with parallel resolution and metadata reading.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassPathScanningBenchmark {
+
+	private static final String BASE_PACKAGE = "com.example.scan";
+
+	private static final int PACKAGE_COUNT = 500;
+
+	private static final int CLASSES_PER_PACKAGE = 100;
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"false", "true"})
+		public boolean parallel;
+
+		public Path tempDir;
+
+		public URLClassLoader classLoader;
+
+		public ForkJoinPool forkJoinPool;
+
+		@Setup
+		public void setup() throws IOException {
+			this.tempDir = Files.createTempDirectory("scan-benchmark");
+			Path jar = this.tempDir.resolve("classes.jar");
+			try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+				writeJarEntries(out);
+			}
+			this.classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, getClass().getClassLoader());
+			this.forkJoinPool = (this.parallel ? ForkJoinPool.commonPool() : null);
+		}
+
+		@TearDown
+		public void tearDown() throws IOException {
+			this.classLoader.close();
+			FileSystemUtils.deleteRecursively(this.tempDir);
+		}
+
+		private static void writeJarEntries(JarOutputStream out) throws IOException {
+			String basePath = BASE_PACKAGE.replace('.', '/') + '/';
+			addDirectory(out, "com/");
+			addDirectory(out, "com/example/");
+			addDirectory(out, basePath);
+			for (int i = 0; i < PACKAGE_COUNT; i++) {
+				String packagePath = basePath + "pkg" + i + '/';
+				addDirectory(out, packagePath);
+				for (int j = 0; j < CLASSES_PER_PACKAGE; j++) {
+					String className = packagePath + "Type" + j;
+					out.putNextEntry(new ZipEntry(className + ".class"));
+					out.write(generateClass(className, j % 50 == 0));
+					out.closeEntry();
+				}
+			}
+		}
+
+		private static void addDirectory(JarOutputStream out, String path) throws IOException {
+			out.putNextEntry(new ZipEntry(path));
+			out.closeEntry();
+		}
+
+		private static byte[] generateClass(String internalName, boolean component) {
+			ClassWriter cw = new ClassWriter(0);
+			cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null,
+					"java/lang/Object", null);
+			if (component) {
+				cw.visitAnnotation("Lorg/springframework/stereotype/Component;", true).visitEnd();
+			}
+			cw.visitField(Opcodes.ACC_PRIVATE, "name", "Ljava/lang/String;", null, null).visitEnd();
+			cw.visitMethod(Opcodes.ACC_PUBLIC, "getName", "()Ljava/lang/String;", null, null).visitEnd();
+			cw.visitEnd();
+			return cw.toByteArray();
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class ScanState {
+
+		public ClassPathScanningCandidateComponentProvider provider;
+
+		public PathMatchingResourcePatternResolver resolver;
+
+		@Setup(Level.Invocation)
+		public void setup(BenchmarkState state) {
+			// Fresh instances without cached metadata, as for every application context
+			DefaultResourceLoader resourceLoader = new DefaultResourceLoader(state.classLoader);
+			this.provider = new ClassPathScanningCandidateComponentProvider(true);
+			this.provider.setResourceLoader(resourceLoader);
+			this.provider.setForkJoinPool(state.forkJoinPool);
+			this.resolver = new PathMatchingResourcePatternResolver(resourceLoader);
+			this.resolver.setForkJoinPool(state.forkJoinPool);
+		}
+	}
+
+
+	@Benchmark
+	public Set<BeanDefinition> findCandidateComponents(ScanState state) {
+		return state.provider.findCandidateComponents(BASE_PACKAGE);
+	}
+
+	@Benchmark
+	public Resource[] resolveClassResources(ScanState state) throws IOException {
+		return state.resolver.getResources("classpath*:" + BASE_PACKAGE.replace('.', '/') + "/**/*.class");
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Benchmark for publishing events to programmatic and annotated listeners.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ApplicationEventPublishingBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"programmatic", "annotated", "conditional"})
+		public String listener;
+
+		@Param({"reflection", "generated"})
+		public String invocation;
+
+		public GenericApplicationContext context;
+
+		public OrderPlaced payload;
+
+		public ResolvableType payloadType;
+
+		@Setup
+		public void setup() {
+			this.context = new GenericApplicationContext();
+			AnnotationConfigUtils.registerAnnotationConfigProcessors(this.context);
+			switch (this.listener) {
+				case "programmatic" -> this.context.registerBean(ProgrammaticListener.class);
+				case "annotated" -> this.context.registerBean(AnnotatedListener.class);
+				case "conditional" -> this.context.registerBean(ConditionalListener.class);
+			}
+			this.context.registerBean(OtherListener.class);
+			this.context.refresh();
+			if (this.invocation.equals("generated")) {
+				for (ApplicationListener<?> listener : this.context.getApplicationListeners()) {
+					if (listener instanceof ApplicationListenerMethodAdapter adapter) {
+						adapter.setUseGeneratedAccessors(true);
+					}
+				}
+			}
+			this.payload = new OrderPlaced("order-1", 42);
+			this.payloadType = ResolvableType.forClass(OrderPlaced.class);
+		}
+
+		@TearDown
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public void publishPayload(BenchmarkState state) {
+		state.context.publishEvent(state.payload);
+	}
+
+	@Benchmark
+	public void publishPayloadWithTypeHint(BenchmarkState state) {
+		state.context.publishEvent(new PayloadApplicationEvent<>(state.context, state.payload, state.payloadType));
+	}
+
+	@Benchmark
+	public void publishApplicationEvent(BenchmarkState state, Blackhole bh) {
+		OrderEvent event = new OrderEvent(state.context, state.payload);
+		state.context.publishEvent(event);
+		bh.consume(event);
+	}
+
+
+	public record OrderPlaced(String id, int amount) {
+	}
+
+
+	@SuppressWarnings("serial")
+	public static class OrderEvent extends ApplicationEvent {
+
+		public OrderEvent(Object source, OrderPlaced order) {
+			super(source);
+		}
+	}
+
+
+	public static class ProgrammaticListener implements ApplicationListener<PayloadApplicationEvent<OrderPlaced>> {
+
+		public int count;
+
+		@Override
+		public void onApplicationEvent(PayloadApplicationEvent<OrderPlaced> event) {
+			this.count += event.getPayload().amount();
+		}
+	}
+
+
+	public static class AnnotatedListener {
+
+		public int count;
+
+		@EventListener
+		public void onOrderPlaced(OrderPlaced order) {
+			this.count += order.amount();
+		}
+	}
+
+
+	public static class ConditionalListener {
+
+		public int count;
+
+		@EventListener(condition = "#root.args[0].amount() > 10")
+		public void onOrderPlaced(OrderPlaced order) {
+			this.count += order.amount();
+		}
+	}
+
+
+	public static class OtherListener {
+
+		public int count;
+
+		@EventListener
+		public void onOrderEvent(OrderEvent event) {
+			this.count++;
+		}
+
+		@EventListener
+		public void onString(String payload) {
+			this.count++;
+		}
+	}
+
+}
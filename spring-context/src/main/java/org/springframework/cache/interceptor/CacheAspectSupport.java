@@ -48,6 +48,7 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.ExpressionRegistry;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
@@ -292,6 +293,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 						+ "register a CacheManager bean or remove the @EnableCaching annotation from your configuration.");
 			}
 		}
+		if (this.beanFactory != null) {
+			this.evaluator.setExpressionRegistry(
+					this.beanFactory.getBeanProvider(ExpressionRegistry.class).getIfUnique());
+		}
 		this.initialized = true;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -80,4 +80,13 @@ public class PayloadApplicationEvent<T> extends ApplicationEvent implements Reso
 		return this.payload;
 	}
 
+	/**
+	 * Return the type of the payload, as specified on construction or
+	 * as inferred from the payload instance.
+	 * @since 7.0
+	 */
+	public ResolvableType getPayloadType() {
+		return this.payloadType;
+	}
+
 }
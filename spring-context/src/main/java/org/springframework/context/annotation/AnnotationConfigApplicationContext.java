@@ -25,6 +25,8 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -182,7 +184,15 @@ public class AnnotationConfigApplicationContext extends GenericApplicationContex
 		Assert.notEmpty(basePackages, "At least one base package must be specified");
 		StartupStep scanPackages = getApplicationStartup().start("spring.context.base-packages.scan")
 				.tag("packages", () -> Arrays.toString(basePackages));
+		MetadataReaderCache sharedCache = (this.scanner.getMetadataReaderFactory() instanceof
+				CachingMetadataReaderFactory cachingFactory ? cachingFactory.getSharedCache() : null);
+		long cacheHitCount = (sharedCache != null ? sharedCache.getHitCount() : 0);
+		long cacheMissCount = (sharedCache != null ? sharedCache.getMissCount() : 0);
 		this.scanner.scan(basePackages);
+		if (sharedCache != null) {
+			scanPackages.tag("metadataReaderCache.hits", String.valueOf(sharedCache.getHitCount() - cacheHitCount));
+			scanPackages.tag("metadataReaderCache.misses", String.valueOf(sharedCache.getMissCount() - cacheMissCount));
+		}
 		scanPackages.end();
 	}
 
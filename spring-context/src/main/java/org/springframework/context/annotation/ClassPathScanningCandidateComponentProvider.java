@@ -24,6 +24,8 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -74,6 +76,14 @@ import org.springframework.util.ClassUtils;
  * supported: if any other include filter is specified, the index is ignored and
  * classpath scanning is used instead.
  *
+ * <p>Packages covered by a component scan index generated during AOT processing
+ * are not scanned either: the class metadata is obtained from that index, with
+ * all include and exclude filters being supported.
+ *
+ * <p>Class metadata of scanned resources can be read in parallel on a
+ * {@link ForkJoinPool}, see {@link #setForkJoinPool}; the filters are
+ * applied sequentially in any case.
+ *
  * <p>This implementation is based on Spring's
  * {@link org.springframework.core.type.classreading.MetadataReader MetadataReader}
  * facility, backed by an ASM {@link org.springframework.asm.ClassReader ClassReader}.
@@ -107,6 +117,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	private static final boolean shouldIgnoreClassFormatException =
 			SpringProperties.getFlag(IGNORE_CLASSFORMAT_PROPERTY_NAME);
 
+	private static final boolean shouldScanInParallel =
+			SpringProperties.getFlag(PathMatchingResourcePatternResolver.PARALLEL_SCANNING_PROPERTY_NAME);
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -131,6 +144,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	@Nullable
+	private ComponentScanIndex componentScanIndex;
+
+	@Nullable
+	private ForkJoinPool forkJoinPool = (shouldScanInParallel ? ForkJoinPool.commonPool() : null);
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -298,8 +317,10 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Override
 	public void setResourceLoader(@Nullable ResourceLoader resourceLoader) {
 		this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+		applyForkJoinPool(this.resourcePatternResolver);
 		this.metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
 		this.componentsIndex = CandidateComponentsIndexLoader.loadIndex(this.resourcePatternResolver.getClassLoader());
+		this.componentScanIndex = ComponentScanIndex.load(this.resourcePatternResolver.getClassLoader());
 	}
 
 	/**
@@ -337,6 +358,39 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set the {@link ForkJoinPool} to read the class metadata of scanned
+	 * resources with in parallel. Type filters and conditions are applied
+	 * sequentially nevertheless, in the order of the scanned resources.
+	 * <p>The given pool is also used for resolving the resources to scan if the
+	 * {@linkplain #setResourceLoader resource loader} is a
+	 * {@link PathMatchingResourcePatternResolver} without a pool of its own,
+	 * or has been wrapped in one by this component provider.
+	 * <p>Default is none, reading class metadata sequentially, unless the
+	 * {@value PathMatchingResourcePatternResolver#PARALLEL_SCANNING_PROPERTY_NAME}
+	 * property is set, in which case the {@linkplain ForkJoinPool#commonPool()
+	 * common pool} is used.
+	 * <p>Note that the configured {@link #setMetadataReaderFactory MetadataReaderFactory}
+	 * needs to be thread-safe for parallel reading, as is the case for the default
+	 * {@link CachingMetadataReaderFactory}.
+	 * @since 7.0
+	 * @see PathMatchingResourcePatternResolver#setForkJoinPool
+	 */
+	public void setForkJoinPool(@Nullable ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+		if (this.resourcePatternResolver != null) {
+			applyForkJoinPool(this.resourcePatternResolver);
+		}
+	}
+
+	private void applyForkJoinPool(ResourcePatternResolver resourcePatternResolver) {
+		if (this.forkJoinPool != null &&
+				resourcePatternResolver instanceof PathMatchingResourcePatternResolver pathMatchingResolver &&
+				pathMatchingResolver.getForkJoinPool() == null) {
+			pathMatchingResolver.setForkJoinPool(this.forkJoinPool);
+		}
+	}
+
 
 	/**
 	 * Scan the component index or class path for candidate components.
@@ -344,6 +398,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	 * @return a corresponding Set of autodetected bean definitions
 	 */
 	public Set<BeanDefinition> findCandidateComponents(String basePackage) {
+		if (this.componentScanIndex != null && DEFAULT_RESOURCE_PATTERN.equals(this.resourcePattern)) {
+			String packageName = ClassUtils.convertResourcePathToClassName(resolveBasePackage(basePackage));
+			if (this.componentScanIndex.isIndexed(packageName)) {
+				return addCandidateComponentsFromScanIndex(this.componentScanIndex, packageName);
+			}
+		}
 		if (this.componentsIndex != null && indexSupportsIncludeFilters()) {
 			return addCandidateComponentsFromIndex(this.componentsIndex, basePackage);
 		}
@@ -449,17 +509,53 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	private Set<BeanDefinition> addCandidateComponentsFromScanIndex(ComponentScanIndex index, String basePackage) {
+		Set<BeanDefinition> candidates = new LinkedHashSet<>();
+		boolean traceEnabled = logger.isTraceEnabled();
+		boolean debugEnabled = logger.isDebugEnabled();
+		for (MetadataReader metadataReader : index.getMetadataReaders(basePackage)) {
+			Resource resource = metadataReader.getResource();
+			try {
+				if (isCandidateComponent(metadataReader)) {
+					ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+					sbd.setSource(resource);
+					if (isCandidateComponent(sbd)) {
+						if (debugEnabled) {
+							logger.debug("Using candidate component class from scan index: " + resource);
+						}
+						candidates.add(sbd);
+					}
+					else {
+						if (debugEnabled) {
+							logger.debug("Ignored because not a concrete top-level class: " + resource);
+						}
+					}
+				}
+				else {
+					if (traceEnabled) {
+						logger.trace("Ignored because not matching any filter: " + resource);
+					}
+				}
+			}
+			catch (Throwable ex) {
+				throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource, ex);
+			}
+		}
+		return candidates;
+	}
+
 	private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
 		Set<BeanDefinition> candidates = new LinkedHashSet<>();
 		try {
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
+			MetadataReader[] metadataReaders = readMetadataInParallel(resources);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
+				if (isCglibClass(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
@@ -467,7 +563,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					MetadataReader metadataReader = (metadataReaders != null && metadataReaders[i] != null ?
+							metadataReaders[i] : getMetadataReaderFactory().getMetadataReader(resource));
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -517,6 +614,39 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	/**
+	 * Read the class metadata of the given resources in parallel, if a
+	 * {@link #setForkJoinPool ForkJoinPool} is set.
+	 * @return the metadata readers, with {@code null} elements for resources
+	 * that are not scanned or that failed to be read (to be reported when
+	 * sequentially processing them), or {@code null} if not reading in parallel
+	 */
+	@Nullable
+	private MetadataReader[] readMetadataInParallel(Resource[] resources) {
+		ForkJoinPool forkJoinPool = this.forkJoinPool;
+		if (forkJoinPool == null || resources.length < 2) {
+			return null;
+		}
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		MetadataReader[] metadataReaders = new MetadataReader[resources.length];
+		forkJoinPool.submit(() -> IntStream.range(0, resources.length).parallel().forEach(i -> {
+			if (!isCglibClass(resources[i])) {
+				try {
+					metadataReaders[i] = metadataReaderFactory.getMetadataReader(resources[i]);
+				}
+				catch (Exception ex) {
+					// Leave it to sequential processing to read again and to report the failure
+				}
+			}
+		})).join();
+		return metadataReaders;
+	}
+
+	private static boolean isCglibClass(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 
 	/**
 	 * Resolve the specified base package into a pattern specification for
@@ -580,7 +710,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 
 	/**
-	 * Clear the local metadata cache, if any, removing all cached class metadata.
+	 * Clear the local metadata cache, if any, removing all cached class metadata,
+	 * including metadata decoded from the component scan index.
 	 */
 	public void clearCache() {
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory cmrf) {
@@ -588,6 +719,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			// for a shared cache since it'll be cleared by the ApplicationContext.
 			cmrf.clearCache();
 		}
+		if (this.componentScanIndex != null) {
+			this.componentScanIndex.clearMetadataCache();
+		}
 	}
 
 }
@@ -54,6 +54,8 @@ class ComponentScanAnnotationParser {
 
 	private final BeanDefinitionRegistry registry;
 
+	private final Set<String> scannedBasePackages = new LinkedHashSet<>();
+
 
 	public ComponentScanAnnotationParser(Environment environment, ResourceLoader resourceLoader,
 			BeanNameGenerator beanNameGenerator, BeanDefinitionRegistry registry) {
@@ -125,7 +127,16 @@ class ComponentScanAnnotationParser {
 				return declaringClass.equals(className);
 			}
 		});
+		this.scannedBasePackages.addAll(basePackages);
 		return scanner.doScan(StringUtils.toStringArray(basePackages));
 	}
 
+	/**
+	 * Return the base packages scanned so far.
+	 * @since 7.0
+	 */
+	Set<String> getScannedBasePackages() {
+		return this.scannedBasePackages;
+	}
+
 }
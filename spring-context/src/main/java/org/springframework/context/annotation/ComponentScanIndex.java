@@ -0,0 +1,228 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderIndex;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Index of the candidate classes for component scanning, generated during AOT
+ * processing and used by {@link ClassPathScanningCandidateComponentProvider}
+ * on the JVM in order to avoid parsing class files.
+ *
+ * <p>In contrast to the stereotype-based {@code META-INF/spring.components}
+ * index, this index records the complete {@link AnnotationMetadata} of every
+ * class in the scanned packages, including its declared annotations with their
+ * attributes and its annotated methods. Type filters and conditions are
+ * therefore applied to the indexed metadata just like to scanned metadata,
+ * without any restriction on the kind of filters in use.
+ *
+ * @since 7.0
+ * @see MetadataReaderIndex
+ */
+final class ComponentScanIndex {
+
+	/**
+	 * The location of the index files. Can be present in multiple JAR files.
+	 */
+	static final String INDEX_LOCATION = "META-INF/spring/component-scan.idx";
+
+	/**
+	 * System property that instructs Spring to ignore the index, falling back
+	 * to regular classpath scanning. Shared with the components index.
+	 */
+	static final String IGNORE_INDEX_PROPERTY_NAME = "spring.index.ignore";
+
+	private static final boolean shouldIgnoreIndex = SpringProperties.getFlag(IGNORE_INDEX_PROPERTY_NAME);
+
+	private static final Log logger = LogFactory.getLog(ComponentScanIndex.class);
+
+	private static final ConcurrentMap<ClassLoader, ComponentScanIndex> cache = new ConcurrentReferenceHashMap<>();
+
+
+	private final List<Part> parts;
+
+
+	private ComponentScanIndex(List<Part> parts) {
+		this.parts = parts;
+	}
+
+
+	/**
+	 * Determine whether the given base package is covered by this index,
+	 * that is, whether it or one of its parent packages has been indexed.
+	 * @param basePackage the base package, in "."-based form
+	 */
+	boolean isIndexed(String basePackage) {
+		if (basePackage.contains("*") || basePackage.contains("?")) {
+			return false;
+		}
+		for (Part part : this.parts) {
+			for (String indexedPackage : part.basePackages()) {
+				if (isInPackage(basePackage, indexedPackage)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return metadata readers for all indexed classes in the given base package
+	 * and its subpackages.
+	 * @param basePackage the base package, in "."-based form
+	 */
+	List<MetadataReader> getMetadataReaders(String basePackage) {
+		Map<String, MetadataReader> metadataReaders = new LinkedHashMap<>();
+		for (Part part : this.parts) {
+			for (String className : part.index().getClassNames()) {
+				if (isInPackage(className, basePackage) && !metadataReaders.containsKey(className)) {
+					MetadataReader metadataReader = part.index().getMetadataReader(className);
+					if (metadataReader != null) {
+						metadataReaders.put(className, metadataReader);
+					}
+				}
+			}
+		}
+		return new ArrayList<>(metadataReaders.values());
+	}
+
+	/**
+	 * Clear the metadata readers that have been decoded from this index.
+	 */
+	void clearMetadataCache() {
+		for (Part part : this.parts) {
+			part.index().clearCache();
+		}
+	}
+
+	private static boolean isInPackage(String name, String packageName) {
+		return (packageName.isEmpty() || name.equals(packageName) ||
+				(name.startsWith(packageName) && name.charAt(packageName.length()) == '.'));
+	}
+
+
+	/**
+	 * Write an index for the given base packages.
+	 * @param basePackages the scanned base packages, in "."-based form
+	 * @param metadata the metadata of all classes in the given base packages
+	 * @param out the stream to write to (not closed by this method)
+	 * @throws IOException in case of I/O errors
+	 */
+	static void write(Collection<String> basePackages, Collection<? extends AnnotationMetadata> metadata,
+			OutputStream out) throws IOException {
+
+		DataOutputStream dataOut = new DataOutputStream(out);
+		dataOut.writeInt(basePackages.size());
+		for (String basePackage : basePackages) {
+			dataOut.writeUTF(basePackage);
+		}
+		MetadataReaderIndex.write(metadata, dataOut);
+		dataOut.flush();
+	}
+
+	/**
+	 * Load the index from {@value #INDEX_LOCATION}, using the given class loader.
+	 * @param classLoader the ClassLoader to use for loading (can be {@code null}
+	 * to use the default)
+	 * @return the index, or {@code null} if no index is available
+	 * @throws IllegalStateException if an index file cannot be read
+	 */
+	@Nullable
+	static ComponentScanIndex load(@Nullable ClassLoader classLoader) {
+		if (shouldIgnoreIndex) {
+			return null;
+		}
+		ClassLoader classLoaderToUse = classLoader;
+		if (classLoaderToUse == null) {
+			classLoaderToUse = ComponentScanIndex.class.getClassLoader();
+		}
+		return cache.computeIfAbsent(classLoaderToUse, ComponentScanIndex::doLoad);
+	}
+
+	/**
+	 * Clear the cache of loaded indexes, including their decoded metadata,
+	 * releasing their class loaders.
+	 */
+	static void clearCache() {
+		for (ComponentScanIndex index : cache.values()) {
+			if (index != null) {
+				index.clearMetadataCache();
+			}
+		}
+		cache.clear();
+	}
+
+	@Nullable
+	private static ComponentScanIndex doLoad(ClassLoader classLoader) {
+		try {
+			Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+			if (!urls.hasMoreElements()) {
+				return null;
+			}
+			List<Part> parts = new ArrayList<>();
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				try (InputStream in = url.openStream()) {
+					DataInputStream dataIn = new DataInputStream(in);
+					int count = dataIn.readInt();
+					Set<String> basePackages = new LinkedHashSet<>(count);
+					for (int i = 0; i < count; i++) {
+						basePackages.add(dataIn.readUTF());
+					}
+					parts.add(new Part(basePackages, MetadataReaderIndex.read(dataIn, classLoader)));
+				}
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded " + parts.size() + " component scan index(es)");
+			}
+			return new ComponentScanIndex(parts);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to load component scan index from location [" +
+					INDEX_LOCATION + "]", ex);
+		}
+	}
+
+
+	private record Part(Set<String> basePackages, MetadataReaderIndex index) {
+	}
+
+}
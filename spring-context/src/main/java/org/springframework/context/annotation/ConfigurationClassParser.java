@@ -224,6 +224,10 @@ class ConfigurationClassParser {
 				Collections.emptyList());
 	}
 
+	Set<String> getScannedBasePackages() {
+		return this.componentScanParser.getScannedBasePackages();
+	}
+
 	ImportRegistry getImportRegistry() {
 		return this.importStack;
 	}
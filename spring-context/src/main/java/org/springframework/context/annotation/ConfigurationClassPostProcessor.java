@@ -16,6 +16,8 @@
 
 package org.springframework.context.annotation;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
@@ -85,6 +87,7 @@ import org.springframework.core.PriorityOrdered;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
@@ -92,11 +95,14 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PropertySourceDescriptor;
 import org.springframework.core.io.support.PropertySourceProcessor;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
 import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.ClassFormatException;
+import org.springframework.core.type.classreading.MetadataReaderCache;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.javapoet.CodeBlock;
 import org.springframework.javapoet.CodeBlock.Builder;
@@ -184,6 +190,9 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	@Nullable
 	private List<PropertySourceDescriptor> propertySourceDescriptors;
 
+	@Nullable
+	private Set<String> scannedBasePackages;
+
 
 	@Override
 	public int getOrder() {
@@ -329,7 +338,8 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
 		boolean hasPropertySourceDescriptors = !CollectionUtils.isEmpty(this.propertySourceDescriptors);
 		boolean hasImportRegistry = beanFactory.containsBean(IMPORT_REGISTRY_BEAN_NAME);
-		if (hasPropertySourceDescriptors || hasImportRegistry) {
+		boolean hasScannedBasePackages = !CollectionUtils.isEmpty(this.scannedBasePackages);
+		if (hasPropertySourceDescriptors || hasImportRegistry || hasScannedBasePackages) {
 			return (generationContext, code) -> {
 				if (hasPropertySourceDescriptors) {
 					new PropertySourcesAotContribution(this.propertySourceDescriptors, this::resolvePropertySourceLocation)
@@ -338,6 +348,11 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 				if (hasImportRegistry) {
 					new ImportAwareAotContribution(beanFactory).applyTo(generationContext, code);
 				}
+				if (hasScannedBasePackages) {
+					new ComponentScanIndexAotContribution(this.scannedBasePackages,
+							ResourcePatternUtils.getResourcePatternResolver(this.resourceLoader),
+							this.metadataReaderFactory).applyTo(generationContext, code);
+				}
 			};
 		}
 		return null;
@@ -412,8 +427,12 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 
 		Set<BeanDefinitionHolder> candidates = new LinkedHashSet<>(configCandidates);
 		Set<ConfigurationClass> alreadyParsed = CollectionUtils.newHashSet(configCandidates.size());
+		MetadataReaderCache sharedCache = (this.metadataReaderFactory instanceof
+				CachingMetadataReaderFactory cachingFactory ? cachingFactory.getSharedCache() : null);
 		do {
 			StartupStep processConfig = this.applicationStartup.start("spring.context.config-classes.parse");
+			long cacheHitCount = (sharedCache != null ? sharedCache.getHitCount() : 0);
+			long cacheMissCount = (sharedCache != null ? sharedCache.getMissCount() : 0);
 			parser.parse(candidates);
 			parser.validate();
 
@@ -428,7 +447,12 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 			}
 			this.reader.loadBeanDefinitions(configClasses);
 			alreadyParsed.addAll(configClasses);
-			processConfig.tag("classCount", () -> String.valueOf(configClasses.size())).end();
+			processConfig.tag("classCount", () -> String.valueOf(configClasses.size()));
+			if (sharedCache != null) {
+				processConfig.tag("metadataReaderCache.hits", String.valueOf(sharedCache.getHitCount() - cacheHitCount));
+				processConfig.tag("metadataReaderCache.misses", String.valueOf(sharedCache.getMissCount() - cacheMissCount));
+			}
+			processConfig.end();
 
 			candidates.clear();
 			if (registry.getBeanDefinitionCount() > candidateNames.length) {
@@ -460,11 +484,16 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		// Store the PropertySourceDescriptors to contribute them Ahead-of-time if necessary
 		this.propertySourceDescriptors = parser.getPropertySourceDescriptors();
 
+		// Store the scanned base packages to index them Ahead-of-time if necessary
+		this.scannedBasePackages = parser.getScannedBasePackages();
+
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory cachingMetadataReaderFactory) {
 			// Clear cache in externally provided MetadataReaderFactory; this is a no-op
 			// for a shared cache since it'll be cleared by the ApplicationContext.
 			cachingMetadataReaderFactory.clearCache();
 		}
+		// Release the component scan indexes, which are only needed for parsing
+		ComponentScanIndex.clearCache();
 	}
 
 	/**
@@ -656,6 +685,87 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	}
 
 
+	private static class ComponentScanIndexAotContribution implements BeanFactoryInitializationAotContribution {
+
+		private final Log logger = LogFactory.getLog(getClass());
+
+		private final Set<String> basePackages;
+
+		private final ResourcePatternResolver resourcePatternResolver;
+
+		private final MetadataReaderFactory metadataReaderFactory;
+
+		ComponentScanIndexAotContribution(Set<String> basePackages, ResourcePatternResolver resourcePatternResolver,
+				MetadataReaderFactory metadataReaderFactory) {
+
+			this.basePackages = basePackages;
+			this.resourcePatternResolver = resourcePatternResolver;
+			this.metadataReaderFactory = metadataReaderFactory;
+		}
+
+		@Override
+		public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+			Set<String> indexedPackages = new LinkedHashSet<>();
+			Map<String, AnnotationMetadata> metadata = new LinkedHashMap<>();
+			for (String basePackage : this.basePackages) {
+				if (basePackage.contains("*") || basePackage.contains("?")) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Not indexing component scan with wildcard base package '" + basePackage + "'");
+					}
+					continue;
+				}
+				try {
+					addMetadata(basePackage, metadata);
+					indexedPackages.add(basePackage);
+				}
+				catch (IOException ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Not indexing component scan of base package '" + basePackage + "'", ex);
+					}
+				}
+			}
+			if (!indexedPackages.isEmpty()) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				try {
+					ComponentScanIndex.write(indexedPackages, metadata.values(), out);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+				generationContext.getGeneratedFiles().addResourceFile(
+						ComponentScanIndex.INDEX_LOCATION, new ByteArrayResource(out.toByteArray()));
+			}
+		}
+
+		private void addMetadata(String basePackage, Map<String, AnnotationMetadata> metadata) throws IOException {
+			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
+					ClassUtils.convertClassNameToResourcePath(basePackage) + '/' +
+					ClassPathScanningCandidateComponentProvider.DEFAULT_RESOURCE_PATTERN;
+			Map<String, AnnotationMetadata> packageMetadata = new LinkedHashMap<>();
+			for (Resource resource : this.resourcePatternResolver.getResources(packageSearchPath)) {
+				String filename = resource.getFilename();
+				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+					// Ignore CGLIB-generated classes in the classpath
+					continue;
+				}
+				try {
+					AnnotationMetadata classMetadata =
+							this.metadataReaderFactory.getMetadataReader(resource).getAnnotationMetadata();
+					packageMetadata.putIfAbsent(classMetadata.getClassName(), classMetadata);
+				}
+				catch (FileNotFoundException ex) {
+					// Non-readable class file: skip like classpath scanning does
+				}
+				catch (ClassFormatException ex) {
+					// A scan would fail or skip this class as well, so the package cannot be indexed
+					throw new IOException("Incompatible class format in " + resource, ex);
+				}
+			}
+			packageMetadata.forEach(metadata::putIfAbsent);
+		}
+	}
+
+
 	private static class PropertySourcesAotContribution implements BeanFactoryInitializationAotContribution {
 
 		private static final String ENVIRONMENT_VARIABLE = "environment";
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.context.event;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -35,6 +36,7 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.lang.Nullable;
@@ -42,6 +44,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Abstract implementation of the {@link ApplicationEventMulticaster} interface,
@@ -70,6 +73,10 @@ public abstract class AbstractApplicationEventMulticaster
 
 	final Map<ListenerCacheKey, CachedListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
 
+	final Map<Class<?>, Map<Class<?>, CachedListenerRetriever>> payloadRetrieverIndex = new ConcurrentHashMap<>(8);
+
+	private final boolean payloadRetrieverIndexApplicable = isPayloadRetrieverIndexApplicable(getClass());
+
 	@Nullable
 	private ClassLoader beanClassLoader;
 
@@ -101,6 +108,11 @@ public abstract class AbstractApplicationEventMulticaster
 		return this.beanFactory;
 	}
 
+	private void clearRetrieverCaches() {
+		this.retrieverCache.clear();
+		this.payloadRetrieverIndex.clear();
+	}
+
 
 	@Override
 	public void addApplicationListener(ApplicationListener<?> listener) {
@@ -112,7 +124,7 @@ public abstract class AbstractApplicationEventMulticaster
 				this.defaultRetriever.applicationListeners.remove(singletonTarget);
 			}
 			this.defaultRetriever.applicationListeners.add(listener);
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -120,7 +132,7 @@ public abstract class AbstractApplicationEventMulticaster
 	public void addApplicationListenerBean(String listenerBeanName) {
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListenerBeans.add(listenerBeanName);
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -128,7 +140,7 @@ public abstract class AbstractApplicationEventMulticaster
 	public void removeApplicationListener(ApplicationListener<?> listener) {
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListeners.remove(listener);
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -136,7 +148,7 @@ public abstract class AbstractApplicationEventMulticaster
 	public void removeApplicationListenerBean(String listenerBeanName) {
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListenerBeans.remove(listenerBeanName);
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -144,7 +156,7 @@ public abstract class AbstractApplicationEventMulticaster
 	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListeners.removeIf(predicate);
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -152,7 +164,7 @@ public abstract class AbstractApplicationEventMulticaster
 	public void removeApplicationListenerBeans(Predicate<String> predicate) {
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListenerBeans.removeIf(predicate);
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -161,7 +173,7 @@ public abstract class AbstractApplicationEventMulticaster
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListeners.clear();
 			this.defaultRetriever.applicationListenerBeans.clear();
-			this.retrieverCache.clear();
+			clearRetrieverCaches();
 		}
 	}
 
@@ -177,6 +189,61 @@ public abstract class AbstractApplicationEventMulticaster
 		}
 	}
 
+	/**
+	 * Return a Collection of ApplicationListeners matching the given event,
+	 * determining the event type from the event instance if necessary.
+	 * <p>For a {@link PayloadApplicationEvent} with a payload type inferred from
+	 * the payload instance, the listeners get looked up in an index by payload
+	 * class and source class, avoiding the resolution of the event type as well
+	 * as the allocation of a cache key once the event type has been seen before.
+	 * Matching listener instances are returned as a shared read-only collection
+	 * in such a case. The index gets rebuilt after any listener registration
+	 * change, along with the cache for
+	 * {@link #getApplicationListeners(ApplicationEvent, ResolvableType)}.
+	 * @param event the event to be propagated
+	 * @return a Collection of ApplicationListeners
+	 * @since 7.0
+	 * @see #getApplicationListeners(ApplicationEvent, ResolvableType)
+	 */
+	protected Collection<ApplicationListener<?>> getApplicationListeners(ApplicationEvent event) {
+		if (this.payloadRetrieverIndexApplicable && event.getClass() == PayloadApplicationEvent.class) {
+			PayloadApplicationEvent<?> payloadEvent = (PayloadApplicationEvent<?>) event;
+			Class<?> payloadClass = payloadEvent.getPayload().getClass();
+			Object source = event.getSource();
+			// Only for a payload type as inferred from the payload class, which is
+			// a shared instance as long as it is held in the ResolvableType cache
+			if (source != null && payloadEvent.getPayloadType() == ResolvableType.forClass(payloadClass)) {
+				Class<?> sourceType = source.getClass();
+				Map<Class<?>, CachedListenerRetriever> retrievers = this.payloadRetrieverIndex.get(sourceType);
+				CachedListenerRetriever retriever = (retrievers != null ? retrievers.get(payloadClass) : null);
+				if (retriever != null) {
+					Collection<ApplicationListener<?>> result = retriever.getSharedApplicationListeners();
+					if (result != null) {
+						return result;
+					}
+				}
+				else {
+					ResolvableType eventType = ResolvableType.forInstance(event);
+					Collection<ApplicationListener<?>> result = getApplicationListeners(event, eventType);
+					ListenerCacheKey cacheKey = new ListenerCacheKey(eventType, sourceType);
+					retriever = this.retrieverCache.get(cacheKey);
+					if (retriever != null) {
+						retrievers = this.payloadRetrieverIndex.computeIfAbsent(
+								sourceType, key -> new ConcurrentHashMap<>(64));
+						retrievers.putIfAbsent(payloadClass, retriever);
+						// A concurrent registration change may have cleared the caches
+						// in the meantime: do not keep a stale retriever in the index.
+						if (this.retrieverCache.get(cacheKey) != retriever) {
+							retrievers.remove(payloadClass, retriever);
+						}
+					}
+					return result;
+				}
+			}
+		}
+		return getApplicationListeners(event, ResolvableType.forInstance(event));
+	}
+
 	/**
 	 * Return a Collection of ApplicationListeners matching the given
 	 * event type. Non-matching listeners get excluded early.
@@ -327,6 +394,17 @@ public abstract class AbstractApplicationEventMulticaster
 		return allListeners;
 	}
 
+	/**
+	 * Determine whether the payload retriever index can be used for the given
+	 * multicaster class, that is, whether {@link #getApplicationListeners(ApplicationEvent, ResolvableType)}
+	 * has not been overridden.
+	 */
+	private static boolean isPayloadRetrieverIndexApplicable(Class<?> multicasterClass) {
+		Method method = ReflectionUtils.findMethod(multicasterClass, "getApplicationListeners",
+				ApplicationEvent.class, ResolvableType.class);
+		return (method != null && method.getDeclaringClass() == AbstractApplicationEventMulticaster.class);
+	}
+
 	/**
 	 * Filter a bean-defined listener early through checking its generically declared
 	 * event type before trying to instantiate it.
@@ -463,6 +541,35 @@ public abstract class AbstractApplicationEventMulticaster
 		@Nullable
 		public volatile Set<String> applicationListenerBeans;
 
+		@Nullable
+		private volatile List<ApplicationListener<?>> sharedApplicationListeners;
+
+		/**
+		 * Return the pre-filtered listeners as a shared read-only list if they
+		 * consist of listener instances only, falling back to
+		 * {@link #getApplicationListeners()} for listener beans to be retrieved
+		 * on every call.
+		 */
+		@Nullable
+		public Collection<ApplicationListener<?>> getSharedApplicationListeners() {
+			List<ApplicationListener<?>> sharedApplicationListeners = this.sharedApplicationListeners;
+			if (sharedApplicationListeners != null) {
+				return sharedApplicationListeners;
+			}
+			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
+			Set<String> applicationListenerBeans = this.applicationListenerBeans;
+			if (applicationListeners == null || applicationListenerBeans == null) {
+				// Not fully populated yet
+				return null;
+			}
+			if (!applicationListenerBeans.isEmpty()) {
+				return getApplicationListeners();
+			}
+			sharedApplicationListeners = List.copyOf(applicationListeners);
+			this.sharedApplicationListeners = sharedApplicationListeners;
+			return sharedApplicationListeners;
+		}
+
 		@Nullable
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
 			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
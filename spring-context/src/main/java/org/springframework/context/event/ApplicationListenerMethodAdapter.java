@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,6 +34,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.GeneratedAccessors;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.PayloadApplicationEvent;
@@ -84,6 +86,8 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 
 	private final Method targetMethod;
 
+	private final Class<?>[] parameterTypes;
+
 	private final AnnotatedElementKey methodKey;
 
 	private final List<ResolvableType> declaredEventTypes;
@@ -95,6 +99,11 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 
 	private final int order;
 
+	@Nullable
+	private final GeneratedAccessors.Holder<BiFunction<Object, Object[], Object>> generatedInvoker;
+
+	private boolean useGeneratedAccessors = GeneratedAccessors.isUsedByDefault();
+
 	@Nullable
 	private volatile String listenerId;
 
@@ -117,6 +126,7 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		this.targetMethod = (!Proxy.isProxyClass(targetClass) ?
 				AopUtils.getMostSpecificMethod(method, targetClass) : this.method);
 		this.methodKey = new AnnotatedElementKey(this.targetMethod, targetClass);
+		this.parameterTypes = this.method.getParameterTypes();
 
 		EventListener ann = AnnotatedElementUtils.findMergedAnnotation(this.targetMethod, EventListener.class);
 		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann);
@@ -125,6 +135,10 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		this.order = resolveOrder(this.targetMethod);
 		String id = (ann != null ? ann.id() : "");
 		this.listenerId = (!id.isEmpty() ? id : null);
+		Method methodToInvoke = this.method;
+		this.generatedInvoker = (!KotlinDetector.isSuspendingFunction(methodToInvoke) ?
+				new GeneratedAccessors.Holder<>(methodToInvoke, () -> GeneratedAccessors.generateInvoker(methodToInvoke)) :
+				null);
 	}
 
 	private static List<ResolvableType> resolveDeclaredEventTypes(Method method, @Nullable EventListener ann) {
@@ -158,6 +172,20 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	}
 
 
+	/**
+	 * Set whether to use a {@linkplain GeneratedAccessors generated invoker}
+	 * instead of reflection for invoking the listener method. The invoker gets
+	 * generated on the second invocation of the listener method, falling back
+	 * to reflection if it cannot be generated.
+	 * <p>Default is "false", unless the
+	 * {@value GeneratedAccessors#GENERATED_ACCESSORS_PROPERTY_NAME}
+	 * property is set.
+	 * @since 7.0
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+		this.useGeneratedAccessors = useGeneratedAccessors;
+	}
+
 	/**
 	 * Initialize this instance.
 	 */
@@ -374,6 +402,21 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			return null;
 		}
 
+		BiFunction<Object, Object[], Object> invoker = getGeneratedInvoker(bean, args);
+		if (invoker != null) {
+			try {
+				return invoker.apply(bean, args);
+			}
+			catch (RuntimeException ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				// Same as for an undeclared exception thrown by a reflectively invoked method
+				String msg = getInvocationErrorMessage(bean, "Failed to invoke event listener method", args);
+				throw new UndeclaredThrowableException(ex, msg);
+			}
+		}
+
 		ReflectionUtils.makeAccessible(this.method);
 		try {
 			if (KotlinDetector.isSuspendingFunction(this.method)) {
@@ -401,6 +444,28 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		}
 	}
 
+	/**
+	 * Return the generated invoker for the given target bean and arguments,
+	 * if applicable. Falls back to reflection for arguments that do not match
+	 * the method signature, in order to report them in the same way.
+	 */
+	@Nullable
+	private BiFunction<Object, Object[], Object> getGeneratedInvoker(Object bean, @Nullable Object[] args) {
+		if (!this.useGeneratedAccessors || this.generatedInvoker == null || args == null ||
+				!this.method.getDeclaringClass().isInstance(bean)) {
+			return null;
+		}
+		if (args.length != this.parameterTypes.length) {
+			return null;
+		}
+		for (int i = 0; i < args.length; i++) {
+			if (!ClassUtils.isAssignableValue(this.parameterTypes[i], args[i])) {
+				return null;
+			}
+		}
+		return this.generatedInvoker.get();
+	}
+
 	/**
 	 * Return the target bean instance to use.
 	 */
@@ -428,6 +493,13 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		return this.condition;
 	}
 
+	/**
+	 * Return the key of the listener method, as used for evaluating its condition.
+	 */
+	AnnotatedElementKey getMethodKey() {
+		return this.methodKey;
+	}
+
 	/**
 	 * Add additional details such as the bean type and method signature to
 	 * the given error message.
@@ -480,7 +552,11 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	@Nullable
 	private ResolvableType getResolvableType(ApplicationEvent event) {
 		ResolvableType payloadType = null;
-		if (event instanceof PayloadApplicationEvent<?> payloadEvent) {
+		if (event.getClass() == PayloadApplicationEvent.class) {
+			// Plain payload event: no need to build the generic event type
+			payloadType = ((PayloadApplicationEvent<?>) event).getPayloadType();
+		}
+		else if (event instanceof PayloadApplicationEvent<?> payloadEvent) {
 			ResolvableType eventType = payloadEvent.getResolvableType();
 			if (eventType != null) {
 				payloadType = eventType.as(PayloadApplicationEvent.class).getGeneric();
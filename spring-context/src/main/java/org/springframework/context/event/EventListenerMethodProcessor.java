@@ -39,16 +39,19 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.ExpressionRegistry;
 import org.springframework.core.MethodIntrospector;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.expression.ParseException;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Registers {@link EventListener} methods as individual {@link ApplicationListener} instances.
@@ -112,6 +115,10 @@ public class EventListenerMethodProcessor
 	public void afterSingletonsInstantiated() {
 		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
 		Assert.state(beanFactory != null, "No ConfigurableListableBeanFactory set");
+		if (this.evaluator != null) {
+			this.evaluator.setExpressionRegistry(
+					beanFactory.getBeanProvider(ExpressionRegistry.class).getIfUnique());
+		}
 		String[] beanNames = beanFactory.getBeanNamesForType(Object.class);
 		for (String beanName : beanNames) {
 			if (!ScopedProxyUtils.isScopedTarget(beanName)) {
@@ -191,6 +198,7 @@ public class EventListenerMethodProcessor
 									factory.createApplicationListener(beanName, targetType, methodToUse);
 							if (applicationListener instanceof ApplicationListenerMethodAdapter alma) {
 								alma.init(context, this.evaluator);
+								registerCondition(alma);
 							}
 							context.addApplicationListener(applicationListener);
 							break;
@@ -205,6 +213,26 @@ public class EventListenerMethodProcessor
 		}
 	}
 
+	/**
+	 * Parse the condition of the given listener upfront if a shared
+	 * {@link ExpressionRegistry} is in use.
+	 */
+	private void registerCondition(ApplicationListenerMethodAdapter listener) {
+		ExpressionRegistry expressionRegistry = (this.evaluator != null ? this.evaluator.getExpressionRegistry() : null);
+		String condition = listener.getCondition();
+		if (expressionRegistry != null && StringUtils.hasText(condition)) {
+			try {
+				expressionRegistry.register(listener.getMethodKey(), condition);
+			}
+			catch (ParseException ex) {
+				// Let it fail on evaluation, as without a registry.
+				if (logger.isDebugEnabled()) {
+					logger.debug("Could not parse @EventListener condition \"" + condition + "\"", ex);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Determine whether the given class is an {@code org.springframework}
 	 * bean class that is not annotated as a user or test {@link Component}...
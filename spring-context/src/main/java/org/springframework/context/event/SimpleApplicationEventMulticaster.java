@@ -16,6 +16,7 @@
 
 package org.springframework.context.event;
 
+import java.util.Collection;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -140,9 +141,10 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 
 	@Override
 	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
-		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
+		Collection<ApplicationListener<?>> listeners = (eventType != null ?
+				getApplicationListeners(event, eventType) : getApplicationListeners(event));
 		Executor executor = getTaskExecutor();
-		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+		for (ApplicationListener<?> listener : listeners) {
 			if (executor != null && listener.supportsAsyncExecution()) {
 				try {
 					executor.execute(() -> invokeListener(listener, event));
@@ -39,6 +39,9 @@ public abstract class CachedExpressionEvaluator {
 
 	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
+	@Nullable
+	private ExpressionRegistry expressionRegistry;
+
 
 	/**
 	 * Create a new instance with the default {@link SpelExpressionParser}.
@@ -56,6 +59,26 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 
+	/**
+	 * Specify a shared {@link ExpressionRegistry} to obtain expressions from,
+	 * instead of parsing and caching them in this evaluator.
+	 * <p>Note that {@link #parseExpression(String)} and the parser of this
+	 * evaluator do not get used in that case.
+	 * @since 7.0
+	 */
+	public void setExpressionRegistry(@Nullable ExpressionRegistry expressionRegistry) {
+		this.expressionRegistry = expressionRegistry;
+	}
+
+	/**
+	 * Return the shared {@link ExpressionRegistry} to obtain expressions from, if any.
+	 * @since 7.0
+	 */
+	@Nullable
+	public ExpressionRegistry getExpressionRegistry() {
+		return this.expressionRegistry;
+	}
+
 	/**
 	 * Return the {@link SpelExpressionParser} to use.
 	 */
@@ -74,7 +97,8 @@ public abstract class CachedExpressionEvaluator {
 	/**
 	 * Return the parsed {@link Expression} for the specified SpEL expression.
 	 * <p>{@linkplain #parseExpression(String) Parses} the expression if it hasn't
-	 * already been parsed and cached.
+	 * already been parsed and cached, or obtains it from the
+	 * {@linkplain #setExpressionRegistry shared registry} if specified.
 	 * @param cache the cache to use
 	 * @param elementKey the {@code AnnotatedElementKey} containing the element
 	 * on which the expression is defined
@@ -83,6 +107,10 @@ public abstract class CachedExpressionEvaluator {
 	protected Expression getExpression(Map<ExpressionKey, Expression> cache,
 			AnnotatedElementKey elementKey, String expression) {
 
+		ExpressionRegistry expressionRegistry = this.expressionRegistry;
+		if (expressionRegistry != null) {
+			return expressionRegistry.getExpression(elementKey, expression);
+		}
 		ExpressionKey expressionKey = createKey(elementKey, expression);
 		return cache.computeIfAbsent(expressionKey, key -> parseExpression(expression));
 	}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.expression.CachedExpressionEvaluator.ExpressionKey;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of parsed SpEL expressions, shared across components that evaluate
+ * annotation-declared expressions such as {@code @Cacheable} keys and
+ * {@code @EventListener} conditions.
+ *
+ * <p>Each distinct expression string is parsed once, and the resulting
+ * {@link Expression} instance is shared by all elements declaring that
+ * expression string, along with its compilation state. The registry only
+ * keeps track of which expression each element refers to on top of that.
+ *
+ * <p>Unless the {@linkplain SpelCompilerMode compiler mode} is
+ * {@link SpelCompilerMode#OFF OFF}, expressions get compiled as soon as they
+ * have been evaluated once, rather than after the compiler's interpretation
+ * threshold has been reached on a request thread. Compilation happens on the
+ * {@linkplain #setCompilationExecutor compilation executor} if specified, falling
+ * back to the bean factory's {@linkplain ConfigurableBeanFactory#getBootstrapExecutor()
+ * bootstrap executor} or to the calling thread otherwise. Since a compiled
+ * expression is specialized for the types seen when it got compiled, and since
+ * a shared expression may be evaluated against different types, e.g. for the
+ * same {@code @EventListener} condition on different event types, the default
+ * compiler mode is {@link SpelCompilerMode#MIXED MIXED}: a compiled expression
+ * that fails for other types reverts to interpreted mode and gets recompiled
+ * later on. {@link SpelCompilerMode#IMMEDIATE IMMEDIATE} mode is only safe if
+ * each expression string is only ever evaluated against the same types.
+ *
+ * <p>Declare a single bean of this type in order to have it picked up by
+ * {@link org.springframework.context.event.EventListenerMethodProcessor} and
+ * {@link org.springframework.cache.interceptor.CacheAspectSupport}, with
+ * {@code @EventListener} conditions getting parsed at context refresh.
+ *
+ * @since 7.0
+ * @see CachedExpressionEvaluator#setExpressionRegistry
+ */
+public class ExpressionRegistry implements BeanFactoryAware {
+
+	private static final Log logger = LogFactory.getLog(ExpressionRegistry.class);
+
+	private final SpelExpressionParser parser;
+
+	private final SpelCompilerMode compilerMode;
+
+	@Nullable
+	private Executor compilationExecutor;
+
+	private final Map<String, RegisteredExpression> expressions = new ConcurrentHashMap<>(256);
+
+	private final Map<ExpressionKey, RegisteredExpression> elementExpressions = new ConcurrentHashMap<>(256);
+
+	private final LongAdder interpretedHits = new LongAdder();
+
+	private final LongAdder compiledHits = new LongAdder();
+
+
+	/**
+	 * Create a new {@code ExpressionRegistry} with a default
+	 * {@link SpelParserConfiguration} in {@link SpelCompilerMode#MIXED MIXED}
+	 * compiler mode.
+	 */
+	public ExpressionRegistry() {
+		this(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+	}
+
+	/**
+	 * Create a new {@code ExpressionRegistry} for the given parser configuration.
+	 * <p>Note that expressions do not get compiled unless the configuration
+	 * specifies a compiler mode other than {@link SpelCompilerMode#OFF OFF}.
+	 * @param configuration the configuration to parse expressions with
+	 */
+	public ExpressionRegistry(SpelParserConfiguration configuration) {
+		Assert.notNull(configuration, "SpelParserConfiguration must not be null");
+		this.parser = new SpelExpressionParser(configuration);
+		this.compilerMode = configuration.getCompilerMode();
+	}
+
+
+	/**
+	 * Specify the executor to compile expressions on.
+	 * <p>By default, the bootstrap executor of the containing bean factory gets
+	 * used if available, with compilation happening on the calling thread otherwise.
+	 */
+	public void setCompilationExecutor(@Nullable Executor compilationExecutor) {
+		this.compilationExecutor = compilationExecutor;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		if (this.compilationExecutor == null && beanFactory instanceof ConfigurableBeanFactory cbf) {
+			this.compilationExecutor = cbf.getBootstrapExecutor();
+		}
+	}
+
+
+	/**
+	 * Parse and register the given expression, without counting as a use.
+	 * <p>Intended for pre-warming the registry with known expressions.
+	 * @param elementKey the element on which the expression is defined
+	 * @param expression the expression string
+	 * @return the shared parsed expression
+	 */
+	public Expression register(AnnotatedElementKey elementKey, String expression) {
+		return getRegisteredExpression(elementKey, expression).expression;
+	}
+
+	/**
+	 * Return the shared parsed expression for the given expression string,
+	 * parsing it if necessary.
+	 * <p>Each call counts as a use of the expression that is about to be
+	 * evaluated, triggering compilation once the expression has been
+	 * evaluated before.
+	 * @param elementKey the element on which the expression is defined
+	 * @param expression the expression string
+	 * @return the shared parsed expression
+	 */
+	public Expression getExpression(AnnotatedElementKey elementKey, String expression) {
+		RegisteredExpression registered = getRegisteredExpression(elementKey, expression);
+		if (registered.isCompiled()) {
+			this.compiledHits.increment();
+		}
+		else {
+			this.interpretedHits.increment();
+			registered.compileIfNecessary();
+		}
+		return registered.expression;
+	}
+
+	private RegisteredExpression getRegisteredExpression(AnnotatedElementKey elementKey, String expression) {
+		ExpressionKey expressionKey = new ExpressionKey(elementKey, expression);
+		RegisteredExpression registered = this.elementExpressions.get(expressionKey);
+		if (registered == null) {
+			registered = this.expressions.computeIfAbsent(expression,
+					key -> new RegisteredExpression(this.parser.parseExpression(key)));
+			this.elementExpressions.putIfAbsent(expressionKey, registered);
+		}
+		return registered;
+	}
+
+	/**
+	 * Return the number of registered expressions, i.e. distinct expression strings.
+	 */
+	public int getExpressionCount() {
+		return this.expressions.size();
+	}
+
+	/**
+	 * Return the number of element and expression string combinations
+	 * that the registered expressions have been obtained for.
+	 */
+	public int getElementCount() {
+		return this.elementExpressions.size();
+	}
+
+	/**
+	 * Return the number of registered expressions currently in compiled form.
+	 */
+	public int getCompiledExpressionCount() {
+		int count = 0;
+		for (RegisteredExpression registered : this.expressions.values()) {
+			if (registered.isCompiled()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the number of {@linkplain #getExpression uses} of an expression
+	 * that was not compiled at that point.
+	 */
+	public long getInterpretedHitCount() {
+		return this.interpretedHits.sum();
+	}
+
+	/**
+	 * Return the number of {@linkplain #getExpression uses} of an expression
+	 * that was compiled at that point.
+	 */
+	public long getCompiledHitCount() {
+		return this.compiledHits.sum();
+	}
+
+	/**
+	 * Remove all registered expressions and reset the hit counts.
+	 */
+	public void clear() {
+		this.elementExpressions.clear();
+		this.expressions.clear();
+		this.interpretedHits.reset();
+		this.compiledHits.reset();
+	}
+
+
+	/**
+	 * Holder for a parsed expression along with its compilation state.
+	 */
+	private final class RegisteredExpression {
+
+		final Expression expression;
+
+		private final AtomicInteger uses = new AtomicInteger();
+
+		private final AtomicBoolean compilationPending = new AtomicBoolean();
+
+		RegisteredExpression(Expression expression) {
+			this.expression = expression;
+		}
+
+		boolean isCompiled() {
+			return (this.expression instanceof SpelExpression spelExpression && spelExpression.isCompiled());
+		}
+
+		void compileIfNecessary() {
+			if (compilerMode == SpelCompilerMode.OFF ||
+					!(this.expression instanceof SpelExpression spelExpression)) {
+				return;
+			}
+			// Try after the first evaluation, backing off exponentially for
+			// expressions that cannot be compiled (yet).
+			int uses = this.uses.incrementAndGet();
+			if (uses < 2 || Integer.bitCount(uses) != 1 || !this.compilationPending.compareAndSet(false, true)) {
+				return;
+			}
+			Executor executor = compilationExecutor;
+			if (executor != null) {
+				try {
+					executor.execute(() -> compile(spelExpression));
+				}
+				catch (RuntimeException ex) {
+					this.compilationPending.set(false);
+					if (logger.isDebugEnabled()) {
+						logger.debug("Could not schedule compilation of expression \"" +
+								spelExpression.getExpressionString() + "\"", ex);
+					}
+				}
+			}
+			else {
+				compile(spelExpression);
+			}
+		}
+
+		private void compile(SpelExpression spelExpression) {
+			try {
+				spelExpression.compileExpression();
+			}
+			catch (RuntimeException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to compile expression \"" + spelExpression.getExpressionString() + "\"", ex);
+				}
+			}
+			finally {
+				this.compilationPending.set(false);
+			}
+		}
+	}
+
+}
@@ -438,8 +438,9 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 			applicationEvent = new PayloadApplicationEvent<>(this, event, payloadType);
 		}
 
-		// Determine event type only once (for multicast and parent publish)
-		if (eventType == null) {
+		// Determine event type only once (for multicast and parent publish),
+		// leaving it up to the multicaster for a payload event of inferred type
+		if (eventType == null && (applicationEvent == event || typeHint != null)) {
 			eventType = ResolvableType.forInstance(applicationEvent);
 			if (typeHint == null) {
 				typeHint = eventType;
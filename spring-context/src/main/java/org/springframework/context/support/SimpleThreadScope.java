@@ -71,6 +71,12 @@ public class SimpleThreadScope implements Scope {
 		return scopedObject;
 	}
 
+	@Override
+	@Nullable
+	public Object getIfPresent(String name) {
+		return this.threadScope.get().get(name);
+	}
+
 	@Override
 	@Nullable
 	public Object remove(String name) {
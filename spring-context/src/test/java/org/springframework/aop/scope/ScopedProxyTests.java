@@ -20,11 +20,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
@@ -84,6 +88,40 @@ class ScopedProxyTests {
 		assertThat(scope.getMap().get("scopedTarget.testBean")).isExactlyInstanceOf(TestBean.class);
 	}
 
+	@Test
+	void scopedProxyWithFrozenConfiguration() {
+		GenericApplicationContext ctx = new GenericApplicationContext();
+		RootBeanDefinition targetDefinition = new RootBeanDefinition(TestBean.class);
+		targetDefinition.setScope("request");
+		BeanDefinitionHolder proxyHolder = ScopedProxyUtils.createScopedProxy(
+				new BeanDefinitionHolder(targetDefinition, "testBean"), ctx, false);
+		ctx.registerBeanDefinition(proxyHolder.getBeanName(), proxyHolder.getBeanDefinition());
+		String targetBeanName = ScopedProxyUtils.getTargetBeanName("testBean");
+		AtomicInteger getCount = new AtomicInteger();
+		SimpleMapScope scope = new SimpleMapScope() {
+			@Override
+			public Object get(String name, ObjectFactory<?> objectFactory) {
+				getCount.incrementAndGet();
+				return super.get(name, objectFactory);
+			}
+		};
+		ctx.getBeanFactory().registerScope("request", scope);
+		ctx.refresh();
+
+		ITestBean bean = ctx.getBean("testBean", ITestBean.class);
+		bean.setAge(101);
+		assertThat(bean.getAge()).isEqualTo(101);
+		assertThat(bean.getAge()).isEqualTo(101);
+		assertThat(getCount).hasValue(1);
+		assertThat(scope.getMap()).containsKey(targetBeanName);
+
+		((ScopedObject) bean).removeFromScope();
+		assertThat(scope.getMap()).doesNotContainKey(targetBeanName);
+		assertThat(bean.getAge()).isZero();
+		assertThat(getCount).hasValue(2);
+		ctx.close();
+	}
+
 	@Test
 	void jdkScopedProxy() throws Exception {
 		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
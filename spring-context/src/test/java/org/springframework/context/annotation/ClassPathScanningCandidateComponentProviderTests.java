@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -132,6 +133,28 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, "example", true, true, true);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			provider.setForkJoinPool(forkJoinPool);
+			testDefault(provider, TEST_BASE_PACKAGE, true, true, false);
+
+			ClassPathScanningCandidateComponentProvider sequentialProvider = new ClassPathScanningCandidateComponentProvider(true);
+			sequentialProvider.setResourceLoader(new DefaultResourceLoader(
+					CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+			assertThat(provider.findCandidateComponents(TEST_BASE_PACKAGE)).extracting(BeanDefinition::getBeanClassName)
+					.containsExactlyElementsOf(sequentialProvider.findCandidateComponents(TEST_BASE_PACKAGE).stream()
+							.map(BeanDefinition::getBeanClassName).toList());
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
 	private void testDefault(ClassPathScanningCandidateComponentProvider provider, String basePackage,
 			boolean includeScannedJakartaComponents, boolean includeScannedJavaxComponents, boolean includeIndexedComponents) {
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import example.scannable.FooServiceImpl;
+import example.scannable.sub.BarComponent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ComponentScanIndex} and its use in
+ * {@link ClassPathScanningCandidateComponentProvider}.
+ */
+class ComponentScanIndexTests {
+
+	private static final String TEST_BASE_PACKAGE = "example.scannable";
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void indexCoversSubpackages() throws IOException {
+		ComponentScanIndex index = ComponentScanIndex.load(createIndex(TEST_BASE_PACKAGE));
+		assertThat(index).isNotNull();
+		assertThat(index.isIndexed(TEST_BASE_PACKAGE)).isTrue();
+		assertThat(index.isIndexed(TEST_BASE_PACKAGE + ".sub")).isTrue();
+		assertThat(index.isIndexed("example")).isFalse();
+		assertThat(index.isIndexed(TEST_BASE_PACKAGE + "2")).isFalse();
+		assertThat(index.isIndexed("example.*")).isFalse();
+		assertThat(index.getMetadataReaders(TEST_BASE_PACKAGE + ".sub")).extracting(
+				metadataReader -> metadataReader.getClassMetadata().getClassName()).contains(BarComponent.class.getName());
+	}
+
+	@Test
+	void indexIsLoadedAgainAfterClearCache() throws IOException {
+		ClassLoader classLoader = createIndex(TEST_BASE_PACKAGE);
+		ComponentScanIndex index = ComponentScanIndex.load(classLoader);
+		assertThat(ComponentScanIndex.load(classLoader)).isSameAs(index);
+		ComponentScanIndex.clearCache();
+		ComponentScanIndex reloaded = ComponentScanIndex.load(classLoader);
+		assertThat(reloaded).isNotNull().isNotSameAs(index);
+		assertThat(reloaded.isIndexed(TEST_BASE_PACKAGE)).isTrue();
+	}
+
+	@Test
+	void noIndexAvailable() {
+		assertThat(ComponentScanIndex.load(new IndexClassLoader(getClass().getClassLoader(), null))).isNull();
+	}
+
+	@Test
+	void defaultsWithIndex() throws IOException {
+		assertSameCandidates(createIndex(TEST_BASE_PACKAGE), TEST_BASE_PACKAGE, provider -> {});
+	}
+
+	@Test
+	void profilesWithIndex() throws IOException {
+		assertSameCandidates(createIndex("example.profilescan"), "example.profilescan", provider -> {
+			StandardEnvironment environment = new StandardEnvironment();
+			environment.setActiveProfiles("dev");
+			provider.setEnvironment(environment);
+		});
+	}
+
+	@Test
+	void customFiltersWithIndex() throws IOException {
+		assertSameCandidates(createIndex(TEST_BASE_PACKAGE), TEST_BASE_PACKAGE, provider -> {
+			provider.resetFilters(false);
+			provider.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*Foo.*")));
+			provider.addExcludeFilter(new AnnotationTypeFilter(Service.class));
+		});
+	}
+
+	@Test
+	void candidatesFromIndexUseClassPathResource() throws IOException {
+		ClassPathScanningCandidateComponentProvider provider = createProvider(createIndex(TEST_BASE_PACKAGE));
+		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
+		assertThat(candidates).extracting(BeanDefinition::getBeanClassName).contains(FooServiceImpl.class.getName());
+		assertThat(candidates).allSatisfy(candidate -> {
+			assertThat(candidate).isInstanceOf(ScannedGenericBeanDefinition.class);
+			assertThat(((ScannedGenericBeanDefinition) candidate).getSource()).isInstanceOf(ClassPathResource.class);
+		});
+	}
+
+	@Test
+	void unindexedPackageIsScanned() throws IOException {
+		ClassPathScanningCandidateComponentProvider provider = createProvider(createIndex(TEST_BASE_PACKAGE + ".sub"));
+		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
+		assertThat(candidates).extracting(BeanDefinition::getBeanClassName).contains(
+				FooServiceImpl.class.getName(), BarComponent.class.getName());
+		assertThat(candidates).noneSatisfy(candidate ->
+				assertThat(((ScannedGenericBeanDefinition) candidate).getSource()).isInstanceOf(ClassPathResource.class));
+	}
+
+	@Test
+	void customResourcePatternIsScanned() throws IOException {
+		ClassPathScanningCandidateComponentProvider provider = createProvider(createIndex(TEST_BASE_PACKAGE));
+		provider.setResourcePattern("*.class");
+		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
+		assertThat(candidates).extracting(BeanDefinition::getBeanClassName).doesNotContain(BarComponent.class.getName());
+	}
+
+
+	private void assertSameCandidates(ClassLoader classLoader, String basePackage,
+			Consumer<ClassPathScanningCandidateComponentProvider> customizer) {
+
+		ClassPathScanningCandidateComponentProvider scanProvider = createProvider(
+				new IndexClassLoader(getClass().getClassLoader(), null));
+		customizer.accept(scanProvider);
+		ClassPathScanningCandidateComponentProvider indexProvider = createProvider(classLoader);
+		customizer.accept(indexProvider);
+
+		List<String> scanned = getBeanClassNames(scanProvider.findCandidateComponents(basePackage));
+		List<String> indexed = getBeanClassNames(indexProvider.findCandidateComponents(basePackage));
+		assertThat(scanned).isNotEmpty();
+		assertThat(indexed).isEqualTo(scanned);
+	}
+
+	private List<String> getBeanClassNames(Set<BeanDefinition> candidates) {
+		return candidates.stream().map(BeanDefinition::getBeanClassName).sorted().toList();
+	}
+
+	private ClassPathScanningCandidateComponentProvider createProvider(ClassLoader classLoader) {
+		ClassPathScanningCandidateComponentProvider provider =
+				new ClassPathScanningCandidateComponentProvider(true, new StandardEnvironment());
+		provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+		return provider;
+	}
+
+	private ClassLoader createIndex(String basePackage) throws IOException {
+		ClassLoader classLoader = getClass().getClassLoader();
+		SimpleMetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(classLoader);
+		List<AnnotationMetadata> metadata = new ArrayList<>();
+		for (Resource resource : new PathMatchingResourcePatternResolver(classLoader).getResources(
+				"classpath*:" + basePackage.replace('.', '/') + "/**/*.class")) {
+			metadata.add(metadataReaderFactory.getMetadataReader(resource).getAnnotationMetadata());
+		}
+		Path indexFile = this.tempDir.resolve("component-scan.idx");
+		try (OutputStream out = Files.newOutputStream(indexFile)) {
+			ComponentScanIndex.write(List.of(basePackage), metadata, out);
+		}
+		return new IndexClassLoader(classLoader, indexFile.toUri().toURL());
+	}
+
+
+	private static class IndexClassLoader extends ClassLoader {
+
+		private final List<URL> indexUrls;
+
+		IndexClassLoader(ClassLoader parent, @Nullable URL indexUrl) {
+			super(parent);
+			this.indexUrls = (indexUrl != null ? List.of(indexUrl) : Collections.emptyList());
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if (ComponentScanIndex.INDEX_LOCATION.equals(name)) {
+				return Collections.enumeration(this.indexUrls);
+			}
+			return super.getResources(name);
+		}
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.context.annotation;
 
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -25,9 +28,11 @@ import java.util.function.Predicate;
 import javax.lang.model.element.Modifier;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
+import example.scannable.sub.BarComponent;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.aot.generate.GeneratedFiles.Kind;
 import org.springframework.aot.generate.MethodReference;
 import org.springframework.aot.generate.MethodReference.ArgumentCodeGenerator;
 import org.springframework.aot.hint.MemberCategory;
@@ -53,15 +58,18 @@ import org.springframework.context.testfixture.context.annotation.SimpleConfigur
 import org.springframework.context.testfixture.context.generator.SimpleComponent;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.DefaultPropertySourceFactory;
 import org.springframework.core.test.tools.Compiled;
 import org.springframework.core.test.tools.TestCompiler;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReaderIndex;
 import org.springframework.javapoet.CodeBlock;
 import org.springframework.javapoet.MethodSpec;
 import org.springframework.javapoet.ParameterizedTypeName;
 import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -414,6 +422,49 @@ class ConfigurationClassPostProcessorAotContributionTests {
 	}
 
 
+	@Nested
+	class ComponentScanTests {
+
+		@Test
+		void applyToWhenHasComponentScanWritesIndex() throws IOException {
+			BeanFactoryInitializationAotContribution contribution = getContribution(ComponentScanConfiguration.class);
+			contribution.applyTo(generationContext, beanFactoryInitializationCode);
+			InputStreamSource index = generationContext.getGeneratedFiles()
+					.getGeneratedFile(Kind.RESOURCE, ComponentScanIndex.INDEX_LOCATION);
+			assertThat(index).isNotNull();
+			MetadataReaderIndex metadataReaderIndex;
+			try (InputStream in = index.getInputStream()) {
+				DataInputStream dataIn = new DataInputStream(in);
+				assertThat(dataIn.readInt()).isEqualTo(1);
+				assertThat(dataIn.readUTF()).isEqualTo("example.scannable.sub");
+				metadataReaderIndex = MetadataReaderIndex.read(dataIn, getClass().getClassLoader());
+			}
+			assertThat(metadataReaderIndex.getClassNames()).contains(BarComponent.class.getName());
+			assertThat(metadataReaderIndex.getMetadataReader(BarComponent.class.getName())
+					.getAnnotationMetadata().hasAnnotation(Component.class.getName())).isTrue();
+		}
+
+		@Test
+		void applyToWhenHasWildcardComponentScanDoesNotWriteIndex() {
+			BeanFactoryInitializationAotContribution contribution = getContribution(
+					WildcardComponentScanConfiguration.class);
+			contribution.applyTo(generationContext, beanFactoryInitializationCode);
+			assertThat(generationContext.getGeneratedFiles()
+					.getGeneratedFile(Kind.RESOURCE, ComponentScanIndex.INDEX_LOCATION)).isNull();
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ComponentScan("example.scannable.sub")
+		static class ComponentScanConfiguration {
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ComponentScan("example.*.sub")
+		static class WildcardComponentScanConfiguration {
+		}
+	}
+
+
 	@Nested
 	class ConfigurationClassProxyTests {
 
@@ -369,6 +369,34 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		context.close();
 	}
 
+	@Test
+	void listenersInApplicationContextWithIndexedPayloadEvents() {
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.registerBeanDefinition("listener", new RootBeanDefinition(MyPayloadListener.class));
+		context.refresh();
+
+		MyPayloadListener listener = context.getBean("listener", MyPayloadListener.class);
+		context.publishEvent("event1");
+		context.publishEvent("event2");
+		context.publishEvent(3);
+		context.publishEvent(new PayloadApplicationEvent<>(context, "event4", ResolvableType.forClass(Object.class)));
+		assertThat(listener.seenPayloads).contains("event1", "event2", 3, "event4");
+
+		AbstractApplicationEventMulticaster multicaster = context.getBean(AbstractApplicationEventMulticaster.class);
+		assertThat(multicaster.payloadRetrieverIndex).containsOnlyKeys(StaticApplicationContext.class);
+		assertThat(multicaster.payloadRetrieverIndex.get(StaticApplicationContext.class))
+				.containsOnlyKeys(String.class, Integer.class);
+
+		MyPayloadListener otherListener = new MyPayloadListener();
+		context.addApplicationListener(otherListener);
+		assertThat(multicaster.payloadRetrieverIndex).isEmpty();
+		context.publishEvent("event5");
+		assertThat(listener.seenPayloads).contains("event5");
+		assertThat(otherListener.seenPayloads).containsExactly("event5");
+
+		context.close();
+	}
+
 	@Test
 	void listenersInApplicationContextWithNestedChild() {
 		StaticApplicationContext context = new StaticApplicationContext();
@@ -252,6 +252,32 @@ class ApplicationListenerMethodAdapterTests extends AbstractApplicationEventList
 			.withCauseInstanceOf(IOException.class);
 	}
 
+	@Test
+	void invokeListenerWithGeneratedInvoker() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleString", String.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		adapter.setUseGeneratedAccessors(true);
+		for (int i = 0; i < 3; i++) {
+			adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "test"));
+		}
+		verify(this.sampleEvents, times(3)).handleString("test");
+	}
+
+	@Test
+	void invokeListenerCheckedExceptionWithGeneratedInvoker() {
+		Method method = ReflectionUtils.findMethod(
+				SampleEvents.class, "generateCheckedException", GenericTestEvent.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		adapter.setUseGeneratedAccessors(true);
+		GenericTestEvent<String> event = createGenericTestEvent("fail");
+
+		for (int i = 0; i < 3; i++) {
+			assertThatExceptionOfType(UndeclaredThrowableException.class).isThrownBy(() ->
+					adapter.onApplicationEvent(event))
+				.withCauseInstanceOf(IOException.class);
+		}
+	}
+
 	@Test
 	void invokeListenerInvalidProxy() {
 		Object target = new InvalidProxyTestBean();
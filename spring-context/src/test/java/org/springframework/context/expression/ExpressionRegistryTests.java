@@ -0,0 +1,235 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ExpressionRegistry}.
+ */
+class ExpressionRegistryTests {
+
+	private final ExpressionRegistry registry = new ExpressionRegistry();
+
+	private final AnnotatedElementKey elementKey =
+			new AnnotatedElementKey(ReflectionUtils.findMethod(getClass(), "toString"), getClass());
+
+
+	@Test
+	void identicalExpressionsAreShared() {
+		Expression expression = this.registry.register(this.elementKey, "name");
+		assertThat(this.registry.getExpression(this.elementKey, "name")).isSameAs(expression);
+		assertThat(this.registry.getExpression(this.elementKey, "age")).isNotSameAs(expression);
+		AnnotatedElementKey otherElementKey = new AnnotatedElementKey(
+				ReflectionUtils.findMethod(getClass(), "hashCode"), getClass());
+		assertThat(this.registry.getExpression(otherElementKey, "name")).isSameAs(expression);
+		assertThat(this.registry.getExpressionCount()).isEqualTo(2);
+		assertThat(this.registry.getElementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void sharedExpressionIsCompiledOnceAcrossElements() {
+		TestBean bean = new TestBean("tb", 42);
+		AnnotatedElementKey otherElementKey = new AnnotatedElementKey(
+				ReflectionUtils.findMethod(getClass(), "hashCode"), getClass());
+		assertThat(this.registry.getExpression(this.elementKey, "age").getValue(bean)).isEqualTo(42);
+		SpelExpression expression = (SpelExpression) this.registry.getExpression(otherElementKey, "age");
+		assertThat(expression.isCompiled()).isTrue();
+		assertThat(this.registry.getExpression(this.elementKey, "age")).isSameAs(expression);
+		assertThat(this.registry.getCompiledExpressionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void expressionIsCompiledAfterFirstEvaluation() {
+		TestBean bean = new TestBean("tb", 42);
+		assertThat(this.registry.getExpression(this.elementKey, "age + 1").getValue(bean)).isEqualTo(43);
+		assertThat(this.registry.getCompiledExpressionCount()).isZero();
+
+		SpelExpression expression = (SpelExpression) this.registry.getExpression(this.elementKey, "age + 1");
+		assertThat(expression.isCompiled()).isTrue();
+		assertThat(expression.getValue(bean)).isEqualTo(43);
+		assertThat(this.registry.getExpression(this.elementKey, "age + 1").getValue(bean)).isEqualTo(43);
+
+		assertThat(this.registry.getCompiledExpressionCount()).isEqualTo(1);
+		assertThat(this.registry.getInterpretedHitCount()).isEqualTo(2);
+		assertThat(this.registry.getCompiledHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void expressionIsCompiledOnExecutor() {
+		List<Runnable> tasks = new ArrayList<>();
+		this.registry.setCompilationExecutor(tasks::add);
+		TestBean bean = new TestBean("tb", 42);
+		this.registry.getExpression(this.elementKey, "age").getValue(bean);
+		SpelExpression expression = (SpelExpression) this.registry.getExpression(this.elementKey, "age");
+		assertThat(expression.isCompiled()).isFalse();
+		assertThat(tasks).hasSize(1);
+
+		this.registry.getExpression(this.elementKey, "age");
+		assertThat(tasks).as("Compilation should not be scheduled twice").hasSize(1);
+		tasks.get(0).run();
+		assertThat(expression.isCompiled()).isTrue();
+	}
+
+	@Test
+	void expressionIsNotCompiledWithCompilerModeOff() {
+		ExpressionRegistry registry = new ExpressionRegistry(new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+		TestBean bean = new TestBean("tb", 42);
+		for (int i = 0; i < 10; i++) {
+			registry.getExpression(this.elementKey, "age").getValue(bean);
+		}
+		assertThat(registry.getCompiledExpressionCount()).isZero();
+		assertThat(registry.getInterpretedHitCount()).isEqualTo(10);
+	}
+
+	@Test
+	void evaluatorUsesRegistry() {
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator();
+		evaluator.setExpressionRegistry(this.registry);
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = evaluator.getTestExpression("true", method, getClass());
+		assertThat(evaluator.getTestExpression("true", method, getClass())).isSameAs(expression);
+		assertThat(this.registry.getExpression(new AnnotatedElementKey(method, getClass()), "true")).isSameAs(expression);
+		assertThat(evaluator.testCache).isEmpty();
+		assertThat(this.registry.getExpressionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void eventListenerConditionsAreRegisteredOnRefresh() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class);
+		ExpressionRegistry registry = context.getBean(ExpressionRegistry.class);
+		assertThat(registry.getExpressionCount()).isEqualTo(1);
+
+		context.publishEvent("test");
+		context.publishEvent("test");
+		context.publishEvent("other");
+		assertThat(context.getBean(ConditionalListener.class).events).containsExactly("test", "test");
+		assertThat(registry.getInterpretedHitCount()).isEqualTo(2);
+		assertThat(registry.getCompiledHitCount()).isEqualTo(1);
+		context.close();
+	}
+
+	@Test
+	void identicalConditionsOverDifferentEventTypesAreShared() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(LengthConfig.class);
+		ExpressionRegistry registry = context.getBean(ExpressionRegistry.class);
+		assertThat(registry.getExpressionCount()).isEqualTo(1);
+		assertThat(registry.getElementCount()).isEqualTo(2);
+
+		for (int i = 0; i < 4; i++) {
+			context.publishEvent("test");
+			context.publishEvent(new StringBuilder("test"));
+			context.publishEvent("x");
+			context.publishEvent(new StringBuilder("x"));
+		}
+		LengthListeners listeners = context.getBean(LengthListeners.class);
+		assertThat(listeners.strings).hasSize(4);
+		assertThat(listeners.builders).hasSize(4);
+		context.close();
+	}
+
+
+	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
+
+		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
+
+		Expression getTestExpression(String expression, Method method, Class<?> type) {
+			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
+		}
+	}
+
+
+	@Configuration
+	static class Config {
+
+		@Bean
+		ExpressionRegistry expressionRegistry() {
+			return new ExpressionRegistry();
+		}
+
+		@Bean
+		ConditionalListener conditionalListener() {
+			return new ConditionalListener();
+		}
+	}
+
+
+	@Configuration
+	static class LengthConfig {
+
+		@Bean
+		ExpressionRegistry expressionRegistry() {
+			return new ExpressionRegistry();
+		}
+
+		@Bean
+		LengthListeners lengthListeners() {
+			return new LengthListeners();
+		}
+	}
+
+
+	static class LengthListeners {
+
+		final List<String> strings = new ArrayList<>();
+
+		final List<StringBuilder> builders = new ArrayList<>();
+
+		@EventListener(condition = "#p0.length() > 2")
+		public void onString(String event) {
+			this.strings.add(event);
+		}
+
+		@EventListener(condition = "#p0.length() > 2")
+		public void onStringBuilder(StringBuilder event) {
+			this.builders.add(event);
+		}
+	}
+
+
+	@Component
+	static class ConditionalListener {
+
+		final List<String> events = new ArrayList<>();
+
+		@EventListener(condition = "#event == 'test'")
+		public void onEvent(String event) {
+			this.events.add(event);
+		}
+	}
+
+}
@@ -893,6 +893,47 @@ class DataBinderTests {
 		assertThat(tb.getSpouse().getName()).isEqualTo("test");
 	}
 
+	@Test
+	void bindingRepeatedlyWithSameFields() {
+		TestBean tb1 = new TestBean();
+		DataBinder binder1 = new DataBinder(tb1, "person");
+		binder1.registerCustomEditor(ITestBean.class, new PropertyEditorSupport() {
+			@Override
+			public void setAsText(String text) throws IllegalArgumentException {
+				setValue(new TestBean(text));
+			}
+		});
+		binder1.bind(repeatedBindingValues("32"));
+
+		TestBean tb2 = new TestBean();
+		DataBinder binder2 = new DataBinder(tb2, "person");
+		binder2.registerCustomEditor(ITestBean.class, new PropertyEditorSupport() {
+			@Override
+			public void setAsText(String text) throws IllegalArgumentException {
+				setValue(new TestBean(text.toUpperCase()));
+			}
+		});
+		binder2.bind(repeatedBindingValues("x"));
+
+		assertThat(tb1.getAge()).isEqualTo(32);
+		assertThat(tb1.getSpouse().getName()).isEqualTo("kerry");
+		assertThat(tb1.getSpouse().getAge()).isEqualTo(34);
+		assertThat(binder1.getBindingResult().hasErrors()).isFalse();
+		assertThat(tb2.getSpouse().getName()).isEqualTo("KERRY");
+		assertThat(tb2.getSpouse().getAge()).isEqualTo(34);
+		assertThat(binder2.getBindingResult().getFieldErrorCount()).isEqualTo(1);
+		assertThat(binder2.getBindingResult().getFieldError("age").getCode()).isEqualTo("typeMismatch");
+	}
+
+	private static MutablePropertyValues repeatedBindingValues(String age) {
+		MutablePropertyValues pvs = new MutablePropertyValues();
+		pvs.add("age", age);
+		pvs.add("spouse", "kerry");
+		pvs.add("spouse.age", "34");
+		pvs.add("nonExisting", "someValue");
+		return pvs;
+	}
+
 	@Test
 	void customEditorWithOldValueAccess() {
 		TestBean tb = new TestBean();
@@ -56,6 +56,13 @@ public class SimpleMapScope implements Scope, Serializable {
 		}
 	}
 
+	@Override
+	public Object getIfPresent(String name) {
+		synchronized (this.map) {
+			return this.map.get(name);
+		}
+	}
+
 	@Override
 	public Object remove(String name) {
 		synchronized (this.map) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ResolvableType} type matching and generics access,
+ * as performed for bean type matching and converter lookups.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ResolvableTypeBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public Field stringListField;
+
+		public Field mapField;
+
+		public ResolvableType stringList;
+
+		public ResolvableType arrayListOfString;
+
+		public ResolvableType wildcardList;
+
+		@Setup
+		public void setup() throws Exception {
+			this.stringListField = Fields.class.getField("stringList");
+			this.mapField = Fields.class.getField("map");
+			this.stringList = ResolvableType.forField(this.stringListField);
+			this.arrayListOfString = ResolvableType.forField(Fields.class.getField("arrayListOfString"));
+			this.wildcardList = ResolvableType.forField(Fields.class.getField("wildcardList"));
+		}
+	}
+
+
+	@Benchmark
+	public boolean isAssignableFromClass(BenchmarkState state) {
+		return state.stringList.isAssignableFrom(ArrayList.class);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromParameterizedType(BenchmarkState state) {
+		return state.stringList.isAssignableFrom(state.arrayListOfString);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromWildcardType(BenchmarkState state) {
+		return state.wildcardList.isAssignableFrom(state.arrayListOfString);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromFieldType(BenchmarkState state) {
+		return ResolvableType.forField(state.stringListField).isAssignableFrom(state.arrayListOfString);
+	}
+
+	@Benchmark
+	public void getGeneric(BenchmarkState state, Blackhole bh) {
+		ResolvableType type = ResolvableType.forField(state.mapField);
+		bh.consume(type.getGeneric(0).resolve());
+		bh.consume(type.getGeneric(1, 0).resolve());
+	}
+
+	@Benchmark
+	public ResolvableType forClass() {
+		return ResolvableType.forClass(ArrayList.class);
+	}
+
+
+	public static class Fields {
+
+		public List<String> stringList;
+
+		public ArrayList<String> arrayListOfString;
+
+		public List<? extends CharSequence> wildcardList;
+
+		public Map<String, List<Integer>> map;
+	}
+
+}
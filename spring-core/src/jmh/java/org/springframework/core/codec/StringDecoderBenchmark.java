@@ -18,9 +18,11 @@ package org.springframework.core.codec;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -53,6 +55,20 @@ public class StringDecoderBenchmark {
 		blackhole.consume(state.parseLines().blockLast());
 	}
 
+	@Benchmark
+	public void matchMultipartBoundary(MultipartBoundaryState state, Blackhole blackhole) {
+		DataBufferUtils.Matcher matcher = DataBufferUtils.matcher(state.delimiter);
+		for (DataBuffer chunk : state.chunks) {
+			int readPosition = chunk.readPosition();
+			int endIndex;
+			while ((endIndex = matcher.match(chunk)) != -1) {
+				blackhole.consume(endIndex);
+				chunk.readPosition(endIndex + 1);
+			}
+			chunk.readPosition(readPosition);
+		}
+	}
+
 
 	@State(Scope.Benchmark)
 	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
@@ -111,4 +127,48 @@ public class StringDecoderBenchmark {
 		}
 	}
 
+
+	@State(Scope.Benchmark)
+	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
+	public static class MultipartBoundaryState {
+
+		private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+
+		@Param("1048576")
+		int totalSize;
+
+		@Param("8192")
+		int chunkSize;
+
+		@Param("65536")
+		int partSize;
+
+		byte[] delimiter = ("\r\n--" + BOUNDARY).getBytes(StandardCharsets.US_ASCII);
+
+		List<DataBuffer> chunks;
+
+
+		@Setup(Level.Trial)
+		public void setup() {
+			byte[] content = new byte[this.totalSize];
+			Random random = new Random(42);
+			for (int i = 0; i < content.length; i++) {
+				// printable ASCII, as in a text upload
+				content[i] = (byte) (' ' + random.nextInt(95));
+			}
+			for (int i = this.partSize; i + this.delimiter.length < content.length; i += this.partSize) {
+				System.arraycopy(this.delimiter, 0, content, i, this.delimiter.length);
+			}
+			DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+			this.chunks = new ArrayList<>();
+			for (int i = 0; i < content.length; i += this.chunkSize) {
+				int length = Math.min(this.chunkSize, content.length - i);
+				DataBuffer buffer = bufferFactory.allocateBuffer(length);
+				buffer.write(content, i, length);
+				this.chunks.add(buffer);
+			}
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -102,6 +102,42 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringToIntegerWithClass(ScalarBenchmarkState state, Blackhole bh) {
+		for (String element : state.source) {
+			bh.consume(state.conversionService.convert(element, Integer.class));
+		}
+	}
+
+	@Benchmark
+	public void convertStringToIntegerWithTypeDescriptor(ScalarBenchmarkState state, Blackhole bh) {
+		for (String element : state.source) {
+			bh.consume(state.conversionService.convert(element, state.sourceTypeDesc, state.targetTypeDesc));
+		}
+	}
+
+	@Benchmark
+	public void convertAllStringToInteger(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convertAll(state.source, Integer.class));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScalarBenchmarkState extends BenchmarkState {
+
+		List<String> source;
+
+		TypeDescriptor sourceTypeDesc = TypeDescriptor.valueOf(String.class);
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.conversionService = new DefaultConversionService();
+			this.source = IntStream.rangeClosed(1, collectionSize).mapToObj(String::valueOf).toList();
+			this.targetTypeDesc = TypeDescriptor.valueOf(Integer.class);
+		}
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
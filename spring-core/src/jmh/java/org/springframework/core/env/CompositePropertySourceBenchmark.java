@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,7 +37,8 @@ import org.springframework.util.AlternativeJdkIdGenerator;
 import org.springframework.util.IdGenerator;
 
 /**
- * Benchmarks for {@link CompositePropertySource}.
+ * Benchmarks for {@link CompositePropertySource} and for property resolution
+ * against layered property sources.
  *
  * @author Yike Xiao
  */
@@ -52,6 +53,21 @@ public class CompositePropertySourceBenchmark {
 		blackhole.consume(state.composite.getPropertyNames());
 	}
 
+	@Benchmark
+	public void getPropertyFromLastLayer(LayeredEnvironmentState state, Blackhole blackhole) {
+		blackhole.consume(state.environment.getProperty(state.lastLayerKey));
+	}
+
+	@Benchmark
+	public void getPropertyFromSystemProperties(LayeredEnvironmentState state, Blackhole blackhole) {
+		blackhole.consume(state.environment.getProperty("java.version"));
+	}
+
+	@Benchmark
+	public void getMissingProperty(LayeredEnvironmentState state, Blackhole blackhole) {
+		blackhole.consume(state.environment.getProperty("feature.missing.enabled"));
+	}
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
@@ -82,4 +98,38 @@ public class CompositePropertySourceBenchmark {
 
 	}
 
+	/**
+	 * A typical layered setup: system properties and system environment,
+	 * followed by several application-specific property sources.
+	 */
+	@State(Scope.Benchmark)
+	public static class LayeredEnvironmentState {
+
+		StandardEnvironment environment;
+
+		String lastLayerKey;
+
+		@Param({ "2", "5", "10" })
+		int numberOfLayers;
+
+		@Param({ "false", "true" })
+		boolean propertySnapshot;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.environment = new StandardEnvironment();
+			MutablePropertySources propertySources = this.environment.getPropertySources();
+			for (int i = 0; i < this.numberOfLayers; i++) {
+				Map<String, Object> map = new HashMap<>();
+				for (int j = 0; j < 50; j++) {
+					map.put("layer" + i + ".feature" + j + ".enabled", "true");
+				}
+				propertySources.addLast(new MapPropertySource("layer" + i, map));
+			}
+			this.lastLayerKey = "layer" + (this.numberOfLayers - 1) + ".feature0.enabled";
+			this.environment.setPropertySnapshotEnabled(this.propertySnapshot);
+		}
+
+	}
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link DataBufferFactory} implementations, allocating,
+ * writing and releasing buffers as a codec or a server adapter would.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Threads(4)
+public class DataBufferFactoryBenchmark {
+
+	@Benchmark
+	public void allocateWriteRelease(BenchmarkData data, Blackhole bh) {
+		DataBuffer buffer = data.bufferFactory.allocateBuffer(data.size);
+		buffer.write(data.content);
+		bh.consume(buffer.read());
+		DataBufferUtils.release(buffer);
+	}
+
+	@Benchmark
+	public void allocateSplitRelease(BenchmarkData data, Blackhole bh) {
+		DataBuffer buffer = data.bufferFactory.allocateBuffer(data.size);
+		buffer.write(data.content);
+		DataBuffer split = buffer.split(data.size / 2);
+		bh.consume(split.read());
+		DataBufferUtils.release(split);
+		DataBufferUtils.release(buffer);
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"default", "default-direct", "pooled", "pooled-direct", "netty", "netty-direct"})
+		public String factory;
+
+		@Param({"256", "8192", "65536"})
+		public int size;
+
+		public DataBufferFactory bufferFactory;
+
+		public byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.bufferFactory = switch (this.factory) {
+				case "default" -> new DefaultDataBufferFactory(false);
+				case "default-direct" -> new DefaultDataBufferFactory(true);
+				case "pooled" -> new PooledByteBufferDataBufferFactory(false);
+				case "pooled-direct" -> new PooledByteBufferDataBufferFactory(true);
+				case "netty" -> new NettyDataBufferFactory(new PooledByteBufAllocator(false));
+				case "netty-direct" -> new NettyDataBufferFactory(new PooledByteBufAllocator(true));
+				default -> throw new IllegalStateException("Unknown factory: " + this.factory);
+			};
+			this.content = new byte[this.size];
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.Properties;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link PropertyPlaceholderHelper}, resolving the same values
+ * repeatedly as for bean definition values and {@code @Value} injection.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PropertyPlaceholderHelperBenchmark {
+
+	@Benchmark
+	public void replacePlaceholders(PlaceholderState state, Blackhole bh) {
+		bh.consume(state.helper.replacePlaceholders(state.value, state.properties));
+	}
+
+	@State(Scope.Benchmark)
+	public static class PlaceholderState {
+
+		@Param({"plain", "simple", "default", "nested", "nestedDefault", "mixed"})
+		String placeholder;
+
+		PropertyPlaceholderHelper helper;
+
+		Properties properties;
+
+		String value;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.helper = new PropertyPlaceholderHelper("${", "}", ":", '\\', true);
+			this.properties = new Properties();
+			this.properties.setProperty("app.name", "benchmark");
+			this.properties.setProperty("app.env", "prod");
+			this.properties.setProperty("db.prod.url", "jdbc:h2:mem:${app.name}");
+			this.value = switch (this.placeholder) {
+				case "plain" -> "jdbc:h2:mem:benchmark";
+				case "simple" -> "${app.name}";
+				case "default" -> "${app.timeout:30}";
+				case "nested" -> "${db.${app.env}.url}";
+				case "nestedDefault" -> "${db.${app.region:eu}.url:${app.fallback:jdbc:h2:mem:fallback}}";
+				case "mixed" -> "Application ${app.name} (${app.env}) on ${server.port:8080}";
+				default -> throw new IllegalStateException("Unknown placeholder: " + this.placeholder);
+			};
+		}
+	}
+
+}
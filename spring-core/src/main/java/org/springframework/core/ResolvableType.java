@@ -97,6 +97,12 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final ConcurrentReferenceHashMap<Class<?>, ResolvableType> classCache =
+			new ConcurrentReferenceHashMap<>(256);
+
+	private static final ConcurrentReferenceHashMap<AssignabilityKey, Boolean> assignabilityCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -317,7 +323,22 @@ public class ResolvableType implements Serializable {
 			if (this.type instanceof Class<?> clazz && other.type instanceof Class<?> otherClazz) {
 				return (strict ? clazz.isAssignableFrom(otherClazz) : ClassUtils.isAssignable(clazz, otherClazz));
 			}
+			// As of 7.0: cached result for a top-level check between equal pairs of types
+			if (getClass() == ResolvableType.class && other.getClass() == ResolvableType.class) {
+				AssignabilityKey key = new AssignabilityKey(this, other, strict, upUntilUnresolvable);
+				Boolean assignable = assignabilityCache.get(key);
+				if (assignable == null) {
+					assignable = checkAssignableFrom(other, strict, null, upUntilUnresolvable);
+					assignabilityCache.put(key, assignable);
+				}
+				return assignable;
+			}
 		}
+		return checkAssignableFrom(other, strict, matchedBefore, upUntilUnresolvable);
+	}
+
+	private boolean checkAssignableFrom(ResolvableType other, boolean strict,
+			@Nullable Map<Type, Type> matchedBefore, boolean upUntilUnresolvable) {
 
 		if (upUntilUnresolvable && (other.isUnresolvableTypeVariable() || other.isWildcardWithoutBounds())) {
 			return true;
@@ -399,8 +420,8 @@ public class ResolvableType implements Serializable {
 
 		if (checkGenerics) {
 			// Recursively check each generic
-			ResolvableType[] ourGenerics = getGenerics();
-			ResolvableType[] typeGenerics = other.as(ourResolved).getGenerics();
+			ResolvableType[] ourGenerics = getGenericsInternal();
+			ResolvableType[] typeGenerics = other.as(ourResolved).getGenericsInternal();
 			if (ourGenerics.length != typeGenerics.length) {
 				return false;
 			}
@@ -570,7 +591,7 @@ public class ResolvableType implements Serializable {
 	 * @see #getGenerics()
 	 */
 	public boolean hasGenerics() {
-		return (getGenerics().length > 0);
+		return (getGenericsInternal().length > 0);
 	}
 
 	/**
@@ -584,7 +605,7 @@ public class ResolvableType implements Serializable {
 		if (this == NONE) {
 			return false;
 		}
-		ResolvableType[] generics = getGenerics();
+		ResolvableType[] generics = getGenericsInternal();
 		for (ResolvableType generic : generics) {
 			if (!generic.isUnresolvableTypeVariable() && !generic.isWildcardWithoutBounds()) {
 				return true;
@@ -622,7 +643,7 @@ public class ResolvableType implements Serializable {
 			return false;
 		}
 
-		ResolvableType[] generics = getGenerics();
+		ResolvableType[] generics = getGenericsInternal();
 		for (ResolvableType generic : generics) {
 			if (generic.isUnresolvableTypeVariable() || generic.isWildcardWithoutBounds() ||
 					generic.hasUnresolvableGenerics(currentTypeSeen(alreadySeen))) {
@@ -734,7 +755,7 @@ public class ResolvableType implements Serializable {
 					result = result.getSuperType();
 				}
 				Integer index = (typeIndexesPerLevel != null ? typeIndexesPerLevel.get(i) : null);
-				index = (index == null ? result.getGenerics().length - 1 : index);
+				index = (index == null ? result.getGenericsInternal().length - 1 : index);
 				result = result.getGeneric(index);
 			}
 		}
@@ -759,13 +780,13 @@ public class ResolvableType implements Serializable {
 	 * @see #resolveGenerics()
 	 */
 	public ResolvableType getGeneric(@Nullable int... indexes) {
-		ResolvableType[] generics = getGenerics();
+		ResolvableType[] generics = getGenericsInternal();
 		if (indexes == null || indexes.length == 0) {
 			return (generics.length == 0 ? NONE : generics[0]);
 		}
 		ResolvableType generic = this;
 		for (int index : indexes) {
-			generics = generic.getGenerics();
+			generics = generic.getGenericsInternal();
 			if (index < 0 || index >= generics.length) {
 				return NONE;
 			}
@@ -788,6 +809,16 @@ public class ResolvableType implements Serializable {
 	 * @see #resolveGenerics()
 	 */
 	public ResolvableType[] getGenerics() {
+		ResolvableType[] generics = getGenericsInternal();
+		// Defensive copy, since the resolved array may be shared between equal types
+		return (generics.length > 0 ? generics.clone() : generics);
+	}
+
+	/**
+	 * Return the resolved generic parameters of this type without copying them.
+	 * <p>The returned array may be shared with other instances and must not be modified.
+	 */
+	ResolvableType[] getGenericsInternal() {
 		if (this == NONE) {
 			return EMPTY_TYPES_ARRAY;
 		}
@@ -818,7 +849,7 @@ public class ResolvableType implements Serializable {
 				}
 			}
 			else {
-				generics = resolveType().getGenerics();
+				generics = resolveType().getGenericsInternal();
 			}
 			this.generics = generics;
 		}
@@ -834,7 +865,7 @@ public class ResolvableType implements Serializable {
 	 * @see #resolve()
 	 */
 	public Class<?>[] resolveGenerics() {
-		ResolvableType[] generics = getGenerics();
+		ResolvableType[] generics = getGenericsInternal();
 		Class<?>[] resolvedGenerics = new Class<?>[generics.length];
 		for (int i = 0; i < generics.length; i++) {
 			resolvedGenerics[i] = generics[i].resolve();
@@ -852,7 +883,7 @@ public class ResolvableType implements Serializable {
 	 * @see #resolve()
 	 */
 	public Class<?>[] resolveGenerics(Class<?> fallback) {
-		ResolvableType[] generics = getGenerics();
+		ResolvableType[] generics = getGenericsInternal();
 		Class<?>[] resolvedGenerics = new Class<?>[generics.length];
 		for (int i = 0; i < generics.length; i++) {
 			resolvedGenerics[i] = generics[i].resolve(fallback);
@@ -1096,7 +1127,7 @@ public class ResolvableType implements Serializable {
 			}
 		}
 		if (hasGenerics()) {
-			return this.resolved.getName() + '<' + StringUtils.arrayToDelimitedString(getGenerics(), ", ") + '>';
+			return this.resolved.getName() + '<' + StringUtils.arrayToDelimitedString(getGenericsInternal(), ", ") + '>';
 		}
 		return this.resolved.getName();
 	}
@@ -1108,6 +1139,8 @@ public class ResolvableType implements Serializable {
 	 * Return a {@code ResolvableType} for the specified {@link Class},
 	 * using the full generic type information for assignability checks.
 	 * <p>For example: {@code ResolvableType.forClass(MyArrayList.class)}.
+	 * <p>As of 7.0, the returned instance is shared for a given class,
+	 * retaining its lazily resolved supertypes and generics for reuse.
 	 * @param clazz the class to introspect ({@code null} is semantically
 	 * equivalent to {@code Object.class} for typical use cases here)
 	 * @return a {@code ResolvableType} for the specified class
@@ -1115,7 +1148,16 @@ public class ResolvableType implements Serializable {
 	 * @see #forClassWithGenerics(Class, Class...)
 	 */
 	public static ResolvableType forClass(@Nullable Class<?> clazz) {
-		return new ResolvableType(clazz);
+		Class<?> key = (clazz != null ? clazz : Object.class);
+		ResolvableType resolvableType = classCache.get(key);
+		if (resolvableType == null) {
+			resolvableType = new ResolvableType(key);
+			ResolvableType existing = classCache.putIfAbsent(key, resolvableType);
+			if (existing != null) {
+				resolvableType = existing;
+			}
+		}
+		return resolvableType;
 	}
 
 	/**
@@ -1133,7 +1175,7 @@ public class ResolvableType implements Serializable {
 	public static ResolvableType forRawClass(@Nullable Class<?> clazz) {
 		return new ResolvableType(clazz) {
 			@Override
-			public ResolvableType[] getGenerics() {
+			ResolvableType[] getGenericsInternal() {
 				return EMPTY_TYPES_ARRAY;
 			}
 			@Override
@@ -1533,9 +1575,10 @@ public class ResolvableType implements Serializable {
 		}
 
 		// For simple Class references, build the wrapper right away -
-		// no expensive resolution necessary, so not worth caching...
-		if (type instanceof Class) {
-			return new ResolvableType(type, null, typeProvider, variableResolver);
+		// no expensive resolution necessary, so only share plain Class wrappers...
+		if (type instanceof Class<?> clazz) {
+			return (typeProvider == null && variableResolver == null ? forClass(clazz) :
+					new ResolvableType(type, null, typeProvider, variableResolver));
 		}
 
 		// Purge empty entries on access since we don't have a clean-up thread or the like.
@@ -1546,9 +1589,14 @@ public class ResolvableType implements Serializable {
 		ResolvableType cachedType = cache.get(resultType);
 		if (cachedType == null) {
 			cachedType = new ResolvableType(type, typeProvider, variableResolver, resultType.hash);
+			if (type instanceof ParameterizedType) {
+				// Precompute the type arguments, to be shared with equal types from now on
+				cachedType.getGenericsInternal();
+			}
 			cache.put(cachedType, cachedType);
 		}
 		resultType.resolved = cachedType.resolved;
+		resultType.generics = cachedType.generics;
 		return resultType;
 	}
 
@@ -1558,6 +1606,8 @@ public class ResolvableType implements Serializable {
 	 */
 	public static void clearCache() {
 		cache.clear();
+		classCache.clear();
+		assignabilityCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
@@ -1695,6 +1745,44 @@ public class ResolvableType implements Serializable {
 	}
 
 
+	/**
+	 * Cache key for the result of a top-level assignability check.
+	 */
+	private static final class AssignabilityKey {
+
+		private final ResolvableType type;
+
+		private final ResolvableType other;
+
+		private final boolean strict;
+
+		private final boolean upUntilUnresolvable;
+
+		private final int hash;
+
+		AssignabilityKey(ResolvableType type, ResolvableType other, boolean strict, boolean upUntilUnresolvable) {
+			this.type = type;
+			this.other = other;
+			this.strict = strict;
+			this.upUntilUnresolvable = upUntilUnresolvable;
+			this.hash = (31 * type.hashCode() + other.hashCode()) * 4 +
+					(strict ? 2 : 0) + (upUntilUnresolvable ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof AssignabilityKey that &&
+					this.strict == that.strict && this.upUntilUnresolvable == that.upUntilUnresolvable &&
+					this.type.equals(that.type) && this.other.equals(that.other)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+
 	/**
 	 * Internal helper to handle bounds from {@link WildcardType WildcardTypes}.
 	 */
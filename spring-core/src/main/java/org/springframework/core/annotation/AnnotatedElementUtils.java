@@ -18,9 +18,11 @@ package org.springframework.core.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,7 @@ import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.annotation.MergedAnnotation.Adapt;
 import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 
 /**
@@ -92,6 +95,12 @@ import org.springframework.util.MultiValueMap;
  */
 public abstract class AnnotatedElementUtils {
 
+	/** Cache marker for a merged annotation that is not present. */
+	private static final Object NOT_ANNOTATED = new Object();
+
+	/** Cache for synthesized merged annotations (or NOT_ANNOTATED marker) per element and annotation type. */
+	static final Map<MergedAnnotationCacheKey, Object> mergedAnnotationCache = new ConcurrentReferenceHashMap<>(256);
+
 	/**
 	 * Build an adapted {@link AnnotatedElement} for the given annotations,
 	 * typically for use with other methods on {@link AnnotatedElementUtils}.
@@ -333,10 +342,8 @@ public abstract class AnnotatedElementUtils {
 				AnnotationsScanner.hasPlainJavaAnnotationsOnly(element)) {
 			return element.getDeclaredAnnotation(annotationType);
 		}
-		// Exhaustive retrieval of merged annotations...
-		return getAnnotations(element)
-				.get(annotationType, null, MergedAnnotationSelectors.firstDirectlyDeclared())
-				.synthesize(MergedAnnotation::isPresent).orElse(null);
+		// Exhaustive retrieval of merged annotations, cached for reflective elements...
+		return getSynthesizedAnnotation(element, annotationType, SearchStrategy.INHERITED_ANNOTATIONS);
 	}
 
 	/**
@@ -638,10 +645,8 @@ public abstract class AnnotatedElementUtils {
 				AnnotationsScanner.hasPlainJavaAnnotationsOnly(element)) {
 			return element.getDeclaredAnnotation(annotationType);
 		}
-		// Exhaustive retrieval of merged annotations...
-		return findAnnotations(element)
-				.get(annotationType, null, MergedAnnotationSelectors.firstDirectlyDeclared())
-				.synthesize(MergedAnnotation::isPresent).orElse(null);
+		// Exhaustive retrieval of merged annotations, cached for reflective elements...
+		return getSynthesizedAnnotation(element, annotationType, SearchStrategy.TYPE_HIERARCHY);
 	}
 
 	/**
@@ -769,6 +774,33 @@ public abstract class AnnotatedElementUtils {
 				.collect(MergedAnnotationCollectors.toAnnotationSet());
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static <A extends Annotation> A getSynthesizedAnnotation(AnnotatedElement element,
+			Class<A> annotationType, SearchStrategy searchStrategy) {
+
+		if (!(element instanceof Class<?> || element instanceof Member)) {
+			return synthesizeAnnotation(element, annotationType, searchStrategy);
+		}
+		MergedAnnotationCacheKey cacheKey = new MergedAnnotationCacheKey(element, annotationType, searchStrategy);
+		Object cached = mergedAnnotationCache.get(cacheKey);
+		if (cached != null) {
+			return (cached != NOT_ANNOTATED ? (A) cached : null);
+		}
+		A result = synthesizeAnnotation(element, annotationType, searchStrategy);
+		mergedAnnotationCache.put(cacheKey, result != null ? result : NOT_ANNOTATED);
+		return result;
+	}
+
+	@Nullable
+	private static <A extends Annotation> A synthesizeAnnotation(AnnotatedElement element,
+			Class<A> annotationType, SearchStrategy searchStrategy) {
+
+		return MergedAnnotations.from(element, searchStrategy, RepeatableContainers.none())
+				.get(annotationType, null, MergedAnnotationSelectors.firstDirectlyDeclared())
+				.synthesize(MergedAnnotation::isPresent).orElse(null);
+	}
+
 	private static MergedAnnotations getAnnotations(AnnotatedElement element) {
 		return MergedAnnotations.from(element, SearchStrategy.INHERITED_ANNOTATIONS, RepeatableContainers.none());
 	}
@@ -843,6 +875,40 @@ public abstract class AnnotatedElementUtils {
 	}
 
 
+	/**
+	 * Cache key for a merged annotation lookup on a reflective element.
+	 */
+	static final class MergedAnnotationCacheKey {
+
+		private final AnnotatedElement element;
+
+		private final Class<? extends Annotation> annotationType;
+
+		private final SearchStrategy searchStrategy;
+
+		MergedAnnotationCacheKey(AnnotatedElement element, Class<? extends Annotation> annotationType,
+				SearchStrategy searchStrategy) {
+
+			this.element = element;
+			this.annotationType = annotationType;
+			this.searchStrategy = searchStrategy;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof MergedAnnotationCacheKey that &&
+					this.element.equals(that.element) && this.annotationType == that.annotationType &&
+					this.searchStrategy == that.searchStrategy));
+		}
+
+		@Override
+		public int hashCode() {
+			return (this.element.hashCode() * 31 + this.annotationType.hashCode()) * 31 +
+					this.searchStrategy.hashCode();
+		}
+	}
+
+
 	/**
 	 * Adapted {@link AnnotatedElement} that holds specific annotations.
 	 */
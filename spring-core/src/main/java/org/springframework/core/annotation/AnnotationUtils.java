@@ -1347,6 +1347,7 @@ public abstract class AnnotationUtils {
 		AttributeMethods.cache.clear();
 		RepeatableContainers.cache.clear();
 		OrderUtils.orderCache.clear();
+		AnnotatedElementUtils.mergedAnnotationCache.clear();
 	}
 
 
@@ -16,7 +16,10 @@
 
 package org.springframework.core.convert.support;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
@@ -30,6 +33,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.springframework.core.DecoratingProxy;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
@@ -45,6 +49,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -77,6 +82,12 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	// Two-level cache keyed by source class and target class, for plain type descriptors
+	private final Map<Class<?>, Map<Class<?>, ClassPairConverter>> classPairCache =
+			new ConcurrentReferenceHashMap<>(64);
+
+	private final boolean classPairLookup = isClassPairLookupApplicable(getClass());
+
 
 	// ConverterRegistry implementation
 
@@ -131,6 +142,9 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Override
 	public boolean canConvert(@Nullable Class<?> sourceType, Class<?> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		if (sourceType != null && this.classPairLookup) {
+			return (getClassPairConverter(sourceType, targetType).converter != null);
+		}
 		return canConvert((sourceType != null ? TypeDescriptor.valueOf(sourceType) : null),
 				TypeDescriptor.valueOf(targetType));
 	}
@@ -138,7 +152,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Override
 	public boolean canConvert(@Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
-		return (sourceType == null || getConverter(sourceType, targetType) != null);
+		return (sourceType == null || lookupConverter(sourceType, targetType) != null);
 	}
 
 	/**
@@ -162,6 +176,9 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Nullable
 	public <T> T convert(@Nullable Object source, Class<T> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		if (source != null && this.classPairLookup) {
+			return (T) convert(source, getClassPairConverter(source.getClass(), targetType));
+		}
 		return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
 	}
 
@@ -177,7 +194,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 			throw new IllegalArgumentException("Source to convert from must be an instance of [" +
 					sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
 		}
-		GenericConverter converter = getConverter(sourceType, targetType);
+		GenericConverter converter = lookupConverter(sourceType, targetType);
 		if (converter != null) {
 			Object result = ConversionUtils.invokeConverter(converter, source, sourceType, targetType);
 			return handleResult(sourceType, targetType, result);
@@ -185,6 +202,53 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return handleConverterNotFound(source, sourceType, targetType);
 	}
 
+	/**
+	 * Convert all elements of the given collection to the specified target type,
+	 * resolving the converter once per distinct element class rather than once
+	 * per element.
+	 * @param source the source elements to convert (may contain {@code null})
+	 * @param targetType the target type to convert each element to (required)
+	 * @return a new list with the converted elements, in iteration order
+	 * @throws ConversionException if a conversion exception occurred
+	 * @since 7.0
+	 * @see #convert(Object, Class)
+	 */
+	public <T> List<T> convertAll(Collection<?> source, Class<T> targetType) {
+		Assert.notNull(source, "Source collection must not be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		ElementConverter<T> elementConverter = new ElementConverter<>(targetType);
+		List<T> result = new ArrayList<>(source.size());
+		for (Object element : source) {
+			result.add(elementConverter.convert(element));
+		}
+		return result;
+	}
+
+	/**
+	 * Convert all elements of the given array to the specified target type,
+	 * resolving the converter once per distinct element class rather than once
+	 * per element.
+	 * @param source the source elements to convert (may contain {@code null})
+	 * @param targetType the target type to convert each element to (required),
+	 * also serving as the component type of the returned array
+	 * @return a new array with the converted elements
+	 * @throws ConversionException if a conversion exception occurred
+	 * @since 7.0
+	 * @see #convert(Object, Class)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T[] convertAll(Object[] source, Class<T> targetType) {
+		Assert.notNull(source, "Source array must not be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		Assert.isTrue(!targetType.isPrimitive(), "Target type must not be primitive");
+		ElementConverter<T> elementConverter = new ElementConverter<>(targetType);
+		T[] result = (T[]) Array.newInstance(targetType, source.length);
+		for (int i = 0; i < source.length; i++) {
+			result[i] = elementConverter.convert(source[i]);
+		}
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		return this.converters.toString();
@@ -260,6 +324,88 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	// Internal helpers
 
+	/**
+	 * Look up the converter for the given types, going through the class pair
+	 * cache for plain type descriptors.
+	 */
+	@Nullable
+	private GenericConverter lookupConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		if (this.classPairLookup && isPlain(sourceType) && isPlain(targetType)) {
+			return getClassPairConverter(sourceType.getType(), targetType.getType()).converter;
+		}
+		return getConverter(sourceType, targetType);
+	}
+
+	/**
+	 * Return the cached converter for the given classes, resolving it through
+	 * {@link #getConverter(TypeDescriptor, TypeDescriptor)} on a cache miss.
+	 * The cache hit path does not allocate.
+	 */
+	private ClassPairConverter getClassPairConverter(Class<?> sourceType, Class<?> targetType) {
+		Map<Class<?>, ClassPairConverter> targetCache = this.classPairCache.get(sourceType);
+		if (targetCache != null) {
+			ClassPairConverter cached = targetCache.get(targetType);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		else {
+			targetCache = new ConcurrentHashMap<>(8);
+			Map<Class<?>, ClassPairConverter> existing = this.classPairCache.putIfAbsent(sourceType, targetCache);
+			if (existing != null) {
+				targetCache = existing;
+			}
+		}
+		TypeDescriptor sourceTypeDesc = TypeDescriptor.valueOf(sourceType);
+		TypeDescriptor targetTypeDesc = TypeDescriptor.valueOf(targetType);
+		ClassPairConverter cached = new ClassPairConverter(
+				getConverter(sourceTypeDesc, targetTypeDesc), sourceTypeDesc, targetTypeDesc);
+		targetCache.put(targetType, cached);
+		return cached;
+	}
+
+	@Nullable
+	private Object convert(Object source, ClassPairConverter cached) {
+		GenericConverter converter = cached.converter;
+		if (converter != null) {
+			Object result = ConversionUtils.invokeConverter(converter, source, cached.sourceType, cached.targetType);
+			return handleResult(cached.sourceType, cached.targetType, result);
+		}
+		return handleConverterNotFound(source, cached.sourceType, cached.targetType);
+	}
+
+	/**
+	 * Determine whether the given type descriptor is equivalent to
+	 * {@link TypeDescriptor#valueOf} for its type, i.e. whether it carries
+	 * neither annotations nor generic type information.
+	 */
+	private static boolean isPlain(TypeDescriptor typeDescriptor) {
+		ResolvableType resolvableType = typeDescriptor.getResolvableType();
+		return (typeDescriptor.getAnnotations().length == 0 &&
+				resolvableType.getType() instanceof Class && !resolvableType.hasGenerics());
+	}
+
+	/**
+	 * Determine whether class pair lookups can be used for the given conversion
+	 * service class, which is not the case if it customizes converter lookup
+	 * or conversion through any of the methods that the lookup bypasses.
+	 */
+	private static boolean isClassPairLookupApplicable(Class<?> conversionServiceClass) {
+		if (conversionServiceClass == GenericConversionService.class ||
+				conversionServiceClass == DefaultConversionService.class) {
+			return true;
+		}
+		return (isNotOverridden(conversionServiceClass, "getConverter", TypeDescriptor.class, TypeDescriptor.class) &&
+				isNotOverridden(conversionServiceClass, "getDefaultConverter", TypeDescriptor.class, TypeDescriptor.class) &&
+				isNotOverridden(conversionServiceClass, "canConvert", TypeDescriptor.class, TypeDescriptor.class) &&
+				isNotOverridden(conversionServiceClass, "convert", Object.class, TypeDescriptor.class, TypeDescriptor.class));
+	}
+
+	private static boolean isNotOverridden(Class<?> conversionServiceClass, String methodName, Class<?>... paramTypes) {
+		Method method = ReflectionUtils.findMethod(conversionServiceClass, methodName, paramTypes);
+		return (method != null && method.getDeclaringClass() == GenericConversionService.class);
+	}
+
 	@Nullable
 	private ResolvableType[] getRequiredTypeInfo(Class<?> converterClass, Class<?> genericIfc) {
 		ResolvableType resolvableType = ResolvableType.forClass(converterClass).as(genericIfc);
@@ -277,6 +423,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.classPairCache.clear();
 	}
 
 	@Nullable
@@ -460,6 +607,58 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Entry in the class pair cache, holding the resolved converter (if any)
+	 * along with the type descriptors to invoke it with.
+	 */
+	private static final class ClassPairConverter {
+
+		@Nullable
+		final GenericConverter converter;
+
+		final TypeDescriptor sourceType;
+
+		final TypeDescriptor targetType;
+
+		ClassPairConverter(@Nullable GenericConverter converter, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.converter = converter;
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+	}
+
+
+	/**
+	 * Converts elements for bulk conversion, reusing the converter
+	 * resolved for the previous element if of the same class.
+	 */
+	private final class ElementConverter<T> {
+
+		private final Class<T> targetType;
+
+		@Nullable
+		private ClassPairConverter lastConverter;
+
+		ElementConverter(Class<T> targetType) {
+			this.targetType = targetType;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Nullable
+		T convert(@Nullable Object element) {
+			if (element == null || !classPairLookup) {
+				return GenericConversionService.this.convert(element, this.targetType);
+			}
+			ClassPairConverter converter = this.lastConverter;
+			if (converter == null || converter.sourceType.getType() != element.getClass()) {
+				converter = getClassPairConverter(element.getClass(), this.targetType);
+				this.lastConverter = converter;
+			}
+			return (T) GenericConversionService.this.convert(element, converter);
+		}
+	}
+
+
 	/**
 	 * Manages all converters registered with the service.
 	 */
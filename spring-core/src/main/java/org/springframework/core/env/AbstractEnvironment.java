@@ -531,6 +531,21 @@ public abstract class AbstractEnvironment implements ConfigurableEnvironment {
 		this.propertyResolver.setIgnoreUnresolvableNestedPlaceholders(ignoreUnresolvableNestedPlaceholders);
 	}
 
+	/**
+	 * Specify whether to resolve properties against an immutable snapshot of
+	 * the property sources, recreated whenever property sources are added,
+	 * removed or replaced.
+	 * <p>Default is {@code false}. Requires the default
+	 * {@link PropertySourcesPropertyResolver}.
+	 * @since 7.0
+	 * @see PropertySourcesPropertyResolver#setPropertySnapshotEnabled
+	 */
+	public void setPropertySnapshotEnabled(boolean propertySnapshotEnabled) {
+		Assert.state(this.propertyResolver instanceof PropertySourcesPropertyResolver,
+				"Property snapshots require a PropertySourcesPropertyResolver");
+		((PropertySourcesPropertyResolver) this.propertyResolver).setPropertySnapshotEnabled(propertySnapshotEnabled);
+	}
+
 	@Override
 	public void setRequiredProperties(String... requiredProperties) {
 		this.propertyResolver.setRequiredProperties(requiredProperties);
@@ -42,6 +42,8 @@ public class MutablePropertySources implements PropertySources {
 
 	private final List<PropertySource<?>> propertySourceList = new CopyOnWriteArrayList<>();
 
+	private volatile long version;
+
 
 	/**
 	 * Create a new {@link MutablePropertySources} object.
@@ -105,6 +107,7 @@ public class MutablePropertySources implements PropertySources {
 		synchronized (this.propertySourceList) {
 			removeIfPresent(propertySource);
 			this.propertySourceList.add(0, propertySource);
+			this.version++;
 		}
 	}
 
@@ -115,6 +118,7 @@ public class MutablePropertySources implements PropertySources {
 		synchronized (this.propertySourceList) {
 			removeIfPresent(propertySource);
 			this.propertySourceList.add(propertySource);
+			this.version++;
 		}
 	}
 
@@ -128,6 +132,7 @@ public class MutablePropertySources implements PropertySources {
 			removeIfPresent(propertySource);
 			int index = assertPresentAndGetIndex(relativePropertySourceName);
 			addAtIndex(index, propertySource);
+			this.version++;
 		}
 	}
 
@@ -141,6 +146,7 @@ public class MutablePropertySources implements PropertySources {
 			removeIfPresent(propertySource);
 			int index = assertPresentAndGetIndex(relativePropertySourceName);
 			addAtIndex(index + 1, propertySource);
+			this.version++;
 		}
 	}
 
@@ -159,7 +165,12 @@ public class MutablePropertySources implements PropertySources {
 	public PropertySource<?> remove(String name) {
 		synchronized (this.propertySourceList) {
 			int index = this.propertySourceList.indexOf(PropertySource.named(name));
-			return (index != -1 ? this.propertySourceList.remove(index) : null);
+			if (index == -1) {
+				return null;
+			}
+			PropertySource<?> removed = this.propertySourceList.remove(index);
+			this.version++;
+			return removed;
 		}
 	}
 
@@ -174,9 +185,21 @@ public class MutablePropertySources implements PropertySources {
 		synchronized (this.propertySourceList) {
 			int index = assertPresentAndGetIndex(name);
 			this.propertySourceList.set(index, propertySource);
+			this.version++;
 		}
 	}
 
+	/**
+	 * Return the current version of this {@code MutablePropertySources} object,
+	 * incremented whenever a property source gets added, removed or replaced.
+	 * <p>Note that changes within the contained property sources themselves
+	 * are not reflected in the version.
+	 * @since 7.0
+	 */
+	public long getVersion() {
+		return this.version;
+	}
+
 	/**
 	 * Return the number of {@link PropertySource} objects contained.
 	 */
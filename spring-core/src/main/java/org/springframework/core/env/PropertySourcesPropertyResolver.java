@@ -34,6 +34,11 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	@Nullable
 	private final PropertySources propertySources;
 
+	private boolean propertySnapshotEnabled;
+
+	@Nullable
+	private volatile PropertySourcesSnapshot propertySnapshot;
+
 
 	/**
 	 * Create a new resolver against the given property sources.
@@ -44,6 +49,35 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	}
 
 
+	/**
+	 * Specify whether to resolve properties against an immutable snapshot of
+	 * the property sources, rather than searching every property source on
+	 * each lookup.
+	 * <p>The snapshot flattens the properties of all
+	 * {@link EnumerablePropertySource EnumerablePropertySources} into a single map,
+	 * and gets recreated whenever property sources are added, removed or replaced
+	 * in the underlying {@link MutablePropertySources}. Changes within individual
+	 * property sources, for example, through {@code System.setProperty}, are not
+	 * detected: only enable this if the property sources do not change after
+	 * they have been added, or replace the affected property source on change.
+	 * <p>Default is {@code false}. Only applies to {@link MutablePropertySources}.
+	 * @since 7.0
+	 * @see MutablePropertySources#getVersion()
+	 */
+	public void setPropertySnapshotEnabled(boolean propertySnapshotEnabled) {
+		this.propertySnapshotEnabled = propertySnapshotEnabled;
+		this.propertySnapshot = null;
+	}
+
+	/**
+	 * Return whether properties get resolved against a snapshot of the
+	 * property sources.
+	 * @since 7.0
+	 */
+	public boolean isPropertySnapshotEnabled() {
+		return this.propertySnapshotEnabled;
+	}
+
 	@Override
 	public boolean containsProperty(String key) {
 		if (this.propertySources != null) {
@@ -76,7 +110,14 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 
 	@Nullable
 	protected <T> T getProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
-		if (this.propertySources != null) {
+		if (this.propertySnapshotEnabled && this.propertySources instanceof MutablePropertySources mps) {
+			PropertySourcesSnapshot.Property property = getPropertySnapshot(mps).getProperty(key);
+			if (property != null) {
+				return resolveFoundValue(
+						key, property.propertySource, property.value, targetValueType, resolveNestedPlaceholders);
+			}
+		}
+		else if (this.propertySources != null) {
 			for (PropertySource<?> propertySource : this.propertySources) {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Searching for key '" + key + "' in PropertySource '" +
@@ -84,17 +125,7 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 				}
 				Object value = propertySource.getProperty(key);
 				if (value != null) {
-					if (resolveNestedPlaceholders) {
-						if (value instanceof String string) {
-							value = resolveNestedPlaceholders(string);
-						}
-						else if ((value instanceof CharSequence cs) && (String.class.equals(targetValueType) ||
-								CharSequence.class.equals(targetValueType))) {
-							value = resolveNestedPlaceholders(cs.toString());
-						}
-					}
-					logKeyFound(key, propertySource, value);
-					return convertValueIfNecessary(value, targetValueType);
+					return resolveFoundValue(key, propertySource, value, targetValueType, resolveNestedPlaceholders);
 				}
 			}
 		}
@@ -104,6 +135,34 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		return null;
 	}
 
+	@Nullable
+	private <T> T resolveFoundValue(String key, PropertySource<?> propertySource, Object value,
+			Class<T> targetValueType, boolean resolveNestedPlaceholders) {
+
+		if (resolveNestedPlaceholders) {
+			if (value instanceof String string) {
+				value = resolveNestedPlaceholders(string);
+			}
+			else if ((value instanceof CharSequence cs) && (String.class.equals(targetValueType) ||
+					CharSequence.class.equals(targetValueType))) {
+				value = resolveNestedPlaceholders(cs.toString());
+			}
+		}
+		logKeyFound(key, propertySource, value);
+		return convertValueIfNecessary(value, targetValueType);
+	}
+
+	private PropertySourcesSnapshot getPropertySnapshot(MutablePropertySources propertySources) {
+		long version = propertySources.getVersion();
+		PropertySourcesSnapshot snapshot = this.propertySnapshot;
+		if (snapshot == null || snapshot.getVersion() != version) {
+			// Racing threads may create equivalent snapshots: no need to lock
+			snapshot = PropertySourcesSnapshot.of(propertySources, version);
+			this.propertySnapshot = snapshot;
+		}
+		return snapshot;
+	}
+
 	/**
 	 * Log the given key as found in the given {@link PropertySource}, resulting in
 	 * the given value.
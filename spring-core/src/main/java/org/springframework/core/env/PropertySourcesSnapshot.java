@@ -0,0 +1,212 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.env;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable snapshot of the properties in a {@link PropertySources} instance,
+ * flattening consecutive {@link EnumerablePropertySource EnumerablePropertySources}
+ * into a single map of property names to the first value found for each name.
+ *
+ * <p>Non-enumerable property sources are queried on every lookup, in their
+ * original order of precedence. Since a {@link SystemEnvironmentPropertySource}
+ * also resolves variants of a property name, a lookup that misses in the
+ * flattened map falls back to querying such sources, while the names of
+ * subsequent sources are matched against them when building the snapshot.
+ *
+ * @since 7.0
+ * @see PropertySourcesPropertyResolver#setPropertySnapshotEnabled
+ */
+final class PropertySourcesSnapshot {
+
+	private final long version;
+
+	private final Segment[] segments;
+
+
+	private PropertySourcesSnapshot(long version, Segment[] segments) {
+		this.version = version;
+		this.segments = segments;
+	}
+
+
+	/**
+	 * Return the version of the property sources that this snapshot was created for.
+	 * @see MutablePropertySources#getVersion()
+	 */
+	long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Find the property with the given name.
+	 * @param name the name of the property
+	 * @return the property, or {@code null} if not found
+	 */
+	@Nullable
+	Property getProperty(String name) {
+		for (Segment segment : this.segments) {
+			Property property = segment.getProperty(name);
+			if (property != null) {
+				return property;
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * Create a snapshot of the given property sources.
+	 * @param propertySources the property sources, in order of precedence
+	 * @param version the current version of the property sources, to be
+	 * obtained before the property sources are accessed
+	 */
+	static PropertySourcesSnapshot of(PropertySources propertySources, long version) {
+		List<Segment> segments = new ArrayList<>();
+		Map<String, Property> properties = null;
+		List<SystemEnvironmentPropertySource> environmentSources = new ArrayList<>();
+		for (PropertySource<?> propertySource : propertySources) {
+			String[] names = getPropertyNames(propertySource);
+			if (names == null) {
+				if (properties != null) {
+					segments.add(new Segment(properties, environmentSources));
+					properties = null;
+					environmentSources = new ArrayList<>();
+				}
+				segments.add(new Segment(propertySource));
+				continue;
+			}
+			if (properties == null) {
+				properties = new HashMap<>();
+			}
+			for (String name : names) {
+				if (!properties.containsKey(name)) {
+					Property property = findVariant(environmentSources, name);
+					if (property == null) {
+						Object value = propertySource.getProperty(name);
+						property = (value != null ? new Property(propertySource, value) : null);
+					}
+					if (property != null) {
+						properties.put(name, property);
+					}
+				}
+			}
+			if (propertySource instanceof SystemEnvironmentPropertySource environmentSource) {
+				environmentSources.add(environmentSource);
+			}
+		}
+		if (properties != null) {
+			segments.add(new Segment(properties, environmentSources));
+		}
+		return new PropertySourcesSnapshot(version, segments.toArray(new Segment[0]));
+	}
+
+	@Nullable
+	private static String[] getPropertyNames(PropertySource<?> propertySource) {
+		if (propertySource instanceof EnumerablePropertySource<?> enumerablePropertySource) {
+			try {
+				return enumerablePropertySource.getPropertyNames();
+			}
+			catch (IllegalStateException ex) {
+				// For example, a CompositePropertySource with non-enumerable nested sources
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Property findVariant(List<SystemEnvironmentPropertySource> environmentSources, String name) {
+		for (SystemEnvironmentPropertySource environmentSource : environmentSources) {
+			Object value = environmentSource.getProperty(name);
+			if (value != null) {
+				return new Property(environmentSource, value);
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * A property found in the snapshot, along with the source it was found in.
+	 */
+	static final class Property {
+
+		final PropertySource<?> propertySource;
+
+		final Object value;
+
+		Property(PropertySource<?> propertySource, Object value) {
+			this.propertySource = propertySource;
+			this.value = value;
+		}
+	}
+
+
+	/**
+	 * Either a flattened run of enumerable property sources or a single
+	 * non-enumerable property source.
+	 */
+	private static final class Segment {
+
+		@Nullable
+		private final Map<String, Property> properties;
+
+		private final SystemEnvironmentPropertySource[] environmentSources;
+
+		@Nullable
+		private final PropertySource<?> propertySource;
+
+		Segment(Map<String, Property> properties, List<SystemEnvironmentPropertySource> environmentSources) {
+			this.properties = properties;
+			this.environmentSources = environmentSources.toArray(new SystemEnvironmentPropertySource[0]);
+			this.propertySource = null;
+		}
+
+		Segment(PropertySource<?> propertySource) {
+			this.properties = null;
+			this.environmentSources = new SystemEnvironmentPropertySource[0];
+			this.propertySource = propertySource;
+		}
+
+		@Nullable
+		Property getProperty(String name) {
+			PropertySource<?> propertySource = this.propertySource;
+			if (propertySource != null) {
+				Object value = propertySource.getProperty(name);
+				return (value != null ? new Property(propertySource, value) : null);
+			}
+			Map<String, Property> properties = this.properties;
+			Property property = (properties != null ? properties.get(name) : null);
+			if (property == null) {
+				for (SystemEnvironmentPropertySource environmentSource : this.environmentSources) {
+					Object value = environmentSource.getProperty(name);
+					if (value != null) {
+						return new Property(environmentSource, value);
+					}
+				}
+			}
+			return property;
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
@@ -30,6 +31,7 @@ import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
@@ -752,10 +754,13 @@ public abstract class DataBufferUtils {
 
 		private final NestedMatcher[] matchers;
 
+		private final long[] firstBytePatterns;
+
 		byte[] longestDelimiter = NO_DELIMITER;
 
 		CompositeMatcher(byte[][] delimiters) {
 			this.matchers = initMatchers(delimiters);
+			this.firstBytePatterns = initFirstBytePatterns(delimiters);
 		}
 
 		private static NestedMatcher[] initMatchers(byte[][] delimiters) {
@@ -766,11 +771,26 @@ public abstract class DataBufferUtils {
 			return matchers;
 		}
 
+		private static long[] initFirstBytePatterns(byte[][] delimiters) {
+			return Arrays.stream(delimiters)
+					.mapToInt(delimiter -> delimiter[0])
+					.distinct()
+					.mapToLong(WordScanner::pattern)
+					.toArray();
+		}
+
 		@Override
 		public int match(DataBuffer dataBuffer) {
 			this.longestDelimiter = NO_DELIMITER;
 
 			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
+				if (!isMatching()) {
+					// skip ahead to a byte that can start one of the delimiters
+					pos = WordScanner.indexOfAny(dataBuffer, pos, this.firstBytePatterns);
+					if (pos == -1) {
+						return -1;
+					}
+				}
 				byte b = dataBuffer.getByte(pos);
 
 				for (NestedMatcher matcher : this.matchers) {
@@ -787,6 +807,15 @@ public abstract class DataBufferUtils {
 			return -1;
 		}
 
+		private boolean isMatching() {
+			for (NestedMatcher matcher : this.matchers) {
+				if (matcher.isMatching()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		@Override
 		public byte[] delimiter() {
 			Assert.state(this.longestDelimiter != NO_DELIMITER, "'delimiter' not set");
@@ -814,6 +843,12 @@ public abstract class DataBufferUtils {
 		 */
 		boolean match(byte b);
 
+		/**
+		 * Return whether a partial match is in progress, i.e. whether bytes
+		 * other than the first byte of the delimiter may complete a match.
+		 */
+		boolean isMatching();
+
 	}
 
 
@@ -826,20 +861,17 @@ public abstract class DataBufferUtils {
 
 		private final byte[] delimiter;
 
+		private final long[] patterns;
+
 		SingleByteMatcher(byte[] delimiter) {
 			Assert.isTrue(delimiter.length == 1, "Expected a 1 byte delimiter");
 			this.delimiter = delimiter;
+			this.patterns = new long[] {WordScanner.pattern(delimiter[0])};
 		}
 
 		@Override
 		public int match(DataBuffer dataBuffer) {
-			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
-				byte b = dataBuffer.getByte(pos);
-				if (match(b)) {
-					return pos;
-				}
-			}
-			return -1;
+			return WordScanner.indexOfAny(dataBuffer, dataBuffer.readPosition(), this.patterns);
 		}
 
 		@Override
@@ -847,6 +879,11 @@ public abstract class DataBufferUtils {
 			return this.delimiter[0] == b;
 		}
 
+		@Override
+		public boolean isMatching() {
+			return false;
+		}
+
 		@Override
 		public byte[] delimiter() {
 			return this.delimiter;
@@ -901,6 +938,11 @@ public abstract class DataBufferUtils {
 			return false;
 		}
 
+		@Override
+		public boolean isMatching() {
+			return (this.matches > 0);
+		}
+
 		@Override
 		public byte[] delimiter() {
 			return this.delimiter;
@@ -928,15 +970,32 @@ public abstract class DataBufferUtils {
 
 	/**
 	 * Implementation of {@link Matcher} that uses the Knuth-Morris-Pratt algorithm.
+	 * <p>When matching a whole {@link DataBuffer}, delimiters that lie entirely
+	 * within the buffer are found with Boyer-Moore-Horspool skipping instead,
+	 * while the Knuth-Morris-Pratt state is used for delimiters that span
+	 * buffers.
 	 * @see <a href="https://www.nayuki.io/page/knuth-morris-pratt-string-matching">Knuth-Morris-Pratt string matching</a>
 	 */
 	private static class KnuthMorrisPrattMatcher extends AbstractNestedMatcher {
 
 		private final int[] table;
 
+		private final int[] shifts;
+
 		public KnuthMorrisPrattMatcher(byte[] delimiter) {
 			super(delimiter);
 			this.table = longestSuffixPrefixTable(delimiter);
+			this.shifts = badCharacterShiftTable(delimiter);
+		}
+
+		private static int[] badCharacterShiftTable(byte[] delimiter) {
+			int last = delimiter.length - 1;
+			int[] result = new int[256];
+			Arrays.fill(result, delimiter.length);
+			for (int i = 0; i < last; i++) {
+				result[delimiter[i] & 0xFF] = last - i;
+			}
+			return result;
 		}
 
 		private static int[] longestSuffixPrefixTable(byte[] delimiter) {
@@ -955,6 +1014,47 @@ public abstract class DataBufferUtils {
 			return result;
 		}
 
+		@Override
+		public int match(DataBuffer dataBuffer) {
+			int pos = dataBuffer.readPosition();
+			int end = dataBuffer.writePosition();
+
+			// continue a partial match from the previous buffer
+			while (pos < end && isMatching()) {
+				if (match(dataBuffer.getByte(pos))) {
+					reset();
+					return pos;
+				}
+				pos++;
+			}
+
+			int endIndex = horspool(dataBuffer, pos, end);
+			if (endIndex != -1) {
+				return endIndex;
+			}
+
+			// no complete match: establish the partial match for the next buffer
+			for (int i = Math.max(pos, end - delimiter().length + 1); i < end; i++) {
+				match(dataBuffer.getByte(i));
+			}
+			return -1;
+		}
+
+		private int horspool(DataBuffer dataBuffer, int start, int end) {
+			byte[] delimiter = delimiter();
+			int last = delimiter.length - 1;
+			for (int i = start + last; i < end; i += this.shifts[dataBuffer.getByte(i) & 0xFF]) {
+				int k = 0;
+				while (dataBuffer.getByte(i - k) == delimiter[last - k]) {
+					if (k == last) {
+						return i;
+					}
+					k++;
+				}
+			}
+			return -1;
+		}
+
 		@Override
 		public boolean match(byte b) {
 			while (getMatches() > 0 && b != delimiter()[getMatches()]) {
@@ -965,6 +1065,75 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Scans the readable bytes of a {@link DataBuffer} for target bytes eight
+	 * bytes at a time, by reading its {@link ByteBuffer ByteBuffers} as longs
+	 * and testing all bytes of a long at once ("SIMD within a register").
+	 */
+	private static final class WordScanner {
+
+		private static final long ONES = 0x0101010101010101L;
+
+		private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+		/**
+		 * Return the given byte repeated in each byte of a long.
+		 */
+		static long pattern(int b) {
+			return ONES * (b & 0xFF);
+		}
+
+		/**
+		 * Find the index of the first readable byte at or after the given
+		 * index that is equal to one of the bytes of the given patterns.
+		 * @return the index, or {@code -1} if not found
+		 */
+		static int indexOfAny(DataBuffer dataBuffer, int fromIndex, long[] patterns) {
+			int offset = dataBuffer.readPosition();
+			try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					ByteBuffer byteBuffer = iterator.next();
+					int start = byteBuffer.position();
+					int limit = byteBuffer.limit();
+					int i = start + Math.max(fromIndex - offset, 0);
+					boolean bigEndian = (byteBuffer.order() == ByteOrder.BIG_ENDIAN);
+					for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+						long word = byteBuffer.getLong(i);
+						long matches = 0;
+						for (long pattern : patterns) {
+							matches |= zeroBytes(word ^ pattern);
+						}
+						if (matches != 0) {
+							int index = (bigEndian ?
+									Long.numberOfLeadingZeros(matches) : Long.numberOfTrailingZeros(matches)) >>> 3;
+							return offset + (i - start) + index;
+						}
+					}
+					for (; i < limit; i++) {
+						long b = byteBuffer.get(i) & 0xFF;
+						for (long pattern : patterns) {
+							if ((pattern & 0xFF) == b) {
+								return offset + (i - start);
+							}
+						}
+					}
+					offset += (limit - start);
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Return a long with the high bit set in each byte that is zero in the
+		 * given long, and no other bits set.
+		 */
+		private static long zeroBytes(long word) {
+			long t = (word & LOW_BITS) + LOW_BITS;
+			return ~(t | word | LOW_BITS);
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
 
 		private final ReadableByteChannel channel;
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.springframework.core.io.buffer.PooledByteBufferDataBufferFactory.PooledMemory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code PooledDataBuffer} interface that wraps a
+ * {@link DefaultDataBuffer} whose memory is pooled by a
+ * {@link PooledByteBufferDataBufferFactory}.
+ *
+ * <p>Slices of a buffer share its memory as well as its reference count, so
+ * that they do not need to be released separately, unless they have been
+ * retained. Splits of a buffer share its memory but have their own reference
+ * count. The memory returns to the pool once the buffer and all of its splits
+ * have been released.
+ *
+ * @since 7.0
+ * @see PooledByteBufferDataBufferFactory
+ */
+public final class PooledByteBufferDataBuffer implements PooledDataBuffer {
+
+	private final DefaultDataBuffer delegate;
+
+	@Nullable
+	private final PooledMemory memory;
+
+	private final PooledByteBufferDataBufferFactory bufferFactory;
+
+	private final AtomicInteger refCount;
+
+
+	PooledByteBufferDataBuffer(PooledByteBufferDataBufferFactory bufferFactory, DefaultDataBuffer delegate,
+			PooledMemory memory) {
+
+		Assert.notNull(bufferFactory, "BufferFactory must not be null");
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(memory, "Memory must not be null");
+
+		this.bufferFactory = bufferFactory;
+		this.delegate = delegate;
+		this.memory = memory;
+		this.refCount = new AtomicInteger(1);
+	}
+
+	PooledByteBufferDataBuffer(PooledByteBufferDataBufferFactory bufferFactory, DefaultDataBuffer delegate) {
+		Assert.notNull(bufferFactory, "BufferFactory must not be null");
+		Assert.notNull(delegate, "Delegate must not be null");
+
+		this.bufferFactory = bufferFactory;
+		this.delegate = delegate;
+		this.memory = null;
+		this.refCount = new AtomicInteger(1);
+	}
+
+	/**
+	 * Create a slice of the given buffer, sharing its memory and reference count.
+	 */
+	private PooledByteBufferDataBuffer(PooledByteBufferDataBuffer parent, DefaultDataBuffer delegateSlice) {
+		this.bufferFactory = parent.bufferFactory;
+		this.delegate = delegateSlice;
+		this.memory = parent.memory;
+		this.refCount = parent.refCount;
+	}
+
+
+	@Override
+	public boolean isAllocated() {
+		return this.refCount.get() > 0;
+	}
+
+	@Override
+	public PooledDataBuffer retain() {
+		this.refCount.updateAndGet(c -> (c != 0 ? c + 1 : 0));
+		return this;
+	}
+
+	@Override
+	public PooledDataBuffer touch(Object hint) {
+		if (this.memory != null) {
+			this.memory.touch(hint);
+		}
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		int result = this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c - 1;
+			}
+			else {
+				throw new IllegalStateException("PooledByteBufferDataBuffer already released: " + this);
+			}
+		});
+		if (result != 0) {
+			return false;
+		}
+		if (this.memory != null) {
+			this.memory.release();
+		}
+		return true;
+	}
+
+	@Override
+	public DataBufferFactory factory() {
+		return this.bufferFactory;
+	}
+
+
+	// delegation
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.indexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.lastIndexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.delegate.readableByteCount();
+	}
+
+	@Override
+	public int writableByteCount() {
+		return this.delegate.writableByteCount();
+	}
+
+	@Override
+	public int capacity() {
+		return this.delegate.capacity();
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer capacity(int capacity) {
+		this.delegate.capacity(capacity);
+		return this;
+	}
+
+	@Override
+	public DataBuffer ensureWritable(int capacity) {
+		this.delegate.ensureWritable(capacity);
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.delegate.readPosition();
+	}
+
+	@Override
+	public DataBuffer readPosition(int readPosition) {
+		this.delegate.readPosition(readPosition);
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.delegate.writePosition();
+	}
+
+	@Override
+	public DataBuffer writePosition(int writePosition) {
+		this.delegate.writePosition(writePosition);
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return this.delegate.getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		return this.delegate.read();
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination) {
+		this.delegate.read(destination);
+		return this;
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination, int offset, int length) {
+		this.delegate.read(destination, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte b) {
+		this.delegate.write(b);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source) {
+		this.delegate.write(source);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source, int offset, int length) {
+		this.delegate.write(source, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(DataBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(ByteBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer slice(int index, int length) {
+		return new PooledByteBufferDataBuffer(this, this.delegate.slice(index, length));
+	}
+
+	@Override
+	public DataBuffer split(int index) {
+		DefaultDataBuffer delegateSplit = this.delegate.split(index);
+		if (this.memory != null) {
+			this.memory.retain();
+			return new PooledByteBufferDataBuffer(this.bufferFactory, delegateSplit, this.memory);
+		}
+		else {
+			return new PooledByteBufferDataBuffer(this.bufferFactory, delegateSplit);
+		}
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer() {
+		return this.delegate.asByteBuffer();
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer(int index, int length) {
+		return this.delegate.asByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer toByteBuffer(int index, int length) {
+		return this.delegate.toByteBuffer(index, length);
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		this.delegate.toByteBuffer(srcPos, dest, destPos, length);
+	}
+
+	@Override
+	public ByteBufferIterator readableByteBuffers() {
+		return this.delegate.readableByteBuffers();
+	}
+
+	@Override
+	public ByteBufferIterator writableByteBuffers() {
+		return this.delegate.writableByteBuffers();
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		return this.delegate.toString(index, length, charset);
+	}
+
+
+	@Override
+	public boolean equals(Object other) {
+		return (this == other || (other instanceof PooledByteBufferDataBuffer otherBuffer &&
+				this.delegate.equals(otherBuffer.delegate)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.delegate.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PooledByteBufferDataBuffer (r: %d, w: %d, c: %d)",
+				readPosition(), writePosition(), capacity());
+	}
+
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that creates
+ * {@link PooledByteBufferDataBuffer} instances backed by pooled
+ * {@link ByteBuffer ByteBuffers}, for runtimes without a pooling allocator of
+ * their own, i.e. Servlet containers.
+ *
+ * <p>Requested capacities are rounded up to the next power of two to select a
+ * size class, starting at {@link DefaultDataBufferFactory#DEFAULT_INITIAL_CAPACITY}.
+ * Each size class is pooled in a number of arenas, selected by the current
+ * thread, to reduce contention. Buffers larger than the
+ * {@linkplain #PooledByteBufferDataBufferFactory(boolean, int, int) maximum
+ * pooled capacity} are allocated, and garbage collected, as usual.
+ *
+ * <p>Memory returns to the pool once all buffers sharing it, including
+ * {@linkplain DataBuffer#split(int) splits}, have been
+ * {@linkplain DataBufferUtils#release(DataBuffer) released}. If
+ * {@linkplain #setLeakDetection(boolean) leak detection} is enabled, memory that
+ * is garbage collected without having been released is logged, along with the
+ * last {@linkplain PooledDataBuffer#touch(Object) hint} it was given.
+ *
+ * @since 7.0
+ * @see PooledByteBufferDataBuffer
+ */
+public class PooledByteBufferDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The default maximum capacity of pooled buffers.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default maximum number of buffers pooled per size class and arena.
+	 */
+	public static final int DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS = 64;
+
+	private static final int MIN_SIZE_CLASS_SHIFT =
+			Integer.numberOfTrailingZeros(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+
+	private static final Log logger = LogFactory.getLog(PooledByteBufferDataBufferFactory.class);
+
+
+	private final DefaultDataBufferFactory delegate;
+
+	private final int maxPooledCapacity;
+
+	private final Arena[] arenas;
+
+	private volatile boolean leakDetection;
+
+
+	/**
+	 * Creates a new {@code PooledByteBufferDataBufferFactory} with default settings.
+	 */
+	public PooledByteBufferDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@code PooledByteBufferDataBufferFactory}, indicating whether
+	 * direct buffers should be created.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledByteBufferDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS);
+	}
+
+	/**
+	 * Creates a new {@code PooledByteBufferDataBufferFactory}, indicating whether
+	 * direct buffers should be created, and how much memory may be pooled.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledCapacity the capacity above which buffers are not pooled,
+	 * rounded up to the next power of two
+	 * @param maxBuffersPerSizeClass the maximum number of buffers to pool per
+	 * size class in each arena
+	 */
+	public PooledByteBufferDataBufferFactory(boolean preferDirect, int maxPooledCapacity, int maxBuffersPerSizeClass) {
+		Assert.isTrue(maxPooledCapacity >= DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY,
+				() -> "'maxPooledCapacity' should be at least " + DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+		Assert.isTrue(maxBuffersPerSizeClass > 0, "'maxBuffersPerSizeClass' should be larger than 0");
+		this.delegate = new DefaultDataBufferFactory(preferDirect);
+		int sizeClassCount = sizeClassIndex(maxPooledCapacity) + 1;
+		this.maxPooledCapacity = sizeClassCapacity(sizeClassCount - 1);
+		this.arenas = new Arena[arenaCount()];
+		for (int i = 0; i < this.arenas.length; i++) {
+			this.arenas[i] = new Arena(sizeClassCount, maxBuffersPerSizeClass);
+		}
+	}
+
+	private static int arenaCount() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		// Power of two for mask-based selection
+		return Integer.highestOneBit(Math.max(1, processors) * 2 - 1);
+	}
+
+
+	/**
+	 * Set whether to log memory that is garbage collected without having been
+	 * released. This adds the cost of registering every pooled allocation
+	 * with a {@link Cleaner}, and is therefore meant for testing and debugging.
+	 * <p>By default this is set to {@code false}.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is enabled.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+	/**
+	 * Return the number of buffers currently held in the pool, across all
+	 * size classes and arenas.
+	 */
+	public int getPooledBufferCount() {
+		int count = 0;
+		for (Arena arena : this.arenas) {
+			for (ArrayBlockingQueue<ByteBuffer> queue : arena.sizeClasses) {
+				count += queue.size();
+			}
+		}
+		return count;
+	}
+
+
+	@Override
+	@Deprecated
+	public PooledByteBufferDataBuffer allocateBuffer() {
+		return allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public PooledByteBufferDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		if (initialCapacity > this.maxPooledCapacity) {
+			return new PooledByteBufferDataBuffer(this, this.delegate.allocateBuffer(initialCapacity));
+		}
+		int index = sizeClassIndex(initialCapacity);
+		ByteBuffer byteBuffer = currentArena().sizeClasses[index].poll();
+		if (byteBuffer == null) {
+			int capacity = sizeClassCapacity(index);
+			byteBuffer = (isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+		}
+		PooledMemory memory = new PooledMemory(this, byteBuffer, index);
+		ByteBuffer slice = byteBuffer.clear().limit(initialCapacity).slice();
+		return new PooledByteBufferDataBuffer(this, DefaultDataBuffer.fromEmptyByteBuffer(this.delegate, slice), memory);
+	}
+
+	@Override
+	public PooledByteBufferDataBuffer wrap(ByteBuffer byteBuffer) {
+		return new PooledByteBufferDataBuffer(this, this.delegate.wrap(byteBuffer));
+	}
+
+	@Override
+	public PooledByteBufferDataBuffer wrap(byte[] bytes) {
+		return new PooledByteBufferDataBuffer(this, this.delegate.wrap(bytes));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation allocates a single buffer to contain the data in
+	 * {@code dataBuffers}, and releases the given buffers.
+	 */
+	@Override
+	public PooledByteBufferDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = 0;
+		for (DataBuffer dataBuffer : dataBuffers) {
+			capacity += dataBuffer.readableByteCount();
+		}
+		PooledByteBufferDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.delegate.isDirect();
+	}
+
+	private Arena currentArena() {
+		return this.arenas[System.identityHashCode(Thread.currentThread()) & (this.arenas.length - 1)];
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+		return Math.max(shift - MIN_SIZE_CLASS_SHIFT, 0);
+	}
+
+	private static int sizeClassCapacity(int index) {
+		return 1 << (index + MIN_SIZE_CLASS_SHIFT);
+	}
+
+	void recycle(ByteBuffer byteBuffer, int sizeClassIndex) {
+		// Dropped if the pool is full, in which case it's garbage collected
+		currentArena().sizeClasses[sizeClassIndex].offer(byteBuffer);
+	}
+
+	@Override
+	public String toString() {
+		return "PooledByteBufferDataBufferFactory (preferDirect=" + isDirect() +
+				", maxPooledCapacity=" + this.maxPooledCapacity + ")";
+	}
+
+
+	/**
+	 * Bounded pools of buffers, one per size class.
+	 */
+	private static final class Arena {
+
+		final ArrayBlockingQueue<ByteBuffer>[] sizeClasses;
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		Arena(int sizeClassCount, int maxBuffersPerSizeClass) {
+			this.sizeClasses = new ArrayBlockingQueue[sizeClassCount];
+			for (int i = 0; i < sizeClassCount; i++) {
+				this.sizeClasses[i] = new ArrayBlockingQueue<>(maxBuffersPerSizeClass);
+			}
+		}
+	}
+
+
+	/**
+	 * Reference-counted pooled memory, shared by a buffer and its splits.
+	 */
+	static final class PooledMemory {
+
+		private final PooledByteBufferDataBufferFactory factory;
+
+		private final ByteBuffer byteBuffer;
+
+		private final int sizeClassIndex;
+
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		@Nullable
+		private final LeakState leakState;
+
+		PooledMemory(PooledByteBufferDataBufferFactory factory, ByteBuffer byteBuffer, int sizeClassIndex) {
+			this.factory = factory;
+			this.byteBuffer = byteBuffer;
+			this.sizeClassIndex = sizeClassIndex;
+			if (factory.isLeakDetection()) {
+				this.leakState = new LeakState(byteBuffer.capacity());
+				CleanerHolder.cleaner.register(this, this.leakState);
+			}
+			else {
+				this.leakState = null;
+			}
+		}
+
+		void retain() {
+			this.refCount.incrementAndGet();
+		}
+
+		void touch(Object hint) {
+			if (this.leakState != null) {
+				this.leakState.hint = hint.toString();
+			}
+		}
+
+		boolean release() {
+			if (this.refCount.decrementAndGet() != 0) {
+				return false;
+			}
+			if (this.leakState != null) {
+				this.leakState.released = true;
+			}
+			this.factory.recycle(this.byteBuffer, this.sizeClassIndex);
+			return true;
+		}
+	}
+
+
+	/**
+	 * State checked once pooled memory is garbage collected.
+	 */
+	private static final class LeakState implements Runnable {
+
+		private final int capacity;
+
+		volatile boolean released;
+
+		@Nullable
+		volatile String hint;
+
+		LeakState(int capacity) {
+			this.capacity = capacity;
+		}
+
+		@Override
+		public void run() {
+			if (!this.released) {
+				logger.error("Pooled buffer of capacity " + this.capacity + " was garbage collected without " +
+						"having been released" + (this.hint != null ? ", last hint: " + this.hint : ""));
+			}
+		}
+	}
+
+
+	/**
+	 * Holder for the {@link Cleaner}, to create its thread only when needed.
+	 */
+	private static final class CleanerHolder {
+
+		static final Cleaner cleaner = Cleaner.create();
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springframework.core.io.support;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReader;
@@ -37,17 +38,24 @@ import java.nio.file.FileSystems;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
@@ -62,6 +70,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -72,6 +81,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.PathMatcher;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ResourceUtils;
@@ -169,6 +179,12 @@ import org.springframework.util.StringUtils;
  * combined results. Consequently, some of the limitations of class path searches
  * may not apply when applications are deployed as modules.
  *
+ * <p>As of Spring Framework 7.0, pattern resolution can be performed in parallel
+ * on a {@link ForkJoinPool}, fanning out across the root locations of a pattern
+ * and across the entries of large jar files; see {@link #setForkJoinPool}. Jar
+ * entry listings are furthermore shared across resolver instances, as long as
+ * the size and the last-modified timestamp of the jar file remain unchanged.
+ *
  * <p><b>WARNING:</b> Note that "{@code classpath*:}" when combined with
  * Ant-style patterns will only work reliably with at least one root directory
  * before the pattern starts, unless the actual target files reside in the file
@@ -235,6 +251,32 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	private static final Predicate<ResolvedModule> isNotSystemModule =
 			resolvedModule -> !systemModuleNames.contains(resolvedModule.name());
 
+	/**
+	 * System property that instructs Spring to resolve class path patterns in
+	 * parallel, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 * This also applies to reading class metadata during component scanning.
+	 * <p>By default, resource patterns are resolved sequentially.
+	 * @since 7.0
+	 * @see #setForkJoinPool
+	 */
+	public static final String PARALLEL_SCANNING_PROPERTY_NAME = "spring.scanning.parallel";
+
+	private static final boolean shouldScanInParallel = SpringProperties.getFlag(PARALLEL_SCANNING_PROPERTY_NAME);
+
+	/**
+	 * Minimum number of jar entries below a root directory for matching them
+	 * in parallel.
+	 */
+	private static final int PARALLEL_MATCHING_THRESHOLD = 1024;
+
+	/**
+	 * Jar entry listings shared across resolver instances, keyed by jar file URL.
+	 * Only used for jar files in the file system, validated against their size
+	 * and last-modified timestamp.
+	 * @since 7.0
+	 */
+	private static final Map<String, JarEntriesListing> sharedJarEntriesCache = new ConcurrentReferenceHashMap<>();
+
 	@Nullable
 	private static Method equinoxResolveMethod;
 
@@ -263,6 +305,9 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	@Nullable
 	private volatile Set<ClassPathManifestEntry> manifestEntriesCache;
 
+	@Nullable
+	private ForkJoinPool forkJoinPool = (shouldScanInParallel ? ForkJoinPool.commonPool() : null);
+
 
 	/**
 	 * Create a {@code PathMatchingResourcePatternResolver} with a
@@ -330,6 +375,32 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Set the {@link ForkJoinPool} to resolve resource patterns with in parallel,
+	 * across the root locations of a pattern as well as across the entries of
+	 * large jar files. The order of the resolved resources is retained.
+	 * <p>Default is none, resolving resource patterns sequentially, unless the
+	 * {@value #PARALLEL_SCANNING_PROPERTY_NAME} property is set, in which case
+	 * the {@linkplain ForkJoinPool#commonPool() common pool} is used.
+	 * <p>Note that the configured {@link #setPathMatcher PathMatcher} needs to be
+	 * thread-safe for parallel resolution, as is the case for the default
+	 * {@link AntPathMatcher}.
+	 * @since 7.0
+	 */
+	public void setForkJoinPool(@Nullable ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Return the {@link ForkJoinPool} to resolve resource patterns with in
+	 * parallel, if any.
+	 * @since 7.0
+	 */
+	@Nullable
+	public ForkJoinPool getForkJoinPool() {
+		return this.forkJoinPool;
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -688,29 +759,23 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			}
 		}
 
+		// Create sub-resource for requested sub-location from cached common root directory, if necessary.
+		String relativeRootPath = (actualRootPath != null && actualRootPath.length() < rootDirPath.length() ?
+				rootDirPath.substring(actualRootPath.length()) : null);
 		Set<Resource> result = new LinkedHashSet<>(64);
-		for (Resource rootDirResource : rootDirResources) {
-			if (actualRootPath != null && actualRootPath.length() < rootDirPath.length()) {
-				// Create sub-resource for requested sub-location from cached common root directory.
-				rootDirResource = rootDirResource.createRelative(rootDirPath.substring(actualRootPath.length()));
+		ForkJoinPool forkJoinPool = this.forkJoinPool;
+		if (forkJoinPool != null && rootDirResources.length > 1) {
+			List<Callable<Set<Resource>>> tasks = new ArrayList<>(rootDirResources.length);
+			for (Resource rootDirResource : rootDirResources) {
+				tasks.add(() -> findPathMatchingResources(rootDirResource, relativeRootPath, subPattern));
 			}
-			rootDirResource = resolveRootDirResource(rootDirResource);
-			URL rootDirUrl = rootDirResource.getURL();
-			if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
-				URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
-				if (resolvedUrl != null) {
-					rootDirUrl = resolvedUrl;
-				}
-				rootDirResource = new UrlResource(rootDirUrl);
-			}
-			if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
-				result.addAll(VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher()));
-			}
-			else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
-				result.addAll(doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern));
+			for (Future<Set<Resource>> future : forkJoinPool.invokeAll(tasks)) {
+				result.addAll(getResult(future));
 			}
-			else {
-				result.addAll(doFindPathMatchingFileResources(rootDirResource, subPattern));
+		}
+		else {
+			for (Resource rootDirResource : rootDirResources) {
+				result.addAll(findPathMatchingResources(rootDirResource, relativeRootPath, subPattern));
 			}
 		}
 		if (logger.isTraceEnabled()) {
@@ -719,6 +784,32 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return result.toArray(new Resource[0]);
 	}
 
+	private Set<Resource> findPathMatchingResources(Resource rootDirResource, @Nullable String relativeRootPath,
+			String subPattern) throws IOException {
+
+		if (relativeRootPath != null) {
+			rootDirResource = rootDirResource.createRelative(relativeRootPath);
+		}
+		rootDirResource = resolveRootDirResource(rootDirResource);
+		URL rootDirUrl = rootDirResource.getURL();
+		if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
+			URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
+			if (resolvedUrl != null) {
+				rootDirUrl = resolvedUrl;
+			}
+			rootDirResource = new UrlResource(rootDirUrl);
+		}
+		if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
+			return VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher());
+		}
+		else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
+			return doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+		}
+		else {
+			return doFindPathMatchingFileResources(rootDirResource, subPattern);
+		}
+	}
+
 	/**
 	 * Determine the root directory for the given location.
 	 * <p>Used for determining the starting point for file matching, resolving the
@@ -808,20 +899,23 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			jarFileUrl = urlFile.substring(0, separatorIndex);
 			rootEntryPath = urlFile.substring(separatorIndex + 2);  // both separators are 2 chars
 			NavigableSet<String> entriesCache = this.jarEntriesCache.get(jarFileUrl);
+			if (entriesCache == null) {
+				entriesCache = getSharedJarEntries(jarFileUrl);
+				if (entriesCache != null) {
+					this.jarEntriesCache.put(jarFileUrl, entriesCache);
+				}
+			}
 			if (entriesCache != null) {
-				Set<Resource> result = new LinkedHashSet<>(64);
+				List<String> entryPaths = new ArrayList<>();
 				// Search sorted entries from first entry with rootEntryPath prefix
 				for (String entryPath : entriesCache.tailSet(rootEntryPath, false)) {
 					if (!entryPath.startsWith(rootEntryPath)) {
 						// We are beyond the potential matches in the current TreeSet.
 						break;
 					}
-					String relativePath = entryPath.substring(rootEntryPath.length());
-					if (getPathMatcher().match(subPattern, relativePath)) {
-						result.add(rootDirResource.createRelative(relativePath));
-					}
+					entryPaths.add(entryPath);
 				}
-				return result;
+				return findMatchingJarEntries(rootDirResource, rootEntryPath, entryPaths, subPattern);
 			}
 		}
 
@@ -870,20 +964,26 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 				// The Sun JRE does not return a slash here, but BEA JRockit does.
 				rootEntryPath = rootEntryPath + "/";
 			}
-			Set<Resource> result = new LinkedHashSet<>(64);
+			// Determine jar file stamp before reading, in order to not share outdated entries.
+			File localJarFile = getLocalJarFile(jarFileUrl);
+			long jarFileLength = (localJarFile != null ? localJarFile.length() : 0);
+			long jarFileLastModified = (localJarFile != null ? localJarFile.lastModified() : 0);
+			List<String> entryPaths = new ArrayList<>();
 			NavigableSet<String> entriesCache = new TreeSet<>();
 			for (String entryPath : jarFile.stream().map(JarEntry::getName).sorted().toList()) {
 				entriesCache.add(entryPath);
 				if (entryPath.startsWith(rootEntryPath)) {
-					String relativePath = entryPath.substring(rootEntryPath.length());
-					if (getPathMatcher().match(subPattern, relativePath)) {
-						result.add(rootDirResource.createRelative(relativePath));
-					}
+					entryPaths.add(entryPath);
 				}
 			}
 			// Cache jar entries in TreeSet for efficient searching on re-encounter.
+			entriesCache = Collections.unmodifiableNavigableSet(entriesCache);
 			this.jarEntriesCache.put(jarFileUrl, entriesCache);
-			return result;
+			if (jarFileLastModified > 0) {
+				sharedJarEntriesCache.put(jarFileUrl,
+						new JarEntriesListing(jarFileLength, jarFileLastModified, entriesCache));
+			}
+			return findMatchingJarEntries(rootDirResource, rootEntryPath, entryPaths, subPattern);
 		}
 		finally {
 			if (closeJarFile) {
@@ -892,6 +992,38 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		}
 	}
 
+	/**
+	 * Match the given jar entries against the given sub pattern, in parallel
+	 * if a {@link #setForkJoinPool ForkJoinPool} is set and there are enough
+	 * entries to match.
+	 */
+	private Set<Resource> findMatchingJarEntries(Resource rootDirResource, String rootEntryPath,
+			List<String> entryPaths, String subPattern) throws IOException {
+
+		ForkJoinPool forkJoinPool = this.forkJoinPool;
+		Collection<String> relativePaths;
+		if (forkJoinPool != null && entryPaths.size() >= PARALLEL_MATCHING_THRESHOLD) {
+			relativePaths = getResult(forkJoinPool.submit(() -> entryPaths.parallelStream()
+					.map(entryPath -> entryPath.substring(rootEntryPath.length()))
+					.filter(relativePath -> getPathMatcher().match(subPattern, relativePath))
+					.toList()));
+		}
+		else {
+			relativePaths = new ArrayList<>();
+			for (String entryPath : entryPaths) {
+				String relativePath = entryPath.substring(rootEntryPath.length());
+				if (getPathMatcher().match(subPattern, relativePath)) {
+					relativePaths.add(relativePath);
+				}
+			}
+		}
+		Set<Resource> result = new LinkedHashSet<>(Math.max(64, relativePaths.size() * 2));
+		for (String relativePath : relativePaths) {
+			result.add(rootDirResource.createRelative(relativePath));
+		}
+		return result;
+	}
+
 	/**
 	 * Resolve the given jar file URL into a JarFile object.
 	 */
@@ -1099,6 +1231,67 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 				new FileSystemResource(uri.getPath()) : UrlResource.from(uri));
 	}
 
+	/**
+	 * Return the shared entries of the given jar file, provided that the jar
+	 * file has not changed since they have been cached.
+	 */
+	@Nullable
+	private static NavigableSet<String> getSharedJarEntries(String jarFileUrl) {
+		JarEntriesListing listing = sharedJarEntriesCache.get(jarFileUrl);
+		if (listing != null) {
+			File localJarFile = getLocalJarFile(jarFileUrl);
+			if (localJarFile != null && listing.length() == localJarFile.length() &&
+					listing.lastModified() == localJarFile.lastModified()) {
+				return listing.entries();
+			}
+			sharedJarEntriesCache.remove(jarFileUrl, listing);
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve the given jar file URL into a file, if it points to the file system.
+	 */
+	@Nullable
+	private static File getLocalJarFile(String jarFileUrl) {
+		if (!jarFileUrl.startsWith(ResourceUtils.FILE_URL_PREFIX)) {
+			return null;
+		}
+		try {
+			return new File(ResourceUtils.toURI(jarFileUrl).getSchemeSpecificPart());
+		}
+		catch (URISyntaxException ex) {
+			// Fallback for URLs that are not valid URIs (should hardly ever happen).
+			return new File(jarFileUrl.substring(ResourceUtils.FILE_URL_PREFIX.length()));
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted during parallel resource resolution");
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException uncheckedIOException) {
+				cause = uncheckedIOException.getCause();
+			}
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Parallel resource resolution failed", cause);
+		}
+	}
+
 	private static String stripLeadingSlash(String path) {
 		return (path.startsWith("/") ? path.substring(1) : path);
 	}
@@ -1194,6 +1387,14 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	}
 
 
+	/**
+	 * Entries of a jar file in the file system, along with the size and the
+	 * last-modified timestamp of the jar file at the time of reading them.
+	 */
+	private record JarEntriesListing(long length, long lastModified, NavigableSet<String> entries) {
+	}
+
+
 	/**
 	 * A single {@code Class-Path} manifest entry.
 	 */
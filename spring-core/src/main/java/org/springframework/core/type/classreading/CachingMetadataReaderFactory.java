@@ -31,6 +31,11 @@ import org.springframework.lang.Nullable;
  * caching a {@link MetadataReader} instance per Spring {@link Resource} handle
  * (i.e. per ".class" file).
  *
+ * <p>Cache misses are delegated to a {@link MetadataReaderCache} shared across
+ * factories, if {@linkplain #setSharedCache configured}. By default, this is the
+ * process-wide {@linkplain MetadataReaderCache#getSharedInstance() shared cache}
+ * if enabled.
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @since 2.5
@@ -44,6 +49,10 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	@Nullable
 	private Map<Resource, MetadataReader> metadataReaderCache;
 
+	/** MetadataReader cache shared across factories, if any. */
+	@Nullable
+	private MetadataReaderCache sharedCache = MetadataReaderCache.getSharedInstance();
+
 
 	/**
 	 * Create a new CachingMetadataReaderFactory for the default class loader,
@@ -113,30 +122,68 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	}
 
 
+	/**
+	 * Specify a {@link MetadataReaderCache} to consult before reading a class
+	 * file that is not present in this factory's own cache.
+	 * <p>Default is the process-wide {@linkplain MetadataReaderCache#getSharedInstance()
+	 * shared cache}, if enabled. Can be set to {@code null} in order to always
+	 * read class files on a cache miss.
+	 * @since 7.0
+	 */
+	public void setSharedCache(@Nullable MetadataReaderCache sharedCache) {
+		this.sharedCache = sharedCache;
+	}
+
+	/**
+	 * Return the {@link MetadataReaderCache} shared across factories, if any.
+	 * @since 7.0
+	 */
+	@Nullable
+	public MetadataReaderCache getSharedCache() {
+		return this.sharedCache;
+	}
+
+
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
 		if (this.metadataReaderCache instanceof ConcurrentMap) {
 			// No synchronization necessary...
 			MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 			if (metadataReader == null) {
-				metadataReader = super.getMetadataReader(resource);
+				metadataReader = readMetadata(resource);
 				this.metadataReaderCache.put(resource, metadataReader);
 			}
 			return metadataReader;
 		}
 		else if (this.metadataReaderCache != null) {
-			synchronized (this.metadataReaderCache) {
-				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
+			Map<Resource, MetadataReader> localCache = this.metadataReaderCache;
+			MetadataReader metadataReader;
+			synchronized (localCache) {
+				metadataReader = localCache.get(resource);
+			}
+			if (metadataReader == null) {
+				// Read outside of the lock, allowing for concurrent reading of different class files...
+				MetadataReader newMetadataReader = readMetadata(resource);
+				synchronized (localCache) {
+					metadataReader = localCache.putIfAbsent(resource, newMetadataReader);
+				}
 				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
-					this.metadataReaderCache.put(resource, metadataReader);
+					metadataReader = newMetadataReader;
 				}
-				return metadataReader;
 			}
+			return metadataReader;
 		}
 		else {
-			return super.getMetadataReader(resource);
+			return readMetadata(resource);
+		}
+	}
+
+	private MetadataReader readMetadata(Resource resource) throws IOException {
+		MetadataReaderCache sharedCache = this.sharedCache;
+		if (sharedCache != null) {
+			return sharedCache.getMetadataReader(resource, getResourceLoader().getClassLoader());
 		}
+		return super.getMetadataReader(resource);
 	}
 
 	/**
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Concurrent, bounded cache of {@link MetadataReader} instances which can be
+ * shared across {@link MetadataReaderFactory} instances, and therefore across
+ * application contexts.
+ *
+ * <p>Entries are keyed by the URL and last-modified timestamp of the class file
+ * as well as by the {@link ClassLoader} used for resolving annotation types, so
+ * that a modified class file is read again. Resources without a URL or without
+ * a last-modified timestamp are not cached. Once the cache limit is reached,
+ * the least recently used entries get evicted.
+ *
+ * <p>A process-wide {@linkplain #getSharedInstance() shared instance} can be
+ * enabled through the {@value #SHARED_CACHE_LIMIT_PROPERTY_NAME} property, in
+ * which case it is used by all {@link CachingMetadataReaderFactory} instances.
+ * This is primarily useful in test suites and in applications with several
+ * application contexts, which would otherwise parse the same classes for every
+ * context. Note that cached metadata holds on to the annotation types, and
+ * therefore to their class loaders, until evicted.
+ *
+ * @since 7.0
+ * @see CachingMetadataReaderFactory#setSharedCache
+ */
+public final class MetadataReaderCache {
+
+	/**
+	 * System property that enables the {@linkplain #getSharedInstance() shared
+	 * cache}, specifying its maximum number of entries. The shared cache is
+	 * disabled by default.
+	 */
+	public static final String SHARED_CACHE_LIMIT_PROPERTY_NAME = "spring.classreading.cache.limit";
+
+	@Nullable
+	private static final MetadataReaderCache sharedInstance = createSharedInstance();
+
+
+	private final ConcurrentLruCache<CacheKey, MetadataReader> cache;
+
+	private final LongAdder lookupCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+
+	/**
+	 * Create a new cache with the given maximum number of entries.
+	 * @param cacheLimit the maximum number of entries
+	 */
+	public MetadataReaderCache(int cacheLimit) {
+		this.cache = new ConcurrentLruCache<>(cacheLimit, this::readMetadata);
+	}
+
+
+	/**
+	 * Return a {@link MetadataReader} for the given resource, reading the class
+	 * file if not cached yet.
+	 * @param resource the resource pointing to a class file
+	 * @param classLoader the ClassLoader to resolve annotation types against
+	 * @return the metadata reader
+	 * @throws IOException in case of I/O failure
+	 */
+	public MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		CacheKey key = createKey(resource, classLoader);
+		if (key == null) {
+			return new SimpleMetadataReader(resource, classLoader);
+		}
+		this.lookupCount.increment();
+		try {
+			return this.cache.get(key);
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	@Nullable
+	private CacheKey createKey(Resource resource, @Nullable ClassLoader classLoader) {
+		try {
+			URL url = resource.getURL();
+			long lastModified = resource.lastModified();
+			return (lastModified > 0 ? new CacheKey(url.toExternalForm(), lastModified, classLoader, resource) : null);
+		}
+		catch (IOException ex) {
+			// No URL or last-modified timestamp: not cacheable
+			return null;
+		}
+	}
+
+	private MetadataReader readMetadata(CacheKey key) {
+		this.missCount.increment();
+		try {
+			return new SimpleMetadataReader(key.resource, key.classLoader);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Return the number of cacheable lookups performed so far.
+	 */
+	public long getLookupCount() {
+		return this.lookupCount.sum();
+	}
+
+	/**
+	 * Return the number of cacheable lookups that were served from the cache.
+	 */
+	public long getHitCount() {
+		return Math.max(0, getLookupCount() - getMissCount());
+	}
+
+	/**
+	 * Return the number of cacheable lookups that required reading the class file.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the current number of cached entries.
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Remove all entries from the cache. Statistics are retained.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+
+	/**
+	 * Return the process-wide shared cache, if enabled through the
+	 * {@value #SHARED_CACHE_LIMIT_PROPERTY_NAME} property.
+	 * @return the shared cache, or {@code null} if not enabled
+	 */
+	@Nullable
+	public static MetadataReaderCache getSharedInstance() {
+		return sharedInstance;
+	}
+
+	@Nullable
+	private static MetadataReaderCache createSharedInstance() {
+		String cacheLimit = SpringProperties.getProperty(SHARED_CACHE_LIMIT_PROPERTY_NAME);
+		if (cacheLimit != null) {
+			try {
+				int limit = Integer.parseInt(cacheLimit.trim());
+				if (limit > 0) {
+					return new MetadataReaderCache(limit);
+				}
+			}
+			catch (NumberFormatException ex) {
+				throw new IllegalArgumentException("Invalid value '" + cacheLimit + "' for property '" +
+						SHARED_CACHE_LIMIT_PROPERTY_NAME + "': must be an integer", ex);
+			}
+		}
+		return null;
+	}
+
+
+	private static final class CacheKey {
+
+		private final String url;
+
+		private final long lastModified;
+
+		@Nullable
+		private final ClassLoader classLoader;
+
+		private final Resource resource;
+
+		CacheKey(String url, long lastModified, @Nullable ClassLoader classLoader, Resource resource) {
+			this.url = url;
+			this.lastModified = lastModified;
+			this.classLoader = classLoader;
+			this.resource = resource;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof CacheKey that && this.url.equals(that.url) &&
+					this.lastModified == that.lastModified && this.classLoader == that.classLoader));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.url.hashCode() * 31 + Long.hashCode(this.lastModified);
+		}
+
+		@Override
+		public String toString() {
+			return this.url;
+		}
+	}
+
+}
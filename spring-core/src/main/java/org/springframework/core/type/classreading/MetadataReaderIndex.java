@@ -0,0 +1,604 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotation.Adapt;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.StandardMethodMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Compact binary index of the {@link AnnotationMetadata} of a set of classes,
+ * from which {@link MetadataReader} instances can be obtained without parsing
+ * the corresponding class files.
+ *
+ * <p>An index is typically {@linkplain #write written} at build time, based on
+ * metadata read via ASM, and {@linkplain #read read} at runtime. The metadata
+ * for a given class is only decoded on first access. Like for class file
+ * parsing, annotation and enum types referenced by the metadata get loaded at
+ * that point, whereas class attribute values are exposed as class names.
+ *
+ * @since 7.0
+ * @see SimpleMetadataReaderFactory
+ */
+public final class MetadataReaderIndex {
+
+	private static final int MAGIC = 0x53504d49;
+
+	private static final int VERSION = 1;
+
+	private static final byte EMPTY = 0;
+
+	private static final byte STRING = 's';
+
+	private static final byte BOOLEAN = 'Z';
+
+	private static final byte BYTE = 'B';
+
+	private static final byte CHAR = 'C';
+
+	private static final byte SHORT = 'S';
+
+	private static final byte INT = 'I';
+
+	private static final byte LONG = 'J';
+
+	private static final byte FLOAT = 'F';
+
+	private static final byte DOUBLE = 'D';
+
+	private static final byte ENUM = 'E';
+
+	private static final byte ANNOTATION = '@';
+
+	private static final byte ARRAY = '[';
+
+
+	@Nullable
+	private final ClassLoader classLoader;
+
+	private final String[] strings;
+
+	private final byte[] data;
+
+	private final Map<String, int[]> entries;
+
+	private final Map<String, MetadataReader> metadataReaderCache = new ConcurrentReferenceHashMap<>();
+
+
+	private MetadataReaderIndex(@Nullable ClassLoader classLoader, String[] strings, byte[] data,
+			Map<String, int[]> entries) {
+
+		this.classLoader = classLoader;
+		this.strings = strings;
+		this.data = data;
+		this.entries = entries;
+	}
+
+
+	/**
+	 * Return the names of all indexed classes, in the order they were written.
+	 */
+	public Set<String> getClassNames() {
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	/**
+	 * Determine whether the given class is indexed.
+	 * @param className the fully qualified class name
+	 */
+	public boolean contains(String className) {
+		return this.entries.containsKey(className);
+	}
+
+	/**
+	 * Obtain a {@link MetadataReader} for the given class.
+	 * <p>The {@linkplain MetadataReader#getResource() resource} of the returned
+	 * reader is the class path location of the class file, which does not
+	 * get read.
+	 * @param className the fully qualified class name
+	 * @return the metadata reader, or {@code null} if the class is not indexed
+	 */
+	@Nullable
+	public MetadataReader getMetadataReader(String className) {
+		MetadataReader metadataReader = this.metadataReaderCache.get(className);
+		if (metadataReader == null) {
+			int[] entry = this.entries.get(className);
+			if (entry == null) {
+				return null;
+			}
+			metadataReader = this.metadataReaderCache.computeIfAbsent(className, name -> decode(name, entry));
+		}
+		return metadataReader;
+	}
+
+	/**
+	 * Clear the cache of decoded metadata readers, if any.
+	 */
+	public void clearCache() {
+		this.metadataReaderCache.clear();
+	}
+
+	private MetadataReader decode(String className, int[] entry) {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(this.data, entry[0], entry[1]));
+		try {
+			int access = in.readInt();
+			String enclosingClassName = readNullableString(in);
+			String superClassName = readNullableString(in);
+			boolean independentInnerClass = in.readBoolean();
+			Set<String> interfaceNames = readStrings(in);
+			Set<String> memberClassNames = readStrings(in);
+			MergedAnnotations annotations = readAnnotations(in,
+					new SimpleAnnotationMetadataReadingVisitor.Source(className));
+			int methodCount = in.readInt();
+			Set<MethodMetadata> declaredMethods = new LinkedHashSet<>(methodCount);
+			for (int i = 0; i < methodCount; i++) {
+				String methodName = readString(in);
+				int methodAccess = in.readInt();
+				String returnTypeName = readString(in);
+				String descriptor = readString(in);
+				Object source = new SimpleMethodMetadataReadingVisitor.Source(className, methodName, descriptor);
+				declaredMethods.add(new SimpleMethodMetadata(methodName, methodAccess, className,
+						returnTypeName, source, readAnnotations(in, source)));
+			}
+			AnnotationMetadata metadata = new SimpleAnnotationMetadata(className, access, enclosingClassName,
+					superClassName, independentInnerClass, interfaceNames, memberClassNames, declaredMethods,
+					annotations);
+			Resource resource = new ClassPathResource(
+					ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX,
+					this.classLoader);
+			return new IndexedMetadataReader(resource, metadata);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Corrupt metadata index entry for class " + className, ex);
+		}
+	}
+
+	private MergedAnnotations readAnnotations(DataInputStream in, Object source) throws IOException {
+		int count = in.readInt();
+		List<MergedAnnotation<?>> annotations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String typeName = readString(in);
+			Map<String, Object> attributes = readAttributes(in);
+			Class<? extends Annotation> annotationType = resolveAnnotationType(typeName);
+			if (annotationType != null) {
+				annotations.add(MergedAnnotation.of(this.classLoader, source, annotationType, attributes));
+			}
+		}
+		return MergedAnnotations.of(annotations);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private Class<? extends Annotation> resolveAnnotationType(String typeName) {
+		try {
+			return (Class<? extends Annotation>) ClassUtils.forName(typeName, this.classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			// Same as for class file parsing: ignore annotations that are not present
+			return null;
+		}
+	}
+
+	private Map<String, Object> readAttributes(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		if (count == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, Object> attributes = new LinkedHashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			attributes.put(readString(in), readValue(in, in.readByte()));
+		}
+		return attributes;
+	}
+
+	private Object readValue(DataInputStream in, byte tag) throws IOException {
+		return switch (tag) {
+			case STRING -> readString(in);
+			case BOOLEAN -> in.readBoolean();
+			case BYTE -> in.readByte();
+			case CHAR -> in.readChar();
+			case SHORT -> in.readShort();
+			case INT -> in.readInt();
+			case LONG -> in.readLong();
+			case FLOAT -> in.readFloat();
+			case DOUBLE -> in.readDouble();
+			case ENUM -> readEnum(in, ClassUtils.resolveClassName(readString(in), this.classLoader));
+			case ANNOTATION -> readAttributes(in);
+			case ARRAY -> readArray(in);
+			default -> throw new IOException("Unknown attribute value tag: " + tag);
+		};
+	}
+
+	private Object readArray(DataInputStream in) throws IOException {
+		byte tag = in.readByte();
+		int length = in.readInt();
+		if (tag == EMPTY) {
+			return new Object[0];
+		}
+		Class<?> componentType = switch (tag) {
+			case STRING -> String.class;
+			case BOOLEAN -> boolean.class;
+			case BYTE -> byte.class;
+			case CHAR -> char.class;
+			case SHORT -> short.class;
+			case INT -> int.class;
+			case LONG -> long.class;
+			case FLOAT -> float.class;
+			case DOUBLE -> double.class;
+			case ENUM -> ClassUtils.resolveClassName(readString(in), this.classLoader);
+			case ANNOTATION -> Map.class;
+			default -> throw new IOException("Unknown attribute value tag: " + tag);
+		};
+		Object array = Array.newInstance(componentType, length);
+		for (int i = 0; i < length; i++) {
+			Array.set(array, i, (tag == ENUM ? readEnum(in, componentType) : readValue(in, tag)));
+		}
+		return array;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Enum<?> readEnum(DataInputStream in, Class<?> enumType) throws IOException {
+		return Enum.valueOf((Class) enumType, readString(in));
+	}
+
+	private Set<String> readStrings(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		Set<String> result = new LinkedHashSet<>(count);
+		for (int i = 0; i < count; i++) {
+			result.add(readString(in));
+		}
+		return result;
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		return this.strings[in.readInt()];
+	}
+
+	@Nullable
+	private String readNullableString(DataInputStream in) throws IOException {
+		int index = in.readInt();
+		return (index != -1 ? this.strings[index] : null);
+	}
+
+
+	/**
+	 * Write an index for the given class metadata to the given stream.
+	 * @param metadata the metadata of the classes to index, typically obtained
+	 * through a {@link SimpleMetadataReaderFactory}
+	 * @param out the stream to write to (not closed by this method)
+	 * @throws IOException in case of I/O errors
+	 */
+	public static void write(Collection<? extends AnnotationMetadata> metadata, OutputStream out)
+			throws IOException {
+
+		IndexWriter writer = new IndexWriter();
+		for (AnnotationMetadata classMetadata : metadata) {
+			writer.add(classMetadata);
+		}
+		writer.writeTo(out);
+	}
+
+	/**
+	 * Read an index from the given stream.
+	 * @param in the stream to read from (not closed by this method)
+	 * @param classLoader the class loader to resolve annotation and enum types
+	 * against when decoding class metadata
+	 * @return the index
+	 * @throws IOException in case of I/O errors or an invalid index format
+	 */
+	public static MetadataReaderIndex read(InputStream in, @Nullable ClassLoader classLoader) throws IOException {
+		DataInputStream input = new DataInputStream(in);
+		if (input.readInt() != MAGIC) {
+			throw new IOException("Not a metadata reader index");
+		}
+		int version = input.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported metadata reader index version: " + version);
+		}
+		String[] strings = new String[input.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			byte[] bytes = new byte[input.readInt()];
+			input.readFully(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		int entryCount = input.readInt();
+		Map<String, int[]> entries = new LinkedHashMap<>(entryCount * 2);
+		int offset = 0;
+		for (int i = 0; i < entryCount; i++) {
+			String className = strings[input.readInt()];
+			int length = input.readInt();
+			entries.put(className, new int[] {offset, length});
+			offset += length;
+		}
+		byte[] data = new byte[offset];
+		input.readFully(data);
+		return new MetadataReaderIndex(classLoader, strings, data, entries);
+	}
+
+
+	/**
+	 * Encoder for index entries, sharing a common string table.
+	 */
+	private static final class IndexWriter {
+
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		private final List<String> stringTable = new ArrayList<>();
+
+		private final Map<String, byte[]> entries = new LinkedHashMap<>();
+
+		void add(AnnotationMetadata metadata) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt((metadata.isInterface() ? Opcodes.ACC_INTERFACE : 0) |
+					(metadata.isAnnotation() ? Opcodes.ACC_ANNOTATION : 0) |
+					(metadata.isAbstract() ? Opcodes.ACC_ABSTRACT : 0) |
+					(metadata.isFinal() ? Opcodes.ACC_FINAL : 0));
+			writeNullableString(out, metadata.getEnclosingClassName());
+			writeNullableString(out, metadata.getSuperClassName());
+			out.writeBoolean(metadata.hasEnclosingClass() && metadata.isIndependent());
+			writeStrings(out, metadata.getInterfaceNames());
+			writeStrings(out, metadata.getMemberClassNames());
+			writeAnnotations(out, metadata.getAnnotations());
+			Set<MethodMetadata> methods = metadata.getDeclaredMethods();
+			out.writeInt(methods.size());
+			for (MethodMetadata method : methods) {
+				writeString(out, method.getMethodName());
+				out.writeInt((method.isAbstract() ? Opcodes.ACC_ABSTRACT : 0) |
+						(method.isStatic() ? Opcodes.ACC_STATIC : 0) |
+						(method.isFinal() ? Opcodes.ACC_FINAL : 0) |
+						(!method.isOverridable() && !method.isStatic() && !method.isFinal() ? Opcodes.ACC_PRIVATE : 0));
+				writeString(out, method.getReturnTypeName());
+				writeString(out, getDescriptor(method));
+				writeAnnotations(out, method.getAnnotations());
+			}
+			this.entries.put(metadata.getClassName(), bytes.toByteArray());
+		}
+
+		private String getDescriptor(MethodMetadata method) {
+			if (method instanceof SimpleMethodMetadata simpleMethod) {
+				String descriptor = simpleMethod.getDescriptor();
+				if (descriptor != null) {
+					return descriptor;
+				}
+			}
+			else if (method instanceof StandardMethodMetadata standardMethod) {
+				return Type.getMethodDescriptor(standardMethod.getIntrospectedMethod());
+			}
+			return "()V";
+		}
+
+		private void writeAnnotations(DataOutputStream out, MergedAnnotations annotations) throws IOException {
+			List<MergedAnnotation<Annotation>> declared = annotations.stream()
+					.filter(MergedAnnotation::isDirectlyPresent).toList();
+			out.writeInt(declared.size());
+			for (MergedAnnotation<Annotation> annotation : declared) {
+				writeString(out, annotation.getType().getName());
+				writeAttributes(out, annotation.asMap(mergedAnnotation -> new LinkedHashMap<>(),
+						Adapt.CLASS_TO_STRING, Adapt.ANNOTATION_TO_MAP));
+			}
+		}
+
+		private void writeAttributes(DataOutputStream out, Map<?, ?> attributes) throws IOException {
+			out.writeInt(attributes.size());
+			for (Map.Entry<?, ?> attribute : attributes.entrySet()) {
+				writeString(out, (String) attribute.getKey());
+				writeValue(out, attribute.getValue());
+			}
+		}
+
+		private void writeValue(DataOutputStream out, Object value) throws IOException {
+			if (value.getClass().isArray()) {
+				out.writeByte(ARRAY);
+				writeArray(out, value);
+				return;
+			}
+			byte tag = getTag(value);
+			out.writeByte(tag);
+			if (tag == ENUM) {
+				writeString(out, ((Enum<?>) value).getDeclaringClass().getName());
+			}
+			writeElement(out, tag, value);
+		}
+
+		private void writeArray(DataOutputStream out, Object array) throws IOException {
+			int length = Array.getLength(array);
+			if (length == 0) {
+				out.writeByte(EMPTY);
+				out.writeInt(0);
+				return;
+			}
+			Object first = Array.get(array, 0);
+			byte tag = getTag(first);
+			out.writeByte(tag);
+			out.writeInt(length);
+			if (tag == ENUM) {
+				writeString(out, ((Enum<?>) first).getDeclaringClass().getName());
+			}
+			for (int i = 0; i < length; i++) {
+				writeElement(out, tag, Array.get(array, i));
+			}
+		}
+
+		private byte getTag(Object value) {
+			if (value instanceof String) {
+				return STRING;
+			}
+			else if (value instanceof Boolean) {
+				return BOOLEAN;
+			}
+			else if (value instanceof Byte) {
+				return BYTE;
+			}
+			else if (value instanceof Character) {
+				return CHAR;
+			}
+			else if (value instanceof Short) {
+				return SHORT;
+			}
+			else if (value instanceof Integer) {
+				return INT;
+			}
+			else if (value instanceof Long) {
+				return LONG;
+			}
+			else if (value instanceof Float) {
+				return FLOAT;
+			}
+			else if (value instanceof Double) {
+				return DOUBLE;
+			}
+			else if (value instanceof Enum<?>) {
+				return ENUM;
+			}
+			else if (value instanceof Map<?, ?>) {
+				return ANNOTATION;
+			}
+			throw new IllegalArgumentException("Unsupported annotation attribute value: " + value);
+		}
+
+		private void writeElement(DataOutputStream out, byte tag, Object value) throws IOException {
+			switch (tag) {
+				case STRING -> writeString(out, (String) value);
+				case BOOLEAN -> out.writeBoolean((Boolean) value);
+				case BYTE -> out.writeByte((Byte) value);
+				case CHAR -> out.writeChar((Character) value);
+				case SHORT -> out.writeShort((Short) value);
+				case INT -> out.writeInt((Integer) value);
+				case LONG -> out.writeLong((Long) value);
+				case FLOAT -> out.writeFloat((Float) value);
+				case DOUBLE -> out.writeDouble((Double) value);
+				case ENUM -> writeString(out, ((Enum<?>) value).name());
+				default -> writeAttributes(out, (Map<?, ?>) value);
+			}
+		}
+
+		private void writeStrings(DataOutputStream out, String[] values) throws IOException {
+			out.writeInt(values.length);
+			for (String value : values) {
+				writeString(out, value);
+			}
+		}
+
+		private void writeNullableString(DataOutputStream out, @Nullable String value) throws IOException {
+			if (value != null) {
+				writeString(out, value);
+			}
+			else {
+				out.writeInt(-1);
+			}
+		}
+
+		private void writeString(DataOutputStream out, String value) throws IOException {
+			Integer index = this.strings.get(value);
+			if (index == null) {
+				index = this.stringTable.size();
+				this.strings.put(value, index);
+				this.stringTable.add(value);
+			}
+			out.writeInt(index);
+		}
+
+		void writeTo(OutputStream stream) throws IOException {
+			DataOutputStream out = new DataOutputStream(stream);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			// Register class names before writing the string table
+			List<Integer> classNameIndexes = new ArrayList<>(this.entries.size());
+			for (String className : this.entries.keySet()) {
+				Integer index = this.strings.get(className);
+				if (index == null) {
+					index = this.stringTable.size();
+					this.strings.put(className, index);
+					this.stringTable.add(className);
+				}
+				classNameIndexes.add(index);
+			}
+			out.writeInt(this.stringTable.size());
+			for (String value : this.stringTable) {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			out.writeInt(this.entries.size());
+			int i = 0;
+			for (byte[] entry : this.entries.values()) {
+				out.writeInt(classNameIndexes.get(i++));
+				out.writeInt(entry.length);
+			}
+			for (byte[] entry : this.entries.values()) {
+				out.write(entry);
+			}
+			out.flush();
+		}
+	}
+
+
+	/**
+	 * {@link MetadataReader} for an index entry.
+	 */
+	private record IndexedMetadataReader(Resource resource, AnnotationMetadata annotationMetadata)
+			implements MetadataReader {
+
+		@Override
+		public Resource getResource() {
+			return this.resource;
+		}
+
+		@Override
+		public ClassMetadata getClassMetadata() {
+			return this.annotationMetadata;
+		}
+
+		@Override
+		public AnnotationMetadata getAnnotationMetadata() {
+			return this.annotationMetadata;
+		}
+	}
+
+}
@@ -95,6 +95,12 @@ final class SimpleMethodMetadata implements MethodMetadata {
 		return (this.access & Opcodes.ACC_PRIVATE) != 0;
 	}
 
+	@Nullable
+	String getDescriptor() {
+		return (this.source instanceof SimpleMethodMetadataReadingVisitor.Source methodSource ?
+				methodSource.getDescriptor() : null);
+	}
+
 	@Override
 	public MergedAnnotations getAnnotations() {
 		return this.annotations;
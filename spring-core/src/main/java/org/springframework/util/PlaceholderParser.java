@@ -55,6 +55,8 @@ import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
  * escaping is conditional on providing non-null values for them.
  *
  * <p>This parser makes sure to resolves placeholders as lazily as possible.
+ * Parsed values are cached in a bounded cache, so that resolving the same value
+ * repeatedly only involves the lookups of its placeholders.
  *
  * @author Stephane Nicoll
  * @since 6.2
@@ -69,6 +71,8 @@ final class PlaceholderParser {
 			")", "("
 		);
 
+	private static final int PARSED_VALUE_CACHE_LIMIT = 256;
+
 
 	private final String prefix;
 
@@ -84,6 +88,9 @@ final class PlaceholderParser {
 	@Nullable
 	private final Character escape;
 
+	private final ConcurrentLruCache<String, List<Part>> parsedValueCache =
+			new ConcurrentLruCache<>(PARSED_VALUE_CACHE_LIMIT, value -> List.copyOf(parse(value, false)));
+
 
 	/**
 	 * Create an instance using the specified input for the parser.
@@ -123,8 +130,7 @@ final class PlaceholderParser {
 		Assert.notNull(value, "'value' must not be null");
 		ParsedValue parsedValue = parse(value);
 		PartResolutionContext resolutionContext = new PartResolutionContext(placeholderResolver,
-				this.prefix, this.suffix, this.ignoreUnresolvablePlaceholders,
-				candidate -> parse(candidate, false));
+				this.prefix, this.suffix, this.ignoreUnresolvablePlaceholders, this::parseParts);
 		return parsedValue.resolve(resolutionContext);
 	}
 
@@ -134,10 +140,18 @@ final class PlaceholderParser {
 	 * @return the different parts that have been identified
 	 */
 	ParsedValue parse(String value) {
-		List<Part> parts = parse(value, false);
+		List<Part> parts = parseParts(value);
 		return new ParsedValue(value, parts);
 	}
 
+	private List<Part> parseParts(String value) {
+		if (nextStartPrefix(value, 0) == -1) {
+			// Plain text, not worth caching
+			return List.of(new TextPart(value));
+		}
+		return this.parsedValueCache.get(value);
+	}
+
 	private List<Part> parse(String value, boolean inPlaceholder) {
 		LinkedList<Part> parts = new LinkedList<>();
 		int startIndex = nextStartPrefix(value, 0);
@@ -460,10 +474,8 @@ final class PlaceholderParser {
 				resolutionContext.flagPlaceholderAsVisited(text);
 				// Let's check if we need to recursively resolve that value
 				List<Part> nestedParts = resolutionContext.parse(resolvedValue);
-				String value = toText(nestedParts);
-				if (!isTextOnly(nestedParts)) {
-					value = new ParsedValue(resolvedValue, nestedParts).resolve(resolutionContext);
-				}
+				String value = (isTextOnly(nestedParts) ? toText(nestedParts) :
+						new ParsedValue(resolvedValue, nestedParts).resolve(resolutionContext));
 				resolutionContext.removePlaceholder(text);
 				return value;
 			}
@@ -476,6 +488,9 @@ final class PlaceholderParser {
 		}
 
 		private String toText(List<Part> parts) {
+			if (parts.size() == 1) {
+				return parts.get(0).text();
+			}
 			StringBuilder sb = new StringBuilder();
 			parts.forEach(part -> sb.append(part.text()));
 			return sb.toString();
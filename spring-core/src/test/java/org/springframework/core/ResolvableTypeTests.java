@@ -108,6 +108,14 @@ class ResolvableTypeTests {
 		assertThat(type.isAssignableFrom(ArrayList.class)).isFalse();
 	}
 
+	@Test
+	void forClassReturnsSharedInstance() {
+		assertThat(ResolvableType.forClass(ExtendsList.class)).isSameAs(ResolvableType.forClass(ExtendsList.class));
+		assertThat(ResolvableType.forClass(null)).isSameAs(ResolvableType.forClass(Object.class));
+		assertThat(ResolvableType.forType(ExtendsList.class)).isSameAs(ResolvableType.forClass(ExtendsList.class));
+		assertThat(ResolvableType.forRawClass(ExtendsList.class)).isNotSameAs(ResolvableType.forClass(ExtendsList.class));
+	}
+
 	@Test
 	void forClassWithNull() {
 		ResolvableType type = ResolvableType.forClass(null);
@@ -1444,6 +1452,48 @@ class ResolvableTypeTests {
 		assertThat(repository3.isAssignableFromResolvedPart(repository2)).isTrue();
 	}
 
+	@Test
+	void genericsSharedBetweenEqualTypes() throws Exception {
+		ResolvableType type1 = ResolvableType.forField(Fields.class.getField("stringListList"));
+		ResolvableType type2 = ResolvableType.forField(Fields.class.getField("stringListList"));
+		assertThat(type1).isNotSameAs(type2);
+		assertThat(type1.getGeneric()).isSameAs(type2.getGeneric());
+		assertThat(type1.getGeneric(0, 0).resolve()).isEqualTo(String.class);
+	}
+
+	@Test
+	void getGenericsReturnsCopyOfSharedGenerics() throws Exception {
+		ResolvableType type1 = ResolvableType.forField(Fields.class.getField("stringListList"));
+		ResolvableType type2 = ResolvableType.forField(Fields.class.getField("stringListList"));
+		ResolvableType[] generics = type1.getGenerics();
+		assertThat(generics).isNotSameAs(type1.getGenerics());
+		generics[0] = ResolvableType.NONE;
+		assertThat(type1.getGeneric().resolve()).isEqualTo(List.class);
+		assertThat(type2.getGenerics()[0].resolve()).isEqualTo(List.class);
+
+		ResolvableType[] classGenerics = ResolvableType.forClass(Map.class).getGenerics();
+		classGenerics[1] = ResolvableType.NONE;
+		assertThat(ResolvableType.forClass(Map.class).getGeneric(1)).isNotEqualTo(ResolvableType.NONE);
+	}
+
+	@Test
+	void isAssignableFromWithRepeatedChecks() throws Exception {
+		ResolvableType charSequenceList = ResolvableType.forField(Fields.class.getField("charSequenceList"));
+		ResolvableType stringList = ResolvableType.forField(Fields.class.getField("stringList"));
+		ResolvableType wildcardType = ResolvableType.forField(Fields.class.getField("wildcardType"));
+		ResolvableType integerList = ResolvableType.forClassWithGenerics(List.class, Integer.class);
+		for (int i = 0; i < 3; i++) {
+			assertThat(charSequenceList.isAssignableFrom(stringList)).isFalse();
+			assertThat(stringList.isAssignableFrom(stringList)).isTrue();
+			assertThat(wildcardType.isAssignableFrom(integerList)).isTrue();
+			assertThat(wildcardType.isAssignableFrom(stringList)).isFalse();
+			assertThat(ResolvableType.forRawClass(List.class).isAssignableFrom(stringList)).isTrue();
+		}
+		ResolvableType.clearCache();
+		assertThat(charSequenceList.isAssignableFrom(stringList)).isFalse();
+		assertThat(wildcardType.isAssignableFrom(integerList)).isTrue();
+	}
+
 
 	private ResolvableType testSerialization(ResolvableType type) throws Exception {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream();
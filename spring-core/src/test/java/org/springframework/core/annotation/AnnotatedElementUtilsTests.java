@@ -840,6 +840,20 @@ class AnnotatedElementUtilsTests {
 		assertThat(webMapping.path()).as("path attribute: ").isEqualTo(asArray("/test"));
 	}
 
+	@Test
+	void findMergedAnnotationReturnsCachedResult() throws Exception {
+		Method method = WebController.class.getMethod("getMappedWithValueAttribute");
+		WebMapping webMapping = findMergedAnnotation(method, WebMapping.class);
+		assertThat(findMergedAnnotation(method, WebMapping.class)).isSameAs(webMapping);
+		assertThat(getMergedAnnotation(method, WebMapping.class)).isEqualTo(webMapping);
+		assertThat(findMergedAnnotation(method, Transactional.class)).isNull();
+		assertThat(findMergedAnnotation(method, Transactional.class)).isNull();
+
+		AnnotationUtils.clearCache();
+		WebMapping rebuilt = findMergedAnnotation(method, WebMapping.class);
+		assertThat(rebuilt).isNotSameAs(webMapping).isEqualTo(webMapping);
+	}
+
 	@Test
 	void javaLangAnnotationTypeViaFindMergedAnnotation() throws Exception {
 		Constructor<?> deprecatedCtor = Date.class.getConstructor(String.class);
@@ -106,6 +106,67 @@ class GenericConversionServiceTests {
 		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
 	}
 
+	@Test
+	void convertAfterAddingConverter() {
+		assertThat(conversionService.canConvert(String.class, Integer.class)).isFalse();
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convert("3", Integer.class));
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		assertThat(conversionService.canConvert(String.class, Integer.class)).isTrue();
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+		conversionService.removeConvertible(String.class, Number.class);
+		assertThat(conversionService.canConvert(String.class, Integer.class)).isFalse();
+	}
+
+	@Test
+	void convertWithCustomConverterLookup() {
+		List<TypeDescriptor> lookups = new ArrayList<>();
+		GenericConversionService conversionService = new GenericConversionService() {
+			@Override
+			protected GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+				lookups.add(targetType);
+				return super.getConverter(sourceType, targetType);
+			}
+		};
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+		assertThat(lookups).hasSize(2);
+	}
+
+	@Test
+	void canConvertWithCustomTypeDescriptorCheck() {
+		GenericConversionService conversionService = new GenericConversionService() {
+			@Override
+			public boolean canConvert(@Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
+				return (targetType.getType() != Long.class && super.canConvert(sourceType, targetType));
+			}
+		};
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		assertThat(conversionService.canConvert(String.class, Integer.class)).isTrue();
+		assertThat(conversionService.canConvert(String.class, Long.class)).isFalse();
+		assertThat(conversionService.canConvert(String.class, Long.class)).isFalse();
+	}
+
+	@Test
+	void convertAllToList() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		conversionService.addConverterFactory(new NumberToNumberConverterFactory());
+		assertThat(conversionService.convertAll(List.of("1", "2", 3L, "4"), Integer.class))
+				.containsExactly(1, 2, 3, 4);
+		assertThat(conversionService.convertAll(Arrays.asList("1", null), Integer.class))
+				.containsExactly(1, null);
+	}
+
+	@Test
+	void convertAllToArray() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		Integer[] result = conversionService.convertAll(new Object[] {"1", "2", null}, Integer.class);
+		assertThat(result).containsExactly(1, 2, null);
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convertAll(new Object[] {"1", new Object()}, Integer.class));
+	}
+
 	@Test
 	void convertNullSource() {
 		assertThat(conversionService.convert(null, Integer.class)).isNull();
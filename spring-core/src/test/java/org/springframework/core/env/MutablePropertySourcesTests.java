@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -178,4 +178,27 @@ class MutablePropertySourcesTests {
 		assertThat(sources.stream().count()).isEqualTo(0L);
 	}
 
+	@Test
+	void versionIsIncrementedOnChanges() {
+		MutablePropertySources sources = new MutablePropertySources();
+		long version = sources.getVersion();
+		sources.addLast(new MockPropertySource("a"));
+		assertThat(sources.getVersion()).isGreaterThan(version);
+
+		version = sources.getVersion();
+		sources.addFirst(new MockPropertySource("b"));
+		sources.addBefore("a", new MockPropertySource("c"));
+		sources.addAfter("a", new MockPropertySource("d"));
+		assertThat(sources.getVersion()).isEqualTo(version + 3);
+
+		version = sources.getVersion();
+		sources.replace("a", new MockPropertySource("e"));
+		sources.remove("b");
+		assertThat(sources.getVersion()).isEqualTo(version + 2);
+
+		version = sources.getVersion();
+		assertThat(sources.remove("bogus")).isNull();
+		assertThat(sources.getVersion()).isEqualTo(version);
+	}
+
 }
@@ -366,4 +366,79 @@ class PropertySourcesPropertyResolverTests {
 			.withMessageContaining("Could not resolve placeholder 'bogus' in value \"${p1}:${p2}:${bogus}\"");
 	}
 
+	@Test
+	void propertySnapshot_honorsPrecedenceAndNestedPlaceholders() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addLast(new MockPropertySource("first").withProperty("a", "a1").withProperty("c", "${b}"));
+		ps.addLast(new MockPropertySource("second").withProperty("a", "a2").withProperty("b", "b2"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setPropertySnapshotEnabled(true);
+		assertThat(pr.getProperty("a")).isEqualTo("a1");
+		assertThat(pr.getProperty("b")).isEqualTo("b2");
+		assertThat(pr.getProperty("c")).isEqualTo("b2");
+		assertThat(pr.getProperty("d")).isNull();
+	}
+
+	@Test
+	void propertySnapshot_isRecreatedOnPropertySourceChanges() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addLast(new MockPropertySource("ps1").withProperty("key", "value1"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setPropertySnapshotEnabled(true);
+		assertThat(pr.getProperty("key")).isEqualTo("value1");
+
+		ps.addFirst(new MockPropertySource("ps2").withProperty("key", "value2"));
+		assertThat(pr.getProperty("key")).isEqualTo("value2");
+		ps.replace("ps2", new MockPropertySource("ps2").withProperty("key", "value3"));
+		assertThat(pr.getProperty("key")).isEqualTo("value3");
+		ps.remove("ps2");
+		assertThat(pr.getProperty("key")).isEqualTo("value1");
+	}
+
+	@Test
+	void propertySnapshot_doesNotDetectChangesWithinPropertySource() {
+		MockPropertySource source = new MockPropertySource("ps1").withProperty("key", "value1");
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addLast(source);
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setPropertySnapshotEnabled(true);
+		assertThat(pr.getProperty("key")).isEqualTo("value1");
+
+		source.setProperty("key", "value2");
+		assertThat(pr.getProperty("key")).isEqualTo("value1");
+		pr.setPropertySnapshotEnabled(true);
+		assertThat(pr.getProperty("key")).isEqualTo("value2");
+	}
+
+	@Test
+	void propertySnapshot_withSystemEnvironmentVariants() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addLast(new SystemEnvironmentPropertySource("env", Map.<String, Object>of("FOO_BAR", "env", "PLAIN", "plain")));
+		ps.addLast(new MockPropertySource("app").withProperty("foo.bar", "app").withProperty("other", "app"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setPropertySnapshotEnabled(true);
+		assertThat(pr.getProperty("foo.bar")).isEqualTo("env");
+		assertThat(pr.getProperty("foo-bar")).isEqualTo("env");
+		assertThat(pr.getProperty("plain")).isEqualTo("plain");
+		assertThat(pr.getProperty("other")).isEqualTo("app");
+	}
+
+	@Test
+	void propertySnapshot_withNonEnumerablePropertySource() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addLast(new MockPropertySource("first").withProperty("a", "a1"));
+		ps.addLast(new PropertySource<>("dynamic") {
+			@Override
+			public Object getProperty(String name) {
+				return (name.startsWith("dynamic.") ? name.substring(8) : null);
+			}
+		});
+		ps.addLast(new MockPropertySource("last").withProperty("dynamic.key", "static").withProperty("b", "b3"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setPropertySnapshotEnabled(true);
+		assertThat(pr.getProperty("a")).isEqualTo("a1");
+		assertThat(pr.getProperty("dynamic.key")).isEqualTo("key");
+		assertThat(pr.getProperty("b")).isEqualTo("b3");
+	}
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PooledByteBufferDataBufferFactory}.
+ */
+class PooledByteBufferDataBufferFactoryTests {
+
+	private final PooledByteBufferDataBufferFactory bufferFactory = new PooledByteBufferDataBufferFactory();
+
+
+	@Test
+	void allocateWithRequestedCapacity() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+
+		assertThat(buffer.capacity()).isEqualTo(100);
+		assertThat(buffer.factory()).isSameAs(this.bufferFactory);
+		buffer.release();
+	}
+
+	@Test
+	void releaseReturnsMemoryToPool() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertThat(this.bufferFactory.getPooledBufferCount()).isZero();
+
+		buffer.release();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+
+		PooledByteBufferDataBuffer other = this.bufferFactory.allocateBuffer(200);
+		assertThat(this.bufferFactory.getPooledBufferCount()).isZero();
+		other.release();
+	}
+
+	@Test
+	void pooledMemoryIsCleared() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(3);
+		buffer.write("abc", StandardCharsets.UTF_8);
+		buffer.release();
+
+		PooledByteBufferDataBuffer other = this.bufferFactory.allocateBuffer(3);
+		assertThat(other.readableByteCount()).isZero();
+		assertThat(other.writableByteCount()).isEqualTo(3);
+		other.release();
+	}
+
+	@Test
+	void splitSharesMemory() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(6);
+		buffer.write("abcdef", StandardCharsets.UTF_8);
+		DataBuffer split = buffer.split(3);
+
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("abc");
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("def");
+
+		assertThat(DataBufferUtils.release(split)).isTrue();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isZero();
+		assertThat(buffer.release()).isTrue();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void sliceSharesReferenceCount() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(6);
+		buffer.write("abcdef", StandardCharsets.UTF_8);
+		DataBuffer slice = buffer.slice(1, 3);
+
+		assertThat(slice.toString(StandardCharsets.UTF_8)).isEqualTo("bcd");
+		assertThat(buffer.release()).isTrue();
+		assertThat(((PooledDataBuffer) slice).isAllocated()).isFalse();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	void retainedSliceRetainsBuffer() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(6);
+		buffer.write("abcdef", StandardCharsets.UTF_8);
+		DataBuffer slice = buffer.retainedSlice(1, 3);
+
+		assertThat(buffer.release()).isFalse();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isZero();
+		assertThat(slice.toString(StandardCharsets.UTF_8)).isEqualTo("bcd");
+		assertThat(DataBufferUtils.release(slice)).isTrue();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	void largeBufferIsNotPooled() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(
+				PooledByteBufferDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY + 1);
+		buffer.release();
+
+		assertThat(this.bufferFactory.getPooledBufferCount()).isZero();
+	}
+
+	@Test
+	void growBeyondInitialCapacity() {
+		PooledByteBufferDataBuffer buffer = this.bufferFactory.allocateBuffer(2);
+		buffer.write("abcdef", StandardCharsets.UTF_8);
+
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("abcdef");
+		buffer.release();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	void join() {
+		DataBuffer first = this.bufferFactory.wrap("abc".getBytes(StandardCharsets.UTF_8));
+		DataBuffer second = this.bufferFactory.allocateBuffer(3).write("def", StandardCharsets.UTF_8);
+		PooledByteBufferDataBuffer result = this.bufferFactory.join(List.of(first, second));
+
+		assertThat(result.toString(StandardCharsets.UTF_8)).isEqualTo("abcdef");
+		assertThat(((PooledDataBuffer) first).isAllocated()).isFalse();
+		assertThat(((PooledDataBuffer) second).isAllocated()).isFalse();
+		result.release();
+	}
+
+}
@@ -78,6 +78,24 @@ class PooledDataBufferTests {
 		}
 	}
 
+	@Nested
+	class PooledByteBufferWithPreferDirectTrueTests implements PooledDataBufferTestingTrait {
+
+		@Override
+		public DataBufferFactory createDataBufferFactory() {
+			return new PooledByteBufferDataBufferFactory(true);
+		}
+	}
+
+	@Nested
+	class PooledByteBufferWithPreferDirectFalseTests implements PooledDataBufferTestingTrait {
+
+		@Override
+		public DataBufferFactory createDataBufferFactory() {
+			return new PooledByteBufferDataBufferFactory(false);
+		}
+	}
+
 
 	interface PooledDataBufferTestingTrait {
 
@@ -34,6 +34,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
 import java.util.jar.JarEntry;
@@ -397,6 +398,96 @@ class PathMatchingResourcePatternResolverTests {
 	}
 
 
+	@Nested
+	class ParallelResolution {
+
+		@TempDir
+		Path temp;
+
+		private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+		@Test
+		void classpathStarWithPatternAcrossRoots() throws IOException {
+			String pattern = "classpath*:org/springframework/core/io/support/*.class";
+			PathMatchingResourcePatternResolver parallelResolver = new PathMatchingResourcePatternResolver();
+			parallelResolver.setForkJoinPool(this.forkJoinPool);
+			assertThat(parallelResolver.getResources(pattern)).containsExactly(resolver.getResources(pattern));
+		}
+
+		@Test
+		void patternInLargeJar() throws IOException {
+			Path jar = this.temp.resolve("large.jar");
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar.toFile()))) {
+				out.putNextEntry(new ZipEntry("example/"));
+				out.closeEntry();
+				for (int i = 0; i < 30; i++) {
+					out.putNextEntry(new ZipEntry("example/pkg" + i + "/"));
+					out.closeEntry();
+				}
+				for (int i = 0; i < 3000; i++) {
+					out.putNextEntry(new ZipEntry("example/pkg" + (i % 30) + "/Type" + i + (i % 3 == 0 ? ".txt" : ".class")));
+					out.closeEntry();
+				}
+			}
+			String pattern = "classpath*:example/**/*.class";
+			ClassLoader classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null);
+			PathMatchingResourcePatternResolver parallelResolver = new PathMatchingResourcePatternResolver(classLoader);
+			parallelResolver.setForkJoinPool(this.forkJoinPool);
+			Resource[] resources = parallelResolver.getResources(pattern);
+			assertThat(resources).hasSize(2000);
+			assertThat(resources).containsExactly(new PathMatchingResourcePatternResolver(classLoader).getResources(pattern));
+		}
+
+		@Test
+		void jarEntriesSharedAcrossResolvers() throws Exception {
+			Path jar = this.temp.resolve("shared.jar");
+			writeJar(jar, "dir/a.txt");
+			long lastModified = Files.getLastModifiedTime(jar).toMillis();
+			long size = Files.size(jar);
+			String pattern = "jar:" + jar.toUri().toURL() + "!/dir/*.txt";
+			assertExactFilenames(new PathMatchingResourcePatternResolver(), pattern, "a.txt");
+
+			// Same size and timestamp -> shared entries still considered up to date
+			writeJar(jar, "dir/b.txt");
+			assertThat(Files.size(jar)).isEqualTo(size);
+			assertThat(jar.toFile().setLastModified(lastModified)).isTrue();
+			assertExactFilenames(new PathMatchingResourcePatternResolver(), pattern, "a.txt");
+
+			// Modified timestamp -> entries read again
+			assertThat(jar.toFile().setLastModified(lastModified + 2000)).isTrue();
+			assertExactFilenames(new PathMatchingResourcePatternResolver(), pattern, "b.txt");
+		}
+
+		private void writeJar(Path path, String entryName) throws IOException {
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(path.toFile()))) {
+				ZipEntry directory = new ZipEntry("dir/");
+				directory.setTime(0);
+				out.putNextEntry(directory);
+				out.closeEntry();
+				ZipEntry entry = new ZipEntry(entryName);
+				entry.setTime(0);
+				out.putNextEntry(entry);
+				StreamUtils.copy("test", StandardCharsets.UTF_8, out);
+				out.closeEntry();
+			}
+		}
+
+		private void assertExactFilenames(PathMatchingResourcePatternResolver resolver, String pattern,
+				String... filenames) throws IOException {
+
+			// Avoid JDK-level caching of jar files, in order to see modifications
+			boolean useCaches = URLConnection.getDefaultUseCaches("jar");
+			URLConnection.setDefaultUseCaches("jar", false);
+			try {
+				assertThat(resolver.getResources(pattern)).extracting(Resource::getFilename).containsExactly(filenames);
+			}
+			finally {
+				URLConnection.setDefaultUseCaches("jar", useCaches);
+			}
+		}
+	}
+
+
 	private void assertFilenames(String pattern, String... filenames) {
 		assertFilenames(pattern, false, filenames);
 	}
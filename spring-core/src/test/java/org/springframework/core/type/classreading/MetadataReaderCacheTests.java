@@ -0,0 +1,109 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link MetadataReaderCache}.
+ */
+class MetadataReaderCacheTests {
+
+	private final MetadataReaderCache cache = new MetadataReaderCache(16);
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+
+	@Test
+	void metadataReaderIsSharedAcrossFactories() throws Exception {
+		CachingMetadataReaderFactory factory1 = new CachingMetadataReaderFactory(this.classLoader);
+		factory1.setSharedCache(this.cache);
+		CachingMetadataReaderFactory factory2 = new CachingMetadataReaderFactory(this.classLoader);
+		factory2.setSharedCache(this.cache);
+
+		MetadataReader metadataReader = factory1.getMetadataReader(getClass().getName());
+		assertThat(factory2.getMetadataReader(getClass().getName())).isSameAs(metadataReader);
+		assertThat(this.cache.getLookupCount()).isEqualTo(2);
+		assertThat(this.cache.getMissCount()).isEqualTo(1);
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+		assertThat(this.cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void modifiedClassFileIsReadAgain(@TempDir Path tempDir) throws Exception {
+		File classFile = tempDir.resolve("MetadataReaderCacheTests.class").toFile();
+		try (InputStream in = classResource().getInputStream()) {
+			Files.copy(in, classFile.toPath());
+		}
+		Resource resource = new FileSystemResource(classFile);
+
+		MetadataReader metadataReader = this.cache.getMetadataReader(resource, this.classLoader);
+		assertThat(this.cache.getMetadataReader(resource, this.classLoader)).isSameAs(metadataReader);
+		assertThat(classFile.setLastModified(resource.lastModified() + 2000)).isTrue();
+		assertThat(this.cache.getMetadataReader(resource, this.classLoader)).isNotSameAs(metadataReader);
+		assertThat(this.cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void metadataReaderIsCachedPerClassLoader() throws Exception {
+		ClassLoader otherClassLoader = new ClassLoader(this.classLoader) {};
+		MetadataReader metadataReader = this.cache.getMetadataReader(classResource(), this.classLoader);
+		assertThat(this.cache.getMetadataReader(classResource(), otherClassLoader)).isNotSameAs(metadataReader);
+		assertThat(this.cache.getMetadataReader(classResource(), this.classLoader)).isSameAs(metadataReader);
+	}
+
+	@Test
+	void resourceWithoutUrlIsNotCached() throws Exception {
+		byte[] content;
+		try (InputStream in = classResource().getInputStream()) {
+			content = in.readAllBytes();
+		}
+		Resource resource = new ByteArrayResource(content);
+		MetadataReader metadataReader = this.cache.getMetadataReader(resource, this.classLoader);
+		assertThat(metadataReader.getClassMetadata().getClassName()).isEqualTo(getClass().getName());
+		assertThat(this.cache.getMetadataReader(resource, this.classLoader)).isNotSameAs(metadataReader);
+		assertThat(this.cache.getLookupCount()).isZero();
+	}
+
+	@Test
+	void missingResource() {
+		assertThatExceptionOfType(FileNotFoundException.class).isThrownBy(() ->
+				this.cache.getMetadataReader(new ClassPathResource("does/not/Exist.class"), this.classLoader));
+		assertThat(this.cache.size()).isZero();
+	}
+
+
+	private Resource classResource() {
+		return new ClassPathResource(getClass().getName().replace('.', '/') + ".class", this.classLoader);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AbstractMethodMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link MetadataReaderIndex}, verifying that metadata obtained from
+ * an index behaves like metadata read from the class file.
+ */
+class MetadataReaderIndexTests extends AbstractAnnotationMetadataTests {
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		return roundTrip(source).getMetadataReader(source.getName()).getAnnotationMetadata();
+	}
+
+	@Test
+	void classNamesInWriteOrder() throws IOException {
+		MetadataReaderIndex index = write(TestSubclass.class, TestClass.class, TestInterface.class);
+		assertThat(index.getClassNames()).containsExactly(TestSubclass.class.getName(),
+				TestClass.class.getName(), TestInterface.class.getName());
+		assertThat(index.contains(TestClass.class.getName())).isTrue();
+		assertThat(index.contains(WithDirectAnnotations.class.getName())).isFalse();
+		assertThat(index.getMetadataReader(WithDirectAnnotations.class.getName())).isNull();
+	}
+
+	@Test
+	void metadataReaderIsCached() {
+		MetadataReaderIndex index = roundTrip(TestClass.class);
+		MetadataReader metadataReader = index.getMetadataReader(TestClass.class.getName());
+		assertThat(index.getMetadataReader(TestClass.class.getName())).isSameAs(metadataReader);
+		assertThat(metadataReader.getClassMetadata()).isSameAs(metadataReader.getAnnotationMetadata());
+	}
+
+	@Test
+	void metadataReaderIsDecodedAgainAfterClearCache() {
+		MetadataReaderIndex index = roundTrip(TestClass.class);
+		MetadataReader metadataReader = index.getMetadataReader(TestClass.class.getName());
+		index.clearCache();
+		MetadataReader decoded = index.getMetadataReader(TestClass.class.getName());
+		assertThat(decoded).isNotSameAs(metadataReader);
+		assertThat(decoded.getClassMetadata().getClassName()).isEqualTo(TestClass.class.getName());
+	}
+
+	@Test
+	void metadataReaderResourceIsClassFile() throws IOException {
+		MetadataReader metadataReader = roundTrip(TestClass.class).getMetadataReader(TestClass.class.getName());
+		assertThat(metadataReader.getResource().getFilename()).isEqualTo(
+				TestClass.class.getName().substring(TestClass.class.getPackageName().length() + 1) + ".class");
+		assertThat(metadataReader.getResource().exists()).isTrue();
+	}
+
+	@Test
+	void readInvalidIndex() {
+		assertThatIOException().isThrownBy(() ->
+				MetadataReaderIndex.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4}), null));
+	}
+
+
+	private static MetadataReaderIndex roundTrip(Class<?> source) {
+		try {
+			return write(source);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static MetadataReaderIndex write(Class<?>... sources) throws IOException {
+		SimpleMetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(
+				MetadataReaderIndexTests.class.getClassLoader());
+		List<AnnotationMetadata> metadata = new ArrayList<>();
+		for (Class<?> source : sources) {
+			metadata.add(metadataReaderFactory.getMetadataReader(source.getName()).getAnnotationMetadata());
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MetadataReaderIndex.write(metadata, out);
+		return MetadataReaderIndex.read(new ByteArrayInputStream(out.toByteArray()),
+				MetadataReaderIndexTests.class.getClassLoader());
+	}
+
+
+	@Nested
+	class MethodMetadataTests extends AbstractMethodMetadataTests {
+
+		@Override
+		protected AnnotationMetadata get(Class<?> source) {
+			return MetadataReaderIndexTests.this.get(source);
+		}
+	}
+
+}
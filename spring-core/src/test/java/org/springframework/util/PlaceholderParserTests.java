@@ -164,6 +164,16 @@ class PlaceholderParserTests {
 					TextPart.class, textPart -> assertThat(textPart.text()).isEqualTo(text));
 		}
 
+		@Test
+		void parsedValueIsCached() {
+			String text = "User: ${firstName} - ${lastName}.";
+			assertThat(this.parser.parse(text).parts()).isSameAs(this.parser.parse(text).parts());
+			assertThat(this.parser.replacePlaceholders(text,
+					mockPlaceholderResolver("firstName", "John", "lastName", "Smith"))).isEqualTo("User: John - Smith.");
+			assertThat(this.parser.replacePlaceholders(text,
+					mockPlaceholderResolver("firstName", "Jane", "lastName", "Doe"))).isEqualTo("User: Jane - Doe.");
+		}
+
 	}
 
 	@Nested // Tests with the use of a separator
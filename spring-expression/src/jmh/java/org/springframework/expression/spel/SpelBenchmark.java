@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,23 @@
 
 package org.springframework.expression.spel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelCompiler;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -103,4 +108,75 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class CollectionBenchmarkData {
+
+		@Param({"interpreted", "compiled"})
+		public String mode;
+
+		public EvaluationContext context;
+
+		public Expression selection;
+
+		public Expression projection;
+
+		public Expression indexer;
+
+		public Expression inlineList;
+
+		public Expression inlineMap;
+
+		@Setup
+		public void setup() {
+			List<Map<String, Object>> items = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				Map<String, Object> item = new HashMap<>();
+				item.put("name", "item" + i);
+				item.put("price", i * 10);
+				items.add(item);
+			}
+			StandardEvaluationContext context = new StandardEvaluationContext(items);
+			context.setVariable("key", "price");
+			this.context = context;
+			ExpressionParser parser = new SpelExpressionParser();
+			this.selection = parser.parseExpression("?[#this['price'] > 100]");
+			this.projection = parser.parseExpression("![#this['name']]");
+			this.indexer = parser.parseExpression("#root[3][#key]");
+			this.inlineList = parser.parseExpression("{#root[0]['name'], #root[1]['name']}");
+			this.inlineMap = parser.parseExpression("{first:#root[0]['name'], last:#root[19]['name']}");
+			if (this.mode.equals("compiled")) {
+				for (Expression expression : List.of(this.selection, this.projection,
+						this.indexer, this.inlineList, this.inlineMap)) {
+					expression.getValue(this.context);
+					SpelCompiler.compile(expression);
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public Object selection(CollectionBenchmarkData data) {
+		return data.selection.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object projection(CollectionBenchmarkData data) {
+		return data.projection.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object indexerWithDynamicKey(CollectionBenchmarkData data) {
+		return data.indexer.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object inlineList(CollectionBenchmarkData data) {
+		return data.inlineList.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object inlineMap(CollectionBenchmarkData data) {
+		return data.inlineMap.getValue(data.context);
+	}
+
 }
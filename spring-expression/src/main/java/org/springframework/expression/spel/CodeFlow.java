@@ -89,9 +89,17 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the EvaluationContext).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * The local variables holding the current target, in case of nested targets
+	 * such as the current element during a collection selection or projection.
+	 * An empty stack indicates the target passed into the evaluation method.
+	 */
+	private final Deque<Integer> targetVariables = new ArrayDeque<>();
 
 
 	/**
@@ -109,13 +117,56 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context), unless a nested target has been
+	 * entered through {@link #enterTargetScope(int)})
 	 * @param mv the method visitor into which the load instruction should be inserted
 	 */
 	public void loadTarget(MethodVisitor mv) {
+		Integer targetVariable = this.targetVariables.peek();
+		mv.visitVarInsn(ALOAD, (targetVariable != null ? targetVariable : 1));
+	}
+
+	/**
+	 * Push the byte code to load the root object (i.e. what was passed as the first
+	 * argument to CompiledExpression.getValue(target, context)), independent of any
+	 * nested target.
+	 * @param mv the method visitor into which the load instruction should be inserted
+	 * @since 7.0
+	 */
+	public void loadRootObject(MethodVisitor mv) {
 		mv.visitVarInsn(ALOAD, 1);
 	}
 
+	/**
+	 * Enter a nested target scope, using the value of the given local variable as
+	 * the target for subsequent {@link #loadTarget} calls: for example, the current
+	 * element when evaluating the criteria of a collection selection.
+	 * @param variableId the local variable holding the nested target
+	 * @since 7.0
+	 * @see #nextFreeVariableId()
+	 */
+	public void enterTargetScope(int variableId) {
+		this.targetVariables.push(variableId);
+	}
+
+	/**
+	 * Enter a target scope for the root object, for example for sub-expressions
+	 * that are evaluated against the root object within a nested target.
+	 * @since 7.0
+	 * @see #enterTargetScope(int)
+	 */
+	public void enterRootTargetScope() {
+		this.targetVariables.push(1);
+	}
+
+	/**
+	 * Exit a nested target scope, returning to the previous target.
+	 * @since 7.0
+	 */
+	public void exitTargetScope() {
+		this.targetVariables.pop();
+	}
+
 	/**
 	 * Push the bytecode to load the EvaluationContext (the second parameter passed to
 	 * the compiled expression method).
@@ -426,7 +426,9 @@ public class Indexer extends SpelNodeImpl {
 						"Cached IndexAccessor must be a CompilableIndexAccessor, but was: " +
 							cachedIndexReadState.accessor.getClass().getName());
 			}
+			cf.enterRootTargetScope();
 			compilableIndexAccessor.generateCode(index, mv, cf);
+			cf.exitTargetScope();
 		}
 
 		cf.pushDescriptor(exitTypeDescriptor);
@@ -443,7 +445,10 @@ public class Indexer extends SpelNodeImpl {
 	}
 
 	private void generateIndexCode(MethodVisitor mv, CodeFlow cf, SpelNodeImpl indexNode, Class<?> indexType) {
+		// The index is evaluated against the root object, even within a selection or projection.
+		cf.enterRootTargetScope();
 		cf.generateCodeForArgument(mv, indexNode, indexType);
+		cf.exitTargetScope();
 	}
 
 	@Override
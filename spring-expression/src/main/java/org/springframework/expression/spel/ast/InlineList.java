@@ -133,11 +133,24 @@ public class InlineList extends SpelNodeImpl {
 
 	@Override
 	public boolean isCompilable() {
-		return isConstant();
+		if (isConstant()) {
+			return true;
+		}
+		for (SpelNodeImpl child : this.children) {
+			if (!child.isCompilable()) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		if (!isConstant()) {
+			generateListCode(mv, codeflow);
+			return;
+		}
+
 		final String constantFieldName = "inlineList$" + codeflow.nextFieldId();
 		final String className = codeflow.getClassName();
 
@@ -151,6 +164,35 @@ public class InlineList extends SpelNodeImpl {
 		codeflow.pushDescriptor("Ljava/util/List");
 	}
 
+	/**
+	 * Generate code that builds a new list from the values of the (compilable)
+	 * child nodes on every evaluation.
+	 */
+	private void generateListCode(MethodVisitor mv, CodeFlow codeflow) {
+		int childCount = getChildCount();
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		CodeFlow.insertOptimalLoad(mv, childCount);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "(I)V", false);
+		for (int c = 0; c < childCount; c++) {
+			mv.visitInsn(DUP);
+			codeflow.enterCompilationScope();
+			this.children[c].generateCode(mv, codeflow);
+			String lastDesc = codeflow.lastDescriptor();
+			Assert.state(lastDesc != null, "No last descriptor");
+			if ("V".equals(lastDesc)) {
+				mv.visitInsn(ACONST_NULL);
+			}
+			else {
+				CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
+			}
+			codeflow.exitCompilationScope();
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+			mv.visitInsn(POP);
+		}
+		codeflow.pushDescriptor("Ljava/util/List");
+	}
+
 	void generateClinitCode(String clazzname, String constantFieldName, MethodVisitor mv, CodeFlow codeflow, boolean nested) {
 		mv.visitTypeInsn(NEW, "java/util/ArrayList");
 		mv.visitInsn(DUP);
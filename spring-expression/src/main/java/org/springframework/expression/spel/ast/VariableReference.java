@@ -75,9 +75,14 @@ public class VariableReference extends SpelNodeImpl {
 			result = state.getActiveContextObject();
 			// If the active context object (#this) is not the root context object (#root),
 			// that means that #this is being evaluated within a nested scope (for example,
-			// collection selection or collection project), which is not a compilable
-			// expression, so we return the result without setting the exit type descriptor.
+			// collection selection or collection projection), referring to the current
+			// element. Elements of different types lead to an exit type of Object.
 			if (result != state.getRootContextObject()) {
+				String previousDescriptor = this.exitTypeDescriptor;
+				setExitTypeDescriptor(result.getValue());
+				if (previousDescriptor != null && !previousDescriptor.equals(this.exitTypeDescriptor)) {
+					this.exitTypeDescriptor = "Ljava/lang/Object";
+				}
 				return result;
 			}
 		}
@@ -139,8 +144,19 @@ public class VariableReference extends SpelNodeImpl {
 
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow cf) {
-		if (THIS.equals(this.name) || ROOT.equals(this.name)) {
-			mv.visitVarInsn(ALOAD, 1);
+		if (THIS.equals(this.name)) {
+			String lastDescriptor = cf.lastDescriptor();
+			if (lastDescriptor != null) {
+				// Within a compound expression such as 'name.#this', the active context
+				// object is the value of the previous node, which is already on the stack.
+				CodeFlow.insertBoxIfNecessary(mv, lastDescriptor);
+			}
+			else {
+				cf.loadTarget(mv);
+			}
+		}
+		else if (ROOT.equals(this.name)) {
+			cf.loadRootObject(mv);
 		}
 		else {
 			mv.visitVarInsn(ALOAD, 2);
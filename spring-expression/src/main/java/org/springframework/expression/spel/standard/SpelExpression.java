@@ -78,6 +78,13 @@ public class SpelExpression implements Expression {
 	// give up trying to compile it when it just doesn't seem to be possible.
 	private final AtomicInteger failedAttempts = new AtomicInteger();
 
+	// The total number of times compilation was attempted and failed, not reset
+	// when reverting to interpreted mode.
+	private final AtomicInteger totalFailedAttempts = new AtomicInteger();
+
+	// The number of times the compiled form failed at evaluation time.
+	private final AtomicInteger failedEvaluations = new AtomicInteger();
+
 
 	/**
 	 * Construct an expression, only used by the parser.
@@ -126,6 +133,7 @@ public class SpelExpression implements Expression {
 				return compiledAst.getValue(context.getRootObject().getValue(), context);
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -162,6 +170,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -190,6 +199,7 @@ public class SpelExpression implements Expression {
 				return compiledAst.getValue(rootObject, getEvaluationContext());
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -226,6 +236,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -257,6 +268,7 @@ public class SpelExpression implements Expression {
 				return compiledAst.getValue(context.getRootObject().getValue(), context);
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -293,6 +305,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -322,6 +335,7 @@ public class SpelExpression implements Expression {
 				return compiledAst.getValue(rootObject, context);
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -360,6 +374,7 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
+				this.failedEvaluations.incrementAndGet();
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
 					this.compiledAst = null;
@@ -534,12 +549,14 @@ public class SpelExpression implements Expression {
 				else {
 					// Failed to compile
 					this.failedAttempts.incrementAndGet();
+					this.totalFailedAttempts.incrementAndGet();
 					return false;
 				}
 			}
 			catch (Exception ex) {
 				// Failed to compile
 				this.failedAttempts.incrementAndGet();
+				this.totalFailedAttempts.incrementAndGet();
 
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
@@ -555,6 +572,16 @@ public class SpelExpression implements Expression {
 		}
 	}
 
+	/**
+	 * Determine whether this expression is currently using a compiled form.
+	 * @since 7.0
+	 * @see #compileExpression()
+	 * @see #revertToInterpreted()
+	 */
+	public boolean isCompiled() {
+		return (this.compiledAst != null);
+	}
+
 	/**
 	 * Cause an expression to revert to being interpreted if it has been using a compiled
 	 * form. It also resets the compilation attempt failure count (an expression is normally no
@@ -566,6 +593,28 @@ public class SpelExpression implements Expression {
 		this.failedAttempts.set(0);
 	}
 
+	/**
+	 * Return the number of failed attempts to compile this expression, for example
+	 * due to parts of the expression not being compilable or not having been
+	 * evaluated often enough to determine their types.
+	 * <p>In contrast to the internal count that decides when to give up
+	 * compiling, this count is not reset by {@link #revertToInterpreted()}.
+	 * @since 7.0
+	 */
+	public int getFailedCompilationCount() {
+		return this.totalFailedAttempts.get();
+	}
+
+	/**
+	 * Return the number of times the compiled form of this expression failed
+	 * during evaluation, in which case the expression got reverted to interpreted
+	 * mode when running in {@link SpelCompilerMode#MIXED mixed mode}.
+	 * @since 7.0
+	 */
+	public int getFailedCompiledEvaluationCount() {
+		return this.failedEvaluations.get();
+	}
+
 	/**
 	 * Return the Abstract Syntax Tree for the expression.
 	 */
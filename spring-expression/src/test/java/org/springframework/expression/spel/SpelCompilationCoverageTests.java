@@ -1831,6 +1831,155 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(o).isEqualTo("op");
 	}
 
+	@Test
+	void inlineListWithNonConstantElements() {
+		expression = parser.parseExpression("{index1, index2 + 1, word}");
+		Object o = expression.getValue(new TestClass1());
+		assertThat(o).isEqualTo(List.of(1, 4, "abcd"));
+		assertCanCompile(expression);
+		o = expression.getValue(new TestClass1());
+		assertThat(o).isEqualTo(List.of(1, 4, "abcd"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void inlineMap() {
+		expression = parser.parseExpression("{a:1, 'b':{1,2}, c:{x:-1}}");
+		Object o = expression.getValue();
+		assertCanCompile(expression);
+		Object c = expression.getValue();
+		assertThat(c).isEqualTo(o).isEqualTo(Map.of("a", 1, "b", List.of(1, 2), "c", Map.of("x", -1)));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> ((Map<String, Object>) c).put("d", 2));
+
+		expression = parser.parseExpression("{index:index1, word:word.toUpperCase()}");
+		o = expression.getValue(new TestClass1());
+		assertThat(o).isEqualTo(Map.of("index", 1, "word", "ABCD"));
+		assertCanCompile(expression);
+		o = expression.getValue(new TestClass1());
+		assertThat(o).isEqualTo(Map.of("index", 1, "word", "ABCD"));
+	}
+
+	@Test
+	void selection() {
+		List<Person> people = List.of(new Person(20), new Person(40), new Person(50));
+
+		expression = parser.parseExpression("?[age > 30]");
+		assertThat(expression.getValue(people)).isEqualTo(List.of(people.get(1), people.get(2)));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(List.of(people.get(1), people.get(2)));
+
+		expression = parser.parseExpression("^[age > 30]");
+		assertThat(expression.getValue(people)).isSameAs(people.get(1));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isSameAs(people.get(1));
+
+		expression = parser.parseExpression("$[age > 30]");
+		assertThat(expression.getValue(people)).isSameAs(people.get(2));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isSameAs(people.get(2));
+
+		expression = parser.parseExpression("^[age > 60]");
+		assertThat(expression.getValue(people)).isNull();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isNull();
+
+		expression = parser.parseExpression("{1,2,3,4,5}.?[#this > #root]");
+		assertThat(expression.getValue(3)).isEqualTo(List.of(4, 5));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(3)).isEqualTo(List.of(4, 5));
+		assertThat(expression.getValue(1)).isEqualTo(List.of(2, 3, 4, 5));
+	}
+
+	@Test
+	void selectionWithNullSafeNavigation() {
+		List<Person> people = List.of(new Person(20), new Person(40));
+		Map<String, List<Person>> map = new HashMap<>();
+		map.put("people", people);
+
+		expression = parser.parseExpression("['people']?.?[age > 30]");
+		assertThat(expression.getValue(map)).isEqualTo(List.of(people.get(1)));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(map)).isEqualTo(List.of(people.get(1)));
+		map.put("people", null);
+		assertThat(expression.getValue(map)).isNull();
+	}
+
+	@Test
+	void selectionOverArrayIsNotCompilable() {
+		expression = parser.parseExpression("?[#this > 1]");
+		assertThat(expression.getValue(new int[] {1, 2, 3})).isEqualTo(new Integer[] {2, 3});
+		assertCannotCompile(expression);
+	}
+
+	@Test
+	void projection() {
+		List<Person> people = List.of(new Person("Ada"), new Person("Bob"));
+
+		expression = parser.parseExpression("![name]");
+		assertThat(expression.getValue(people)).isEqualTo(List.of("Ada", "Bob"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(List.of("Ada", "Bob"));
+
+		expression = parser.parseExpression("![name.length() + age]");
+		assertThat(expression.getValue(people)).isEqualTo(List.of(3, 3));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(List.of(3, 3));
+
+		expression = parser.parseExpression("{1,2,3}.![#this * #this].?[#this > 1]");
+		assertThat(expression.getValue()).isEqualTo(List.of(4, 9));
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(List.of(4, 9));
+	}
+
+	@Test
+	void thisWithinCompoundExpression() {
+		Person person = new Person("Ada");
+		person.setAge(36);
+
+		expression = parser.parseExpression("name.#this.length()");
+		assertThat(expression.getValue(person)).isEqualTo(3);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(person)).isEqualTo(3);
+
+		expression = parser.parseExpression("age.#this.toString()");
+		assertThat(expression.getValue(person)).isEqualTo("36");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(person)).isEqualTo("36");
+
+		List<Person> people = List.of(new Person("Ada"), new Person("Bobby"));
+		expression = parser.parseExpression("?[name.#this.length() > 3]");
+		assertThat(expression.getValue(people)).isEqualTo(List.of(people.get(1)));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(List.of(people.get(1)));
+	}
+
+	@Test
+	void indexerWithinSelectionIsEvaluatedAgainstRoot() {
+		TestClass1 root = new TestClass1();
+		List<List<Integer>> data = List.of(List.of(1, 2, 3, 4), List.of(5, 6, 7, 8));
+		Map<String, Object> variables = Map.of("data", data);
+
+		expression = parser.parseExpression("#data.?[#this[#root.index2] > 5]");
+		StandardEvaluationContext context = new StandardEvaluationContext(root);
+		context.setVariables(variables);
+		assertThat(expression.getValue(context)).isEqualTo(List.of(data.get(1)));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(List.of(data.get(1)));
+	}
+
+	@Test
+	void failedCompilationCount() {
+		SpelExpression expression = (SpelExpression) parser.parseExpression("?[age > 30]");
+		assertCannotCompile(expression);
+		assertThat(expression.getFailedCompilationCount()).isEqualTo(1);
+		expression.getValue(List.of(new Person(40)));
+		assertCanCompile(expression);
+		expression.revertToInterpreted();
+		assertThat(expression.getFailedCompilationCount()).isEqualTo(1);
+		assertThat(expression.getFailedCompiledEvaluationCount()).isZero();
+	}
+
 	@Test
 	void intLiteral() {
 		expression = parser.parseExpression("42");
@@ -2521,7 +2670,7 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 
 		expression = parser.parseExpression("#negate(#ints.?[#this<2][0])");
 		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
-		// Selection isn't compilable.
+		// Selection over an array isn't compilable.
 		assertThat(((SpelExpression) expression).getAST().isCompilable()).isFalse();
 	}
 
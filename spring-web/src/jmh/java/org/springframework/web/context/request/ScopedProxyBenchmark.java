@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.context.request;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+/**
+ * Benchmark for the per-invocation overhead of request-scoped proxies,
+ * with and without a frozen bean factory configuration, the latter
+ * enabling direct target access through the scope.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ScopedProxyBenchmark {
+
+	private static final int CALLS_PER_REQUEST = 40;
+
+
+	@State(Scope.Benchmark)
+	public static class BeanFactoryState {
+
+		@Param({"false", "true"})
+		public boolean frozenConfiguration;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		public Counter proxy;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.registerScope(WebApplicationContext.SCOPE_REQUEST, new RequestScope());
+			RootBeanDefinition bd = new RootBeanDefinition(Counter.class);
+			bd.setScope(WebApplicationContext.SCOPE_REQUEST);
+			BeanDefinitionHolder proxyHolder = ScopedProxyUtils.createScopedProxy(
+					new BeanDefinitionHolder(bd, "counter"), this.beanFactory, true);
+			this.beanFactory.registerBeanDefinition(proxyHolder.getBeanName(), proxyHolder.getBeanDefinition());
+			if (this.frozenConfiguration) {
+				this.beanFactory.freezeConfiguration();
+			}
+			this.beanFactory.preInstantiateSingletons();
+			this.proxy = this.beanFactory.getBean("counter", Counter.class);
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class ActiveRequestState {
+
+		public ServletRequestAttributes requestAttributes;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+			RequestContextHolder.setRequestAttributes(this.requestAttributes);
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			this.requestAttributes.requestCompleted();
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+
+	@Benchmark
+	public int invokeScopedProxy(BeanFactoryState factoryState, ActiveRequestState requestState) {
+		return factoryState.proxy.increment();
+	}
+
+	@Benchmark
+	public void requestWithRepeatedCalls(BeanFactoryState factoryState, Blackhole bh) {
+		ServletRequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(requestAttributes);
+		try {
+			for (int i = 0; i < CALLS_PER_REQUEST; i++) {
+				bh.consume(factoryState.proxy.increment());
+			}
+		}
+		finally {
+			requestAttributes.requestCompleted();
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+
+	public static class Counter {
+
+		private int count;
+
+		public int increment() {
+			return ++this.count;
+		}
+	}
+
+}
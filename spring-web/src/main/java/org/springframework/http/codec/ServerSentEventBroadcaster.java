@@ -0,0 +1,371 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Hub for broadcasting <a href="https://www.w3.org/TR/eventsource/">Server-Sent
+ * Events</a> to any number of subscribed responses.
+ *
+ * <p>Each {@link ServerSentEvent} is encoded once, with the same format as
+ * {@link ServerSentEventHttpMessageWriter}, and the resulting bytes are shared
+ * by all subscribers, rather than encoded for every response as is the case
+ * when writing events through the writer. Every subscriber has a
+ * bounded buffer of events not yet requested by its response, and the
+ * configured {@link OverflowStrategy} decides which events a slow subscriber
+ * misses once that buffer is full, so that it never holds back the others.
+ *
+ * <p>For example, from a {@code HandlerFunction}:
+ * <pre class="code">
+ * return ServerResponse.ok().body((message, context) -&gt; broadcaster.connect(message));
+ * </pre>
+ *
+ * @since 7.0
+ * @see ServerSentEventHttpMessageWriter
+ */
+public class ServerSentEventBroadcaster {
+
+	/**
+	 * The default maximum number of events buffered per subscriber.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	private static final MediaType DEFAULT_MEDIA_TYPE = new MediaType("text", "event-stream", StandardCharsets.UTF_8);
+
+
+	private final ServerSentEventHttpMessageWriter writer;
+
+	private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private OverflowStrategy overflowStrategy = OverflowStrategy.DROP_OLDEST;
+
+	private volatile boolean completed;
+
+
+	/**
+	 * Constructor without an {@code Encoder}. In this mode only {@code String}
+	 * is supported for event data to be encoded.
+	 */
+	public ServerSentEventBroadcaster() {
+		this(null);
+	}
+
+	/**
+	 * Constructor with JSON {@code Encoder} for encoding objects.
+	 * Support for {@code String} event data is built-in.
+	 * @param encoder the Encoder to use (may be {@code null})
+	 */
+	public ServerSentEventBroadcaster(@Nullable Encoder<?> encoder) {
+		this.writer = new ServerSentEventHttpMessageWriter(encoder);
+	}
+
+
+	/**
+	 * Set the maximum number of events to buffer for each subscriber that has
+	 * not yet requested them.
+	 * <p>By default this is set to {@link #DEFAULT_BUFFER_SIZE}.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' should be larger than 0");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Return the configured maximum number of events buffered per subscriber.
+	 */
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	/**
+	 * Set the strategy to apply to a subscriber whose buffer is full.
+	 * <p>By default this is set to {@link OverflowStrategy#DROP_OLDEST}.
+	 */
+	public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+		Assert.notNull(overflowStrategy, "OverflowStrategy must not be null");
+		this.overflowStrategy = overflowStrategy;
+	}
+
+	/**
+	 * Return the configured overflow strategy.
+	 */
+	public OverflowStrategy getOverflowStrategy() {
+		return this.overflowStrategy;
+	}
+
+
+	/**
+	 * Broadcast the given data as the "data" field of an event.
+	 * @param data the event data
+	 */
+	public void broadcast(Object data) {
+		broadcast(ServerSentEvent.builder(data).build());
+	}
+
+	/**
+	 * Encode the given event, and offer it to all current subscribers.
+	 * @param event the event to broadcast
+	 * @throws CodecException if the event data is not a {@code String}, and no
+	 * {@code Encoder} is configured
+	 */
+	public void broadcast(ServerSentEvent<?> event) {
+		Assert.state(!this.completed, "ServerSentEventBroadcaster has already completed");
+		if (this.subscriptions.isEmpty()) {
+			return;
+		}
+		byte[] bytes = encode(event);
+		for (Subscription subscription : this.subscriptions) {
+			subscription.offer(bytes);
+		}
+	}
+
+	/**
+	 * Subscribe to events broadcast from now on, each as a buffer created with
+	 * the given factory.
+	 * @param bufferFactory the factory to wrap encoded events with
+	 * @return the events, completing when this broadcaster is
+	 * {@linkplain #complete() completed}
+	 */
+	public Flux<DataBuffer> subscribe(DataBufferFactory bufferFactory) {
+		return Flux.<DataBuffer>create(sink -> {
+					if (this.completed) {
+						sink.complete();
+						return;
+					}
+					Subscription subscription = new Subscription(sink, bufferFactory);
+					this.subscriptions.add(subscription);
+					sink.onRequest(n -> subscription.drain());
+					sink.onDispose(() -> this.subscriptions.remove(subscription));
+					if (this.completed) {
+						// Completed concurrently, possibly without having seen this subscription
+						subscription.drain();
+					}
+				})
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	/**
+	 * Subscribe the given response to events broadcast from now on, flushing
+	 * after each event.
+	 * @param message the response to write to
+	 * @return completion, once this broadcaster is {@linkplain #complete()
+	 * completed}, or once the response fails
+	 */
+	public Mono<Void> connect(ReactiveHttpOutputMessage message) {
+		message.getHeaders().setContentType(DEFAULT_MEDIA_TYPE);
+		return message.writeAndFlushWith(subscribe(message.bufferFactory()).map(Flux::just));
+	}
+
+	/**
+	 * Complete all subscribers, once they have received the events buffered
+	 * for them, and reject any further broadcasts.
+	 */
+	public void complete() {
+		this.completed = true;
+		for (Subscription subscription : this.subscriptions) {
+			subscription.drain();
+		}
+	}
+
+
+	/**
+	 * Return the number of current subscribers.
+	 */
+	public int getSubscriberCount() {
+		return this.subscriptions.size();
+	}
+
+	/**
+	 * Return the largest number of events buffered for any one subscriber,
+	 * i.e. how far the slowest subscriber lags behind.
+	 */
+	public int getMaxLag() {
+		int max = 0;
+		for (Subscription subscription : this.subscriptions) {
+			max = Math.max(max, subscription.getLag());
+		}
+		return max;
+	}
+
+	/**
+	 * Return the total number of events not delivered to a subscriber as a
+	 * result of the {@linkplain #setOverflowStrategy overflow strategy}.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+
+	private byte[] encode(ServerSentEvent<?> event) {
+		Object data = event.data();
+		ResolvableType dataType = (data != null ? ResolvableType.forInstance(data) : ResolvableType.NONE);
+		List<DataBuffer> buffers = new ArrayList<>(3);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		// Completes synchronously, since the writer encodes the data with Encoder#encodeValue
+		this.writer.encode(event, dataType, DEFAULT_MEDIA_TYPE, DefaultDataBufferFactory.sharedInstance, Hints.none())
+				.subscribe(buffers::add, failure::set);
+		try {
+			Throwable ex = failure.get();
+			if (ex != null) {
+				throw (ex instanceof RuntimeException runtimeException ? runtimeException :
+						new CodecException("Failed to encode SSE event", ex));
+			}
+			int length = 0;
+			for (DataBuffer buffer : buffers) {
+				length += buffer.readableByteCount();
+			}
+			byte[] bytes = new byte[length];
+			int offset = 0;
+			for (DataBuffer buffer : buffers) {
+				int count = buffer.readableByteCount();
+				buffer.read(bytes, offset, count);
+				offset += count;
+			}
+			return bytes;
+		}
+		finally {
+			buffers.forEach(DataBufferUtils::release);
+		}
+	}
+
+
+	/**
+	 * Strategy for a subscriber whose buffer is full when an event is broadcast.
+	 */
+	public enum OverflowStrategy {
+
+		/**
+		 * Drop the oldest buffered event to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Drop the new event, keeping the buffered ones.
+		 */
+		DROP_LATEST,
+
+		/**
+		 * Drop all buffered events, keeping only the new one, for events that
+		 * each describe the complete current state.
+		 */
+		CONFLATE
+	}
+
+
+	/**
+	 * A subscriber along with the events buffered for it.
+	 */
+	private final class Subscription {
+
+		private final FluxSink<DataBuffer> sink;
+
+		private final DataBufferFactory bufferFactory;
+
+		private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+
+		private final Lock lock = new ReentrantLock();
+
+		Subscription(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory) {
+			this.sink = sink;
+			this.bufferFactory = bufferFactory;
+		}
+
+		void offer(byte[] event) {
+			this.lock.lock();
+			try {
+				if (this.queue.size() >= bufferSize) {
+					switch (overflowStrategy) {
+						case DROP_OLDEST -> {
+							this.queue.poll();
+							droppedCount.incrementAndGet();
+						}
+						case DROP_LATEST -> {
+							droppedCount.incrementAndGet();
+							return;
+						}
+						case CONFLATE -> {
+							droppedCount.addAndGet(this.queue.size());
+							this.queue.clear();
+						}
+					}
+				}
+				this.queue.offer(event);
+				drain();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		void drain() {
+			this.lock.lock();
+			try {
+				while (!this.queue.isEmpty() && this.sink.requestedFromDownstream() > 0 && !this.sink.isCancelled()) {
+					this.sink.next(this.bufferFactory.wrap(this.queue.poll()));
+				}
+				if (completed && this.queue.isEmpty()) {
+					this.sink.complete();
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		int getLag() {
+			this.lock.lock();
+			try {
+				return this.queue.size();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+}
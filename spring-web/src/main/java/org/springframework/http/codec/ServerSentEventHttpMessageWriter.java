@@ -124,44 +124,54 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 			ServerSentEvent<?> sse = (element instanceof ServerSentEvent<?> serverSentEvent ?
 					serverSentEvent : ServerSentEvent.builder().data(element).build());
 
-			StringBuilder sb = new StringBuilder();
-			String id = sse.id();
-			String event = sse.event();
-			Duration retry = sse.retry();
-			String comment = sse.comment();
-			Object data = sse.data();
-			if (id != null) {
-				writeField("id", id, sb);
-			}
-			if (event != null) {
-				writeField("event", event, sb);
-			}
-			if (retry != null) {
-				writeField("retry", retry.toMillis(), sb);
-			}
-			if (comment != null) {
-				sb.append(':').append(StringUtils.replace(comment, "\n", "\n:")).append('\n');
-			}
-			if (data != null) {
-				sb.append("data:");
-			}
-
-			Flux<DataBuffer> result;
-			if (data == null) {
-				result = Flux.just(encodeText(sb + "\n", mediaType, factory));
-			}
-			else if (data instanceof String text) {
-				text = StringUtils.replace(text, "\n", "\ndata:");
-				result = Flux.just(encodeText(sb + text + "\n\n", mediaType, factory));
-			}
-			else {
-				result = encodeEvent(sb, data, dataType, mediaType, factory, hints);
-			}
-
-			return result.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+			return encode(sse, dataType, mediaType, factory, hints);
 		});
 	}
 
+	/**
+	 * Encode a single {@link ServerSentEvent}, also used by
+	 * {@link ServerSentEventBroadcaster} to encode events once for all subscribers.
+	 */
+	Flux<DataBuffer> encode(ServerSentEvent<?> sse, ResolvableType dataType,
+			MediaType mediaType, DataBufferFactory factory, Map<String, Object> hints) {
+
+		StringBuilder sb = new StringBuilder();
+		String id = sse.id();
+		String event = sse.event();
+		Duration retry = sse.retry();
+		String comment = sse.comment();
+		Object data = sse.data();
+		if (id != null) {
+			writeField("id", id, sb);
+		}
+		if (event != null) {
+			writeField("event", event, sb);
+		}
+		if (retry != null) {
+			writeField("retry", retry.toMillis(), sb);
+		}
+		if (comment != null) {
+			sb.append(':').append(StringUtils.replace(comment, "\n", "\n:")).append('\n');
+		}
+		if (data != null) {
+			sb.append("data:");
+		}
+
+		Flux<DataBuffer> result;
+		if (data == null) {
+			result = Flux.just(encodeText(sb + "\n", mediaType, factory));
+		}
+		else if (data instanceof String text) {
+			text = StringUtils.replace(text, "\n", "\ndata:");
+			result = Flux.just(encodeText(sb + text + "\n\n", mediaType, factory));
+		}
+		else {
+			result = encodeEvent(sb, data, dataType, mediaType, factory, hints);
+		}
+
+		return result.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> Flux<DataBuffer> encodeEvent(StringBuilder eventContent, T data, ResolvableType dataType,
 			MediaType mediaType, DataBufferFactory factory, Map<String, Object> hints) {
@@ -56,6 +56,12 @@ public abstract class AbstractRequestAttributesScope implements Scope {
 		return scopedObject;
 	}
 
+	@Override
+	@Nullable
+	public Object getIfPresent(String name) {
+		return RequestContextHolder.currentRequestAttributes().getAttribute(name, getScope());
+	}
+
 	@Override
 	@Nullable
 	public Object remove(String name) {
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.testfixture.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.testfixture.xml.Pojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ServerSentEventBroadcaster}.
+ */
+class ServerSentEventBroadcasterTests {
+
+	private final ServerSentEventBroadcaster broadcaster = new ServerSentEventBroadcaster(new Jackson2JsonEncoder());
+
+
+	@Test
+	void broadcastToAllSubscribers() {
+		Flux<String> first = subscribe();
+		Flux<String> second = subscribe();
+
+		StepVerifier.create(first)
+				.then(() -> StepVerifier.create(second)
+						.then(() -> {
+							assertThat(this.broadcaster.getSubscriberCount()).isEqualTo(2);
+							this.broadcaster.broadcast(ServerSentEvent.builder("bar").id("c42").event("foo").build());
+							this.broadcaster.complete();
+						})
+						.expectNext("id:c42\nevent:foo\ndata:bar\n\n")
+						.verifyComplete())
+				.expectNext("id:c42\nevent:foo\ndata:bar\n\n")
+				.verifyComplete();
+
+		assertThat(this.broadcaster.getSubscriberCount()).isZero();
+	}
+
+	@Test
+	void broadcastMultiLineData() {
+		StepVerifier.create(subscribe())
+				.then(() -> {
+					this.broadcaster.broadcast("foo\nbar");
+					this.broadcaster.complete();
+				})
+				.expectNext("data:foo\ndata:bar\n\n")
+				.verifyComplete();
+	}
+
+	@Test
+	void broadcastPojo() {
+		StepVerifier.create(subscribe())
+				.then(() -> {
+					this.broadcaster.broadcast(new Pojo("foofoo", "barbar"));
+					this.broadcaster.complete();
+				})
+				.expectNext("data:{\"foo\":\"foofoo\",\"bar\":\"barbar\"}\n\n")
+				.verifyComplete();
+	}
+
+	@Test
+	void broadcastPojoWithoutEncoder() {
+		ServerSentEventBroadcaster broadcaster = new ServerSentEventBroadcaster();
+		broadcaster.subscribe(DefaultDataBufferFactory.sharedInstance).subscribe();
+
+		assertThatExceptionOfType(CodecException.class).isThrownBy(() -> broadcaster.broadcast(new Pojo("foo", "bar")));
+	}
+
+	@Test
+	void dropOldestWhenBufferFull() {
+		this.broadcaster.setBufferSize(2);
+
+		StepVerifier.create(subscribe(), 0)
+				.then(() -> {
+					broadcastAll("1", "2", "3");
+					assertThat(this.broadcaster.getMaxLag()).isEqualTo(2);
+					this.broadcaster.complete();
+				})
+				.thenRequest(Long.MAX_VALUE)
+				.expectNext("data:2\n\n", "data:3\n\n")
+				.verifyComplete();
+
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void dropLatestWhenBufferFull() {
+		this.broadcaster.setBufferSize(2);
+		this.broadcaster.setOverflowStrategy(ServerSentEventBroadcaster.OverflowStrategy.DROP_LATEST);
+
+		StepVerifier.create(subscribe(), 0)
+				.then(() -> {
+					broadcastAll("1", "2", "3");
+					this.broadcaster.complete();
+				})
+				.thenRequest(Long.MAX_VALUE)
+				.expectNext("data:1\n\n", "data:2\n\n")
+				.verifyComplete();
+
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void conflateWhenBufferFull() {
+		this.broadcaster.setBufferSize(2);
+		this.broadcaster.setOverflowStrategy(ServerSentEventBroadcaster.OverflowStrategy.CONFLATE);
+
+		StepVerifier.create(subscribe(), 0)
+				.then(() -> {
+					broadcastAll("1", "2", "3");
+					this.broadcaster.complete();
+				})
+				.thenRequest(Long.MAX_VALUE)
+				.expectNext("data:3\n\n")
+				.verifyComplete();
+
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void slowSubscriberDoesNotHoldBackOthers() {
+		this.broadcaster.setBufferSize(1);
+		Flux<String> slow = subscribe();
+
+		StepVerifier.create(slow, 0)
+				.then(() -> StepVerifier.create(subscribe())
+						.then(() -> {
+							broadcastAll("1", "2");
+							this.broadcaster.complete();
+						})
+						.expectNext("data:1\n\n", "data:2\n\n")
+						.verifyComplete())
+				.thenRequest(Long.MAX_VALUE)
+				.expectNext("data:2\n\n")
+				.verifyComplete();
+	}
+
+	@Test
+	void connect() {
+		MockServerHttpResponse response = new MockServerHttpResponse();
+		StepVerifier.create(this.broadcaster.connect(response))
+				.then(() -> {
+					broadcastAll("foo", "bar");
+					this.broadcaster.complete();
+				})
+				.verifyComplete();
+
+		assertThat(response.getHeaders().getContentType())
+				.isEqualTo(new MediaType("text", "event-stream", StandardCharsets.UTF_8));
+		StepVerifier.create(response.getBodyAsString())
+				.expectNext("data:foo\n\ndata:bar\n\n")
+				.verifyComplete();
+	}
+
+	@Test
+	void broadcastAfterComplete() {
+		this.broadcaster.complete();
+
+		assertThatIllegalStateException().isThrownBy(() -> this.broadcaster.broadcast("foo"));
+		StepVerifier.create(subscribe()).expectComplete().verify(Duration.ofSeconds(5));
+	}
+
+
+	private Flux<String> subscribe() {
+		return this.broadcaster.subscribe(DefaultDataBufferFactory.sharedInstance)
+				.map(buffer -> buffer.toString(StandardCharsets.UTF_8));
+	}
+
+	private void broadcastAll(String... data) {
+		for (String item : data) {
+			this.broadcaster.broadcast(item);
+		}
+	}
+
+}
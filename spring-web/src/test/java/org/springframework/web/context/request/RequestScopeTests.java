@@ -24,6 +24,7 @@ import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.Scope;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.ScopeNotActiveException;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
@@ -36,6 +37,7 @@ import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * @author Rob Harrop
@@ -79,6 +81,54 @@ class RequestScopeTests {
 		assertThat(this.beanFactory.getBean(name)).isSameAs(bean);
 	}
 
+	@Test
+	void getIfPresentFromScope() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+		RequestContextHolder.setRequestAttributes(requestAttributes);
+		Scope scope = this.beanFactory.getRegisteredScope("request");
+
+		String name = "requestScopedObject";
+		assertThat(scope.getIfPresent(name)).isNull();
+		TestBean bean = (TestBean) this.beanFactory.getBean(name);
+		assertThat(scope.getIfPresent(name)).isSameAs(bean);
+		assertThat(scope.getIfPresent(name)).isSameAs(bean);
+
+		requestAttributes.removeAttribute(name, RequestAttributes.SCOPE_REQUEST);
+		assertThat(scope.getIfPresent(name)).isNull();
+		TestBean newBean = (TestBean) this.beanFactory.getBean(name);
+		assertThat(newBean).isNotSameAs(bean);
+		assertThat(scope.getIfPresent(name)).isSameAs(newBean);
+		assertThat(scope.remove(name)).isSameAs(newBean);
+		assertThat(scope.getIfPresent(name)).isNull();
+
+		requestAttributes.requestCompleted();
+		assertThatIllegalStateException().isThrownBy(() -> scope.getIfPresent(name));
+	}
+
+	@Test
+	void getIfPresentReflectsDirectRequestChanges() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+		RequestContextHolder.setRequestAttributes(requestAttributes);
+		Scope scope = this.beanFactory.getRegisteredScope("request");
+
+		String name = "requestScopedObject";
+		TestBean bean = (TestBean) this.beanFactory.getBean(name);
+		assertThat(scope.getIfPresent(name)).isSameAs(bean);
+
+		TestBean otherBean = new TestBean();
+		request.setAttribute(name, otherBean);
+		assertThat(scope.getIfPresent(name)).isSameAs(otherBean);
+		assertThat(this.beanFactory.getBean(name)).isSameAs(otherBean);
+
+		request.removeAttribute(name);
+		assertThat(scope.getIfPresent(name)).isNull();
+		TestBean newBean = (TestBean) this.beanFactory.getBean(name);
+		assertThat(newBean).isNotSameAs(bean).isNotSameAs(otherBean);
+		assertThat(scope.getIfPresent(name)).isSameAs(newBean);
+	}
+
 	@Test
 	void destructionAtRequestCompletion() {
 		MockHttpServletRequest request = new MockHttpServletRequest();
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Resolver that delegates to the chain, and if a resource is found and the
+ * {@literal "Accept-Encoding"} header of the request includes "gzip",
+ * compresses the resource on first access and serves the compressed variant
+ * from a cache on subsequent requests.
+ *
+ * <p>This is an alternative to {@link EncodedResourceResolver} for resources
+ * that are not pre-compressed at build time. Compressed content is kept in a
+ * cache bounded by {@link #setCacheSizeLimit(long) size}, either in memory or,
+ * if a {@link #setCacheDirectory(Path) cache directory} is configured, in
+ * files so that it can be served like any other file-based resource,
+ * including zero-copy transfer where the server supports it.
+ *
+ * <p>Cache entries are keyed by the resource description and invalidated when
+ * the {@link Resource#lastModified() last-modified} time of the original
+ * resource changes. Resources below the {@link #setMinContentLength(long)
+ * minimum content length}, or that do not get any smaller when compressed,
+ * are cached as such and returned uncompressed without further checks.
+ *
+ * <p>Like {@link EncodedResourceResolver}, this resolver must be ordered ahead
+ * of a {@link VersionResourceResolver} with a content-based version strategy
+ * to ensure the version calculation is not impacted by the encoding. Resources
+ * that were already resolved to an encoded variant are returned as is.
+ *
+ * @since 7.0
+ */
+public class CompressingResourceResolver extends AbstractResourceResolver {
+
+	/**
+	 * The content coding applied by this resolver.
+	 */
+	public static final String GZIP_CODING = "gzip";
+
+	/**
+	 * The default media types considered for compression.
+	 */
+	public static final List<MediaType> DEFAULT_MEDIA_TYPES = List.of(
+			MediaType.parseMediaType("text/*"),
+			MediaType.parseMediaType("application/javascript"),
+			MediaType.APPLICATION_JSON,
+			MediaType.APPLICATION_XML,
+			MediaType.parseMediaType("image/svg+xml"));
+
+
+	private final List<MediaType> mediaTypes = new ArrayList<>(DEFAULT_MEDIA_TYPES);
+
+	private long minContentLength = 1024;
+
+	private long cacheSizeLimit = 10 * 1024 * 1024;
+
+	@Nullable
+	private Path cacheDirectory;
+
+	private final Map<String, CompressedContent> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+	private long cacheSize;
+
+
+	/**
+	 * Configure the media types eligible for compression. Resources for which
+	 * no media type can be determined, or with a media type not included by
+	 * any of the configured types, are returned uncompressed.
+	 * <p>By default this is set to {@link #DEFAULT_MEDIA_TYPES}.
+	 * @param mediaTypes one or more media types, possibly with wildcards
+	 */
+	public void setMediaTypes(List<MediaType> mediaTypes) {
+		Assert.notEmpty(mediaTypes, "At least one media type expected");
+		this.mediaTypes.clear();
+		this.mediaTypes.addAll(mediaTypes);
+	}
+
+	/**
+	 * Return a read-only list with the media types eligible for compression.
+	 */
+	public List<MediaType> getMediaTypes() {
+		return Collections.unmodifiableList(this.mediaTypes);
+	}
+
+	/**
+	 * Set the minimum content length, in bytes, for a resource to be
+	 * compressed. Smaller resources are returned uncompressed.
+	 * <p>By default this is set to 1024.
+	 */
+	public void setMinContentLength(long minContentLength) {
+		Assert.isTrue(minContentLength >= 0, "'minContentLength' must not be negative");
+		this.minContentLength = minContentLength;
+	}
+
+	/**
+	 * Return the configured minimum content length.
+	 */
+	public long getMinContentLength() {
+		return this.minContentLength;
+	}
+
+	/**
+	 * Set the maximum total size, in bytes, of cached compressed content,
+	 * in memory or in the {@link #setCacheDirectory(Path) cache directory}.
+	 * Least recently used entries are evicted once the limit is exceeded,
+	 * deleting their files from the cache directory.
+	 * <p>By default this is set to 10 MB.
+	 */
+	public void setCacheSizeLimit(long cacheSizeLimit) {
+		Assert.isTrue(cacheSizeLimit >= 0, "'cacheSizeLimit' must not be negative");
+		this.cacheSizeLimit = cacheSizeLimit;
+	}
+
+	/**
+	 * Return the configured cache size limit.
+	 */
+	public long getCacheSizeLimit() {
+		return this.cacheSizeLimit;
+	}
+
+	/**
+	 * Configure a directory to write compressed content to, instead of
+	 * holding it in memory. The directory must exist and be writable.
+	 * <p>By default this is not set.
+	 */
+	public void setCacheDirectory(@Nullable Path cacheDirectory) {
+		Assert.isTrue(cacheDirectory == null || Files.isDirectory(cacheDirectory),
+				() -> "Cache directory [" + cacheDirectory + "] does not exist");
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Return the configured cache directory, if any.
+	 */
+	@Nullable
+	public Path getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+
+	@Override
+	protected Mono<Resource> resolveResourceInternal(@Nullable ServerWebExchange exchange,
+			String requestPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		return chain.resolveResource(exchange, requestPath, locations).flatMap(resource -> {
+			if (exchange == null || !acceptsGzip(exchange) || !isCompressible(resource)) {
+				return Mono.just(resource);
+			}
+			long contentLength;
+			try {
+				Resource cached = getCachedResource(resource);
+				if (cached != null) {
+					return Mono.just(cached);
+				}
+				contentLength = resource.contentLength();
+				if (contentLength < this.minContentLength) {
+					return Mono.just(getUncompressedResource(resource));
+				}
+			}
+			catch (IOException ex) {
+				logger.trace(exchange.getLogPrefix() +
+						"Failed to check [" + resource.getFilename() + "] for compression", ex);
+				return Mono.just(resource);
+			}
+			// Compression is blocking: keep it off the calling thread
+			return Mono.fromCallable(() -> {
+						try {
+							return getCompressedResource(resource, contentLength);
+						}
+						catch (IOException ex) {
+							logger.trace(exchange.getLogPrefix() +
+									"Failed to compress [" + resource.getFilename() + "]", ex);
+							return resource;
+						}
+					})
+					.subscribeOn(Schedulers.boundedElastic());
+		});
+	}
+
+	private boolean acceptsGzip(ServerWebExchange exchange) {
+		String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+		return (header != null && header.toLowerCase(Locale.ROOT).contains(GZIP_CODING));
+	}
+
+	private boolean isCompressible(Resource resource) {
+		if (resource instanceof HttpResource httpResource &&
+				httpResource.getResponseHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+			return false;
+		}
+		MediaType mediaType = MediaTypeFactory.getMediaType(resource).orElse(null);
+		if (mediaType == null) {
+			return false;
+		}
+		for (MediaType candidate : this.mediaTypes) {
+			if (candidate.includes(mediaType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the compressed variant of the given resource from the cache, or
+	 * the resource itself if it is cached as not worth compressing.
+	 * @return the cached outcome, or {@code null} if not cached or outdated
+	 */
+	@Nullable
+	private Resource getCachedResource(Resource resource) throws IOException {
+		CompressedContent content;
+		synchronized (this.cache) {
+			content = this.cache.get(resource.getDescription());
+		}
+		if (content == null || content.lastModified() != resource.lastModified()) {
+			return null;
+		}
+		Resource compressed = content.resource();
+		return (compressed != null ? new CompressedResource(resource, compressed) : resource);
+	}
+
+	private Resource getUncompressedResource(Resource resource) throws IOException {
+		putCompressedContent(resource.getDescription(), new CompressedContent(null, 0, resource.lastModified()));
+		return resource;
+	}
+
+	private Resource getCompressedResource(Resource resource, long contentLength) throws IOException {
+		String key = resource.getDescription();
+		long lastModified = resource.lastModified();
+		byte[] bytes = compress(resource);
+		if (bytes.length >= contentLength) {
+			return getUncompressedResource(resource);
+		}
+		Resource compressed = (this.cacheDirectory != null ?
+				writeToCacheDirectory(this.cacheDirectory, key, bytes) : new ByteArrayResource(bytes));
+		putCompressedContent(key, new CompressedContent(compressed, bytes.length, lastModified));
+		return new CompressedResource(resource, compressed);
+	}
+
+	private static byte[] compress(Resource resource) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(StreamUtils.BUFFER_SIZE);
+		try (InputStream in = resource.getInputStream(); GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			in.transferTo(gzip);
+		}
+		return out.toByteArray();
+	}
+
+	private static Resource writeToCacheDirectory(Path directory, String key, byte[] bytes) throws IOException {
+		Path file = directory.resolve(DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + ".gz");
+		Path tempFile = Files.createTempFile(directory, "compressing", ".tmp");
+		try {
+			Files.write(tempFile, bytes);
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+		return new FileSystemResource(file);
+	}
+
+	private void putCompressedContent(String key, CompressedContent content) {
+		synchronized (this.cache) {
+			CompressedContent previous = this.cache.put(key, content);
+			if (previous != null) {
+				this.cacheSize -= previous.size();
+			}
+			this.cacheSize += content.size();
+			Iterator<Map.Entry<String, CompressedContent>> it = this.cache.entrySet().iterator();
+			while (this.cacheSize > this.cacheSizeLimit && it.hasNext()) {
+				Map.Entry<String, CompressedContent> entry = it.next();
+				if (entry.getKey().equals(key)) {
+					// Keep the entry just added, possibly still about to be served
+					break;
+				}
+				it.remove();
+				this.cacheSize -= entry.getValue().size();
+				deleteCacheFile(entry.getValue());
+			}
+		}
+	}
+
+	private void deleteCacheFile(CompressedContent content) {
+		if (content.resource() instanceof FileSystemResource fileResource) {
+			try {
+				Files.deleteIfExists(fileResource.getFile().toPath());
+			}
+			catch (IOException ex) {
+				if (logger.isTraceEnabled()) {
+					logger.trace("Failed to delete cache file [" + fileResource.getPath() + "]", ex);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected Mono<String> resolveUrlPathInternal(String resourceUrlPath,
+			List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		return chain.resolveUrlPath(resourceUrlPath, locations);
+	}
+
+
+	/**
+	 * Cache entry holding compressed content in memory or on disk.
+	 * @param resource the compressed content, or {@code null} if the original
+	 * resource is not worth compressing
+	 * @param size the number of compressed bytes held in memory or on disk
+	 * @param lastModified the last-modified time of the original resource
+	 */
+	private record CompressedContent(@Nullable Resource resource, long size, long lastModified) {
+	}
+
+
+	/**
+	 * A compressed {@link HttpResource}.
+	 */
+	static final class CompressedResource extends AbstractResource implements HttpResource {
+
+		private final Resource original;
+
+		private final Resource compressed;
+
+		CompressedResource(Resource original, Resource compressed) {
+			this.original = original;
+			this.compressed = compressed;
+		}
+
+		@Override
+		public boolean exists() {
+			return this.compressed.exists();
+		}
+
+		@Override
+		public boolean isReadable() {
+			return this.compressed.isReadable();
+		}
+
+		@Override
+		public boolean isFile() {
+			return this.compressed.isFile();
+		}
+
+		@Override
+		public URL getURL() throws IOException {
+			return this.original.getURL();
+		}
+
+		@Override
+		public URI getURI() throws IOException {
+			return this.original.getURI();
+		}
+
+		@Override
+		public File getFile() throws IOException {
+			return this.compressed.getFile();
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return this.compressed.getInputStream();
+		}
+
+		@Override
+		public ReadableByteChannel readableChannel() throws IOException {
+			return this.compressed.readableChannel();
+		}
+
+		@Override
+		public byte[] getContentAsByteArray() throws IOException {
+			return this.compressed.getContentAsByteArray();
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			return this.compressed.contentLength();
+		}
+
+		@Override
+		public long lastModified() throws IOException {
+			return this.original.lastModified();
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) throws IOException {
+			return this.original.createRelative(relativePath);
+		}
+
+		@Override
+		@Nullable
+		public String getFilename() {
+			return this.original.getFilename();
+		}
+
+		@Override
+		public String getDescription() {
+			return "Compressed " + this.original.getDescription();
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			HttpHeaders headers;
+			if (this.original instanceof HttpResource httpResource) {
+				headers = httpResource.getResponseHeaders();
+			}
+			else {
+				headers = new HttpHeaders();
+			}
+			headers.add(HttpHeaders.CONTENT_ENCODING, GZIP_CODING);
+			headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			return headers;
+		}
+	}
+
+}
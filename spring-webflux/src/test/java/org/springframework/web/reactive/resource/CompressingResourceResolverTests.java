@@ -0,0 +1,185 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.testfixture.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.testfixture.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompressingResourceResolver}.
+ */
+class CompressingResourceResolverTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private static final String CONTENT = "function foo() { console.log('foo'); }\n".repeat(100);
+
+
+	@TempDir
+	Path location;
+
+	private final CompressingResourceResolver compressingResolver = new CompressingResourceResolver();
+
+	private ResourceResolverChain resolver;
+
+	private List<Resource> locations;
+
+
+	@BeforeEach
+	void setup() throws IOException {
+		Files.writeString(this.location.resolve("foo.js"), CONTENT);
+		Files.writeString(this.location.resolve("bar.js"), "bar();");
+		Files.writeString(this.location.resolve("image.png"), CONTENT);
+		this.resolver = new DefaultResourceResolverChain(List.of(this.compressingResolver, new PathResourceResolver()));
+		this.locations = List.of(new FileSystemResource(this.location.toString() + "/"));
+	}
+
+
+	@Test
+	void resolveCompressed() throws IOException {
+		Resource resource = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+
+		assertThat(resource).isInstanceOf(HttpResource.class);
+		assertThat(resource.getFilename()).isEqualTo("foo.js");
+		assertThat(resource.contentLength()).isLessThan(CONTENT.length());
+		assertThat(decompress(resource)).isEqualTo(CONTENT);
+		HttpHeaders headers = ((HttpResource) resource).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(headers.getFirst(HttpHeaders.VARY)).isEqualTo("Accept-Encoding");
+	}
+
+	@Test
+	void resolveCompressedFromCache() throws IOException {
+		Resource first = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+		updateFile("foo.js", first.lastModified(), CONTENT + CONTENT);
+		Resource second = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+
+		assertThat(decompress(second)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void resolveCompressedAfterModification() throws IOException {
+		Resource first = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+		updateFile("foo.js", first.lastModified() + 1000, CONTENT + CONTENT);
+		Resource second = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+
+		assertThat(decompress(second)).isEqualTo(CONTENT + CONTENT);
+	}
+
+	@Test
+	void resolveCompressedWithCacheDirectory(@TempDir Path cacheDirectory) throws IOException {
+		this.compressingResolver.setCacheDirectory(cacheDirectory);
+		Resource resource = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+
+		assertThat(resource.isFile()).isTrue();
+		assertThat(resource.getFile().toPath().getParent()).isEqualTo(cacheDirectory);
+		assertThat(decompress(resource)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void resolveUncompressedWithoutAcceptEncoding() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(""));
+		Resource resource = this.resolver.resolveResource(exchange, "foo.js", this.locations).block(TIMEOUT);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveUncompressedBelowMinContentLength() {
+		Resource resource = this.resolver.resolveResource(gzipExchange(), "bar.js", this.locations).block(TIMEOUT);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveUncompressedBelowMinContentLengthFromCache() throws IOException {
+		Resource first = this.resolver.resolveResource(gzipExchange(), "bar.js", this.locations).block(TIMEOUT);
+		updateFile("bar.js", first.lastModified(), CONTENT);
+		Resource second = this.resolver.resolveResource(gzipExchange(), "bar.js", this.locations).block(TIMEOUT);
+		assertThat(second).isNotInstanceOf(HttpResource.class);
+
+		updateFile("bar.js", first.lastModified() + 1000, CONTENT);
+		Resource third = this.resolver.resolveResource(gzipExchange(), "bar.js", this.locations).block(TIMEOUT);
+		assertThat(third).isInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void evictFromCacheDirectory(@TempDir Path cacheDirectory) throws IOException {
+		this.compressingResolver.setCacheDirectory(cacheDirectory);
+		this.compressingResolver.setCacheSizeLimit(1);
+		Files.writeString(this.location.resolve("baz.js"), CONTENT);
+		Resource first = this.resolver.resolveResource(gzipExchange(), "foo.js", this.locations).block(TIMEOUT);
+		Resource second = this.resolver.resolveResource(gzipExchange(), "baz.js", this.locations).block(TIMEOUT);
+
+		assertThat(first.getFile().exists()).isFalse();
+		assertThat(decompress(second)).isEqualTo(CONTENT);
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			assertThat(files.count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void resolveUncompressedForNonCompressibleMediaType() {
+		Resource resource = this.resolver.resolveResource(gzipExchange(), "image.png", this.locations).block(TIMEOUT);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveWithNullRequest() {
+		Resource resource = this.resolver.resolveResource(null, "foo.js", this.locations).block(TIMEOUT);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+
+	private void updateFile(String filename, long lastModified, String content) throws IOException {
+		Path file = this.location.resolve(filename);
+		Files.writeString(file, content);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+	}
+
+	private static MockServerWebExchange gzipExchange() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("").header("Accept-Encoding", "gzip, deflate"));
+	}
+
+	private static String decompress(Resource resource) throws IOException {
+		try (InputStream in = new GZIPInputStream(resource.getInputStream())) {
+			return new String(in.readAllBytes());
+		}
+	}
+
+}
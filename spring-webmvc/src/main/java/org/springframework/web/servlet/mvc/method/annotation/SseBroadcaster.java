@@ -0,0 +1,536 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.method.annotation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Hub for broadcasting <a href="https://www.w3.org/TR/eventsource/">Server-Sent
+ * Events</a> to any number of {@link SseEmitter SseEmitters}.
+ *
+ * <p>Each event is encoded once, with the configured message converters, and
+ * the resulting bytes are shared by all subscribers, rather than converted for
+ * every emitter as is the case with {@link SseEmitter#send(SseEventBuilder)}.
+ * Events are written to each emitter by a task on the configured
+ * {@link #setTaskExecutor executor}, from a bounded buffer, so that a slow
+ * client never blocks the broadcasting thread. The configured
+ * {@link OverflowStrategy} decides which events a slow subscriber misses once
+ * its buffer is full, or whether it gets disconnected.
+ *
+ * <p>Note that writing to an emitter is blocking: a write to a stalled client
+ * occupies an executor thread until it completes or fails. With the bounded
+ * default executor, enough stalled clients can therefore delay writes to all
+ * others. Use {@link OverflowStrategy#DISCONNECT} to stop writing to clients
+ * that fall behind, and/or provide an executor that scales with the number of
+ * subscribers, such as one backed by virtual threads on Java 21+.
+ *
+ * <p>When declared as a bean, the broadcaster completes all emitters and shuts
+ * down its default executor on {@link #destroy()}.
+ *
+ * <p>Encoded events are sent as {@code byte[]}, and rely on a converter for it,
+ * such as the {@code ByteArrayHttpMessageConverter} registered by default.
+ * For example:
+ * <pre class="code">
+ * &#064;GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+ * public SseEmitter events() {
+ *     return this.broadcaster.subscribe();
+ * }
+ * </pre>
+ *
+ * @since 7.0
+ * @see SseEmitter
+ */
+public class SseBroadcaster implements DisposableBean {
+
+	/**
+	 * The default maximum number of events buffered per subscriber.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	/**
+	 * The number of threads of the default executor.
+	 */
+	private static final int DEFAULT_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+	private static final Log logger = LogFactory.getLog(SseBroadcaster.class);
+
+
+	private final List<HttpMessageConverter<?>> messageConverters;
+
+	private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private final ThreadPoolExecutor defaultExecutor = createDefaultExecutor();
+
+	private Executor taskExecutor = this.defaultExecutor;
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private OverflowStrategy overflowStrategy = OverflowStrategy.DROP_OLDEST;
+
+	private volatile boolean completed;
+
+
+	/**
+	 * Constructor without message converters. In this mode only {@code String}
+	 * is supported for event data to be encoded.
+	 */
+	public SseBroadcaster() {
+		this(Collections.emptyList());
+	}
+
+	/**
+	 * Constructor with the converters to encode event data with, e.g. for JSON.
+	 * Support for {@code String} event data is built-in.
+	 * @param messageConverters the converters to use
+	 */
+	public SseBroadcaster(List<HttpMessageConverter<?>> messageConverters) {
+		Assert.notNull(messageConverters, "HttpMessageConverter List must not be null");
+		this.messageConverters = messageConverters;
+	}
+
+
+	/**
+	 * Set the executor to write events to emitters with. Writing to an emitter
+	 * is serialized, but may be carried out by a different thread for each
+	 * series of events.
+	 * <p>By default this is a fixed pool of daemon threads, one per available
+	 * processor and no fewer than 4, that time out when idle, so that the number
+	 * of threads stays bounded regardless of the number of subscribers. Since a
+	 * write to a slow client occupies a thread until it completes, applications
+	 * with many slow clients should provide an executor sized accordingly, or
+	 * one backed by virtual threads on Java 21+. The lifecycle of an executor
+	 * provided here is not managed by this broadcaster.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "Executor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set the maximum number of events to buffer for each subscriber that has
+	 * not yet written them.
+	 * <p>By default this is set to {@link #DEFAULT_BUFFER_SIZE}.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' should be larger than 0");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Return the configured maximum number of events buffered per subscriber.
+	 */
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	/**
+	 * Set the strategy to apply to a subscriber whose buffer is full.
+	 * <p>By default this is set to {@link OverflowStrategy#DROP_OLDEST}.
+	 */
+	public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+		Assert.notNull(overflowStrategy, "OverflowStrategy must not be null");
+		this.overflowStrategy = overflowStrategy;
+	}
+
+	/**
+	 * Return the configured overflow strategy.
+	 */
+	public OverflowStrategy getOverflowStrategy() {
+		return this.overflowStrategy;
+	}
+
+
+	/**
+	 * Create an emitter subscribed to events broadcast from now on.
+	 * @see SseEmitter#SseEmitter()
+	 */
+	public SseEmitter subscribe() {
+		return subscribe(new SseEmitter());
+	}
+
+	/**
+	 * Create an emitter with the given timeout, subscribed to events broadcast
+	 * from now on.
+	 * @param timeout the timeout value in milliseconds
+	 * @see SseEmitter#SseEmitter(Long)
+	 */
+	public SseEmitter subscribe(Long timeout) {
+		return subscribe(new SseEmitter(timeout));
+	}
+
+	/**
+	 * Subscribe the given emitter to events broadcast from now on. The emitter
+	 * is unsubscribed when it completes, times out, or fails.
+	 * @param emitter the emitter to write to
+	 * @return the given emitter
+	 */
+	public SseEmitter subscribe(SseEmitter emitter) {
+		Subscription subscription = new Subscription(emitter);
+		emitter.onCompletion(() -> this.subscriptions.remove(subscription));
+		emitter.onTimeout(() -> this.subscriptions.remove(subscription));
+		emitter.onError(ex -> this.subscriptions.remove(subscription));
+		this.subscriptions.add(subscription);
+		if (this.completed) {
+			subscription.complete();
+		}
+		return emitter;
+	}
+
+	/**
+	 * Broadcast the given data as the "data" field of an event.
+	 * @param data the event data
+	 */
+	public void broadcast(Object data) {
+		broadcast(SseEmitter.event().data(data));
+	}
+
+	/**
+	 * Encode the given event, and offer it to all current subscribers.
+	 * @param event the event to broadcast
+	 * @throws HttpMessageNotWritableException if no converter can write the
+	 * event data
+	 */
+	public void broadcast(SseEventBuilder event) {
+		Assert.state(!this.completed, "SseBroadcaster has already completed");
+		if (this.subscriptions.isEmpty()) {
+			return;
+		}
+		byte[] bytes = encode(event.build());
+		for (Subscription subscription : this.subscriptions) {
+			subscription.offer(bytes);
+		}
+	}
+
+	/**
+	 * Complete all emitters, once the events buffered for them have been
+	 * written, and reject any further broadcasts.
+	 */
+	public void complete() {
+		this.completed = true;
+		for (Subscription subscription : this.subscriptions) {
+			subscription.complete();
+		}
+	}
+
+	/**
+	 * {@linkplain #complete() Complete} all emitters, and shut down the default
+	 * executor once it has written the events buffered so far.
+	 */
+	@Override
+	public void destroy() {
+		if (!this.completed) {
+			complete();
+		}
+		this.defaultExecutor.shutdown();
+	}
+
+
+	/**
+	 * Return the number of current subscribers.
+	 */
+	public int getSubscriberCount() {
+		return this.subscriptions.size();
+	}
+
+	/**
+	 * Return the largest number of events buffered for any one subscriber,
+	 * i.e. how far the slowest subscriber lags behind.
+	 */
+	public int getMaxLag() {
+		int max = 0;
+		for (Subscription subscription : this.subscriptions) {
+			max = Math.max(max, subscription.getLag());
+		}
+		return max;
+	}
+
+	/**
+	 * Return the total number of events not delivered to a subscriber as a
+	 * result of the {@linkplain #setOverflowStrategy overflow strategy}.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+
+	private byte[] encode(Set<DataWithMediaType> items) {
+		BytesOutputMessage outputMessage = new BytesOutputMessage();
+		for (DataWithMediaType item : items) {
+			Object data = item.getData();
+			if (data instanceof String text) {
+				outputMessage.getBody().writeBytes(text.getBytes(StandardCharsets.UTF_8));
+			}
+			else {
+				encodeData(data, item.getMediaType(), outputMessage);
+			}
+		}
+		return outputMessage.getBody().toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void encodeData(T data, @Nullable MediaType mediaType, BytesOutputMessage outputMessage) {
+		for (HttpMessageConverter<?> converter : this.messageConverters) {
+			if (converter.canWrite(data.getClass(), mediaType)) {
+				try {
+					((HttpMessageConverter<T>) converter).write(data, mediaType, outputMessage);
+				}
+				catch (IOException ex) {
+					throw new HttpMessageNotWritableException("Could not write SSE data: " + ex.getMessage(), ex);
+				}
+				return;
+			}
+		}
+		throw new HttpMessageNotWritableException("No suitable converter for " + data.getClass());
+	}
+
+	private static ThreadPoolExecutor createDefaultExecutor() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sse-broadcast-");
+		threadFactory.setDaemon(true);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE,
+				60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+
+	/**
+	 * Strategy for a subscriber whose buffer is full when an event is broadcast.
+	 */
+	public enum OverflowStrategy {
+
+		/**
+		 * Drop the oldest buffered event to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Drop the new event, keeping the buffered ones.
+		 */
+		DROP_LATEST,
+
+		/**
+		 * Drop all buffered events, keeping only the new one, for events that
+		 * each describe the complete current state.
+		 */
+		CONFLATE,
+
+		/**
+		 * Drop all buffered events along with the new one, and complete the
+		 * emitter once the write in progress returns, for clients that are
+		 * expected to reconnect and catch up by other means. This limits the
+		 * time that a stalled client occupies an executor thread to a single
+		 * write.
+		 */
+		DISCONNECT
+	}
+
+
+	/**
+	 * An emitter along with the events buffered for it, written by at most one
+	 * task at a time.
+	 */
+	private final class Subscription implements Runnable {
+
+		private final SseEmitter emitter;
+
+		private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+
+		private final Lock lock = new ReentrantLock();
+
+		private boolean writing;
+
+		private boolean completePending;
+
+		Subscription(SseEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		void offer(byte[] event) {
+			this.lock.lock();
+			try {
+				if (this.completePending) {
+					// Disconnected, possibly still iterated over by a broadcast
+					droppedCount.incrementAndGet();
+					return;
+				}
+				if (this.queue.size() >= bufferSize) {
+					switch (overflowStrategy) {
+						case DROP_OLDEST -> {
+							this.queue.poll();
+							droppedCount.incrementAndGet();
+						}
+						case DROP_LATEST -> {
+							droppedCount.incrementAndGet();
+							return;
+						}
+						case CONFLATE -> {
+							droppedCount.addAndGet(this.queue.size());
+							this.queue.clear();
+						}
+						case DISCONNECT -> {
+							// A full buffer implies a task in progress: let it complete the emitter
+							droppedCount.addAndGet(this.queue.size() + 1);
+							this.queue.clear();
+							this.completePending = true;
+							subscriptions.remove(this);
+							return;
+						}
+					}
+				}
+				this.queue.offer(event);
+				if (this.writing) {
+					return;
+				}
+				this.writing = true;
+			}
+			finally {
+				this.lock.unlock();
+			}
+			schedule();
+		}
+
+		void complete() {
+			this.lock.lock();
+			try {
+				if (this.writing) {
+					this.completePending = true;
+					return;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+			this.emitter.complete();
+		}
+
+		private void schedule() {
+			try {
+				taskExecutor.execute(this);
+			}
+			catch (RuntimeException ex) {
+				subscriptions.remove(this);
+				this.emitter.completeWithError(ex);
+			}
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				byte[] event;
+				this.lock.lock();
+				try {
+					event = this.queue.poll();
+					if (event == null) {
+						this.writing = false;
+						if (!this.completePending) {
+							return;
+						}
+					}
+				}
+				finally {
+					this.lock.unlock();
+				}
+				if (event == null) {
+					this.emitter.complete();
+					return;
+				}
+				try {
+					this.emitter.send(Collections.singleton(new DataWithMediaType(event, MediaType.TEXT_EVENT_STREAM)));
+				}
+				catch (IOException | IllegalStateException ex) {
+					// Client gone: the container notifies the emitter's error callback
+					if (logger.isDebugEnabled()) {
+						logger.debug("Failed to send SSE event to " + this.emitter + ": " + ex.getMessage());
+					}
+					subscriptions.remove(this);
+					this.lock.lock();
+					try {
+						this.queue.clear();
+						this.writing = false;
+					}
+					finally {
+						this.lock.unlock();
+					}
+					return;
+				}
+			}
+		}
+
+		int getLag() {
+			this.lock.lock();
+			try {
+				return this.queue.size();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+
+	/**
+	 * {@link HttpOutputMessage} to encode event data into.
+	 */
+	private static final class BytesOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		@Override
+		public ByteArrayOutputStream getBody() {
+			return this.body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.function.Function;
 
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponseWrapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.logging.Log;
@@ -36,6 +37,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.EmbeddedValueResolverAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRange;
@@ -100,6 +102,17 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private static final String URL_RESOURCE_CHARSET_PREFIX = "[charset=";
 
+	private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+	/** Below this size, copying is cheaper than the sendfile setup (same default as Tomcat). */
+	private static final long SENDFILE_MIN_CONTENT_LENGTH = 48 * 1024;
+
 
 	private final List<String> locationValues = new ArrayList<>(4);
 
@@ -143,6 +156,8 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private boolean optimizeLocations = false;
 
+	private boolean useSendfile;
+
 	@Nullable
 	private StringValueResolver embeddedValueResolver;
 
@@ -433,6 +448,34 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		return this.optimizeLocations;
 	}
 
+	/**
+	 * Set whether to let the Servlet container write file-based resources
+	 * with zero-copy file transfer ("sendfile"), for full content as well as
+	 * for single byte-range requests, if the container advertises support for
+	 * it through the {@code "org.apache.tomcat.sendfile.support"} request
+	 * attribute, as Tomcat does.
+	 * <p>Sendfile is only used for resources of at least 48 KB that are
+	 * {@link Resource#isFile() files}, and only if the response is not wrapped,
+	 * since the content bypasses the {@code HttpServletResponse} entirely.
+	 * Otherwise, resources are written through the configured
+	 * {@link #setResourceHttpMessageConverter message converters}.
+	 * <p>This option is disabled by default since it changes how file content
+	 * is written for any container that advertises sendfile support, bypassing
+	 * response wrappers and filters that expect to see the content.
+	 * @since 7.0
+	 */
+	public void setUseSendfile(boolean useSendfile) {
+		this.useSendfile = useSendfile;
+	}
+
+	/**
+	 * Return whether to use container-specific zero-copy file transfer.
+	 * @since 7.0
+	 */
+	public boolean isUseSendfile() {
+		return this.useSendfile;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -617,6 +660,11 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 				this.resourceHttpMessageConverter.addDefaultHeaders(outputMessage, resource, mediaType);
 				outputMessage.flush();
 			}
+			else if (isSendfileSupported(request, response, resource)) {
+				long length = resource.contentLength();
+				setSendfileHeaders(response, resource, mediaType, length);
+				sendfile(request, resource, 0, length);
+			}
 			else {
 				this.resourceHttpMessageConverter.write(resource, mediaType, outputMessage);
 			}
@@ -626,9 +674,20 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 			ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(request);
 			try {
 				List<HttpRange> httpRanges = inputMessage.getHeaders().getRange();
+				List<ResourceRegion> regions = HttpRange.toResourceRegions(httpRanges, resource);
 				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
-				this.resourceRegionHttpMessageConverter.write(
-						HttpRange.toResourceRegions(httpRanges, resource), mediaType, outputMessage);
+				if (regions.size() == 1 && isSendfileSupported(request, response, resource)) {
+					ResourceRegion region = regions.get(0);
+					long start = region.getPosition();
+					long end = start + region.getCount() - 1;
+					response.setHeader(HttpHeaders.CONTENT_RANGE,
+							"bytes " + start + '-' + end + '/' + resource.contentLength());
+					setSendfileHeaders(response, resource, mediaType, region.getCount());
+					sendfile(request, resource, start, region.getCount());
+				}
+				else {
+					this.resourceRegionHttpMessageConverter.write(regions, mediaType, outputMessage);
+				}
 			}
 			catch (IllegalArgumentException ex) {
 				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + resource.contentLength());
@@ -637,6 +696,40 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		}
 	}
 
+	private boolean isSendfileSupported(
+			HttpServletRequest request, HttpServletResponse response, Resource resource) throws IOException {
+
+		return (this.useSendfile && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE)) &&
+				!(response instanceof ServletResponseWrapper) && !response.isCommitted() &&
+				resource.isFile() && resource.contentLength() >= SENDFILE_MIN_CONTENT_LENGTH);
+	}
+
+	/**
+	 * Set the headers that the message converters would otherwise add,
+	 * with the same fallback for the content type.
+	 */
+	private static void setSendfileHeaders(HttpServletResponse response, Resource resource,
+			@Nullable MediaType mediaType, long contentLength) {
+
+		if (response.getContentType() == null) {
+			MediaType contentType = (mediaType != null ? mediaType :
+					MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM));
+			response.setContentType(contentType.toString());
+		}
+		response.setContentLengthLong(contentLength);
+	}
+
+	private static void sendfile(HttpServletRequest request, Resource resource, long start, long count)
+			throws IOException {
+
+		if (logger.isTraceEnabled()) {
+			logger.trace("Using sendfile for " + resource);
+		}
+		request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, resource.getFile().getCanonicalPath());
+		request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+		request.setAttribute(SENDFILE_END_ATTRIBUTE, start + count);
+	}
+
 	@Nullable
 	protected Resource getResource(HttpServletRequest request) throws IOException {
 		String path = getPath(request);
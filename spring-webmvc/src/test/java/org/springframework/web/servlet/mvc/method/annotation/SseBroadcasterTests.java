@@ -0,0 +1,278 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.method.annotation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.springframework.web.servlet.mvc.method.annotation.SseEmitter.event;
+
+/**
+ * Tests for {@link SseBroadcaster}.
+ */
+class SseBroadcasterTests {
+
+	private final SseBroadcaster broadcaster =
+			new SseBroadcaster(List.of(new MappingJackson2HttpMessageConverter()));
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+
+	@Test
+	void broadcastToAllSubscribers() throws IOException {
+		this.broadcaster.setTaskExecutor(new SyncTaskExecutor());
+		TestHandler first = subscribe();
+		TestHandler second = subscribe();
+
+		this.broadcaster.broadcast(event().id("c42").name("foo").data("bar"));
+
+		assertThat(this.broadcaster.getSubscriberCount()).isEqualTo(2);
+		assertThat(first.events).containsExactly("id:c42\nevent:foo\ndata:bar\n\n");
+		assertThat(second.events).containsExactly("id:c42\nevent:foo\ndata:bar\n\n");
+		assertThat(first.mediaTypes).containsExactly(MediaType.TEXT_EVENT_STREAM);
+	}
+
+	@Test
+	void broadcastObject() throws IOException {
+		this.broadcaster.setTaskExecutor(new SyncTaskExecutor());
+		TestHandler handler = subscribe();
+
+		this.broadcaster.broadcast(event().data(new Message("foo"), MediaType.APPLICATION_JSON));
+
+		assertThat(handler.events).containsExactly("data:{\"text\":\"foo\"}\n\n");
+	}
+
+	@Test
+	void broadcastObjectWithoutConverter() {
+		SseBroadcaster broadcaster = new SseBroadcaster();
+		broadcaster.subscribe();
+
+		assertThatExceptionOfType(HttpMessageNotWritableException.class)
+				.isThrownBy(() -> broadcaster.broadcast(new Message("foo")));
+	}
+
+	@Test
+	void dropOldestWhenBufferFull() throws IOException {
+		this.broadcaster.setTaskExecutor(this.tasks::add);
+		this.broadcaster.setBufferSize(2);
+		TestHandler handler = subscribe();
+
+		broadcastAll("1", "2", "3");
+		assertThat(this.broadcaster.getMaxLag()).isEqualTo(2);
+		runTasks();
+
+		assertThat(handler.events).containsExactly("data:2\n\n", "data:3\n\n");
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(1);
+		assertThat(this.broadcaster.getMaxLag()).isZero();
+	}
+
+	@Test
+	void dropLatestWhenBufferFull() throws IOException {
+		this.broadcaster.setTaskExecutor(this.tasks::add);
+		this.broadcaster.setBufferSize(2);
+		this.broadcaster.setOverflowStrategy(SseBroadcaster.OverflowStrategy.DROP_LATEST);
+		TestHandler handler = subscribe();
+
+		broadcastAll("1", "2", "3");
+		runTasks();
+
+		assertThat(handler.events).containsExactly("data:1\n\n", "data:2\n\n");
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void conflateWhenBufferFull() throws IOException {
+		this.broadcaster.setTaskExecutor(this.tasks::add);
+		this.broadcaster.setBufferSize(2);
+		this.broadcaster.setOverflowStrategy(SseBroadcaster.OverflowStrategy.CONFLATE);
+		TestHandler handler = subscribe();
+
+		broadcastAll("1", "2", "3");
+		runTasks();
+
+		assertThat(handler.events).containsExactly("data:3\n\n");
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void disconnectWhenBufferFull() throws IOException {
+		this.broadcaster.setTaskExecutor(this.tasks::add);
+		this.broadcaster.setBufferSize(2);
+		this.broadcaster.setOverflowStrategy(SseBroadcaster.OverflowStrategy.DISCONNECT);
+		TestHandler handler = subscribe();
+
+		broadcastAll("1", "2", "3");
+		assertThat(this.broadcaster.getSubscriberCount()).isZero();
+		assertThat(handler.completed).isFalse();
+		runTasks();
+
+		assertThat(handler.events).isEmpty();
+		assertThat(handler.completed).isTrue();
+		assertThat(this.broadcaster.getDroppedCount()).isEqualTo(3);
+	}
+
+	@Test
+	void writeSeriesOfEventsInOneTask() throws IOException {
+		this.broadcaster.setTaskExecutor(this.tasks::add);
+		TestHandler handler = subscribe();
+
+		broadcastAll("1", "2", "3");
+
+		assertThat(this.tasks).hasSize(1);
+		runTasks();
+		assertThat(handler.events).containsExactly("data:1\n\n", "data:2\n\n", "data:3\n\n");
+	}
+
+	@Test
+	void completeAfterBufferedEvents() throws IOException {
+		this.broadcaster.setTaskExecutor(this.tasks::add);
+		TestHandler handler = subscribe();
+
+		broadcastAll("1");
+		this.broadcaster.complete();
+		assertThat(handler.completed).isFalse();
+		runTasks();
+
+		assertThat(handler.events).containsExactly("data:1\n\n");
+		assertThat(handler.completed).isTrue();
+		assertThatIllegalStateException().isThrownBy(() -> this.broadcaster.broadcast("2"));
+	}
+
+	@Test
+	void destroyCompletesEmitters() throws IOException {
+		TestHandler handler = subscribe();
+
+		this.broadcaster.destroy();
+
+		assertThat(handler.completed).isTrue();
+		assertThatIllegalStateException().isThrownBy(() -> this.broadcaster.broadcast("1"));
+	}
+
+	@Test
+	void unsubscribeOnFailure() throws IOException {
+		this.broadcaster.setTaskExecutor(new SyncTaskExecutor());
+		TestHandler handler = subscribe();
+		handler.failure = new IOException("Broken pipe");
+
+		broadcastAll("1");
+
+		assertThat(this.broadcaster.getSubscriberCount()).isZero();
+	}
+
+
+	private TestHandler subscribe() throws IOException {
+		TestHandler handler = new TestHandler();
+		this.broadcaster.subscribe().initialize(handler);
+		return handler;
+	}
+
+	private void broadcastAll(String... data) {
+		for (String item : data) {
+			this.broadcaster.broadcast(item);
+		}
+	}
+
+	private void runTasks() {
+		List<Runnable> tasks = new ArrayList<>(this.tasks);
+		this.tasks.clear();
+		tasks.forEach(Runnable::run);
+	}
+
+
+	private record Message(String text) {
+	}
+
+
+	private static class TestHandler implements ResponseBodyEmitter.Handler {
+
+		private final List<String> events = new ArrayList<>();
+
+		private final List<MediaType> mediaTypes = new ArrayList<>();
+
+		@Nullable
+		private IOException failure;
+
+		private boolean completed;
+
+		@Nullable
+		private Runnable completionCallback;
+
+		@Nullable
+		private Consumer<Throwable> errorCallback;
+
+		@Override
+		public void send(Object data, @Nullable MediaType mediaType) throws IOException {
+			send(Set.of(new ResponseBodyEmitter.DataWithMediaType(data, mediaType)));
+		}
+
+		@Override
+		public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+			if (this.failure != null) {
+				if (this.errorCallback != null) {
+					this.errorCallback.accept(this.failure);
+				}
+				throw this.failure;
+			}
+			for (ResponseBodyEmitter.DataWithMediaType item : items) {
+				this.events.add(new String((byte[]) item.getData(), StandardCharsets.UTF_8));
+				this.mediaTypes.add(item.getMediaType());
+			}
+		}
+
+		@Override
+		public void complete() {
+			this.completed = true;
+			if (this.completionCallback != null) {
+				this.completionCallback.run();
+			}
+		}
+
+		@Override
+		public void completeWithError(Throwable failure) {
+		}
+
+		@Override
+		public void onTimeout(Runnable callback) {
+		}
+
+		@Override
+		public void onError(Consumer<Throwable> callback) {
+			this.errorCallback = callback;
+		}
+
+		@Override
+		public void onCompletion(Runnable callback) {
+			this.completionCallback = callback;
+		}
+	}
+
+}
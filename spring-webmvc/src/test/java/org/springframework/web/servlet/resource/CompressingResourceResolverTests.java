@@ -0,0 +1,183 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompressingResourceResolver}.
+ */
+class CompressingResourceResolverTests {
+
+	private static final String CONTENT = "function foo() { console.log('foo'); }\n".repeat(100);
+
+
+	@TempDir
+	Path location;
+
+	private final CompressingResourceResolver compressingResolver = new CompressingResourceResolver();
+
+	private ResourceResolverChain resolver;
+
+	private List<Resource> locations;
+
+
+	@BeforeEach
+	void setup() throws IOException {
+		Files.writeString(this.location.resolve("foo.js"), CONTENT);
+		Files.writeString(this.location.resolve("bar.js"), "bar();");
+		Files.writeString(this.location.resolve("image.png"), CONTENT);
+		this.resolver = new DefaultResourceResolverChain(List.of(this.compressingResolver, new PathResourceResolver()));
+		this.locations = List.of(new FileSystemResource(this.location.toString() + "/"));
+	}
+
+
+	@Test
+	void resolveCompressed() throws IOException {
+		Resource resource = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+
+		assertThat(resource).isInstanceOf(HttpResource.class);
+		assertThat(resource.getFilename()).isEqualTo("foo.js");
+		assertThat(resource.contentLength()).isLessThan(CONTENT.length());
+		assertThat(decompress(resource)).isEqualTo(CONTENT);
+		HttpHeaders headers = ((HttpResource) resource).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(headers.getFirst(HttpHeaders.VARY)).isEqualTo("Accept-Encoding");
+	}
+
+	@Test
+	void resolveCompressedFromCache() throws IOException {
+		Resource first = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+		updateFile("foo.js", first.lastModified(), CONTENT + CONTENT);
+		Resource second = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+
+		assertThat(decompress(second)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void resolveCompressedAfterModification() throws IOException {
+		Resource first = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+		updateFile("foo.js", first.lastModified() + 1000, CONTENT + CONTENT);
+		Resource second = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+
+		assertThat(decompress(second)).isEqualTo(CONTENT + CONTENT);
+	}
+
+	@Test
+	void resolveCompressedWithCacheDirectory(@TempDir Path cacheDirectory) throws IOException {
+		this.compressingResolver.setCacheDirectory(cacheDirectory);
+		Resource resource = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+
+		assertThat(resource.isFile()).isTrue();
+		assertThat(resource.getFile().toPath().getParent()).isEqualTo(cacheDirectory);
+		assertThat(decompress(resource)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void resolveUncompressedWithoutAcceptEncoding() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		Resource resource = this.resolver.resolveResource(request, "foo.js", this.locations);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveUncompressedBelowMinContentLength() {
+		Resource resource = this.resolver.resolveResource(gzipRequest(), "bar.js", this.locations);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveUncompressedBelowMinContentLengthFromCache() throws IOException {
+		Resource first = this.resolver.resolveResource(gzipRequest(), "bar.js", this.locations);
+		updateFile("bar.js", first.lastModified(), CONTENT);
+		Resource second = this.resolver.resolveResource(gzipRequest(), "bar.js", this.locations);
+		assertThat(second).isNotInstanceOf(HttpResource.class);
+
+		updateFile("bar.js", first.lastModified() + 1000, CONTENT);
+		Resource third = this.resolver.resolveResource(gzipRequest(), "bar.js", this.locations);
+		assertThat(third).isInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void evictFromCacheDirectory(@TempDir Path cacheDirectory) throws IOException {
+		this.compressingResolver.setCacheDirectory(cacheDirectory);
+		this.compressingResolver.setCacheSizeLimit(1);
+		Files.writeString(this.location.resolve("baz.js"), CONTENT);
+		Resource first = this.resolver.resolveResource(gzipRequest(), "foo.js", this.locations);
+		Resource second = this.resolver.resolveResource(gzipRequest(), "baz.js", this.locations);
+
+		assertThat(first.getFile().exists()).isFalse();
+		assertThat(decompress(second)).isEqualTo(CONTENT);
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			assertThat(files.count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void resolveUncompressedForNonCompressibleMediaType() {
+		Resource resource = this.resolver.resolveResource(gzipRequest(), "image.png", this.locations);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveWithNullRequest() {
+		Resource resource = this.resolver.resolveResource(null, "foo.js", this.locations);
+
+		assertThat(resource).isNotInstanceOf(HttpResource.class);
+	}
+
+
+	private void updateFile(String filename, long lastModified, String content) throws IOException {
+		Path file = this.location.resolve(filename);
+		Files.writeString(file, content);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+	}
+
+	private static MockHttpServletRequest gzipRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Accept-Encoding", "gzip, deflate");
+		return request;
+	}
+
+	private static String decompress(Resource resource) throws IOException {
+		try (InputStream in = new GZIPInputStream(resource.getInputStream())) {
+			return new String(in.readAllBytes());
+		}
+	}
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.web.servlet.resource;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
@@ -413,6 +416,121 @@ class ResourceHttpRequestHandlerTests {
 
 	}
 
+	@Nested
+	class SendfileTests {
+
+		private static final String CONTENT = "a".repeat(64 * 1024);
+
+		@TempDir
+		Path location;
+
+		private ResourceHttpRequestHandler handler;
+
+		private MockHttpServletRequest request;
+
+		private MockHttpServletResponse response;
+
+
+		@BeforeEach
+		void setup() throws Exception {
+			Files.writeString(this.location.resolve("large.txt"), CONTENT);
+			Files.writeString(this.location.resolve("large.unknown"), CONTENT);
+			TestServletContext servletContext = new TestServletContext();
+			this.handler = new ResourceHttpRequestHandler();
+			this.handler.setUseSendfile(true);
+			this.handler.setLocations(List.of(new FileSystemResource(this.location.toString() + "/"), testResource));
+			this.handler.setServletContext(servletContext);
+			this.handler.afterPropertiesSet();
+			this.request = new MockHttpServletRequest(servletContext, "GET", "");
+			this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+			this.response = new MockHttpServletResponse();
+		}
+
+		@Test
+		void sendfile() throws Exception {
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "large.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename"))
+					.isEqualTo(this.location.resolve("large.txt").toFile().getCanonicalPath());
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) CONTENT.length());
+			assertThat(this.response.getContentLengthLong()).isEqualTo(CONTENT.length());
+			assertThat(this.response.getContentType()).isEqualTo("text/plain");
+			assertThat(this.response.getContentAsByteArray()).isEmpty();
+		}
+
+		@Test
+		void sendfileWithUnknownMediaType() throws Exception {
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "large.unknown");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename"))
+					.isEqualTo(this.location.resolve("large.unknown").toFile().getCanonicalPath());
+			assertThat(this.response.getContentType()).isEqualTo("application/octet-stream");
+		}
+
+		@Test
+		void sendfileByteRange() throws Exception {
+			this.request.addHeader("Range", "bytes=10-19");
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "large.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getStatus()).isEqualTo(206);
+			assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 10-19/" + CONTENT.length());
+			assertThat(this.response.getContentLengthLong()).isEqualTo(10);
+			assertThat(this.response.getContentType()).isEqualTo("text/plain");
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(10L);
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+			assertThat(this.response.getContentAsByteArray()).isEmpty();
+		}
+
+		@Test
+		void noSendfileForMultipleByteRanges() throws Exception {
+			this.request.addHeader("Range", "bytes=0-1, 10-19");
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "large.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getStatus()).isEqualTo(206);
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+			assertThat(this.response.getContentType()).startsWith("multipart/byteranges");
+		}
+
+		@Test
+		void noSendfileForSmallResource() throws Exception {
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+			assertThat(this.response.getContentAsString()).isEqualTo("Some text.");
+		}
+
+		@Test
+		void noSendfileByDefault() {
+			assertThat(new ResourceHttpRequestHandler().isUseSendfile()).isFalse();
+		}
+
+		@Test
+		void noSendfileWhenDisabled() throws Exception {
+			this.handler.setUseSendfile(false);
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "large.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+			assertThat(this.response.getContentAsString()).isEqualTo(CONTENT);
+		}
+
+		@Test
+		void noSendfileWithoutContainerSupport() throws Exception {
+			this.request.removeAttribute("org.apache.tomcat.sendfile.support");
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "large.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+			assertThat(this.response.getContentAsString()).isEqualTo(CONTENT);
+		}
+	}
+
 	@Nested
 	class HttpCachingTests {
 